@@ -0,0 +1,106 @@
+package com.example.point.benchmark;
+
+import com.example.point.domain.PointBalance;
+import com.example.point.domain.PointSummary;
+import com.example.point.domain.PointTransaction;
+import com.example.point.domain.enums.BalanceStatus;
+import com.example.point.domain.enums.BalanceType;
+import com.example.point.service.PointUseService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DB 없이 PointUseService의 차감 루프(deductChunk)로 PointBalance 목록을 우선순위 순으로 차감하는 비용을 측정한다.
+ * 차감액은 변경 감지 모드와 같이 주문마다 적립 건에 반영한다.
+ * 사용자당 잔액 수와 주문 수(한 번의 호출에서 차감하는 주문 수)를 파라미터로 한다.
+ * 차감은 잔액을 바꾸므로 측정 반복(iteration)마다 호출 수만큼의 잔액 목록을 측정 밖에서 미리 만들고,
+ * 호출마다 새 목록을 사용한다. 점수는 BATCH_SIZE번 호출의 합계 시간이다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10, batchSize = DeductionLoopBenchmark.BATCH_SIZE)
+@Measurement(iterations = 20, batchSize = DeductionLoopBenchmark.BATCH_SIZE)
+public class DeductionLoopBenchmark {
+
+    static final int BATCH_SIZE = 50;
+    private static final int BALANCE_AMOUNT = 10;
+
+    @Param({"1", "100", "10000"})
+    private int balancesPerUser;
+
+    @Param({"1", "10"})
+    private int orders;
+
+    private final List<List<PointBalance>> balanceSets = new ArrayList<>(BATCH_SIZE);
+    private final List<PointSummary> summaries = new ArrayList<>(BATCH_SIZE);
+    private LocalDateTime now;
+    private int usageAmount;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        now = LocalDateTime.now();
+        // 주문들이 전체 잔액의 절반을 나누어 사용
+        usageAmount = Math.max(1, balancesPerUser * BALANCE_AMOUNT / 2 / orders);
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpIteration() {
+        balanceSets.clear();
+        summaries.clear();
+        for (int set = 0; set < BATCH_SIZE; set++) {
+            List<PointBalance> balances = new ArrayList<>(balancesPerUser);
+            for (int i = 0; i < balancesPerUser; i++) {
+                balances.add(PointBalance.builder()
+                        .balanceId((long) i)
+                        .userId(1L)
+                        .amount(BALANCE_AMOUNT)
+                        .remainAmount(BALANCE_AMOUNT)
+                        .balanceType(BalanceType.PURCHASE)
+                        .createDate(now)
+                        .expireDate(now.plusDays(i + 1))
+                        .status(BalanceStatus.ACTIVE)
+                        .build());
+            }
+            balanceSets.add(balances);
+            summaries.add(PointSummary.of(1L, balances));
+        }
+        next = 0;
+    }
+
+    @Benchmark
+    public void deduct(Blackhole blackhole) {
+        List<PointBalance> balances = balanceSets.get(next);
+        PointSummary summary = summaries.get(next);
+        next++;
+
+        // 첫 번째로 잔액이 남은 적립 건 위치 (서비스의 키셋 조회가 소진된 건을 건너뛰는 것과 같음)
+        int first = 0;
+        for (int order = 0; order < orders; order++) {
+            List<PointBalance> usedBalances = new ArrayList<>();
+            List<PointTransaction> transactions = new ArrayList<>();
+            int remainingToUse = usageAmount;
+            for (int from = first; remainingToUse > 0 && from < balances.size(); from += PointUseService.DEDUCTION_CHUNK_SIZE) {
+                List<PointBalance> chunk = balances.subList(from, Math.min(from + PointUseService.DEDUCTION_CHUNK_SIZE, balances.size()));
+                remainingToUse = PointUseService.deductChunk(chunk, remainingToUse, summary, "BENCH-" + order, now,
+                        usedBalances, transactions);
+            }
+            // 변경 감지 모드와 같이 차감액을 적립 건에 반영
+            for (int i = 0; i < usedBalances.size(); i++) {
+                usedBalances.get(i).deductPoints(-transactions.get(i).getPointChange());
+            }
+            while (first < balances.size() && balances.get(first).getRemainAmount() == 0) {
+                first++;
+            }
+            blackhole.consume(transactions);
+            blackhole.consume(remainingToUse);
+        }
+        blackhole.consume(summary.getTotalAmount());
+    }
+}
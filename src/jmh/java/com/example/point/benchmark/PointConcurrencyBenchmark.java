@@ -0,0 +1,98 @@
+package com.example.point.benchmark;
+
+import com.example.point.PointApplication;
+import com.example.point.dto.save.PointSaveRequest;
+import com.example.point.dto.use.PointCancelUseRequest;
+import com.example.point.dto.use.PointUseRequest;
+import com.example.point.service.PointService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.infra.ThreadParams;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 여러 스레드가 동시에 use/cancelUse를 요청할 때 LANE(사용자별 락 스트라이프)과
+ * PESSIMISTIC(요약 행 비관적 락) 모드의 처리량을 비교한다.
+ * contended는 모든 스레드가 같은 사용자를, spread는 스레드마다 다른 사용자를 사용한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class PointConcurrencyBenchmark {
+
+    private static final Long SHARED_USER_ID = 1L;
+    private static final int SAVE_AMOUNT = 100000;
+    private static final int USAGE_AMOUNT = 10;
+
+    @Param({"LANE", "PESSIMISTIC"})
+    private String mode;
+
+    private ConfigurableApplicationContext context;
+    private PointService pointService;
+    private final AtomicLong orderSequence = new AtomicLong();
+
+    @State(Scope.Thread)
+    public static class ThreadUser {
+        private Long userId;
+
+        @Setup(Level.Trial)
+        public void setUp(PointConcurrencyBenchmark benchmark, ThreadParams threadParams) {
+            userId = 1000L + threadParams.getThreadIndex();
+            benchmark.save(userId);
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(PointApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:bench-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+                        "point.concurrency.mode=" + mode,
+                        "logging.level.root=warn",
+                        "logging.level.org.hibernate.SQL=warn",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=warn")
+                .run();
+        pointService = context.getBean(PointService.class);
+        save(SHARED_USER_ID);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void contended(Blackhole blackhole) {
+        useAndCancelUse(SHARED_USER_ID, blackhole);
+    }
+
+    @Benchmark
+    public void spread(ThreadUser user, Blackhole blackhole) {
+        useAndCancelUse(user.userId, blackhole);
+    }
+
+    private void save(Long userId) {
+        pointService.save(PointSaveRequest.builder().userId(userId).amount(SAVE_AMOUNT).build());
+    }
+
+    private void useAndCancelUse(Long userId, Blackhole blackhole) {
+        String orderId = "BENCH-" + orderSequence.incrementAndGet();
+        blackhole.consume(pointService.use(userId, PointUseRequest.builder()
+                .usageAmount(USAGE_AMOUNT)
+                .orderId(orderId)
+                .build()));
+        blackhole.consume(pointService.cancelUse(PointCancelUseRequest.builder()
+                .userId(userId)
+                .orderId(orderId)
+                .cancelAmount(USAGE_AMOUNT)
+                .build()));
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.point.benchmark;
+
+import com.example.point.PointApplication;
+import com.example.point.domain.PointBalance;
+import com.example.point.domain.enums.BalanceStatus;
+import com.example.point.domain.enums.BalanceType;
+import com.example.point.dto.save.PointSaveRequest;
+import com.example.point.dto.save.PointSaveResponse;
+import com.example.point.dto.use.PointCancelUseRequest;
+import com.example.point.dto.use.PointUseRequest;
+import com.example.point.repository.PointBalanceRepository;
+import com.example.point.service.PointPolicyService;
+import com.example.point.service.PointService;
+import com.example.point.service.PointSummaryService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 내장 H2를 사용하는 전체 서비스 호출(use/cancelUse, save/cancelSave, 정책 검증)의 비용을 측정한다.
+ * 사용 후 같은 금액을 사용 취소하여 측정 동안 잔액 분포가 유지되도록 한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PointServiceBenchmark {
+
+    private static final Long USER_ID = 1L;
+    private static final int BALANCE_AMOUNT = 10;
+    private static final int USAGE_AMOUNT = 100;
+
+    @Param({"1", "100", "10000"})
+    private int balancesPerUser;
+
+    @Param({"1", "10"})
+    private int orders;
+
+    private ConfigurableApplicationContext context;
+    private PointService pointService;
+    private PointPolicyService policyService;
+    private final AtomicLong orderSequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(PointApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:bench-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                        "logging.level.root=warn",
+                        "logging.level.org.hibernate.SQL=warn",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=warn")
+                .run();
+        pointService = context.getBean(PointService.class);
+        policyService = context.getBean(PointPolicyService.class);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<PointBalance> balances = new ArrayList<>(balancesPerUser);
+        for (int i = 0; i < balancesPerUser; i++) {
+            balances.add(PointBalance.builder()
+                    .userId(USER_ID)
+                    .amount(BALANCE_AMOUNT)
+                    .remainAmount(BALANCE_AMOUNT)
+                    .balanceType(BalanceType.PURCHASE)
+                    .createDate(now)
+                    .expireDate(now.plusDays(30 + i % 300))
+                    .status(BalanceStatus.ACTIVE)
+                    .build());
+        }
+        context.getBean(PointBalanceRepository.class).saveAll(balances);
+        context.getBean(PointSummaryService.class).getSummary(USER_ID);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void useAndCancelUse(Blackhole blackhole) {
+        int usage = Math.min(USAGE_AMOUNT, balancesPerUser * BALANCE_AMOUNT);
+        for (int i = 0; i < orders; i++) {
+            String orderId = "BENCH-" + orderSequence.incrementAndGet();
+            blackhole.consume(pointService.use(USER_ID, PointUseRequest.builder()
+                    .usageAmount(usage)
+                    .orderId(orderId)
+                    .build()));
+            blackhole.consume(pointService.cancelUse(PointCancelUseRequest.builder()
+                    .userId(USER_ID)
+                    .orderId(orderId)
+                    .cancelAmount(usage)
+                    .build()));
+        }
+    }
+
+    @Benchmark
+    public void saveAndCancelSave(Blackhole blackhole) {
+        for (int i = 0; i < orders; i++) {
+            PointSaveResponse saved = pointService.save(PointSaveRequest.builder()
+                    .userId(USER_ID)
+                    .amount(BALANCE_AMOUNT)
+                    .build());
+            blackhole.consume(pointService.cancelSave(saved.getBalanceId()));
+        }
+    }
+
+    @Benchmark
+    public void validatePolicy(Blackhole blackhole) {
+        policyService.validateSavingAmount(BALANCE_AMOUNT);
+        policyService.validatePointPointLimit(balancesPerUser * BALANCE_AMOUNT);
+        blackhole.consume(policyService.calculateExpireDate(LocalDateTime.now(), null));
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.point.controller;
+
+import com.example.point.dto.compaction.PointCompactionResult;
+import com.example.point.dto.expire.PointExpireResult;
+import com.example.point.dto.reconcile.PointReconcileResult;
+import com.example.point.dto.replay.PointReplayResult;
+import com.example.point.engine.PointMemoryEngine;
+import com.example.point.exception.PointErrorReason;
+import com.example.point.exception.PointOperationException;
+import com.example.point.service.PointCompactionService;
+import com.example.point.service.PointExpireService;
+import com.example.point.service.PointReconcileService;
+import com.example.point.service.PointReplayService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/points/admin")
+public class PointAdminController {
+    private final PointExpireService pointExpireService;
+    private final PointCompactionService pointCompactionService;
+    private final PointReconcileService pointReconcileService;
+    private final PointReplayService pointReplayService;
+    private final PointMemoryEngine pointMemoryEngine;
+
+    @GetMapping("/expire")
+    public ResponseEntity<PointExpireResult> getLastExpireResult() {
+        return ResponseEntity.ok(pointExpireService.getLastResult());
+    }
+
+    @PostMapping("/expire")
+    public ResponseEntity<PointExpireResult> expireBalances() {
+        requireDatabaseEngine();
+        return ResponseEntity.ok(pointExpireService.expireBalances(LocalDateTime.now()));
+    }
+
+    @GetMapping("/compaction")
+    public ResponseEntity<PointCompactionResult> getLastCompactionResult() {
+        return ResponseEntity.ok(pointCompactionService.getLastResult());
+    }
+
+    @PostMapping("/compaction")
+    public ResponseEntity<PointCompactionResult> compactBalances() {
+        requireDatabaseEngine();
+        return ResponseEntity.ok(pointCompactionService.compactBalances(LocalDateTime.now()));
+    }
+
+    @GetMapping("/reconciliation")
+    public ResponseEntity<PointReconcileResult> getLastReconcileResult() {
+        return ResponseEntity.ok(pointReconcileService.getLastResult());
+    }
+
+    @PostMapping("/reconciliation")
+    public ResponseEntity<PointReconcileResult> reconcileBalances() {
+        requireDatabaseEngine();
+        return ResponseEntity.ok(pointReconcileService.reconcile(LocalDateTime.now()));
+    }
+
+    @GetMapping("/replay")
+    public ResponseEntity<PointReplayResult> getLastReplayResult() {
+        return ResponseEntity.ok(pointReplayService.getLastResult());
+    }
+
+    // resume=false이면 체크포인트를 무시하고 처음부터 다시 실행
+    @PostMapping("/replay")
+    public ResponseEntity<PointReplayResult> replayLedger(@RequestParam(defaultValue = "true") boolean resume) {
+        requireDatabaseEngine();
+        return ResponseEntity.ok(pointReplayService.replay(LocalDateTime.now(), resume));
+    }
+
+    // 관리 작업은 DB 적립 건을 기준으로 하므로, 메모리 엔진 모드에서는 오래된 DB 행을 변경하지 않도록 거절
+    private void requireDatabaseEngine() {
+        if (pointMemoryEngine.isEnabled()) {
+            throw new PointOperationException(PointErrorReason.UNSUPPORTED_ENGINE_MODE, "메모리 엔진 모드에서는 실행할 수 없는 관리 작업입니다.");
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package com.example.point.controller;
 
+import com.example.point.dto.balance.PointBalanceResponse;
+import com.example.point.dto.save.PointBulkSaveRequest;
+import com.example.point.dto.save.PointBulkSaveResponse;
 import com.example.point.dto.save.PointCancelSaveRequest;
 import com.example.point.dto.save.PointSaveRequest;
 import com.example.point.dto.save.PointSaveResponse;
@@ -15,26 +18,42 @@ import org.springframework.web.bind.annotation.*;
 @RestController
 @RequestMapping("/api/points")
 public class PointController {
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
     private final PointService pointService;
 
+    @GetMapping("/balance")
+    public ResponseEntity<PointBalanceResponse> getBalance(@RequestParam Long userId) {
+        return ResponseEntity.ok(pointService.getBalance(userId));
+    }
+
     @PostMapping("/save")
-    public ResponseEntity<PointSaveResponse> savePoints(@RequestBody PointSaveRequest request) {
-        return ResponseEntity.ok(pointService.save(request));
+    public ResponseEntity<PointSaveResponse> savePoints(@RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+                                                        @RequestBody PointSaveRequest request) {
+        return ResponseEntity.ok(pointService.save(request, idempotencyKey));
+    }
+
+    @PostMapping("/save/bulk")
+    public ResponseEntity<PointBulkSaveResponse> saveBulkPoints(@RequestBody PointBulkSaveRequest request) {
+        return ResponseEntity.ok(pointService.saveBulk(request.getRequests()));
     }
 
     @PostMapping("/save/cancel")
-    public ResponseEntity<PointSaveResponse> cancelPoints(@RequestBody PointCancelSaveRequest request) {
-        return ResponseEntity.ok(pointService.cancelSave(request.getBalanceId()));
+    public ResponseEntity<PointSaveResponse> cancelPoints(@RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+                                                          @RequestBody PointCancelSaveRequest request) {
+        return ResponseEntity.ok(pointService.cancelSave(request.getBalanceId(), idempotencyKey));
     }
 
     @PostMapping("/use")
-    public ResponseEntity<PointUseResponse> usePoints(@RequestParam Long userId,
+    public ResponseEntity<PointUseResponse> usePoints(@RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+                                                      @RequestParam Long userId,
                                                       @RequestBody PointUseRequest usageRequest) {
-        return ResponseEntity.ok(pointService.use(userId, usageRequest));
+        return ResponseEntity.ok(pointService.use(userId, usageRequest, idempotencyKey));
     }
 
     @PostMapping("/use/cancel")
-    public ResponseEntity<PointUseResponse> cancelUsePoints(@RequestBody PointCancelUseRequest request) {
-        return ResponseEntity.ok(pointService.cancelUse(request));
+    public ResponseEntity<PointUseResponse> cancelUsePoints(@RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+                                                            @RequestBody PointCancelUseRequest request) {
+        return ResponseEntity.ok(pointService.cancelUse(request, idempotencyKey));
     }
 }
@@ -0,0 +1,31 @@
+package com.example.point.controller;
+
+import com.example.point.dto.hold.PointHoldRequest;
+import com.example.point.dto.hold.PointHoldResponse;
+import com.example.point.dto.use.PointUseResponse;
+import com.example.point.service.PointService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/points/holds")
+public class PointHoldController {
+    private final PointService pointService;
+
+    @PostMapping
+    public ResponseEntity<PointHoldResponse> holdPoints(@RequestBody PointHoldRequest request) {
+        return ResponseEntity.ok(pointService.hold(request));
+    }
+
+    @PostMapping("/{holdId}/capture")
+    public ResponseEntity<PointUseResponse> captureHold(@PathVariable Long holdId) {
+        return ResponseEntity.ok(pointService.captureHold(holdId));
+    }
+
+    @PostMapping("/{holdId}/release")
+    public ResponseEntity<PointHoldResponse> releaseHold(@PathVariable Long holdId) {
+        return ResponseEntity.ok(pointService.releaseHold(holdId));
+    }
+}
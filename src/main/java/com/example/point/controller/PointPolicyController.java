@@ -0,0 +1,25 @@
+package com.example.point.controller;
+
+import com.example.point.domain.PointPolicySnapshot;
+import com.example.point.dto.policy.PointPolicyUpdateRequest;
+import com.example.point.service.PointPolicyService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/points/policy")
+public class PointPolicyController {
+    private final PointPolicyService policyService;
+
+    @GetMapping
+    public ResponseEntity<PointPolicySnapshot> getPolicy() {
+        return ResponseEntity.ok(policyService.getPolicy());
+    }
+
+    @PutMapping
+    public ResponseEntity<PointPolicySnapshot> updatePolicy(@RequestBody PointPolicyUpdateRequest request) {
+        return ResponseEntity.ok(policyService.updatePolicy(request));
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.point.datasource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * spring.datasource를 주 DB로, point.datasource.replica를 복제본으로 만들고 두 DB를 라우팅하는 DataSource를 기본으로 등록한다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "point.datasource.replica.enabled", havingValue = "true")
+public class PointDataSourceConfig {
+
+    @Bean
+    public DataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().build();
+    }
+
+    @Bean
+    public DataSource replicaDataSource(@Value("${point.datasource.replica.url}") String url,
+                                        @Value("${point.datasource.replica.username:sa}") String username,
+                                        @Value("${point.datasource.replica.password:}") String password) {
+        return DataSourceBuilder.create()
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 PointReplicaRouting pointReplicaRouting) {
+        PointRoutingDataSource routingDataSource = new PointRoutingDataSource(pointReplicaRouting);
+        routingDataSource.setTargetDataSources(Map.of(
+                PointReplicaRouting.Route.PRIMARY, primaryDataSource,
+                PointReplicaRouting.Route.REPLICA, replicaDataSource));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.point.datasource;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 요청 단위로 라우팅 범위를 정한다. GET 요청은 userId 파라미터의 사용자로 read-your-writes를 확인하고,
+ * 그 밖의 요청은 쓰기 전에 읽는 값(적립 건 소유자 확인 등)이 최신이어야 하므로 주 DB만 사용한다.
+ * open-in-view로 요청 동안 커넥션이 유지되므로 요청 안의 조회는 처음 정한 DB를 계속 사용한다.
+ */
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "point.datasource.replica.enabled", havingValue = "true")
+public class PointReadRoutingInterceptor implements HandlerInterceptor, WebMvcConfigurer {
+
+    private final PointReplicaRouting pointReplicaRouting;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(this).addPathPatterns("/api/**");
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!"GET".equals(request.getMethod())) {
+            pointReplicaRouting.bindWrite();
+            return true;
+        }
+        String userId = request.getParameter("userId");
+        try {
+            pointReplicaRouting.bindRead(userId == null ? null : Long.valueOf(userId));
+        } catch (NumberFormatException e) {
+            pointReplicaRouting.bindRead(null);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        pointReplicaRouting.clear();
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.point.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 로컬 H2 복제본에 주 DB를 주기적으로 복사한다(point.datasource.replica.feed). 실제 복제본을 사용할 때는 끈다.
+ * 주 DB는 REPEATABLE READ 트랜잭션 하나로 모든 테이블을 읽고, 복제본은 트랜잭션 하나로 바꾸므로
+ * 복제본 조회는 복사 도중의 상태를 보지 않는다. 복사 주기만큼 복제 지연이 생긴다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = {"point.datasource.replica.enabled", "point.datasource.replica.feed"}, havingValue = "true")
+public class PointReplicaFeeder {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final DataSource primaryDataSource;
+    private final DataSource replicaDataSource;
+    private boolean schemaCreated;
+
+    public PointReplicaFeeder(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                              @Qualifier("replicaDataSource") DataSource replicaDataSource) {
+        this.primaryDataSource = primaryDataSource;
+        this.replicaDataSource = replicaDataSource;
+    }
+
+    @Scheduled(fixedDelayString = "${point.datasource.replica.feed-interval:1000}")
+    public synchronized void feed() {
+        try (Connection source = primaryDataSource.getConnection();
+             Connection target = replicaDataSource.getConnection()) {
+            source.setAutoCommit(false);
+            source.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+            if (!schemaCreated) {
+                createSchema(source, target);
+                schemaCreated = true;
+            }
+            target.setAutoCommit(false);
+            try {
+                for (String table : tables(source)) {
+                    copy(source, target, table);
+                }
+                target.commit();
+            } catch (SQLException e) {
+                target.rollback();
+                throw e;
+            } finally {
+                source.rollback();
+            }
+        } catch (SQLException e) {
+            log.warn("복제본 복사 실패: {}", e.getMessage());
+        }
+    }
+
+    // 애플리케이션이 주 DB에 만든 스키마(테이블/시퀀스/인덱스)를 복제본에 그대로 만듦
+    private void createSchema(Connection source, Connection target) throws SQLException {
+        try (Statement query = source.createStatement();
+             ResultSet script = query.executeQuery("script nodata nopasswords nosettings");
+             Statement ddl = target.createStatement()) {
+            while (script.next()) {
+                ddl.execute(script.getString(1));
+            }
+            // 테이블을 순서와 무관하게 복사하므로 복제본에서는 참조 무결성 검사를 끔
+            ddl.execute("set referential_integrity false");
+        }
+    }
+
+    private List<String> tables(Connection source) throws SQLException {
+        List<String> tables = new ArrayList<>();
+        try (Statement query = source.createStatement();
+             ResultSet rows = query.executeQuery("select table_name from information_schema.tables " +
+                     "where table_schema = 'PUBLIC' and table_type = 'BASE TABLE'")) {
+            while (rows.next()) {
+                tables.add(rows.getString(1));
+            }
+        }
+        return tables;
+    }
+
+    private void copy(Connection source, Connection target, String table) throws SQLException {
+        try (Statement delete = target.createStatement()) {
+            delete.executeUpdate("delete from " + table);
+        }
+        try (Statement query = source.createStatement();
+             ResultSet rows = query.executeQuery("select * from " + table)) {
+            int columns = rows.getMetaData().getColumnCount();
+            String insert = "insert into " + table + " values (" + "?, ".repeat(columns - 1) + "?)";
+            try (PreparedStatement statement = target.prepareStatement(insert)) {
+                int pending = 0;
+                while (rows.next()) {
+                    for (int i = 1; i <= columns; i++) {
+                        statement.setObject(i, rows.getObject(i));
+                    }
+                    statement.addBatch();
+                    if (++pending == BATCH_SIZE) {
+                        statement.executeBatch();
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    statement.executeBatch();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.point.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * 주 DB에 하트비트를 기록하고 복제본에 반영된 하트비트를 읽어 복제 지연을 갱신한다.
+ * 복제본을 읽지 못하면 마지막으로 읽은 시각이 그대로 남아 지연이 커지므로 조회는 주 DB로 돌아간다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "point.datasource.replica.enabled", havingValue = "true")
+public class PointReplicaLagMonitor {
+
+    private static final String BEAT_SQL =
+            "merge into point_replica_heartbeats (heartbeat_id, beat_millis) key (heartbeat_id) values (1, ?)";
+    private static final String READ_SQL = "select beat_millis from point_replica_heartbeats where heartbeat_id = 1";
+
+    private final JdbcTemplate primaryJdbcTemplate;
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final PointReplicaRouting pointReplicaRouting;
+
+    public PointReplicaLagMonitor(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                  @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                  PointReplicaRouting pointReplicaRouting) {
+        this.primaryJdbcTemplate = new JdbcTemplate(primaryDataSource);
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.pointReplicaRouting = pointReplicaRouting;
+    }
+
+    @Scheduled(fixedDelayString = "${point.datasource.replica.heartbeat-interval:1000}")
+    public void heartbeat() {
+        try {
+            primaryJdbcTemplate.update(BEAT_SQL, System.currentTimeMillis());
+        } catch (DataAccessException e) {
+            log.warn("주 DB에 하트비트를 기록하지 못함: {}", e.getMessage());
+        }
+        try {
+            List<Long> beats = replicaJdbcTemplate.queryForList(READ_SQL, Long.class);
+            if (!beats.isEmpty()) {
+                pointReplicaRouting.replicaCaughtUp(beats.get(0));
+            }
+        } catch (DataAccessException e) {
+            log.warn("복제본 하트비트를 읽지 못함 (복제 지연 {}ms): {}", pointReplicaRouting.getLagMillis(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.point.datasource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 읽기 전용 트랜잭션을 복제본으로 보낼지 정한다(point.datasource.replica.enabled).
+ * 복제본에 반영된 하트비트가 max-lag-ms보다 오래되었으면 주 DB로 보내고, 사용자가 쓴 뒤 복제본이 아직 그 시각까지
+ * 반영하지 못했다면 그 사용자의 조회도 주 DB로 보낸다(read-your-writes). 쓰기 요청 안의 조회는 항상 주 DB를 사용한다.
+ */
+@Component
+public class PointReplicaRouting {
+
+    enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final boolean enabled;
+    private final long maxLagMillis;
+    // 사용자별 마지막 쓰기 커밋 시각 (복제본이 따라잡으면 제거)
+    private final Map<Long, Long> lastWrites = new ConcurrentHashMap<>();
+    private final ThreadLocal<RequestScope> scope = new ThreadLocal<>();
+    // 복제본에서 읽은 마지막 하트비트 시각 (0이면 아직 모름)
+    private volatile long replicaAsOf;
+
+    public PointReplicaRouting(@Value("${point.datasource.replica.enabled:false}") boolean enabled,
+                               @Value("${point.datasource.replica.max-lag-ms:5000}") long maxLagMillis) {
+        this.enabled = enabled;
+        this.maxLagMillis = maxLagMillis;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    Route route() {
+        if (!enabled || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return Route.PRIMARY;
+        }
+        long asOf = replicaAsOf;
+        if (System.currentTimeMillis() - asOf > maxLagMillis) {
+            return Route.PRIMARY;
+        }
+        RequestScope current = scope.get();
+        if (current == null) {
+            return Route.REPLICA;
+        }
+        if (current.write()) {
+            return Route.PRIMARY;
+        }
+        Long writtenAt = current.userId() == null ? null : lastWrites.get(current.userId());
+        return writtenAt != null && writtenAt > asOf ? Route.PRIMARY : Route.REPLICA;
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 사용자의 쓰기 시각을 기록한다. 커밋 전에 기록하면 그 사이의 하트비트가
+     * 아직 반영되지 않은 쓰기를 포함한 것처럼 보이므로 커밋 이후에 기록한다.
+     */
+    public void recordWriteAfterCommit(Long userId) {
+        if (!enabled) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            recordWrite(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recordWrite(userId);
+            }
+        });
+    }
+
+    /**
+     * 복제본에서 읽은 하트비트 시각을 반영한다. 그 이전에 커밋된 쓰기는 복제본에서도 보이므로 기록에서 지운다.
+     */
+    void replicaCaughtUp(long asOf) {
+        replicaAsOf = asOf;
+        lastWrites.values().removeIf(writtenAt -> writtenAt <= asOf);
+    }
+
+    /**
+     * 복제 지연 (밀리초). 하트비트를 아직 읽지 못했으면 -1.
+     */
+    public long getLagMillis() {
+        long asOf = replicaAsOf;
+        return asOf == 0 ? -1 : System.currentTimeMillis() - asOf;
+    }
+
+    void bindRead(Long userId) {
+        scope.set(new RequestScope(userId, false));
+    }
+
+    void bindWrite() {
+        scope.set(new RequestScope(null, true));
+    }
+
+    void clear() {
+        scope.remove();
+    }
+
+    private void recordWrite(Long userId) {
+        lastWrites.merge(userId, System.currentTimeMillis(), Math::max);
+    }
+
+    private record RequestScope(Long userId, boolean write) {
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.point.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * 커넥션을 얻는 시점에 PointReplicaRouting의 판단에 따라 주 DB 또는 복제본 커넥션을 반환한다.
+ * 트랜잭션의 읽기 전용 여부가 정해진 뒤 커넥션을 얻도록 LazyConnectionDataSourceProxy로 감싸서 사용한다.
+ */
+class PointRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final PointReplicaRouting pointReplicaRouting;
+
+    PointRoutingDataSource(PointReplicaRouting pointReplicaRouting) {
+        this.pointReplicaRouting = pointReplicaRouting;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return pointReplicaRouting.route();
+    }
+}
@@ -3,6 +3,7 @@ package com.example.point.domain;
 import com.example.point.domain.enums.BalanceStatus;
 import com.example.point.domain.enums.BalanceType;
 import com.example.point.dto.save.PointSaveRequest;
+import com.example.point.exception.PointErrorReason;
 import com.example.point.exception.PointOperationException;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -19,11 +20,15 @@ import java.util.List;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "point_balances")
+@Table(name = "point_balances", indexes = {
+        @Index(name = "idx_point_balances_deduction", columnList = "user_id, status, balance_type, expire_date, balance_id"),
+        @Index(name = "idx_point_balances_expire", columnList = "status, expire_date, balance_id")
+})
 public class PointBalance {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "point_balance_seq")
+    @SequenceGenerator(name = "point_balance_seq", sequenceName = "point_balance_seq", allocationSize = 50)
     private Long balanceId;
 
     @Column(name = "user_id", nullable = false)
@@ -49,6 +54,14 @@ public class PointBalance {
     @Column(nullable = false)
     private BalanceStatus status;
 
+    // 병합된 경우 잔액을 넘겨받은 적립 건 ID (사용 취소 시 이 적립 건으로 환불)
+    @Column(name = "merged_balance_id")
+    private Long mergedBalanceId;
+
+    // 병합으로 생성된 적립 건 (여러 적립 건의 남은 포인트를 합친 것이므로 적립 취소할 수 없음)
+    @Column(name = "merge_target", nullable = false)
+    private boolean mergeTarget;
+
     public static PointBalance of(PointSaveRequest request, LocalDateTime expireDate) {
         return PointBalance.builder()
                 .userId(request.getUserId())
@@ -62,21 +75,51 @@ public class PointBalance {
     }
 
     public void cancel() {
+        if (this.status == BalanceStatus.MERGED || this.mergeTarget) {
+            throw new PointOperationException(PointErrorReason.BALANCE_NOT_CANCELABLE, "병합된 적립 내역은 취소할 수 없습니다.");
+        }
+        if (this.status != BalanceStatus.ACTIVE) {
+            throw new PointOperationException(PointErrorReason.BALANCE_NOT_CANCELABLE, "사용 가능한 상태의 적립 내역만 취소할 수 있습니다.");
+        }
         if (this.remainAmount != this.amount) {
-            throw new PointOperationException("일부 사용된 포인트는 취소할 수 없습니다.");
+            throw new PointOperationException(PointErrorReason.BALANCE_NOT_CANCELABLE, "일부 사용된 포인트는 취소할 수 없습니다.");
         }
         this.status = BalanceStatus.CANCELED;
     }
 
+    public void expire() {
+        if (this.status != BalanceStatus.ACTIVE) {
+            throw new PointOperationException(PointErrorReason.BALANCE_NOT_CANCELABLE, "사용 가능한 상태의 적립 내역만 만료할 수 있습니다.");
+        }
+        this.status = BalanceStatus.EXPIRED;
+    }
+
+    public void mergeInto(PointBalance target) {
+        if (this.status != BalanceStatus.ACTIVE) {
+            throw new PointOperationException(PointErrorReason.BALANCE_NOT_CANCELABLE, "사용 가능한 상태의 적립 내역만 병합할 수 있습니다.");
+        }
+        this.remainAmount = 0;
+        this.status = BalanceStatus.MERGED;
+        this.mergedBalanceId = target.getBalanceId();
+    }
+
+    public boolean isMerged() {
+        return this.status == BalanceStatus.MERGED;
+    }
+
     public void deductPoints(int points) {
         if (points > this.remainAmount) {
-            throw new PointOperationException("차감할 포인트가 남은 포인트보다 많습니다.");
+            throw new PointOperationException(PointErrorReason.INSUFFICIENT_BALANCE, "차감할 포인트가 남은 포인트보다 많습니다.");
         }
         this.remainAmount -= points;
     }
 
     public void refund(int refundAmount) {
         this.remainAmount += refundAmount;
+        // 병합 대상 건은 병합 전에 사용된 포인트도 환불받으므로 적립 금액이 남은 포인트보다 작아지지 않도록 늘림
+        if (this.remainAmount > this.amount) {
+            this.amount = this.remainAmount;
+        }
     }
 
     public boolean isExpired(LocalDateTime now) {
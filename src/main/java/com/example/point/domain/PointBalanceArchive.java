@@ -0,0 +1,59 @@
+package com.example.point.domain;
+
+import com.example.point.domain.enums.BalanceStatus;
+import com.example.point.domain.enums.BalanceType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 소진되었거나 취소/만료된 적립 건을 point_balances에서 옮겨 보관 (적립 ID 유지)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "point_balance_archives", indexes = {
+        @Index(name = "idx_point_balance_archives_user", columnList = "user_id, balance_id")
+})
+public class PointBalanceArchive {
+
+    @Id
+    @Column(name = "balance_id")
+    private Long balanceId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private int amount;
+
+    @Column(name = "remain_amount", nullable = false)
+    private int remainAmount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "balance_type", nullable = false)
+    private BalanceType balanceType;
+
+    @Column(name = "create_date", nullable = false)
+    private LocalDateTime createDate;
+
+    @Column(name = "expire_date", nullable = false)
+    private LocalDateTime expireDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private BalanceStatus status;
+
+    @Column(name = "merged_balance_id")
+    private Long mergedBalanceId;
+
+    @Column(name = "merge_target", nullable = false)
+    private boolean mergeTarget;
+
+    @Column(name = "archived_date", nullable = false)
+    private LocalDateTime archivedDate;
+}
@@ -0,0 +1,35 @@
+package com.example.point.domain;
+
+import com.example.point.domain.enums.BalanceStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 원장 리플레이로 다시 계산한 적립 건 (point_balances와 비교하기 위한 섀도 테이블, 기록은 PointBalanceReplayRepository)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "point_balance_replays")
+public class PointBalanceReplay {
+
+    @Id
+    @Column(name = "balance_id")
+    private Long balanceId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "remain_amount", nullable = false)
+    private int remainAmount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private BalanceStatus status;
+
+    @Column(name = "replayed_date", nullable = false)
+    private LocalDateTime replayedDate;
+}
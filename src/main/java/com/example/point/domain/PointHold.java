@@ -0,0 +1,95 @@
+package com.example.point.domain;
+
+import com.example.point.domain.enums.HoldStatus;
+import com.example.point.exception.PointErrorReason;
+import com.example.point.exception.PointOperationException;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 결제 전 주문에 포인트를 보류해 두는 예약, 확정(capture) 시에만 적립 건에서 차감
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "point_holds", indexes = {
+        // 같은 주문의 보류 조회
+        @Index(name = "idx_point_holds_order", columnList = "user_id, order_id, status"),
+        // 만료된 보류 정리
+        @Index(name = "idx_point_holds_expire", columnList = "status, expire_date, hold_id")
+})
+public class PointHold {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "point_hold_seq")
+    @SequenceGenerator(name = "point_hold_seq", sequenceName = "point_hold_seq", allocationSize = 50)
+    private Long holdId;
+
+    @Version
+    private Long version;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "order_id", nullable = false)
+    private String orderId;
+
+    @Column(nullable = false)
+    private int amount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private HoldStatus status;
+
+    @Column(name = "create_date", nullable = false)
+    private LocalDateTime createDate;
+
+    // 이 시점까지 확정되지 않으면 보류 해제
+    @Column(name = "expire_date", nullable = false)
+    private LocalDateTime expireDate;
+
+    public static PointHold of(Long userId, String orderId, int amount, LocalDateTime now, LocalDateTime expireDate) {
+        return PointHold.builder()
+                .userId(userId)
+                .orderId(orderId)
+                .amount(amount)
+                .status(HoldStatus.HELD)
+                .createDate(now)
+                .expireDate(expireDate)
+                .build();
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return expireDate.isBefore(now);
+    }
+
+    public void capture(LocalDateTime now) {
+        validateActive(now);
+        this.status = HoldStatus.CAPTURED;
+    }
+
+    public void release() {
+        if (status != HoldStatus.HELD) {
+            throw new PointOperationException(PointErrorReason.HOLD_NOT_ACTIVE, "이미 확정되었거나 해제된 보류입니다.");
+        }
+        this.status = HoldStatus.RELEASED;
+    }
+
+    public void expire() {
+        this.status = HoldStatus.EXPIRED;
+    }
+
+    private void validateActive(LocalDateTime now) {
+        if (status != HoldStatus.HELD) {
+            throw new PointOperationException(PointErrorReason.HOLD_NOT_ACTIVE, "이미 확정되었거나 해제된 보류입니다.");
+        }
+        if (isExpired(now)) {
+            throw new PointOperationException(PointErrorReason.HOLD_NOT_ACTIVE, "보류 유효 시간이 지났습니다.");
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.point.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "point_idempotency_keys", indexes = {
+        @Index(name = "idx_point_idempotency_keys_create_date", columnList = "create_date")
+})
+public class PointIdempotencyKey implements Persistable<String> {
+
+    // 오퍼레이션:사용자ID:클라이언트 키
+    @Id
+    @Column(name = "idempotency_key", length = 300)
+    private String idempotencyKey;
+
+    @Column(nullable = false)
+    private String operation;
+
+    // 최초 요청 본문의 SHA-256 해시 (같은 키로 다른 요청을 보냈는지 확인)
+    @Column(name = "payload_hash", length = 64)
+    private String payloadHash;
+
+    // 최초 처리 결과(JSON)
+    @Lob
+    @Column(name = "response_body", nullable = false)
+    private String responseBody;
+
+    @Column(name = "create_date", nullable = false)
+    private LocalDateTime createDate;
+
+    // 키는 항상 새로 저장되므로 merge 전 조회 없이 바로 INSERT
+    @Transient
+    @Builder.Default
+    private boolean newKey = true;
+
+    public static PointIdempotencyKey of(String idempotencyKey, String operation, String payloadHash, String responseBody,
+                                         LocalDateTime now) {
+        return PointIdempotencyKey.builder()
+                .idempotencyKey(idempotencyKey)
+                .operation(operation)
+                .payloadHash(payloadHash)
+                .responseBody(responseBody)
+                .createDate(now)
+                .build();
+    }
+
+    @Override
+    public String getId() {
+        return idempotencyKey;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newKey;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newKey = false;
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.point.domain;
+
+import com.example.point.exception.PointErrorReason;
+import com.example.point.exception.PointOperationException;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "point_order_usages", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_point_order_usages_order", columnNames = {"user_id", "order_id"})
+})
+public class PointOrderUsage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "point_order_usage_seq")
+    @SequenceGenerator(name = "point_order_usage_seq", sequenceName = "point_order_usage_seq", allocationSize = 50)
+    private Long usageId;
+
+    @Version
+    private Long version;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "order_id", nullable = false)
+    private String orderId;
+
+    // 주문에서 사용한 포인트 합계
+    @Column(name = "used_amount", nullable = false)
+    private int usedAmount;
+
+    // 주문에서 사용 취소된 포인트 합계
+    @Column(name = "canceled_amount", nullable = false)
+    private int canceledAmount;
+
+    public static PointOrderUsage of(Long userId, String orderId) {
+        return PointOrderUsage.builder()
+                .userId(userId)
+                .orderId(orderId)
+                .build();
+    }
+
+    public void use(int points) {
+        this.usedAmount += points;
+    }
+
+    public void cancel(int points) {
+        if (points > getCancelableAmount()) {
+            throw new PointOperationException(PointErrorReason.CANCEL_AMOUNT_EXCEEDED, "취소할 포인트가 원래 사용된 포인트보다 많습니다.");
+        }
+        this.canceledAmount += points;
+    }
+
+    public int getCancelableAmount() {
+        return this.usedAmount - this.canceledAmount;
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.point.domain;
+
+import com.example.point.exception.PointErrorReason;
+import com.example.point.exception.PointOperationException;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "point_order_usage_items", indexes = {
+        @Index(name = "idx_point_order_usage_items_usage", columnList = "usage_id, item_id")
+})
+public class PointOrderUsageItem {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "point_order_usage_item_seq")
+    @SequenceGenerator(name = "point_order_usage_item_seq", sequenceName = "point_order_usage_item_seq", allocationSize = 50)
+    private Long itemId;
+
+    @Column(name = "usage_id", nullable = false)
+    private Long usageId;
+
+    @Column(name = "balance_id", nullable = false)
+    private Long balanceId;
+
+    // 해당 적립 건에서 사용한 포인트
+    @Column(name = "used_amount", nullable = false)
+    private int usedAmount;
+
+    // 해당 적립 건에서 사용 취소된 포인트
+    @Column(name = "canceled_amount", nullable = false)
+    private int canceledAmount;
+
+    public static PointOrderUsageItem of(PointOrderUsage usage, Long balanceId, int usedAmount) {
+        return PointOrderUsageItem.builder()
+                .usageId(usage.getUsageId())
+                .balanceId(balanceId)
+                .usedAmount(usedAmount)
+                .build();
+    }
+
+    public void cancel(int points) {
+        if (points > getCancelableAmount()) {
+            throw new PointOperationException(PointErrorReason.CANCEL_AMOUNT_EXCEEDED, "취소할 포인트가 적립 건에서 사용된 포인트보다 많습니다.");
+        }
+        this.canceledAmount += points;
+    }
+
+    public int getCancelableAmount() {
+        return this.usedAmount - this.canceledAmount;
+    }
+}
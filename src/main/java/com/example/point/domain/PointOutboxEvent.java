@@ -0,0 +1,50 @@
+package com.example.point.domain;
+
+import com.example.point.domain.enums.TransactionType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 거래와 같은 트랜잭션에서 기록되어 릴레이가 외부로 발행할 때까지 보관되는 이벤트
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "point_outbox_events")
+public class PointOutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "point_outbox_seq")
+    @SequenceGenerator(name = "point_outbox_seq", sequenceName = "point_outbox_seq", allocationSize = 50)
+    private Long eventId;
+
+    // 발행 시 파티션 키로 사용되어 사용자별 순서를 보장
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false)
+    private TransactionType eventType;
+
+    // 이벤트 본문(JSON)
+    @Lob
+    @Column(name = "payload", nullable = false)
+    private String payload;
+
+    @Column(name = "create_date", nullable = false)
+    private LocalDateTime createDate;
+
+    public static PointOutboxEvent of(Long userId, TransactionType eventType, String payload, LocalDateTime now) {
+        return PointOutboxEvent.builder()
+                .userId(userId)
+                .eventType(eventType)
+                .payload(payload)
+                .createDate(now)
+                .build();
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.point.domain;
+
+import com.example.point.exception.PointErrorReason;
+import com.example.point.exception.PointOperationException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 조회 경로에서 사용하는 불변 포인트 정책 스냅샷.
+ * 정책 엔티티의 버전이 바뀔 때만 새 스냅샷으로 교체된다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PointPolicySnapshot {
+    private final Long version;
+    private final int minSaving;
+    private final int maxSaving;
+    private final int pointLimit;
+    private final int defaultExpireDays;
+    private final int minExpireDays;
+    private final int maxExpireDays;
+    private final LocalDateTime refreshedAt;
+
+    public static PointPolicySnapshot from(PointPolicy policy, LocalDateTime refreshedAt) {
+        return new PointPolicySnapshot(
+                policy.getVersion(),
+                policy.getMinSaving(),
+                policy.getMaxSaving(),
+                policy.getPointLimit(),
+                policy.getDefaultExpireDays(),
+                policy.getMinExpireDays(),
+                policy.getMaxExpireDays(),
+                refreshedAt
+        );
+    }
+
+    public void validateSavingAmount(int amount) {
+        if (amount < minSaving || amount > maxSaving) {
+            throw new PointOperationException(PointErrorReason.INVALID_SAVING_AMOUNT, "포인트는 "
+                    + minSaving + " 이상 "
+                    + maxSaving + " 이하이어야 합니다.");
+        }
+    }
+
+    public LocalDateTime calculateExpireDate(LocalDateTime now, Integer customExpireDays) {
+        int expireDays = customExpireDays != null ? customExpireDays : defaultExpireDays;
+        if (expireDays < minExpireDays || expireDays >= maxExpireDays) {
+            throw new PointOperationException(PointErrorReason.INVALID_EXPIRE_DAYS, "만료일은 최소 "
+                    + minExpireDays + "일 이상, 최대 "
+                    + maxExpireDays + "일 미만이어야 합니다.");
+        }
+        return now.plusDays(expireDays);
+    }
+
+    public void validatePointPointLimit(int currentFreePoints) {
+        if (currentFreePoints > pointLimit) {
+            throw new PointOperationException(PointErrorReason.POINT_LIMIT_EXCEEDED, "무료 포인트 보유 한도를 초과하였습니다. (최대 "
+                    + pointLimit + "포인트)");
+        }
+    }
+}
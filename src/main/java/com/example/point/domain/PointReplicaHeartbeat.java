@@ -0,0 +1,23 @@
+package com.example.point.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 주 DB에 주기적으로 기록하는 하트비트 (복제본에서 읽은 값으로 복제 지연을 계산, 기록은 PointReplicaLagMonitor)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "point_replica_heartbeats")
+public class PointReplicaHeartbeat {
+
+    @Id
+    @Column(name = "heartbeat_id")
+    private Long heartbeatId;
+
+    // 기록한 시각 (epoch millis)
+    @Column(name = "beat_millis", nullable = false)
+    private long beatMillis;
+}
@@ -0,0 +1,127 @@
+package com.example.point.domain;
+
+import com.example.point.domain.enums.BalanceStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "point_summaries")
+public class PointSummary {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Version
+    private Long version;
+
+    // 사용 가능한(ACTIVE) 잔액 합계
+    @Column(name = "total_amount", nullable = false)
+    private int totalAmount;
+
+    // 구매 적립(PURCHASE) 잔액 합계
+    @Column(name = "purchase_amount", nullable = false)
+    private int purchaseAmount;
+
+    // 수기 지급(MANUAL) 잔액 합계
+    @Column(name = "manual_amount", nullable = false)
+    private int manualAmount;
+
+    // 결제 대기 중인 주문에 보류(hold)된 포인트 합계, 사용 가능 잔액에서 제외
+    @Column(name = "held_amount", nullable = false)
+    private int heldAmount;
+
+    // 잔액이 남아있는 적립 건 중 가장 빠른 만료일
+    @Column(name = "next_expire_date")
+    private LocalDateTime nextExpireDate;
+
+    // 가장 빠른 만료일 건이 소진되어 재계산이 필요한 상태
+    @Transient
+    private boolean nextExpireDateStale;
+
+    public static PointSummary of(Long userId, List<PointBalance> activeBalances) {
+        PointSummary summary = PointSummary.builder()
+                .userId(userId)
+                .build();
+        summary.recalculate(activeBalances);
+        return summary;
+    }
+
+    // 적립 건이 요약을 거치지 않고 바뀐 경우(원장 리플레이) ACTIVE 적립 건으로 합계와 다음 만료일을 다시 계산 (보류 금액은 유지)
+    public void recalculate(List<PointBalance> activeBalances) {
+        this.totalAmount = 0;
+        this.purchaseAmount = 0;
+        this.manualAmount = 0;
+        this.nextExpireDate = null;
+        this.nextExpireDateStale = false;
+        activeBalances.forEach(balance -> increase(balance, balance.getRemainAmount()));
+    }
+
+    public void increase(PointBalance balance, int points) {
+        applyDelta(balance, points);
+        if (balance.getRemainAmount() > 0
+                && (nextExpireDate == null || balance.getExpireDate().isBefore(nextExpireDate))) {
+            this.nextExpireDate = balance.getExpireDate();
+        }
+    }
+
+    public void decrease(PointBalance balance, int points) {
+        decrease(balance, points, balance.getRemainAmount() == 0 || balance.getStatus() != BalanceStatus.ACTIVE);
+    }
+
+    // 적립 건을 차감하기 전에 차감액을 반영 (적립 건 엔티티를 변경하지 않는 일괄 차감에서 사용)
+    public void deduct(PointBalance balance, int points) {
+        decrease(balance, points, points >= balance.getRemainAmount());
+    }
+
+    public int getAvailableAmount() {
+        return totalAmount - heldAmount;
+    }
+
+    public void hold(int points) {
+        this.heldAmount += points;
+    }
+
+    public void releaseHold(int points) {
+        if (points > this.heldAmount) {
+            // 보류 금액이 음수가 되면 보류/확정/해제 기록이 요약과 어긋난 것이므로 조용히 보정하지 않음
+            throw new IllegalStateException("보류 해제 금액(" + points + ")이 보류 중인 금액(" + heldAmount + ")보다 큽니다: userId=" + userId);
+        }
+        this.heldAmount -= points;
+    }
+
+    public void refreshNextExpireDate(LocalDateTime nextExpireDate) {
+        this.nextExpireDate = nextExpireDate;
+        this.nextExpireDateStale = false;
+    }
+
+    private void decrease(PointBalance balance, int points, boolean exhausted) {
+        applyDelta(balance, -points);
+        if (this.totalAmount == 0) {
+            this.nextExpireDate = null;
+            this.nextExpireDateStale = false;
+            return;
+        }
+        if (exhausted && balance.getExpireDate().equals(nextExpireDate)) {
+            this.nextExpireDateStale = true;
+        }
+    }
+
+    private void applyDelta(PointBalance balance, int delta) {
+        this.totalAmount += delta;
+        switch (balance.getBalanceType()) {
+            case PURCHASE -> this.purchaseAmount += delta;
+            case MANUAL -> this.manualAmount += delta;
+        }
+    }
+}
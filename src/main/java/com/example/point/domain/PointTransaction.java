@@ -14,11 +14,15 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "point_transactions")
+@Table(name = "point_transactions", indexes = {
+        // 사용자별 이력 키셋 페이지네이션과 기간 내보내기
+        @Index(name = "idx_point_transactions_history", columnList = "user_id, transaction_date, transaction_id")
+})
 public class PointTransaction {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "point_transaction_seq")
+    @SequenceGenerator(name = "point_transaction_seq", sequenceName = "point_transaction_seq", allocationSize = 50)
     private Long transactionId;
 
     @Column(name = "user_id", nullable = false)
@@ -60,4 +64,9 @@ public class PointTransaction {
                 .pointChange(pointChange)
                 .build();
     }
+
+    // DB 대신 원장 파일에 기록하는 경우 원장이 발급한 ID를 부여
+    public void assignTransactionId(Long transactionId) {
+        this.transactionId = transactionId;
+    }
 }
@@ -3,5 +3,6 @@ package com.example.point.domain.enums;
 public enum BalanceStatus {
     ACTIVE,    // 사용 가능한 상태
     CANCELED,  // 취소된 상태
-    EXPIRED    // 만료된 상태
+    EXPIRED,   // 만료된 상태
+    MERGED     // 다른 적립 건으로 병합된 상태
 }
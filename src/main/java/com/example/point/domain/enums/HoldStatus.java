@@ -0,0 +1,8 @@
+package com.example.point.domain.enums;
+
+public enum HoldStatus {
+    HELD,      // 결제 대기 중 보류된 상태
+    CAPTURED,  // 사용으로 확정된 상태
+    RELEASED,  // 보류가 해제된 상태
+    EXPIRED    // 유효 시간이 지나 해제된 상태
+}
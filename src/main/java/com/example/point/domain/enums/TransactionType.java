@@ -4,5 +4,7 @@ public enum TransactionType {
     SAVE,           // 포인트 적립
     CANCEL_SAVE,    // 적립 취소
     USE,            // 포인트 사용
-    CANCEL_USE      // 사용 취소
+    CANCEL_USE,     // 사용 취소
+    EXPIRE,         // 유효기간 만료
+    MERGE           // 적립 건 병합 (병합된 건은 음수, 병합 대상 건은 양수로 기록)
 }
@@ -0,0 +1,37 @@
+package com.example.point.dto.balance;
+
+import com.example.point.domain.PointSummary;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PointBalanceResponse {
+    private Long userId;
+    private int totalAmount;
+    private int purchaseAmount;
+    private int manualAmount;
+    // 결제 대기 주문에 보류된 포인트
+    private int heldAmount;
+    // 보류 금액을 제외한 사용 가능 포인트
+    private int availableAmount;
+    private LocalDateTime nextExpireDate;
+
+    public static PointBalanceResponse from(PointSummary summary) {
+        return PointBalanceResponse.builder()
+                .userId(summary.getUserId())
+                .totalAmount(summary.getTotalAmount())
+                .purchaseAmount(summary.getPurchaseAmount())
+                .manualAmount(summary.getManualAmount())
+                .heldAmount(summary.getHeldAmount())
+                .availableAmount(summary.getAvailableAmount())
+                .nextExpireDate(summary.getNextExpireDate())
+                .build();
+    }
+}
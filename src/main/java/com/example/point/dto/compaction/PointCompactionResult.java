@@ -0,0 +1,29 @@
+package com.example.point.dto.compaction;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PointCompactionResult {
+    private LocalDateTime startedAt;
+    // 병합이 일어난 사용자 수
+    private int userCount;
+    // 병합되어 MERGED 처리된 적립 건수
+    private int mergedCount;
+    // 병합으로 새로 생성된 적립 건수
+    private int createdCount;
+    // 줄어든 ACTIVE 적립 건수 (mergedCount - createdCount)
+    private int reclaimedCount;
+    // 병합에 실패하여 건너뛴 사용자 수
+    private int failedCount;
+    private long elapsedMillis;
+    // 처리 중 실패한 경우 마지막 실패 메시지
+    private String failure;
+}
@@ -0,0 +1,25 @@
+package com.example.point.dto.event;
+
+import com.example.point.domain.enums.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 하나의 오퍼레이션에서 발생한 같은 사용자, 같은 유형의 거래를 묶은 이벤트 본문
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PointEventPayload {
+    private Long userId;
+    private TransactionType eventType;
+    // 거래들의 포인트 변화 합계
+    private int pointChange;
+    private String orderId;
+    private List<Long> transactionIds;
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,34 @@
+package com.example.point.dto.expire;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PointExpireResult {
+    private LocalDateTime startedAt;
+    // 만료 처리된 적립 건수
+    private int expiredCount;
+    // 만료 처리된 포인트 합계
+    private long expiredPoints;
+    // 처리한 청크(트랜잭션) 수
+    private int chunkCount;
+    private long elapsedMillis;
+    // 초당 만료 처리 건수
+    private double throughputPerSecond;
+    // 가장 오래 방치된 만료 건의 지연 시간(초)
+    private long maxLagSeconds;
+    // 처리 중 실패하여 건너뛴 적립 건수 (다음 실행에서 다시 처리)
+    private int skippedCount;
+    // 건너뛴 적립 ID (최대 point.expire.max-report 건)
+    private List<Long> skippedBalanceIds;
+    // 처리 중 실패한 경우 메시지
+    private String failure;
+}
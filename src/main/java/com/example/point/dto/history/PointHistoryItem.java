@@ -0,0 +1,25 @@
+package com.example.point.dto.history;
+
+import com.example.point.domain.enums.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 거래 이력 조회용 프로젝션 (엔티티를 영속성 컨텍스트에 올리지 않음)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PointHistoryItem {
+    private Long transactionId;
+    private Long userId;
+    private Long balanceId;
+    private TransactionType transactionType;
+    private int pointChange;
+    private LocalDateTime transactionDate;
+    private String orderId;
+    private String description;
+}
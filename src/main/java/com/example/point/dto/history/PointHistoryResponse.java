@@ -0,0 +1,18 @@
+package com.example.point.dto.history;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PointHistoryResponse {
+    private List<PointHistoryItem> items;
+    // 다음 페이지 조회용 커서, 마지막 페이지이면 null
+    private String nextCursor;
+}
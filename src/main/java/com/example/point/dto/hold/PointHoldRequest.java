@@ -0,0 +1,15 @@
+package com.example.point.dto.hold;
+
+import lombok.*;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PointHoldRequest {
+    private Long userId;
+    private String orderId;
+    private int amount;
+    // 보류 유효 시간(초), 없으면 기본값 적용
+    private Integer ttlSeconds;
+}
@@ -0,0 +1,37 @@
+package com.example.point.dto.hold;
+
+import com.example.point.domain.PointHold;
+import com.example.point.domain.enums.HoldStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PointHoldResponse {
+    private Long holdId;
+    private Long userId;
+    private String orderId;
+    private int amount;
+    private HoldStatus status;
+    private LocalDateTime expireDate;
+    // 보류 금액을 제외한 사용 가능 포인트
+    private int availableAmount;
+
+    public static PointHoldResponse from(PointHold hold, int availableAmount) {
+        return PointHoldResponse.builder()
+                .holdId(hold.getHoldId())
+                .userId(hold.getUserId())
+                .orderId(hold.getOrderId())
+                .amount(hold.getAmount())
+                .status(hold.getStatus())
+                .expireDate(hold.getExpireDate())
+                .availableAmount(availableAmount)
+                .build();
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.point.dto.policy;
+
+import lombok.*;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PointPolicyUpdateRequest {
+    // 일부 필드만 보낸 요청을 구분할 수 있도록 모두 래퍼 타입으로 받음
+    private Integer minSaving;
+    private Integer maxSaving;
+    private Integer pointLimit;
+    private Integer defaultExpireDays;
+    private Integer minExpireDays;
+    private Integer maxExpireDays;
+}
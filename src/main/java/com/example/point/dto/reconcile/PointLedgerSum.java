@@ -0,0 +1,5 @@
+package com.example.point.dto.reconcile;
+
+// 적립 건별 거래 내역 포인트 변화 합계 (집계 쿼리 프로젝션)
+public record PointLedgerSum(Long balanceId, Long pointChange, Long transactionCount) {
+}
@@ -0,0 +1,21 @@
+package com.example.point.dto.reconcile;
+
+import com.example.point.domain.enums.BalanceStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PointReconcileDiscrepancy {
+    private Long balanceId;
+    private Long userId;
+    private BalanceStatus status;
+    // point_balances에 기록된 남은 포인트
+    private int remainAmount;
+    // 거래 내역으로 계산한 남은 포인트
+    private long ledgerAmount;
+}
@@ -0,0 +1,32 @@
+package com.example.point.dto.reconcile;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PointReconcileResult {
+    private LocalDateTime startedAt;
+    // 나누어 처리한 사용자 ID 구간 수
+    private int rangeCount;
+    // 검증한 적립 건수
+    private long balanceCount;
+    // 집계한 거래 내역 건수
+    private long transactionCount;
+    // 재확인 후에도 일치하지 않은 적립 건수
+    private int discrepancyCount;
+    // 불일치 목록 (point.reconcile.max-report 건까지)
+    private List<PointReconcileDiscrepancy> discrepancies;
+    private long elapsedMillis;
+    // 초당 검증한 적립 건수
+    private double balancesPerSecond;
+    // 처리 중 실패한 경우 메시지
+    private String failure;
+}
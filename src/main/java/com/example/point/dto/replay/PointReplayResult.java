@@ -0,0 +1,33 @@
+package com.example.point.dto.replay;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PointReplayResult {
+    private LocalDateTime startedAt;
+    // 기록 대상 (SHADOW: point_balance_replays, BALANCES: point_balances)
+    private String target;
+    // 전체 사용자 ID 구간 수
+    private int rangeCount;
+    // 체크포인트에 완료로 기록되어 건너뛴 구간 수
+    private int resumedRangeCount;
+    // 이번 실행에서 적용한 거래 건수
+    private long transactionCount;
+    // 이번 실행에서 다시 계산한 적립 건수
+    private long balanceCount;
+    // 현재 point_balances와 남은 포인트 또는 상태가 다른 적립 건수
+    private long changedCount;
+    private long elapsedMillis;
+    // 초당 적용한 거래 건수
+    private double transactionsPerSecond;
+    // 처리 중 실패한 경우 메시지 (완료한 구간까지는 체크포인트에 남음)
+    private String failure;
+}
@@ -0,0 +1,7 @@
+package com.example.point.dto.replay;
+
+import com.example.point.domain.enums.BalanceStatus;
+
+// 거래 내역을 순서대로 적용하여 다시 계산한 적립 건의 남은 포인트와 상태
+public record PointReplayedBalance(Long balanceId, Long userId, int remainAmount, BalanceStatus status) {
+}
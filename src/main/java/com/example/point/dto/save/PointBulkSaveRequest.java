@@ -0,0 +1,13 @@
+package com.example.point.dto.save;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PointBulkSaveRequest {
+    private List<PointSaveRequest> requests;
+}
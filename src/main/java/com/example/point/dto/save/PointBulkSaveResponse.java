@@ -0,0 +1,26 @@
+package com.example.point.dto.save;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PointBulkSaveResponse {
+    private int requestedCount;
+    private int successCount;
+    private int failureCount;
+    private List<PointBulkSaveResult> results;
+
+    public static PointBulkSaveResponse from(List<PointBulkSaveResult> results) {
+        int successCount = (int) results.stream().filter(PointBulkSaveResult::isSuccess).count();
+        return PointBulkSaveResponse.builder()
+                .requestedCount(results.size())
+                .successCount(successCount)
+                .failureCount(results.size() - successCount)
+                .results(results)
+                .build();
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.point.dto.save;
+
+import lombok.*;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PointBulkSaveResult {
+    // 요청 목록에서의 순번
+    private int index;
+    private Long userId;
+    private Long balanceId;
+    private boolean success;
+    private String message;
+
+    public static PointBulkSaveResult success(int index, Long userId, Long balanceId) {
+        return new PointBulkSaveResult(index, userId, balanceId, true, null);
+    }
+
+    public static PointBulkSaveResult failure(int index, Long userId, String message) {
+        return new PointBulkSaveResult(index, userId, null, false, message);
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.point.engine;
+
+import com.example.point.domain.enums.BalanceType;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 저널에 기록하는 오퍼레이션 한 건.
+ * 검증을 마친 결과(적립 ID, 적립 건별 차감/환불 금액)를 그대로 담으므로 재생 시 정책이나 시각에 의존하지 않는다.
+ * 멱등성 키로 요청된 경우 키와 요청 본문 해시를 함께 기록하여 재시작 후의 재시도도 최초 응답으로 처리한다.
+ */
+record JournalEntry(long sequence, Op op, long userId, String orderId, long timestamp, List<Mutation> mutations,
+                    String idempotencyKey, String payloadHash) {
+
+    JournalEntry(long sequence, Op op, long userId, String orderId, long timestamp, List<Mutation> mutations) {
+        this(sequence, op, userId, orderId, timestamp, mutations, null, null);
+    }
+
+    enum Op {
+        SAVE, CANCEL_SAVE, USE, CANCEL_USE
+    }
+
+    enum Kind {
+        GRANT,   // 새 적립 건 생성 (sourceBalanceId가 있으면 만료된 적립 건의 사용 취소로 재적립)
+        CANCEL,  // 적립 취소
+        DEDUCT,  // 주문 사용 차감
+        REFUND   // 주문 사용 취소 환불
+    }
+
+    /**
+     * 적립 건 하나에 대한 변경. 고정 길이로 직렬화된다.
+     */
+    record Mutation(Kind kind, long balanceId, int amount, BalanceType balanceType, long expireAt, long sourceBalanceId) {
+
+        static final int BYTES = 1 + 8 + 4 + 1 + 8 + 8;
+
+        static Mutation grant(long balanceId, int amount, BalanceType balanceType, long expireAt, long sourceBalanceId) {
+            return new Mutation(Kind.GRANT, balanceId, amount, balanceType, expireAt, sourceBalanceId);
+        }
+
+        static Mutation of(Kind kind, long balanceId, int amount) {
+            return new Mutation(kind, balanceId, amount, BalanceType.PURCHASE, 0L, 0L);
+        }
+    }
+
+    JournalEntry withSequence(long sequence) {
+        return new JournalEntry(sequence, op, userId, orderId, timestamp, mutations, idempotencyKey, payloadHash);
+    }
+
+    JournalEntry withIdempotency(String idempotencyKey, String payloadHash) {
+        return new JournalEntry(sequence, op, userId, orderId, timestamp, mutations, idempotencyKey, payloadHash);
+    }
+
+    ByteBuffer encode() {
+        byte[] order = bytes(orderId);
+        byte[] key = bytes(idempotencyKey);
+        byte[] hash = bytes(payloadHash);
+        ByteBuffer buffer = ByteBuffer.allocate(8 + 1 + 8 + 8 + 2 + order.length + 2 + key.length + 2 + hash.length
+                + 4 + mutations.size() * Mutation.BYTES);
+        buffer.putLong(sequence)
+                .put((byte) op.ordinal())
+                .putLong(userId)
+                .putLong(timestamp);
+        putString(buffer, orderId, order);
+        putString(buffer, idempotencyKey, key);
+        putString(buffer, payloadHash, hash);
+        buffer.putInt(mutations.size());
+        for (Mutation mutation : mutations) {
+            buffer.put((byte) mutation.kind().ordinal())
+                    .putLong(mutation.balanceId())
+                    .putInt(mutation.amount())
+                    .put((byte) mutation.balanceType().ordinal())
+                    .putLong(mutation.expireAt())
+                    .putLong(mutation.sourceBalanceId());
+        }
+        return buffer.flip();
+    }
+
+    static JournalEntry decode(ByteBuffer buffer) {
+        long sequence = buffer.getLong();
+        Op op = Op.values()[buffer.get()];
+        long userId = buffer.getLong();
+        long timestamp = buffer.getLong();
+        String orderId = getString(buffer);
+        String idempotencyKey = getString(buffer);
+        String payloadHash = getString(buffer);
+        int count = buffer.getInt();
+        List<Mutation> mutations = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            mutations.add(new Mutation(
+                    Kind.values()[buffer.get()],
+                    buffer.getLong(),
+                    buffer.getInt(),
+                    BalanceType.values()[buffer.get()],
+                    buffer.getLong(),
+                    buffer.getLong()));
+        }
+        return new JournalEntry(sequence, op, userId, orderId, timestamp, mutations, idempotencyKey, payloadHash);
+    }
+
+    private static byte[] bytes(String value) {
+        return value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    // 길이(null이면 -1)와 UTF-8 본문
+    private static void putString(ByteBuffer buffer, String value, byte[] bytes) {
+        buffer.putShort((short) (value == null ? -1 : bytes.length)).put(bytes);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        short length = buffer.getShort();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,268 @@
+package com.example.point.engine;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * 메모리 엔진의 선행 기록(write-ahead) 저널.
+ * 기록은 [길이][CRC32C][본문] 형식으로 세그먼트 파일(journal-{첫 시퀀스}.log)에 덧붙이며,
+ * 기록 스레드가 대기 중인 기록을 모아 한 번의 fsync로 함께 내구화한다(group fsync).
+ */
+@Slf4j
+class PointJournal implements AutoCloseable {
+
+    private static final String PREFIX = "journal-";
+    private static final String SUFFIX = ".log";
+    private static final int HEADER_BYTES = 8;
+
+    private final Path directory;
+    private final long groupCommitNanos;
+    private final int maxBatch;
+    private final BlockingQueue<Pending> queue = new LinkedBlockingQueue<>();
+
+    private long nextSequence;
+    private FileChannel channel;
+    private Thread writer;
+    private volatile boolean running;
+    private volatile IOException failure;
+
+    PointJournal(Path directory, long groupCommitMillis, int maxBatch) {
+        this.directory = directory;
+        this.groupCommitNanos = TimeUnit.MILLISECONDS.toNanos(groupCommitMillis);
+        this.maxBatch = maxBatch;
+    }
+
+    /**
+     * 저장된 세그먼트를 순서대로 읽어 afterSequence 이후의 기록을 반환한다.
+     * 마지막 세그먼트 끝의 잘린 기록(기록 중 중단)은 잘라내고, 그 앞 세그먼트가 손상된 경우는 복구하지 않는다.
+     */
+    List<JournalEntry> recover(long afterSequence) throws IOException {
+        List<Path> segments = segments();
+        List<JournalEntry> entries = new ArrayList<>();
+        for (int i = 0; i < segments.size(); i++) {
+            Path segment = segments.get(i);
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(segment));
+            long valid = readSegment(buffer, afterSequence, entries);
+            if (valid < buffer.capacity()) {
+                if (i < segments.size() - 1) {
+                    throw new IllegalStateException("저널 세그먼트가 손상되었습니다: " + segment);
+                }
+                log.warn("저널 {}의 잘린 기록 {}바이트를 버림", segment, buffer.capacity() - valid);
+                try (FileChannel truncate = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+                    truncate.truncate(valid);
+                    truncate.force(true);
+                }
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * nextSequence부터 시작하는 새 세그먼트를 열고 기록 스레드를 시작한다.
+     */
+    synchronized void start(long nextSequence) throws IOException {
+        this.nextSequence = nextSequence;
+        this.channel = openSegment(nextSequence);
+        this.running = true;
+        this.writer = new Thread(this::write, "point-journal-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * 시퀀스를 부여하고 기록 대기열에 넣는다. 반환된 Future는 fsync가 끝난 뒤 완료된다.
+     * 시퀀스 부여와 대기열 추가를 함께 직렬화하므로 파일 안의 기록은 시퀀스 순서와 같다.
+     */
+    synchronized CompletableFuture<JournalEntry> append(JournalEntry entry) {
+        if (failure != null) {
+            return CompletableFuture.failedFuture(new UncheckedIOException("저널에 기록할 수 없습니다.", failure));
+        }
+        JournalEntry sequenced = entry.withSequence(nextSequence++);
+        CompletableFuture<JournalEntry> future = new CompletableFuture<>();
+        queue.add(new Pending(sequenced, frame(sequenced.encode()), future, 0L));
+        return future;
+    }
+
+    synchronized long lastSequence() {
+        return nextSequence - 1;
+    }
+
+    /**
+     * 지금까지의 기록을 내구화한 뒤 다음 시퀀스부터 새 세그먼트에 기록한다.
+     * 반환된 Future는 전환이 끝난 뒤 새 세그먼트의 첫 시퀀스로 완료된다.
+     */
+    synchronized CompletableFuture<Long> roll() {
+        long rollSequence = nextSequence;
+        CompletableFuture<JournalEntry> future = new CompletableFuture<>();
+        queue.add(new Pending(null, null, future, rollSequence));
+        return future.thenApply(ignored -> rollSequence);
+    }
+
+    /**
+     * firstSequence 이전에 시작한 세그먼트를 삭제한다. 스냅샷이 내구화된 뒤에만 호출한다.
+     */
+    void deleteSegmentsBefore(long firstSequence) throws IOException {
+        for (Path segment : segments()) {
+            if (startSequence(segment) < firstSequence) {
+                Files.deleteIfExists(segment);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        running = false;
+        if (writer != null) {
+            try {
+                writer.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    private void write() {
+        List<Pending> batch = new ArrayList<>();
+        while (running || !queue.isEmpty()) {
+            try {
+                Pending first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                // 첫 기록부터 groupCommit 시간 동안 함께 fsync할 기록을 모음
+                long deadline = System.nanoTime() + groupCommitNanos;
+                while (batch.size() < maxBatch) {
+                    Pending next = queue.poll(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<Pending> batch) {
+        List<Pending> written = new ArrayList<>();
+        try {
+            for (Pending pending : batch) {
+                if (failure != null) {
+                    throw failure;
+                }
+                if (pending.isRoll()) {
+                    sync(written);
+                    channel.close();
+                    channel = openSegment(pending.rollSequence());
+                    pending.future().complete(null);
+                    continue;
+                }
+                while (pending.frame().hasRemaining()) {
+                    channel.write(pending.frame());
+                }
+                written.add(pending);
+            }
+            sync(written);
+        } catch (IOException e) {
+            // 기록에 실패하면 이후 기록도 거부하여 메모리 상태가 저널보다 앞서지 않도록 함
+            failure = e;
+            log.error("저널 기록 실패", e);
+            batch.stream()
+                    .filter(pending -> !pending.future().isDone())
+                    .forEach(pending -> pending.future().completeExceptionally(new UncheckedIOException("저널에 기록할 수 없습니다.", e)));
+        }
+    }
+
+    private void sync(List<Pending> written) throws IOException {
+        if (written.isEmpty()) {
+            return;
+        }
+        channel.force(false);
+        written.forEach(pending -> pending.future().complete(pending.entry()));
+        written.clear();
+    }
+
+    private long readSegment(ByteBuffer buffer, long afterSequence, List<JournalEntry> entries) {
+        while (buffer.remaining() >= HEADER_BYTES) {
+            int start = buffer.position();
+            int length = buffer.getInt();
+            int checksum = buffer.getInt();
+            if (length <= 0 || buffer.remaining() < length) {
+                return start;
+            }
+            ByteBuffer body = buffer.slice(buffer.position(), length);
+            CRC32C crc = new CRC32C();
+            crc.update(body.duplicate());
+            if ((int) crc.getValue() != checksum) {
+                return start;
+            }
+            buffer.position(buffer.position() + length);
+            JournalEntry entry = JournalEntry.decode(body);
+            if (entry.sequence() > afterSequence) {
+                entries.add(entry);
+            }
+        }
+        return buffer.position();
+    }
+
+    private ByteBuffer frame(ByteBuffer body) {
+        CRC32C crc = new CRC32C();
+        crc.update(body.duplicate());
+        ByteBuffer frame = ByteBuffer.allocate(HEADER_BYTES + body.remaining());
+        frame.putInt(body.remaining()).putInt((int) crc.getValue()).put(body);
+        return frame.flip();
+    }
+
+    private FileChannel openSegment(long firstSequence) throws IOException {
+        Path segment = directory.resolve(PREFIX + String.format("%020d", firstSequence) + SUFFIX);
+        return FileChannel.open(segment, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> {
+                        String name = file.getFileName().toString();
+                        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private long startSequence(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+
+    // rollSequence가 0보다 크면 해당 시퀀스부터 새 세그먼트로 전환하는 표식
+    private record Pending(JournalEntry entry, ByteBuffer frame, CompletableFuture<JournalEntry> future, long rollSequence) {
+
+        boolean isRoll() {
+            return rollSequence > 0;
+        }
+    }
+}
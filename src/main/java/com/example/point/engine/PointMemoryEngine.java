@@ -0,0 +1,399 @@
+package com.example.point.engine;
+
+import com.example.point.domain.enums.BalanceStatus;
+import com.example.point.domain.enums.BalanceType;
+import com.example.point.dto.balance.PointBalanceResponse;
+import com.example.point.dto.save.PointSaveRequest;
+import com.example.point.dto.save.PointSaveResponse;
+import com.example.point.dto.use.PointCancelUseRequest;
+import com.example.point.dto.use.PointUseRequest;
+import com.example.point.dto.use.PointUseResponse;
+import com.example.point.engine.JournalEntry.Kind;
+import com.example.point.engine.JournalEntry.Mutation;
+import com.example.point.engine.JournalEntry.Op;
+import com.example.point.exception.PointErrorReason;
+import com.example.point.exception.PointOperationException;
+import com.example.point.service.PointPolicyService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * JPA 저장소 대신 사용자별 적립 건을 메모리에 두고 처리하는 포인트 엔진(point.engine.mode=memory).
+ * 모든 변경은 검증 후 저널에 기록되고 fsync가 끝난 뒤에 메모리에 반영된다(write-ahead).
+ * 멱등성 키와 요청 본문 해시도 같은 저널 기록에 남기므로, 재시작 후의 재시도도 최초 응답으로 처리된다.
+ * 시작 시 마지막 스냅샷을 읽고 그 이후의 저널을 재생하여 상태를 복구한다.
+ * 적립/적립 취소/사용/사용 취소/잔액 조회만 처리한다. 보류와 일괄 적립은 DB 저장소에서만 처리하므로 이 모드에서는 거절하고,
+ * DB 적립 건을 기준으로 하는 만료·보관·병합 등의 주기 작업도 실행하지 않는다. 이력은 DB 저장소를 기준으로 한다.
+ */
+@Slf4j
+@Component
+public class PointMemoryEngine {
+
+    private static final String SNAPSHOT = "snapshot.bin";
+    private static final int SNAPSHOT_MAGIC = 0x50545332;
+
+    private final PointPolicyService policyService;
+    private final boolean enabled;
+    private final Path directory;
+    private final long groupCommitMillis;
+    private final int groupCommitMaxSize;
+    private final long idempotencyRetentionMillis;
+    private final long orderRetentionMillis;
+
+    private final Map<Long, UserPointBook> books = new ConcurrentHashMap<>();
+    private final Map<Long, Long> balanceOwners = new ConcurrentHashMap<>();
+    private final AtomicLong lastBalanceId = new AtomicLong();
+
+    private PointJournal journal;
+    private long snapshotSequence;
+
+    public PointMemoryEngine(PointPolicyService policyService,
+                             @Value("${point.engine.mode:jpa}") String mode,
+                             @Value("${point.engine.directory:point-engine}") String directory,
+                             @Value("${point.engine.group-commit-ms:1}") long groupCommitMillis,
+                             @Value("${point.engine.group-commit-max-size:256}") int groupCommitMaxSize,
+                             @Value("${point.idempotency.retention-hours:24}") long idempotencyRetentionHours,
+                             @Value("${point.engine.order-retention-days:365}") long orderRetentionDays) {
+        this.policyService = policyService;
+        this.enabled = "memory".equalsIgnoreCase(mode);
+        this.directory = Path.of(directory);
+        this.groupCommitMillis = groupCommitMillis;
+        this.groupCommitMaxSize = groupCommitMaxSize;
+        this.idempotencyRetentionMillis = TimeUnit.HOURS.toMillis(idempotencyRetentionHours);
+        this.orderRetentionMillis = TimeUnit.DAYS.toMillis(orderRetentionDays);
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        Files.createDirectories(directory);
+        journal = new PointJournal(directory, groupCommitMillis, groupCommitMaxSize);
+        snapshotSequence = loadSnapshot();
+        List<JournalEntry> entries = journal.recover(snapshotSequence);
+        for (JournalEntry entry : entries) {
+            UserPointBook book = books.computeIfAbsent(entry.userId(), UserPointBook::new);
+            // 스냅샷이 사용자별로 저장되므로 스냅샷 시퀀스 이후의 기록 중 이미 포함된 것은 건너뜀
+            if (entry.sequence() > book.appliedSequence()) {
+                apply(book, entry);
+            }
+        }
+        long lastSequence = entries.isEmpty() ? snapshotSequence : entries.get(entries.size() - 1).sequence();
+        journal.start(lastSequence + 1);
+        log.info("메모리 포인트 엔진 복구 완료: 사용자 {}명, 스냅샷 시퀀스 {}, 재생한 저널 {}건", books.size(), snapshotSequence, entries.size());
+    }
+
+    @PreDestroy
+    public void stop() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        snapshot();
+        journal.close();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public PointSaveResponse save(PointSaveRequest request) {
+        return save(request, null, null);
+    }
+
+    public PointSaveResponse save(PointSaveRequest request, String idempotencyKey, String payloadHash) {
+        return commit(request.getUserId(), Op.SAVE, idempotencyKey, payloadHash, PointSaveResponse.class, book -> {
+            LocalDateTime now = LocalDateTime.now();
+            policyService.validateSavingAmount(request.getAmount());
+            policyService.validatePointPointLimit(book.remainAmount(null, toEpochMilli(now)) + request.getAmount());
+            LocalDateTime expireDate = policyService.calculateExpireDate(now, request.getExpireDays());
+            Mutation grant = Mutation.grant(lastBalanceId.incrementAndGet(), request.getAmount(), BalanceType.PURCHASE, toEpochMilli(expireDate), 0L);
+            return new JournalEntry(0L, Op.SAVE, book.userId(), null, toEpochMilli(now), List.of(grant));
+        });
+    }
+
+    public PointSaveResponse cancelSave(Long balanceId) {
+        return cancelSave(balanceId, null, null);
+    }
+
+    public PointSaveResponse cancelSave(Long balanceId, String idempotencyKey, String payloadHash) {
+        return commit(findUserId(balanceId), Op.CANCEL_SAVE, idempotencyKey, payloadHash, PointSaveResponse.class, book -> {
+            int index = book.indexOf(balanceId);
+            if (index < 0) {
+                // 조회와 스냅샷 정리 사이에 제거된 적립 건
+                throw new PointOperationException(PointErrorReason.BALANCE_NOT_FOUND, "해당 포인트 적립 내역이 존재하지 않습니다.");
+            }
+            if (book.status(index) != BalanceStatus.ACTIVE) {
+                throw new PointOperationException(PointErrorReason.BALANCE_NOT_CANCELABLE, "사용 가능한 상태의 적립 내역만 취소할 수 있습니다.");
+            }
+            if (book.remain(index) != book.amount(index)) {
+                throw new PointOperationException(PointErrorReason.BALANCE_NOT_CANCELABLE, "일부 사용된 포인트는 취소할 수 없습니다.");
+            }
+            return new JournalEntry(0L, Op.CANCEL_SAVE, book.userId(), null, now(),
+                    List.of(Mutation.of(Kind.CANCEL, balanceId, book.amount(index))));
+        });
+    }
+
+    public PointUseResponse use(Long userId, PointUseRequest request) {
+        return use(userId, request, null, null);
+    }
+
+    public PointUseResponse use(Long userId, PointUseRequest request, String idempotencyKey, String payloadHash) {
+        return commit(userId, Op.USE, idempotencyKey, payloadHash, PointUseResponse.class, book -> {
+            long now = now();
+            List<Mutation> deductions = book.planUse(request.getUsageAmount(), now);
+            if (deductions == null) {
+                throw new PointOperationException(PointErrorReason.INSUFFICIENT_BALANCE, "사용할 포인트가 잔액을 초과합니다.");
+            }
+            return new JournalEntry(0L, Op.USE, userId, request.getOrderId(), now, deductions);
+        });
+    }
+
+    public PointUseResponse cancelUse(PointCancelUseRequest request) {
+        return cancelUse(request, null, null);
+    }
+
+    public PointUseResponse cancelUse(PointCancelUseRequest request, String idempotencyKey, String payloadHash) {
+        return commit(request.getUserId(), Op.CANCEL_USE, idempotencyKey, payloadHash, PointUseResponse.class, book -> {
+            int cancelable = book.cancelableAmount(request.getOrderId());
+            if (cancelable < 0) {
+                throw new PointOperationException(PointErrorReason.USAGE_NOT_FOUND, "해당 주문의 사용 거래가 존재하지 않습니다.");
+            }
+            if (request.getCancelAmount() > cancelable) {
+                throw new PointOperationException(PointErrorReason.CANCEL_AMOUNT_EXCEEDED, "취소할 포인트가 원래 사용된 포인트보다 많습니다.");
+            }
+            LocalDateTime now = LocalDateTime.now();
+            long regrantExpireAt = toEpochMilli(policyService.calculateExpireDate(now, null));
+            List<Mutation> refunds = book.planCancelUse(request.getOrderId(), request.getCancelAmount(), toEpochMilli(now),
+                    regrantExpireAt, lastBalanceId::incrementAndGet);
+            return new JournalEntry(0L, Op.CANCEL_USE, book.userId(), request.getOrderId(), toEpochMilli(now), refunds);
+        });
+    }
+
+    public PointBalanceResponse getBalance(Long userId) {
+        UserPointBook book = books.get(userId);
+        if (book == null) {
+            return PointBalanceResponse.builder().userId(userId).build();
+        }
+        synchronized (book) {
+            long now = now();
+            int total = book.remainAmount(null, now);
+            long nextExpireAt = book.nextExpireAt(now);
+            return PointBalanceResponse.builder()
+                    .userId(userId)
+                    .totalAmount(total)
+                    .purchaseAmount(book.remainAmount(BalanceType.PURCHASE, now))
+                    .manualAmount(book.remainAmount(BalanceType.MANUAL, now))
+                    .availableAmount(total)
+                    .nextExpireDate(nextExpireAt == Long.MAX_VALUE ? null : toDateTime(nextExpireAt))
+                    .build();
+        }
+    }
+
+    public Long findUserId(Long balanceId) {
+        Long userId = balanceOwners.get(balanceId);
+        if (userId == null) {
+            throw new PointOperationException(PointErrorReason.BALANCE_NOT_FOUND, "해당 포인트 적립 내역이 존재하지 않습니다.");
+        }
+        return userId;
+    }
+
+    /**
+     * 스냅샷을 남기고 그 이전의 저널 세그먼트를 정리한다.
+     * 저널을 새 세그먼트로 넘긴 시퀀스를 기준으로 삼고, 사용자별로 그 사용자의 락만 잡고 정리/직렬화하므로
+     * 다른 사용자의 오퍼레이션은 멈추지 않는다. 사용자마다 반영한 마지막 시퀀스를 함께 저장하여
+     * 기준 시퀀스 이후에 스냅샷에 포함된 기록은 복구 시 다시 재생하지 않는다.
+     */
+    @Scheduled(initialDelayString = "${point.engine.snapshot-interval:60000}", fixedDelayString = "${point.engine.snapshot-interval:60000}")
+    public synchronized void snapshot() {
+        if (!enabled || journal.lastSequence() == snapshotSequence) {
+            return;
+        }
+        // 새 세그먼트의 첫 시퀀스 이전 기록은 모두 아래에서 직렬화하는 사용자 상태에 포함됨
+        long sequence = journal.roll().join() - 1;
+        long now = now();
+        List<UserPointBook> snapshotBooks = new ArrayList<>(books.values());
+        Path temp = directory.resolve(SNAPSHOT + ".tmp");
+        try {
+            long bytes;
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+                out.writeInt(SNAPSHOT_MAGIC);
+                out.writeLong(sequence);
+                out.writeLong(lastBalanceId.get());
+                out.writeInt(snapshotBooks.size());
+                for (UserPointBook book : snapshotBooks) {
+                    synchronized (book) {
+                        for (long balanceId : book.compact(now, now - orderRetentionMillis, now - idempotencyRetentionMillis)) {
+                            balanceOwners.remove(balanceId);
+                        }
+                        book.write(out);
+                    }
+                }
+                out.flush();
+                channel.force(true);
+                bytes = channel.size();
+            }
+            Files.move(temp, directory.resolve(SNAPSHOT), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            journal.deleteSegmentsBefore(sequence + 1);
+            snapshotSequence = sequence;
+            log.info("메모리 포인트 엔진 스냅샷 저장: 시퀀스 {}, 사용자 {}명, {}바이트", sequence, snapshotBooks.size(), bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException("스냅샷을 저장할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 사용자 단위로 검증과 변경 계획을 세우고, 저널 fsync가 끝난 뒤 메모리에 반영한다.
+     * 이미 처리한 멱등성 키면 계획하지 않고 최초 응답을 반환한다.
+     */
+    private <T> T commit(Long userId, Op op, String idempotencyKey, String payloadHash, Class<T> type,
+                         Function<UserPointBook, JournalEntry> plan) {
+        String key = idempotencyKey == null || idempotencyKey.isBlank() ? null : idempotencyKey;
+        UserPointBook book = books.computeIfAbsent(userId, UserPointBook::new);
+        synchronized (book) {
+            if (key != null) {
+                Receipt receipt = book.receipt(receiptKey(op, key));
+                if (receipt != null) {
+                    if (!Objects.equals(receipt.payloadHash(), payloadHash)) {
+                        throw new PointOperationException(PointErrorReason.IDEMPOTENCY_KEY_REUSED, "같은 멱등성 키로 다른 요청을 보낼 수 없습니다.");
+                    }
+                    return type.cast(receipt.response());
+                }
+            }
+            JournalEntry planned = plan.apply(book);
+            JournalEntry entry = await(journal.append(key == null ? planned : planned.withIdempotency(key, payloadHash)));
+            return type.cast(apply(book, entry));
+        }
+    }
+
+    /**
+     * 기록을 메모리에 반영하고 응답을 만든다. 멱등성 키가 있으면 응답을 남긴다.
+     * 재생 시에도 같은 순서로 반영하므로 최초 처리와 같은 응답이 만들어진다.
+     */
+    private Object apply(UserPointBook book, JournalEntry entry) {
+        book.apply(entry);
+        for (Mutation mutation : entry.mutations()) {
+            if (mutation.kind() == Kind.GRANT) {
+                balanceOwners.put(mutation.balanceId(), book.userId());
+                lastBalanceId.accumulateAndGet(mutation.balanceId(), Math::max);
+            }
+        }
+        Object response = switch (entry.op()) {
+            case SAVE, CANCEL_SAVE -> saveResponse(book, entry.mutations().get(0).balanceId());
+            case USE, CANCEL_USE -> useResponse(book, entry);
+        };
+        if (entry.idempotencyKey() != null) {
+            book.putReceipt(receiptKey(entry.op(), entry.idempotencyKey()), new Receipt(entry.payloadHash(), entry.timestamp(), response));
+        }
+        return response;
+    }
+
+    private static String receiptKey(Op op, String idempotencyKey) {
+        return op.name() + ":" + idempotencyKey;
+    }
+
+    private JournalEntry await(CompletableFuture<JournalEntry> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private PointSaveResponse saveResponse(UserPointBook book, long balanceId) {
+        int index = book.indexOf(balanceId);
+        return PointSaveResponse.builder()
+                .balanceId(balanceId)
+                .userId(book.userId())
+                .amount(book.amount(index))
+                .remainAmount(book.remain(index))
+                .balanceType(book.balanceType(index))
+                .createDate(toDateTime(book.createdAt(index)))
+                .expireDate(toDateTime(book.expireAt(index)))
+                .status(book.status(index))
+                .build();
+    }
+
+    private PointUseResponse useResponse(UserPointBook book, JournalEntry entry) {
+        int amount = entry.mutations().stream().mapToInt(Mutation::amount).sum();
+        return PointUseResponse.builder()
+                .userId(book.userId())
+                .orderId(entry.orderId())
+                .usedAmount(amount)
+                .totalRemaining(book.remainAmount(null, entry.timestamp()))
+                .transactionDate(toDateTime(entry.timestamp()))
+                .build();
+    }
+
+    // 스냅샷이 없으면 0을 반환하여 저널 전체를 재생
+    private long loadSnapshot() throws IOException {
+        Path file = directory.resolve(SNAPSHOT);
+        if (!Files.exists(file)) {
+            return 0L;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != SNAPSHOT_MAGIC) {
+                throw new IllegalStateException("스냅샷 파일 형식이 올바르지 않습니다: " + file);
+            }
+            long sequence = in.readLong();
+            lastBalanceId.set(in.readLong());
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                UserPointBook book = UserPointBook.read(in);
+                books.put(book.userId(), book);
+                for (long balanceId : book.balanceIds()) {
+                    balanceOwners.put(balanceId, book.userId());
+                    lastBalanceId.accumulateAndGet(balanceId, Math::max);
+                }
+            }
+            return sequence;
+        }
+    }
+
+    private static long now() {
+        return toEpochMilli(LocalDateTime.now());
+    }
+
+    // LocalDateTime을 시간대 변환 없이 저장하기 위한 인코딩
+    static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    static LocalDateTime toDateTime(long epochMilli) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.point.engine;
+
+import com.example.point.domain.enums.BalanceStatus;
+import com.example.point.domain.enums.BalanceType;
+import com.example.point.dto.save.PointSaveResponse;
+import com.example.point.dto.use.PointUseResponse;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * 멱등성 키로 처리한 오퍼레이션의 응답.
+ * 저널에는 키와 요청 본문 해시만 기록하고, 응답은 재생 시 기록을 반영한 직후의 상태로 다시 만들어지므로
+ * 스냅샷에만 직렬화한다.
+ */
+record Receipt(String payloadHash, long createdAt, Object response) {
+
+    private static final byte SAVE = 0;
+    private static final byte USE = 1;
+
+    void write(DataOutputStream out) throws IOException {
+        out.writeUTF(payloadHash == null ? "" : payloadHash);
+        out.writeLong(createdAt);
+        if (response instanceof PointSaveResponse save) {
+            out.writeByte(SAVE);
+            out.writeLong(save.getBalanceId());
+            out.writeLong(save.getUserId());
+            out.writeInt(save.getAmount());
+            out.writeInt(save.getRemainAmount());
+            out.writeByte(save.getBalanceType().ordinal());
+            out.writeLong(PointMemoryEngine.toEpochMilli(save.getCreateDate()));
+            out.writeLong(PointMemoryEngine.toEpochMilli(save.getExpireDate()));
+            out.writeByte(save.getStatus().ordinal());
+        } else {
+            PointUseResponse use = (PointUseResponse) response;
+            out.writeByte(USE);
+            out.writeLong(use.getUserId());
+            out.writeUTF(use.getOrderId());
+            out.writeInt(use.getUsedAmount());
+            out.writeInt(use.getTotalRemaining());
+            out.writeLong(PointMemoryEngine.toEpochMilli(use.getTransactionDate()));
+        }
+    }
+
+    static Receipt read(DataInputStream in) throws IOException {
+        String payloadHash = in.readUTF();
+        if (payloadHash.isEmpty()) {
+            payloadHash = null;
+        }
+        long createdAt = in.readLong();
+        if (in.readByte() == SAVE) {
+            return new Receipt(payloadHash, createdAt, PointSaveResponse.builder()
+                    .balanceId(in.readLong())
+                    .userId(in.readLong())
+                    .amount(in.readInt())
+                    .remainAmount(in.readInt())
+                    .balanceType(BalanceType.values()[in.readByte()])
+                    .createDate(PointMemoryEngine.toDateTime(in.readLong()))
+                    .expireDate(PointMemoryEngine.toDateTime(in.readLong()))
+                    .status(BalanceStatus.values()[in.readByte()])
+                    .build());
+        }
+        return new Receipt(payloadHash, createdAt, PointUseResponse.builder()
+                .userId(in.readLong())
+                .orderId(in.readUTF())
+                .usedAmount(in.readInt())
+                .totalRemaining(in.readInt())
+                .transactionDate(PointMemoryEngine.toDateTime(in.readLong()))
+                .build());
+    }
+}
@@ -0,0 +1,411 @@
+package com.example.point.engine;
+
+import com.example.point.domain.enums.BalanceStatus;
+import com.example.point.domain.enums.BalanceType;
+import com.example.point.engine.JournalEntry.Kind;
+import com.example.point.engine.JournalEntry.Mutation;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongSupplier;
+
+/**
+ * 사용자 한 명의 적립 건과 주문별 사용 내역, 멱등성 키별 응답.
+ * 적립 건은 원시 타입 배열에 차감 우선순위(적립 유형 이름순 → 만료일 → 적립 ID) 순서로 유지하여
+ * 사용 시 앞에서부터 한 번만 훑으면 된다. 동기화는 호출하는 쪽(PointMemoryEngine)에서 한다.
+ * 더 이상 바뀔 수 없는 적립 건과 주문은 스냅샷 시 {@link #compact}로 정리하여 크기를 제한한다.
+ */
+final class UserPointBook {
+
+    // 기존 ORDER BY balanceType ASC와 같도록 적립 유형 이름순 우선순위
+    private static final int[] TYPE_RANK = typeRanks();
+    private static final BalanceType[] TYPES = BalanceType.values();
+    private static final BalanceStatus[] STATUSES = BalanceStatus.values();
+
+    private final long userId;
+    private int size;
+    private long[] balanceIds = new long[4];
+    private int[] amounts = new int[4];
+    private int[] remains = new int[4];
+    private byte[] types = new byte[4];
+    private byte[] statuses = new byte[4];
+    private long[] createdAt = new long[4];
+    private long[] expireAt = new long[4];
+    private final Map<String, OrderUsage> orders = new HashMap<>();
+    // "오퍼레이션:멱등성 키" → 최초 응답
+    private final Map<String, Receipt> receipts = new HashMap<>();
+    // 마지막으로 반영한 저널 시퀀스 (스냅샷에 이미 포함된 기록을 재생하지 않기 위함)
+    private long appliedSequence;
+
+    UserPointBook(long userId) {
+        this.userId = userId;
+    }
+
+    long userId() {
+        return userId;
+    }
+
+    long appliedSequence() {
+        return appliedSequence;
+    }
+
+    Receipt receipt(String key) {
+        return receipts.get(key);
+    }
+
+    void putReceipt(String key, Receipt receipt) {
+        receipts.put(key, receipt);
+    }
+
+    /**
+     * 만료되지 않은 ACTIVE 적립 건의 남은 포인트 합계. balanceType이 null이면 전체 합계.
+     */
+    int remainAmount(BalanceType balanceType, long now) {
+        int total = 0;
+        for (int i = 0; i < size; i++) {
+            if (isUsable(i, now) && (balanceType == null || types[i] == balanceType.ordinal())) {
+                total += remains[i];
+            }
+        }
+        return total;
+    }
+
+    long nextExpireAt(long now) {
+        long next = Long.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            if (isUsable(i, now) && remains[i] > 0) {
+                next = Math.min(next, expireAt[i]);
+            }
+        }
+        return next;
+    }
+
+    int indexOf(long balanceId) {
+        for (int i = 0; i < size; i++) {
+            if (balanceIds[i] == balanceId) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    int amount(int index) {
+        return amounts[index];
+    }
+
+    int remain(int index) {
+        return remains[index];
+    }
+
+    BalanceType balanceType(int index) {
+        return TYPES[types[index]];
+    }
+
+    BalanceStatus status(int index) {
+        return STATUSES[statuses[index]];
+    }
+
+    long createdAt(int index) {
+        return createdAt[index];
+    }
+
+    long expireAt(int index) {
+        return expireAt[index];
+    }
+
+    /**
+     * 우선순위 순으로 차감할 적립 건과 금액을 정한다. 잔액이 부족하면 null을 반환한다.
+     */
+    List<Mutation> planUse(int usageAmount, long now) {
+        List<Mutation> deductions = new ArrayList<>();
+        int remaining = usageAmount;
+        for (int i = 0; i < size && remaining > 0; i++) {
+            if (!isUsable(i, now) || remains[i] == 0) {
+                continue;
+            }
+            int deduct = Math.min(remains[i], remaining);
+            deductions.add(Mutation.of(Kind.DEDUCT, balanceIds[i], deduct));
+            remaining -= deduct;
+        }
+        return remaining > 0 ? null : deductions;
+    }
+
+    /**
+     * 주문의 취소 가능 금액. 주문 사용 내역이 없으면 -1.
+     */
+    int cancelableAmount(String orderId) {
+        OrderUsage usage = orders.get(orderId);
+        return usage == null ? -1 : usage.total();
+    }
+
+    /**
+     * 사용한 순서대로 취소할 적립 건과 금액을 정한다. 만료된 적립 건은 새 만료일로 재적립한다.
+     */
+    List<Mutation> planCancelUse(String orderId, int cancelAmount, long now, long regrantExpireAt, LongSupplier balanceIdGenerator) {
+        OrderUsage usage = orders.get(orderId);
+        List<Mutation> mutations = new ArrayList<>();
+        int remaining = cancelAmount;
+        for (int i = 0; i < usage.size && remaining > 0; i++) {
+            if (usage.cancelable[i] == 0) {
+                continue;
+            }
+            int amount = Math.min(usage.cancelable[i], remaining);
+            int index = indexOf(usage.balanceIds[i]);
+            if (expireAt[index] < now) {
+                mutations.add(Mutation.grant(balanceIdGenerator.getAsLong(), amount, TYPES[types[index]], regrantExpireAt, usage.balanceIds[i]));
+            } else {
+                mutations.add(Mutation.of(Kind.REFUND, usage.balanceIds[i], amount));
+            }
+            remaining -= amount;
+        }
+        return mutations;
+    }
+
+    void apply(JournalEntry entry) {
+        appliedSequence = entry.sequence();
+        for (Mutation mutation : entry.mutations()) {
+            switch (mutation.kind()) {
+                case GRANT -> {
+                    insert(mutation.balanceId(), mutation.amount(), mutation.balanceType(), entry.timestamp(), mutation.expireAt());
+                    if (mutation.sourceBalanceId() != 0) {
+                        orders.get(entry.orderId()).cancel(mutation.sourceBalanceId(), mutation.amount());
+                    }
+                }
+                case CANCEL -> statuses[indexOf(mutation.balanceId())] = (byte) BalanceStatus.CANCELED.ordinal();
+                case DEDUCT -> {
+                    remains[indexOf(mutation.balanceId())] -= mutation.amount();
+                    orders.computeIfAbsent(entry.orderId(), key -> new OrderUsage())
+                            .use(mutation.balanceId(), mutation.amount(), entry.timestamp());
+                }
+                case REFUND -> {
+                    remains[indexOf(mutation.balanceId())] += mutation.amount();
+                    orders.get(entry.orderId()).cancel(mutation.balanceId(), mutation.amount());
+                }
+            }
+        }
+    }
+
+    long[] balanceIds() {
+        return Arrays.copyOf(balanceIds, size);
+    }
+
+    /**
+     * 모두 취소되었거나 마지막 사용이 orderCutoff 이전인 주문, receiptCutoff 이전의 멱등성 응답을 지우고,
+     * 남은 주문이 환불받을 수 없으면서 더 사용할 수도 없는(취소/만료/소진) 적립 건을 제거한다.
+     * 제거한 적립 ID를 반환한다.
+     */
+    long[] compact(long now, long orderCutoff, long receiptCutoff) {
+        orders.values().removeIf(usage -> usage.total() == 0 || usage.usedAt < orderCutoff);
+        receipts.values().removeIf(receipt -> receipt.createdAt() < receiptCutoff);
+        Set<Long> referenced = new HashSet<>();
+        for (OrderUsage usage : orders.values()) {
+            for (int i = 0; i < usage.size; i++) {
+                if (usage.cancelable[i] > 0) {
+                    referenced.add(usage.balanceIds[i]);
+                }
+            }
+        }
+
+        long[] removed = new long[size];
+        int removedCount = 0;
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if ((isUsable(i, now) && remains[i] > 0) || referenced.contains(balanceIds[i])) {
+                if (kept != i) {
+                    balanceIds[kept] = balanceIds[i];
+                    amounts[kept] = amounts[i];
+                    remains[kept] = remains[i];
+                    types[kept] = types[i];
+                    statuses[kept] = statuses[i];
+                    createdAt[kept] = createdAt[i];
+                    expireAt[kept] = expireAt[i];
+                }
+                kept++;
+            } else {
+                removed[removedCount++] = balanceIds[i];
+            }
+        }
+        size = kept;
+        return Arrays.copyOf(removed, removedCount);
+    }
+
+    void write(DataOutputStream out) throws IOException {
+        out.writeLong(userId);
+        out.writeLong(appliedSequence);
+        out.writeInt(size);
+        for (int i = 0; i < size; i++) {
+            out.writeLong(balanceIds[i]);
+            out.writeInt(amounts[i]);
+            out.writeInt(remains[i]);
+            out.writeByte(types[i]);
+            out.writeByte(statuses[i]);
+            out.writeLong(createdAt[i]);
+            out.writeLong(expireAt[i]);
+        }
+        out.writeInt(orders.size());
+        for (Map.Entry<String, OrderUsage> order : orders.entrySet()) {
+            out.writeUTF(order.getKey());
+            OrderUsage usage = order.getValue();
+            out.writeLong(usage.usedAt);
+            out.writeInt(usage.size);
+            for (int i = 0; i < usage.size; i++) {
+                out.writeLong(usage.balanceIds[i]);
+                out.writeInt(usage.cancelable[i]);
+            }
+        }
+        out.writeInt(receipts.size());
+        for (Map.Entry<String, Receipt> receipt : receipts.entrySet()) {
+            out.writeUTF(receipt.getKey());
+            receipt.getValue().write(out);
+        }
+    }
+
+    static UserPointBook read(DataInputStream in) throws IOException {
+        UserPointBook book = new UserPointBook(in.readLong());
+        book.appliedSequence = in.readLong();
+        int balanceCount = in.readInt();
+        for (int i = 0; i < balanceCount; i++) {
+            long balanceId = in.readLong();
+            int amount = in.readInt();
+            int remain = in.readInt();
+            BalanceType balanceType = TYPES[in.readByte()];
+            byte status = in.readByte();
+            long created = in.readLong();
+            int index = book.insert(balanceId, amount, balanceType, created, in.readLong());
+            book.remains[index] = remain;
+            book.statuses[index] = status;
+        }
+        int orderCount = in.readInt();
+        for (int i = 0; i < orderCount; i++) {
+            OrderUsage usage = new OrderUsage();
+            book.orders.put(in.readUTF(), usage);
+            long usedAt = in.readLong();
+            int itemCount = in.readInt();
+            for (int j = 0; j < itemCount; j++) {
+                usage.use(in.readLong(), in.readInt(), usedAt);
+            }
+        }
+        int receiptCount = in.readInt();
+        for (int i = 0; i < receiptCount; i++) {
+            book.receipts.put(in.readUTF(), Receipt.read(in));
+        }
+        return book;
+    }
+
+    private boolean isUsable(int index, long now) {
+        return statuses[index] == BalanceStatus.ACTIVE.ordinal() && expireAt[index] >= now;
+    }
+
+    // 우선순위 순서를 유지하도록 이진 탐색한 위치에 끼워 넣음
+    private int insert(long balanceId, int amount, BalanceType balanceType, long created, long expire) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(mid, balanceType, expire, balanceId) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        if (size == balanceIds.length) {
+            int capacity = size * 2;
+            balanceIds = Arrays.copyOf(balanceIds, capacity);
+            amounts = Arrays.copyOf(amounts, capacity);
+            remains = Arrays.copyOf(remains, capacity);
+            types = Arrays.copyOf(types, capacity);
+            statuses = Arrays.copyOf(statuses, capacity);
+            createdAt = Arrays.copyOf(createdAt, capacity);
+            expireAt = Arrays.copyOf(expireAt, capacity);
+        }
+        int moved = size - low;
+        System.arraycopy(balanceIds, low, balanceIds, low + 1, moved);
+        System.arraycopy(amounts, low, amounts, low + 1, moved);
+        System.arraycopy(remains, low, remains, low + 1, moved);
+        System.arraycopy(types, low, types, low + 1, moved);
+        System.arraycopy(statuses, low, statuses, low + 1, moved);
+        System.arraycopy(createdAt, low, createdAt, low + 1, moved);
+        System.arraycopy(expireAt, low, expireAt, low + 1, moved);
+        balanceIds[low] = balanceId;
+        amounts[low] = amount;
+        remains[low] = amount;
+        types[low] = (byte) balanceType.ordinal();
+        statuses[low] = (byte) BalanceStatus.ACTIVE.ordinal();
+        createdAt[low] = created;
+        expireAt[low] = expire;
+        size++;
+        return low;
+    }
+
+    private int compare(int index, BalanceType balanceType, long expire, long balanceId) {
+        int byType = Integer.compare(TYPE_RANK[types[index]], TYPE_RANK[balanceType.ordinal()]);
+        if (byType != 0) {
+            return byType;
+        }
+        int byExpire = Long.compare(expireAt[index], expire);
+        return byExpire != 0 ? byExpire : Long.compare(balanceIds[index], balanceId);
+    }
+
+    private static int[] typeRanks() {
+        BalanceType[] sorted = BalanceType.values().clone();
+        Arrays.sort(sorted, Comparator.comparing(BalanceType::name));
+        int[] ranks = new int[sorted.length];
+        for (int rank = 0; rank < sorted.length; rank++) {
+            ranks[sorted[rank].ordinal()] = rank;
+        }
+        return ranks;
+    }
+
+    /**
+     * 주문 하나의 적립 건별 취소 가능 금액 (사용 순서 유지)과 마지막 사용 시각.
+     */
+    private static final class OrderUsage {
+        private int size;
+        private long[] balanceIds = new long[2];
+        private int[] cancelable = new int[2];
+        private long usedAt;
+
+        void use(long balanceId, int amount, long timestamp) {
+            usedAt = Math.max(usedAt, timestamp);
+            for (int i = 0; i < size; i++) {
+                if (balanceIds[i] == balanceId) {
+                    cancelable[i] += amount;
+                    return;
+                }
+            }
+            if (size == balanceIds.length) {
+                balanceIds = Arrays.copyOf(balanceIds, size * 2);
+                cancelable = Arrays.copyOf(cancelable, size * 2);
+            }
+            balanceIds[size] = balanceId;
+            cancelable[size] = amount;
+            size++;
+        }
+
+        void cancel(long balanceId, int amount) {
+            for (int i = 0; i < size; i++) {
+                if (balanceIds[i] == balanceId) {
+                    cancelable[i] -= amount;
+                    return;
+                }
+            }
+        }
+
+        int total() {
+            int total = 0;
+            for (int i = 0; i < size; i++) {
+                total += cancelable[i];
+            }
+            return total;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.point.exception;
+
+public enum PointErrorReason {
+    INVALID_REQUEST,          // 필수 값 누락 등 잘못된 요청
+    INVALID_SAVING_AMOUNT,    // 1회 적립 가능 금액 위반
+    INVALID_EXPIRE_DAYS,      // 만료일 정책 위반
+    POINT_LIMIT_EXCEEDED,     // 개인별 보유 한도 초과
+    INSUFFICIENT_BALANCE,     // 사용 가능 잔액 부족
+    BALANCE_NOT_FOUND,        // 적립 내역 없음
+    BALANCE_NOT_CANCELABLE,   // 취소/만료할 수 없는 적립 내역
+    USAGE_NOT_FOUND,          // 주문의 사용 내역 없음
+    CANCEL_AMOUNT_EXCEEDED,   // 사용 취소 금액 초과
+    LEGACY_USAGE_AMBIGUOUS,   // 주문 정보 없는 사용 취소 이력이 있어 취소 가능 금액을 알 수 없는 기존 주문
+    HOLD_NOT_FOUND,           // 포인트 보류 내역 없음
+    HOLD_NOT_ACTIVE,          // 이미 확정/해제/만료된 보류
+    IDEMPOTENCY_KEY_REUSED,   // 같은 멱등성 키로 다른 요청
+    CONCURRENT_MODIFICATION,  // 다른 요청이 같은 적립 건을 먼저 변경
+    LOCK_TIMEOUT,             // 사용자별 처리 대기 시간 초과
+    INTERRUPTED,              // 처리 중단
+    UNSUPPORTED_ENGINE_MODE   // 현재 엔진 모드(point.engine.mode)에서 지원하지 않는 요청
+}
@@ -1,7 +1,13 @@
 package com.example.point.exception;
 
+import lombok.Getter;
+
+@Getter
 public class PointOperationException extends RuntimeException {
-    public PointOperationException(String message) {
+    private final PointErrorReason reason;
+
+    public PointOperationException(PointErrorReason reason, String message) {
         super(message);
+        this.reason = reason;
     }
 }
@@ -0,0 +1,62 @@
+package com.example.point.ledger;
+
+import com.example.point.domain.PointTransaction;
+import com.example.point.domain.enums.TransactionType;
+import com.example.point.dto.history.PointHistoryItem;
+import com.example.point.dto.reconcile.PointLedgerSum;
+import com.example.point.repository.PointTransactionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * point_transactions 테이블에 기록한다. 시퀀스 기반 ID는 저장 시 전달한 엔티티에 할당된다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "point.ledger.mode", havingValue = "jpa", matchIfMissing = true)
+public class JpaPointLedger implements PointLedger {
+
+    private final PointTransactionRepository pointTransactionRepository;
+
+    @Override
+    public void append(List<PointTransaction> transactions) {
+        pointTransactionRepository.saveAll(transactions);
+    }
+
+    @Override
+    public List<PointTransaction> findByOrder(Long userId, String orderId, TransactionType transactionType) {
+        return pointTransactionRepository.findByUserIdAndOrderIdAndTransactionType(userId, orderId, transactionType);
+    }
+
+    @Override
+    public List<PointTransaction> findWithoutOrder(Long userId, TransactionType transactionType) {
+        return pointTransactionRepository.findByUserIdAndOrderIdIsNullAndTransactionType(userId, transactionType);
+    }
+
+    @Override
+    public List<PointHistoryItem> findHistoryBefore(Long userId, LocalDateTime from, LocalDateTime beforeDate, Long beforeId, Pageable pageable) {
+        return pointTransactionRepository.findHistoryBefore(userId, from, beforeDate, beforeId, pageable);
+    }
+
+    @Override
+    public Stream<PointHistoryItem> streamHistory(Long userId, LocalDateTime from, LocalDateTime to) {
+        return pointTransactionRepository.streamHistory(userId, from, to);
+    }
+
+    @Override
+    public List<PointLedgerSum> sumByBalance(Long fromUserId, Long toUserId, Collection<TransactionType> types) {
+        return pointTransactionRepository.sumByBalance(fromUserId, toUserId, types);
+    }
+
+    @Override
+    public Stream<PointHistoryItem> streamUserRange(Long fromUserId, Long toUserId) {
+        return pointTransactionRepository.streamUserRange(fromUserId, toUserId);
+    }
+}
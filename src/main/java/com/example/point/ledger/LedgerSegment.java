@@ -0,0 +1,188 @@
+package com.example.point.ledger;
+
+import com.example.point.domain.PointTransaction;
+import com.example.point.domain.enums.TransactionType;
+import com.example.point.exception.PointErrorReason;
+import com.example.point.exception.PointOperationException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.zip.CRC32C;
+
+/**
+ * 원장 세그먼트 파일 하나. 파일 전체를 메모리에 매핑하고 거래 한 건을 256바이트 고정 길이 슬롯에 기록한다.
+ *
+ * <pre>
+ *   0  status(1) type(1) orderLength(2) pointChange(4)
+ *   8  transactionId(8)
+ *  16  userId(8)
+ *  24  balanceId(8, 없으면 0)
+ *  32  transactionDate(8, epoch millis)
+ *  40  descriptionLength(2) reserved(2) crc(4)
+ *  48  orderId(96)
+ * 144  description(112)
+ * </pre>
+ * 상태 바이트는 나머지 필드를 모두 쓴 뒤에 기록하므로, 상태가 EMPTY인 첫 슬롯이 기록의 끝이다.
+ */
+final class LedgerSegment {
+
+    static final int RECORD_BYTES = 256;
+    static final byte EMPTY = 0;
+    static final byte PENDING = 1;
+    static final byte COMMITTED = 2;
+    static final byte ROLLED_BACK = 3;
+    // 복구 시 DB 적립 건과 대조해도 커밋 여부를 알 수 없었던 기록 (조회되지 않음)
+    static final byte UNRESOLVED = 4;
+
+    private static final int ORDER_OFFSET = 48;
+    private static final int ORDER_BYTES = 96;
+    private static final int DESCRIPTION_OFFSET = 144;
+    private static final int DESCRIPTION_BYTES = 112;
+    private static final int CRC_OFFSET = 44;
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private final Path file;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+
+    private LedgerSegment(Path file, MappedByteBuffer buffer, int capacity) {
+        this.file = file;
+        this.buffer = buffer;
+        this.capacity = capacity;
+    }
+
+    /**
+     * 세그먼트 파일을 열어 매핑한다. 이미 있는 파일은 파일 크기로, 새 파일은 capacity 슬롯 크기로 매핑한다.
+     */
+    static LedgerSegment open(Path file, int capacity) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = channel.size() > 0 ? channel.size() : (long) capacity * RECORD_BYTES;
+            // 채널을 닫아도 매핑은 유지된다
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            return new LedgerSegment(file, buffer, (int) (size / RECORD_BYTES));
+        }
+    }
+
+    static void validateOrderId(String orderId) {
+        if (orderId != null && orderId.getBytes(StandardCharsets.UTF_8).length > ORDER_BYTES) {
+            throw new PointOperationException(PointErrorReason.INVALID_REQUEST, "주문번호는 " + ORDER_BYTES + "바이트를 넘을 수 없습니다.");
+        }
+    }
+
+    Path file() {
+        return file;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    /**
+     * 슬롯에 거래를 기록하고 마지막에 PENDING 상태를 기록한다.
+     */
+    void write(int slot, PointTransaction transaction) {
+        ByteBuffer record = slice(slot);
+        byte[] order = transaction.getOrderId() == null ? null : transaction.getOrderId().getBytes(StandardCharsets.UTF_8);
+        byte[] description = truncate(transaction.getDescription());
+        record.put(1, (byte) transaction.getTransactionType().ordinal())
+                .putShort(2, (short) (order == null ? -1 : order.length))
+                .putInt(4, transaction.getPointChange())
+                .putLong(8, transaction.getTransactionId())
+                .putLong(16, transaction.getUserId())
+                .putLong(24, transaction.getBalanceId() == null ? 0L : transaction.getBalanceId())
+                .putLong(32, toEpochMilli(transaction.getTransactionDate()))
+                .putShort(40, (short) (description == null ? -1 : description.length));
+        if (order != null) {
+            record.put(ORDER_OFFSET, order);
+        }
+        if (description != null) {
+            record.put(DESCRIPTION_OFFSET, description);
+        }
+        record.putInt(CRC_OFFSET, checksum(record));
+        record.put(0, PENDING);
+    }
+
+    PointTransaction read(int slot) {
+        ByteBuffer record = slice(slot);
+        long balanceId = record.getLong(24);
+        return PointTransaction.builder()
+                .transactionType(TYPES[record.get(1)])
+                .pointChange(record.getInt(4))
+                .transactionId(record.getLong(8))
+                .userId(record.getLong(16))
+                .balanceId(balanceId == 0L ? null : balanceId)
+                .transactionDate(LocalDateTime.ofInstant(Instant.ofEpochMilli(record.getLong(32)), ZoneOffset.UTC))
+                .orderId(string(record, ORDER_OFFSET, record.getShort(2)))
+                .description(string(record, DESCRIPTION_OFFSET, record.getShort(40)))
+                .build();
+    }
+
+    // 거래 일시는 시간대 변환 없이 epoch millis로 저장
+    static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    byte status(int slot) {
+        return buffer.get(slot * RECORD_BYTES);
+    }
+
+    void status(int slot, byte status) {
+        buffer.put(slot * RECORD_BYTES, status);
+    }
+
+    boolean isValid(int slot) {
+        ByteBuffer record = slice(slot);
+        return record.getInt(CRC_OFFSET) == checksum(record);
+    }
+
+    void clear(int slot) {
+        buffer.put(slot * RECORD_BYTES, new byte[RECORD_BYTES]);
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    private ByteBuffer slice(int slot) {
+        return buffer.slice(slot * RECORD_BYTES, RECORD_BYTES);
+    }
+
+    // 상태 바이트와 CRC 필드를 제외한 나머지 바이트의 체크섬
+    private int checksum(ByteBuffer record) {
+        CRC32C crc = new CRC32C();
+        crc.update(record.slice(1, CRC_OFFSET - 1));
+        crc.update(record.slice(CRC_OFFSET + 4, RECORD_BYTES - CRC_OFFSET - 4));
+        return (int) crc.getValue();
+    }
+
+    private String string(ByteBuffer record, int offset, short length) {
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        record.get(offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // 설명은 슬롯 크기에 맞게 문자 단위로 자름
+    private byte[] truncate(String description) {
+        if (description == null) {
+            return null;
+        }
+        String value = description;
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        while (bytes.length > DESCRIPTION_BYTES) {
+            value = value.substring(0, value.offsetByCodePoints(value.length(), -1));
+            bytes = value.getBytes(StandardCharsets.UTF_8);
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,486 @@
+package com.example.point.ledger;
+
+import com.example.point.domain.PointTransaction;
+import com.example.point.domain.enums.BalanceStatus;
+import com.example.point.domain.enums.TransactionType;
+import com.example.point.dto.history.PointHistoryItem;
+import com.example.point.dto.reconcile.PointLedgerSum;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * 거래 내역을 메모리 매핑한 세그먼트 파일(ledger-{번호}.seg)에 덧붙이는 원장(point.ledger.mode=mapped).
+ * 기록은 매핑된 버퍼로의 메모리 복사이며, 디스크 반영은 주기적인 force로 처리한다.
+ * 기록은 PENDING으로 쓰고 DB 트랜잭션이 커밋된 뒤(afterCommit)에 COMMITTED, 롤백되면 ROLLED_BACK으로 바꾸며,
+ * 조회는 COMMITTED만 보므로 커밋되지 않은 DB 변경의 거래를 읽지 않는다.
+ * 주문별/사용자별 위치 색인은 메모리에 두고 시작 시 세그먼트를 훑어 다시 만든다.
+ * 사용자별 색인은 (거래 일시, 기록 순서)로 정렬해 두어 이력 조회는 커서/기간 안의 기록만 읽는다.
+ *
+ * <p>내구성: 매핑된 버퍼에 쓴 내용은 프로세스가 종료되어도 OS 페이지 캐시에 남으므로, 잃을 수 있는 것은
+ * (1) DB 커밋과 afterCommit 사이에 프로세스가 종료된 트랜잭션의 기록 중 DB 적립 건과 대조해도 커밋 여부를 알 수 없는 것
+ * (복구 시 PENDING 기록을 적립 건의 남은 포인트와 상태로 확정하고, 판단할 수 없는 기록은 UNRESOLVED로 남김)과
+ * (2) OS 장애 시 마지막 force(point.ledger.flush-interval) 이후의 기록이다.
+ * 두 경우 모두 DB의 적립 건과 원장이 어긋나므로 정합성 검증(PointReconcileService)이 차이를 보고한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "point.ledger.mode", havingValue = "mapped")
+public class MappedPointLedger implements PointLedger {
+
+    private static final String PREFIX = "ledger-";
+    private static final String SUFFIX = ".seg";
+
+    // 적립 건의 남은 포인트를 바꾸는 거래 유형 (만료와 적립 취소는 상태만 바꿈)
+    private static final Set<TransactionType> REMAIN_CHANGING_TYPES =
+            EnumSet.of(TransactionType.SAVE, TransactionType.USE, TransactionType.CANCEL_USE, TransactionType.MERGE);
+
+    private final Path directory;
+    private final int segmentRecords;
+    private final PointLedgerBalanceLookup balanceLookup;
+
+    private final List<LedgerSegment> segments = new ArrayList<>();
+    private final Map<OrderKey, Positions> orderIndex = new HashMap<>();
+    private final NavigableMap<Long, Positions> userIndex = new TreeMap<>();
+    private final Set<LedgerSegment> dirty = new LinkedHashSet<>();
+    private int nextSlot;
+    private long lastTransactionId;
+    private int unresolvedCount;
+
+    public MappedPointLedger(@Value("${point.ledger.directory:point-ledger}") String directory,
+                             @Value("${point.ledger.segment-records:262144}") int segmentRecords,
+                             PointLedgerBalanceLookup balanceLookup) {
+        this.directory = Path.of(directory);
+        this.segmentRecords = segmentRecords;
+        this.balanceLookup = balanceLookup;
+    }
+
+    /**
+     * 세그먼트를 순서대로 훑어 색인을 다시 만든다. 끝의 손상된 슬롯은 비우고,
+     * 종료 전에 확정되지 않은 PENDING 기록은 DB 적립 건과 대조하여 COMMITTED 또는 ROLLED_BACK으로 바꾼다.
+     */
+    @PostConstruct
+    public synchronized void recover() throws IOException {
+        Files.createDirectories(directory);
+        List<Path> files;
+        try (Stream<Path> list = Files.list(directory)) {
+            files = list.filter(file -> file.getFileName().toString().startsWith(PREFIX)
+                            && file.getFileName().toString().endsWith(SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+        long recovered = 0;
+        List<Long> pending = new ArrayList<>();
+        for (Path file : files) {
+            LedgerSegment segment = LedgerSegment.open(file, segmentRecords);
+            segments.add(segment);
+            nextSlot = 0;
+            while (nextSlot < segment.capacity() && segment.status(nextSlot) != LedgerSegment.EMPTY) {
+                if (!segment.isValid(nextSlot)) {
+                    log.warn("원장 {}의 {}번 슬롯이 손상되어 비움", file, nextSlot);
+                    segment.clear(nextSlot);
+                    dirty.add(segment);
+                    break;
+                }
+                if (segment.status(nextSlot) == LedgerSegment.PENDING) {
+                    pending.add(position(segments.size() - 1, nextSlot));
+                } else if (segment.status(nextSlot) == LedgerSegment.UNRESOLVED) {
+                    unresolvedCount++;
+                }
+                index(segment.read(nextSlot), position(segments.size() - 1, nextSlot));
+                nextSlot++;
+                recovered++;
+            }
+        }
+        resolvePending(pending);
+        flush();
+        log.info("원장 복구 완료: 세그먼트 {}개, 기록 {}건, 마지막 거래 ID {}, 커밋 여부 미확인 {}건",
+                segments.size(), recovered, lastTransactionId, unresolvedCount);
+    }
+
+    /**
+     * 복구 시 커밋 여부를 확인하지 못한 기록이 있으면 true. 이 기록은 조회되지 않으므로 원장만으로 적립 건을 다시 만들면
+     * 커밋된 변경이 사라질 수 있다.
+     */
+    @Override
+    public synchronized boolean hasUnresolvedRecords() {
+        return unresolvedCount > 0;
+    }
+
+    @Override
+    public synchronized void append(List<PointTransaction> transactions) {
+        transactions.forEach(transaction -> LedgerSegment.validateOrderId(transaction.getOrderId()));
+        long[] positions = new long[transactions.size()];
+        for (int i = 0; i < transactions.size(); i++) {
+            PointTransaction transaction = transactions.get(i);
+            transaction.assignTransactionId(++lastTransactionId);
+            LedgerSegment segment = currentSegment();
+            segment.write(nextSlot, transaction);
+            dirty.add(segment);
+            positions[i] = position(segments.size() - 1, nextSlot++);
+            index(transaction, positions[i]);
+        }
+        complete(positions);
+    }
+
+    @Override
+    public synchronized List<PointTransaction> findByOrder(Long userId, String orderId, TransactionType transactionType) {
+        Positions positions = orderIndex.get(new OrderKey(userId, orderId));
+        if (positions == null) {
+            return List.of();
+        }
+        return read(positions, transaction -> transaction.getTransactionType() == transactionType);
+    }
+
+    @Override
+    public synchronized List<PointTransaction> findWithoutOrder(Long userId, TransactionType transactionType) {
+        Positions positions = userIndex.get(userId);
+        if (positions == null) {
+            return List.of();
+        }
+        return read(positions, transaction -> transaction.getOrderId() == null && transaction.getTransactionType() == transactionType);
+    }
+
+    /**
+     * 사용자 색인에서 커서 시각 이하의 마지막 위치부터 거꾸로 읽어, 한 페이지를 채우거나 from 이전에 닿으면 멈춘다.
+     */
+    @Override
+    public synchronized List<PointHistoryItem> findHistoryBefore(Long userId, LocalDateTime from, LocalDateTime beforeDate, Long beforeId, Pageable pageable) {
+        Positions positions = userIndex.get(userId);
+        if (positions == null) {
+            return List.of();
+        }
+        long fromMillis = LedgerSegment.toEpochMilli(from);
+        List<PointHistoryItem> page = new ArrayList<>(pageable.getPageSize());
+        for (int i = positions.upperBound(LedgerSegment.toEpochMilli(beforeDate)) - 1;
+             i >= 0 && positions.dates[i] >= fromMillis && page.size() < pageable.getPageSize(); i--) {
+            PointTransaction transaction = readCommitted(positions.values[i]);
+            // 커서와 같은 시각의 기록은 커서 ID 이전 것만
+            if (transaction != null && !transaction.getTransactionDate().isBefore(from)
+                    && (transaction.getTransactionDate().isBefore(beforeDate) || transaction.getTransactionId() < beforeId)) {
+                page.add(toHistoryItem(transaction));
+            }
+        }
+        return page;
+    }
+
+    /**
+     * 기간에 해당하는 색인 구간에서 확정된 위치만 락 안에서 복사하고, 기록 본문은 스트림을 소비할 때 락 없이 읽는다.
+     * 확정된 기록은 바뀌지 않고 세그먼트 목록도 복사본을 사용하므로 동시에 기록해도 안전하다.
+     */
+    @Override
+    public Stream<PointHistoryItem> streamHistory(Long userId, LocalDateTime from, LocalDateTime to) {
+        long[] range;
+        List<LedgerSegment> segmentsSnapshot;
+        synchronized (this) {
+            Positions positions = userIndex.get(userId);
+            if (positions == null) {
+                return Stream.empty();
+            }
+            // 밀리초 미만 단위는 읽은 뒤 거래 일시로 거름
+            int start = positions.upperBound(LedgerSegment.toEpochMilli(from) - 1);
+            int end = positions.upperBound(LedgerSegment.toEpochMilli(to));
+            range = Arrays.stream(positions.values, start, end)
+                    .filter(position -> segments.get(segmentOf(position)).status(slotOf(position)) == LedgerSegment.COMMITTED)
+                    .toArray();
+            segmentsSnapshot = List.copyOf(segments);
+        }
+        return Arrays.stream(range)
+                .mapToObj(position -> segmentsSnapshot.get(segmentOf(position)).read(slotOf(position)))
+                .filter(transaction -> !transaction.getTransactionDate().isBefore(from)
+                        && transaction.getTransactionDate().isBefore(to))
+                .map(this::toHistoryItem);
+    }
+
+    @Override
+    public synchronized List<PointLedgerSum> sumByBalance(Long fromUserId, Long toUserId, Collection<TransactionType> types) {
+        Map<Long, long[]> sums = new LinkedHashMap<>();
+        for (Positions positions : userIndex.subMap(fromUserId, true, toUserId, false).values()) {
+            for (PointTransaction transaction : read(positions, transaction -> transaction.getBalanceId() != null
+                    && types.contains(transaction.getTransactionType()))) {
+                long[] sum = sums.computeIfAbsent(transaction.getBalanceId(), key -> new long[2]);
+                sum[0] += transaction.getPointChange();
+                sum[1]++;
+            }
+        }
+        return sums.entrySet().stream()
+                .map(entry -> new PointLedgerSum(entry.getKey(), entry.getValue()[0], entry.getValue()[1]))
+                .toList();
+    }
+
+    @Override
+    public synchronized Stream<PointHistoryItem> streamUserRange(Long fromUserId, Long toUserId) {
+        List<PointTransaction> transactions = new ArrayList<>();
+        for (Positions positions : userIndex.subMap(fromUserId, true, toUserId, false).values()) {
+            transactions.addAll(read(positions, transaction -> true));
+        }
+        return transactions.stream()
+                .sorted(Comparator.comparing(PointTransaction::getTransactionId))
+                .map(this::toHistoryItem);
+    }
+
+    /**
+     * 마지막 반영 이후 변경된 세그먼트를 디스크에 반영한다.
+     */
+    @Scheduled(fixedDelayString = "${point.ledger.flush-interval:1000}")
+    @PreDestroy
+    public synchronized void flush() {
+        dirty.forEach(LedgerSegment::force);
+        dirty.clear();
+    }
+
+    /**
+     * DB 커밋과 afterCommit 사이에 종료되어 PENDING으로 남은 기록을 적립 건별로 DB의 현재 상태와 대조한다.
+     * 남은 포인트를 바꾸는 기록은 확정된 기록의 합계에 PENDING 합계를 더한 값이 DB의 남은 포인트와 같으면 커밋된 것으로,
+     * 확정된 기록의 합계와 같거나 적립 건이 DB에 없으면 롤백된 것으로 본다. 만료와 적립 취소는 적립 건의 상태로 판단한다.
+     * 어느 쪽으로도 맞지 않는 기록은 UNRESOLVED로 남긴다.
+     */
+    private void resolvePending(List<Long> positions) {
+        if (positions.isEmpty()) {
+            return;
+        }
+        Map<Long, List<Long>> positionsByBalance = new LinkedHashMap<>();
+        List<Long> withoutBalance = new ArrayList<>();
+        for (long position : positions) {
+            Long balanceId = readAt(position).getBalanceId();
+            if (balanceId == null) {
+                withoutBalance.add(position);
+            } else {
+                positionsByBalance.computeIfAbsent(balanceId, key -> new ArrayList<>()).add(position);
+            }
+        }
+        // 적립 건 없이 기록되는 거래는 없으므로 대조할 수 없는 기록으로 남김
+        mark(withoutBalance, LedgerSegment.UNRESOLVED);
+
+        Map<Long, PointLedgerBalanceLookup.BalanceState> states = balanceLookup.findStates(positionsByBalance.keySet());
+        for (Map.Entry<Long, List<Long>> entry : positionsByBalance.entrySet()) {
+            PointLedgerBalanceLookup.BalanceState state = states.get(entry.getKey());
+            List<Long> remainChanging = new ArrayList<>();
+            for (long position : entry.getValue()) {
+                TransactionType type = readAt(position).getTransactionType();
+                if (REMAIN_CHANGING_TYPES.contains(type)) {
+                    remainChanging.add(position);
+                } else {
+                    BalanceStatus applied = type == TransactionType.EXPIRE ? BalanceStatus.EXPIRED : BalanceStatus.CANCELED;
+                    mark(List.of(position), state != null && state.status() == applied ? LedgerSegment.COMMITTED : LedgerSegment.ROLLED_BACK);
+                }
+            }
+            if (!remainChanging.isEmpty()) {
+                mark(remainChanging, resolveRemain(entry.getKey(), remainChanging, state));
+            }
+        }
+        log.info("원장 PENDING 기록 {}건을 DB 적립 건과 대조하여 확정, 커밋 여부 미확인 {}건", positions.size(), unresolvedCount);
+    }
+
+    private byte resolveRemain(Long balanceId, List<Long> positions, PointLedgerBalanceLookup.BalanceState state) {
+        if (state == null) {
+            return LedgerSegment.ROLLED_BACK;
+        }
+        long pendingSum = positions.stream().mapToLong(position -> readAt(position).getPointChange()).sum();
+        Positions userPositions = userIndex.get(readAt(positions.get(0)).getUserId());
+        long committedSum = read(userPositions, transaction -> balanceId.equals(transaction.getBalanceId())
+                && REMAIN_CHANGING_TYPES.contains(transaction.getTransactionType())).stream()
+                .mapToLong(PointTransaction::getPointChange)
+                .sum();
+        if (state.remainAmount() == committedSum + pendingSum) {
+            return LedgerSegment.COMMITTED;
+        }
+        if (state.remainAmount() == committedSum) {
+            return LedgerSegment.ROLLED_BACK;
+        }
+        log.warn("원장 PENDING 기록의 커밋 여부를 확인할 수 없음 (balanceId={}, 남은 포인트 {}, 확정 합계 {}, PENDING 합계 {})",
+                balanceId, state.remainAmount(), committedSum, pendingSum);
+        return LedgerSegment.UNRESOLVED;
+    }
+
+    // 현재 트랜잭션의 결과에 따라 기록의 상태를 확정 (트랜잭션 밖에서는 바로 커밋)
+    private void complete(long[] positions) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            mark(positions, LedgerSegment.COMMITTED);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            // DB 커밋이 실패할 수 있으므로 커밋이 끝난 뒤에 확정
+            @Override
+            public void afterCommit() {
+                mark(positions, LedgerSegment.COMMITTED);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    mark(positions, LedgerSegment.ROLLED_BACK);
+                }
+            }
+        });
+    }
+
+    private synchronized void mark(long[] positions, byte status) {
+        for (long position : positions) {
+            LedgerSegment segment = segments.get(segmentOf(position));
+            segment.status(slotOf(position), status);
+            dirty.add(segment);
+        }
+    }
+
+    private void mark(List<Long> positions, byte status) {
+        mark(positions.stream().mapToLong(Long::longValue).toArray(), status);
+        if (status == LedgerSegment.UNRESOLVED) {
+            unresolvedCount += positions.size();
+        }
+    }
+
+    private PointTransaction readAt(long position) {
+        return segments.get(segmentOf(position)).read(slotOf(position));
+    }
+
+    private LedgerSegment currentSegment() {
+        if (segments.isEmpty() || nextSlot == segments.get(segments.size() - 1).capacity()) {
+            Path file = directory.resolve(PREFIX + String.format("%08d", segments.size()) + SUFFIX);
+            try {
+                segments.add(LedgerSegment.open(file, segmentRecords));
+            } catch (IOException e) {
+                throw new IllegalStateException("원장 세그먼트를 만들 수 없습니다: " + file, e);
+            }
+            nextSlot = 0;
+        }
+        return segments.get(segments.size() - 1);
+    }
+
+    private PointTransaction readCommitted(long position) {
+        LedgerSegment segment = segments.get(segmentOf(position));
+        int slot = slotOf(position);
+        return segment.status(slot) == LedgerSegment.COMMITTED ? segment.read(slot) : null;
+    }
+
+    private List<PointTransaction> read(Positions positions, Predicate<PointTransaction> filter) {
+        List<PointTransaction> transactions = new ArrayList<>();
+        for (int i = 0; i < positions.size; i++) {
+            LedgerSegment segment = segments.get(segmentOf(positions.values[i]));
+            int slot = slotOf(positions.values[i]);
+            if (segment.status(slot) != LedgerSegment.COMMITTED) {
+                continue;
+            }
+            PointTransaction transaction = segment.read(slot);
+            if (filter.test(transaction)) {
+                transactions.add(transaction);
+            }
+        }
+        return transactions;
+    }
+
+    private void index(PointTransaction transaction, long position) {
+        lastTransactionId = Math.max(lastTransactionId, transaction.getTransactionId());
+        userIndex.computeIfAbsent(transaction.getUserId(), key -> new Positions())
+                .insert(position, LedgerSegment.toEpochMilli(transaction.getTransactionDate()), transaction.getTransactionId());
+        if (transaction.getOrderId() != null) {
+            orderIndex.computeIfAbsent(new OrderKey(transaction.getUserId(), transaction.getOrderId()), key -> new Positions()).add(position);
+        }
+    }
+
+    private PointHistoryItem toHistoryItem(PointTransaction transaction) {
+        return new PointHistoryItem(transaction.getTransactionId(), transaction.getUserId(), transaction.getBalanceId(),
+                transaction.getTransactionType(), transaction.getPointChange(), transaction.getTransactionDate(),
+                transaction.getOrderId(), transaction.getDescription());
+    }
+
+    // 위치는 상위 32비트에 세그먼트 번호, 하위 32비트에 슬롯 번호
+    private static long position(int segment, int slot) {
+        return ((long) segment << 32) | slot;
+    }
+
+    private static int segmentOf(long position) {
+        return (int) (position >>> 32);
+    }
+
+    private static int slotOf(long position) {
+        return (int) position;
+    }
+
+    private record OrderKey(Long userId, String orderId) {
+    }
+
+    /**
+     * 기록 위치 목록. 사용자 색인은 insert로 (거래 일시, 거래 ID) 순서를 유지하고, 주문 색인은 add로 기록 순서를 유지한다.
+     */
+    private static final class Positions {
+        private long[] values = new long[4];
+        // insert로 추가한 위치의 거래 일시(epoch millis)와 거래 ID
+        private long[] dates;
+        private long[] ids;
+        private int size;
+
+        void add(long position) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = position;
+        }
+
+        // 거래 일시는 대부분 기록 순서와 같으므로 보통 끝에 추가됨
+        void insert(long position, long date, long id) {
+            if (dates == null) {
+                dates = new long[values.length];
+                ids = new long[values.length];
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+                dates = Arrays.copyOf(dates, size * 2);
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            int index = size;
+            while (index > 0 && (dates[index - 1] > date || (dates[index - 1] == date && ids[index - 1] > id))) {
+                values[index] = values[index - 1];
+                dates[index] = dates[index - 1];
+                ids[index] = ids[index - 1];
+                index--;
+            }
+            values[index] = position;
+            dates[index] = date;
+            ids[index] = id;
+            size++;
+        }
+
+        // 거래 일시가 date보다 큰 첫 위치
+        int upperBound(long date) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (dates[mid] <= date) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
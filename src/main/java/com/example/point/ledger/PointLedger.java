@@ -0,0 +1,57 @@
+package com.example.point.ledger;
+
+import com.example.point.domain.PointTransaction;
+import com.example.point.domain.enums.TransactionType;
+import com.example.point.dto.history.PointHistoryItem;
+import com.example.point.dto.reconcile.PointLedgerSum;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 거래 내역(PointTransaction) 원장. point.ledger.mode로 DB 테이블(jpa) 또는 메모리 매핑 파일(mapped)을 선택한다.
+ */
+public interface PointLedger {
+
+    /**
+     * 거래 내역을 기록하고 각 거래에 ID를 할당한다. 현재 트랜잭션이 롤백되면 기록도 반영되지 않는다.
+     */
+    void append(List<PointTransaction> transactions);
+
+    List<PointTransaction> findByOrder(Long userId, String orderId, TransactionType transactionType);
+
+    /**
+     * 주문번호 없이 기록된 사용자의 거래를 조회한다 (주문별 사용 내역 도입 전의 사용 취소 등).
+     */
+    List<PointTransaction> findWithoutOrder(Long userId, TransactionType transactionType);
+
+    /**
+     * (beforeDate, beforeId) 커서 이전의 거래를 최신순으로 조회한다.
+     */
+    List<PointHistoryItem> findHistoryBefore(Long userId, LocalDateTime from, LocalDateTime beforeDate, Long beforeId, Pageable pageable);
+
+    /**
+     * 기간 내 거래를 시간순으로 읽는다. 호출한 쪽에서 스트림을 닫아야 한다.
+     */
+    Stream<PointHistoryItem> streamHistory(Long userId, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * 사용자 ID 구간 [fromUserId, toUserId)의 거래 중 지정한 유형을 적립 건별로 합산한다.
+     */
+    List<PointLedgerSum> sumByBalance(Long fromUserId, Long toUserId, Collection<TransactionType> types);
+
+    /**
+     * 사용자 ID 구간 [fromUserId, toUserId)의 거래를 거래 ID 순서로 읽는다. 호출한 쪽에서 스트림을 닫아야 한다.
+     */
+    Stream<PointHistoryItem> streamUserRange(Long fromUserId, Long toUserId);
+
+    /**
+     * 커밋 여부를 확인하지 못해 조회에서 빠진 기록이 있으면 true. 이 경우 원장으로 적립 건을 다시 만들 수 없다.
+     */
+    default boolean hasUnresolvedRecords() {
+        return false;
+    }
+}
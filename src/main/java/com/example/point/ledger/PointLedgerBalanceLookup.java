@@ -0,0 +1,40 @@
+package com.example.point.ledger;
+
+import com.example.point.domain.enums.BalanceStatus;
+import com.example.point.repository.PointBalanceArchiveRepository;
+import com.example.point.repository.PointBalanceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 매핑 원장 복구 시 커밋 여부를 알 수 없는 PENDING 기록을 대조할 수 있도록 DB 적립 건의 현재 남은 포인트와 상태를 조회한다.
+ * 보관된 적립 건도 원래 ID 그대로 남아 있으므로 보관 테이블에서 함께 찾는다.
+ */
+@Component
+@ConditionalOnProperty(name = "point.ledger.mode", havingValue = "mapped")
+@RequiredArgsConstructor
+public class PointLedgerBalanceLookup {
+
+    private final PointBalanceRepository pointBalanceRepository;
+    private final PointBalanceArchiveRepository pointBalanceArchiveRepository;
+
+    /**
+     * 적립 ID별 상태를 반환한다. DB에 없는 적립 건(커밋되지 않은 적립)은 결과에 포함되지 않는다.
+     */
+    public Map<Long, BalanceState> findStates(Collection<Long> balanceIds) {
+        Map<Long, BalanceState> states = new HashMap<>();
+        pointBalanceArchiveRepository.findAllById(balanceIds).forEach(archive ->
+                states.put(archive.getBalanceId(), new BalanceState(archive.getRemainAmount(), archive.getStatus())));
+        pointBalanceRepository.findAllById(balanceIds).forEach(balance ->
+                states.put(balance.getBalanceId(), new BalanceState(balance.getRemainAmount(), balance.getStatus())));
+        return states;
+    }
+
+    public record BalanceState(int remainAmount, BalanceStatus status) {
+    }
+}
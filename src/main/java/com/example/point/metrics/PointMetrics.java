@@ -0,0 +1,111 @@
+package com.example.point.metrics;
+
+import com.example.point.exception.PointOperationException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 포인트 오퍼레이션별 지연 시간, 성공/실패 건수, SQL 문 수와 사용 시 차감한 잔액 수를 기록한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PointMetrics {
+
+    private final MeterRegistry meterRegistry;
+    // 마지막 만료 처리에서 가장 오래 방치된 만료 건의 지연 시간(초)
+    private final AtomicLong expireLagSeconds = new AtomicLong();
+
+    // 한 번의 사용에서 이 수 이상의 잔액을 차감하면 사용자 ID를 로그로 남김
+    @Value("${point.metrics.balances-touched-warn:500}")
+    private int balancesTouchedWarnThreshold;
+
+    public <T> T record(String operation, Supplier<T> action) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        StatementCounter.start();
+        String outcome = "failure";
+        try {
+            T result = action.get();
+            outcome = "success";
+            return result;
+        } catch (PointOperationException e) {
+            failureCounter(operation, e.getReason().name()).increment();
+            throw e;
+        } catch (RuntimeException e) {
+            failureCounter(operation, e.getClass().getSimpleName()).increment();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("point.operation")
+                    .description("포인트 오퍼레이션 처리 시간")
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+            DistributionSummary.builder("point.operation.statements")
+                    .description("요청당 실행된 SQL 문 수")
+                    .tag("operation", operation)
+                    .register(meterRegistry)
+                    .record(StatementCounter.stop());
+        }
+    }
+
+    public void recordBalancesTouched(Long userId, int balancesTouched) {
+        DistributionSummary.builder("point.use.balances.touched")
+                .description("한 번의 사용에서 차감한 적립 건수")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(balancesTouched);
+        if (balancesTouched >= balancesTouchedWarnThreshold) {
+            log.warn("포인트 사용에서 많은 적립 건을 차감함: userId={}, balances={}", userId, balancesTouched);
+        }
+    }
+
+    public void recordUseBatch(int size) {
+        DistributionSummary.builder("point.use.batch.size")
+                .description("하나의 트랜잭션으로 처리한 포인트 사용 요청 수")
+                .register(meterRegistry)
+                .record(size);
+    }
+
+    /**
+     * 만료 처리 한 번의 처리 건수/포인트, 소요 시간과 지연을 기록한다.
+     */
+    public void recordExpireRun(int expiredCount, long expiredPoints, long elapsedMillis, long lagSeconds, boolean failed) {
+        Counter.builder("point.expire.balances")
+                .description("만료 처리된 적립 건수")
+                .register(meterRegistry)
+                .increment(expiredCount);
+        Counter.builder("point.expire.points")
+                .description("만료 처리된 포인트 합계")
+                .register(meterRegistry)
+                .increment(expiredPoints);
+        Timer.builder("point.expire.run")
+                .description("만료 처리 한 번의 소요 시간")
+                .tag("outcome", failed ? "failure" : "success")
+                .register(meterRegistry)
+                .record(elapsedMillis, TimeUnit.MILLISECONDS);
+        expireLagSeconds.set(lagSeconds);
+        Gauge.builder("point.expire.lag.seconds", expireLagSeconds, AtomicLong::get)
+                .description("가장 오래 방치된 만료 건의 지연 시간(초)")
+                .register(meterRegistry);
+    }
+
+    private Counter failureCounter(String operation, String reason) {
+        return Counter.builder("point.operation.failures")
+                .description("포인트 오퍼레이션 실패 건수")
+                .tag("operation", operation)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
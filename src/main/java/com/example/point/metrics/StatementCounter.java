@@ -0,0 +1,68 @@
+package com.example.point.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.function.Supplier;
+
+/**
+ * 요청(스레드) 단위로 실행된 SQL 문 수를 센다.
+ * Hibernate의 StatementInspector로 등록되어 모든 SQL 준비 시점에 호출된다.
+ * 요청의 일부를 다른 스레드에서 실행할 때는 {@link #propagate}로 감싸 요청의 카운터에 더한다.
+ */
+public class StatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    public static void start() {
+        COUNT.set(new int[1]);
+    }
+
+    public static int stop() {
+        int[] count = COUNT.get();
+        COUNT.remove();
+        return count != null ? count[0] : 0;
+    }
+
+    /**
+     * Hibernate를 거치지 않고 실행한 SQL 문(JdbcTemplate 등)을 현재 요청의 카운터에 더한다.
+     */
+    public static void add(int statements) {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0] += statements;
+        }
+    }
+
+    /**
+     * 현재 스레드의 카운터를 잡아 두고, 반환된 작업이 어느 스레드에서 실행되든 그 카운터에 SQL 문 수를 더한다.
+     * 호출한 스레드는 작업이 끝날 때까지 기다리는 경우에만 사용한다(카운터를 동시에 갱신하지 않음).
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> action) {
+        int[] count = COUNT.get();
+        if (count == null) {
+            return action;
+        }
+        return () -> {
+            int[] previous = COUNT.get();
+            COUNT.set(count);
+            try {
+                return action.get();
+            } finally {
+                if (previous != null) {
+                    COUNT.set(previous);
+                } else {
+                    COUNT.remove();
+                }
+            }
+        };
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.point.outbox;
+
+import com.example.point.domain.PointOutboxEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 외부 브로커 대신 이벤트를 한 줄에 하나씩 NDJSON 파일에 덧붙인다.
+ */
+@Component
+@ConditionalOnProperty(name = "point.outbox.publisher", havingValue = "file")
+public class FilePointEventPublisher implements PointEventPublisher {
+
+    private final ObjectMapper objectMapper;
+    private final Path file;
+
+    public FilePointEventPublisher(ObjectMapper objectMapper,
+                                   @Value("${point.outbox.file:point-events.ndjson}") String file) {
+        this.objectMapper = objectMapper;
+        this.file = Path.of(file);
+    }
+
+    @Override
+    public synchronized void publish(List<PointOutboxEvent> events) {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (PointOutboxEvent event : events) {
+                Map<String, Object> line = new LinkedHashMap<>();
+                line.put("eventId", event.getEventId());
+                line.put("userId", event.getUserId());
+                line.put("eventType", event.getEventType());
+                line.put("payload", objectMapper.readTree(event.getPayload()));
+                writer.write(objectMapper.writeValueAsString(line));
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("이벤트 파일에 기록할 수 없습니다.", e);
+        }
+    }
+}
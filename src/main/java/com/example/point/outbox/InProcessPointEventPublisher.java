@@ -0,0 +1,25 @@
+package com.example.point.outbox;
+
+import com.example.point.domain.PointOutboxEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 외부 브로커 대신 애플리케이션 이벤트로 발행한다. 같은 프로세스의 @EventListener가 구독할 수 있다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "point.outbox.publisher", havingValue = "in-process", matchIfMissing = true)
+public class InProcessPointEventPublisher implements PointEventPublisher {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Override
+    public void publish(List<PointOutboxEvent> events) {
+        events.forEach(applicationEventPublisher::publishEvent);
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.point.outbox;
+
+import com.example.point.domain.PointOutboxEvent;
+
+import java.util.List;
+
+/**
+ * 아웃박스 이벤트를 외부로 발행한다.
+ * 한 번의 호출에는 같은 사용자의 이벤트만 기록 순서대로 전달되며, 예외가 발생하면 전체를 다시 발행한다(at-least-once).
+ */
+public interface PointEventPublisher {
+
+    void publish(List<PointOutboxEvent> events);
+}
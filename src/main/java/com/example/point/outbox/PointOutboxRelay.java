@@ -0,0 +1,87 @@
+package com.example.point.outbox;
+
+import com.example.point.domain.PointOutboxEvent;
+import com.example.point.repository.PointOutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 아웃박스 이벤트를 이벤트 ID 키셋 배치로 읽어 발행하고, 발행된 이벤트를 삭제한다.
+ * 사용자별로 나누어 발행하며, 한 사용자의 발행이 실패하면 그 주기 동안 그 사용자의 이후 이벤트는 건너뛰고
+ * 다음 주기에 순서대로 다시 발행한다. 실패한 이벤트는 삭제되지 않지만 키셋으로 지나가므로 다른 사용자의 발행을 막지 않는다.
+ * 발행 후 삭제 전에 중단되면 같은 이벤트가 다시 발행될 수 있다(at-least-once).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PointOutboxRelay {
+
+    private final PointOutboxEventRepository pointOutboxEventRepository;
+    private final PointEventPublisher pointEventPublisher;
+
+    @Value("${point.outbox.batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(initialDelayString = "${point.outbox.interval:1000}", fixedDelayString = "${point.outbox.interval:1000}")
+    public void scheduledRelay() {
+        relay();
+    }
+
+    /**
+     * 대기 중인 이벤트를 끝까지 배치 단위로 발행하고 발행에 성공한 이벤트 수를 반환한다.
+     */
+    public int relay() {
+        long lastEventId = 0L;
+        Set<Long> failedUsers = new HashSet<>();
+        int publishedCount = 0;
+        while (true) {
+            List<PointOutboxEvent> events = pointOutboxEventRepository.findPendingAfter(lastEventId, PageRequest.of(0, batchSize));
+            if (events.isEmpty()) {
+                break;
+            }
+            publishedCount += relayBatch(events, failedUsers);
+            if (events.size() < batchSize) {
+                break;
+            }
+            lastEventId = events.get(events.size() - 1).getEventId();
+        }
+        return publishedCount;
+    }
+
+    /**
+     * 한 배치를 발행하고 발행에 성공한 이벤트 수를 반환한다.
+     * 이번 주기에 이미 실패한 사용자의 이벤트는 순서를 지키기 위해 발행하지 않는다.
+     */
+    private int relayBatch(List<PointOutboxEvent> events, Set<Long> failedUsers) {
+        Map<Long, List<PointOutboxEvent>> eventsByUser = events.stream()
+                .filter(event -> !failedUsers.contains(event.getUserId()))
+                .collect(Collectors.groupingBy(PointOutboxEvent::getUserId, LinkedHashMap::new, Collectors.toList()));
+        List<Long> publishedIds = new ArrayList<>();
+        for (Map.Entry<Long, List<PointOutboxEvent>> entry : eventsByUser.entrySet()) {
+            try {
+                pointEventPublisher.publish(entry.getValue());
+                entry.getValue().forEach(event -> publishedIds.add(event.getEventId()));
+            } catch (RuntimeException e) {
+                failedUsers.add(entry.getKey());
+                log.warn("사용자 {}의 아웃박스 이벤트 {}건 발행 실패, 다음 주기에 재시도", entry.getKey(), entry.getValue().size(), e);
+            }
+        }
+
+        if (!publishedIds.isEmpty()) {
+            pointOutboxEventRepository.deleteAllByIdInBatch(publishedIds);
+        }
+        return publishedIds.size();
+    }
+}
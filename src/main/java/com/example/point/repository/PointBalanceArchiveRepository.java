@@ -0,0 +1,37 @@
+package com.example.point.repository;
+
+import com.example.point.domain.PointBalanceArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+@Repository
+public interface PointBalanceArchiveRepository extends JpaRepository<PointBalanceArchive, Long> {
+
+    // 보관 조건(소진 또는 취소/만료)을 다시 확인하며 적립 건을 보관 테이블로 복사
+    @Modifying
+    @Query(value = "insert into point_balance_archives " +
+            "(balance_id, user_id, amount, remain_amount, balance_type, create_date, expire_date, status, merged_balance_id, merge_target, archived_date) " +
+            "select balance_id, user_id, amount, remain_amount, balance_type, create_date, expire_date, status, merged_balance_id, merge_target, :now " +
+            "from point_balances where balance_id in (:balanceIds) and (status <> 'ACTIVE' or remain_amount = 0)",
+            nativeQuery = true)
+    int copyFromBalances(@Param("balanceIds") Collection<Long> balanceIds, @Param("now") LocalDateTime now);
+
+    // 보관된 적립 건을 원래 ID 그대로 point_balances로 복원
+    @Modifying
+    @Query(value = "insert into point_balances " +
+            "(balance_id, user_id, amount, remain_amount, balance_type, create_date, expire_date, status, merged_balance_id, merge_target) " +
+            "select balance_id, user_id, amount, remain_amount, balance_type, create_date, expire_date, status, merged_balance_id, merge_target " +
+            "from point_balance_archives where balance_id in (:balanceIds)",
+            nativeQuery = true)
+    int copyToBalances(@Param("balanceIds") Collection<Long> balanceIds);
+
+    @Modifying
+    @Query("delete from PointBalanceArchive a where a.balanceId in :balanceIds")
+    int deleteByBalanceIds(@Param("balanceIds") Collection<Long> balanceIds);
+}
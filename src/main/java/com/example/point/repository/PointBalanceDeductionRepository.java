@@ -0,0 +1,48 @@
+package com.example.point.repository;
+
+import com.example.point.domain.PointBalance;
+import com.example.point.metrics.StatementCounter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 포인트 사용 시 잔액 차감을 JDBC 배치 UPDATE로 한 번에 반영한다.
+ * 잔액이 차감액 이상인 ACTIVE 적립 건만 갱신하므로, 다른 요청이 먼저 차감했다면 갱신 건수가 0으로 돌아온다.
+ * Hibernate를 거치지 않으므로 배치 UPDATE를 요청의 SQL 문 수에 직접 더하고,
+ * 갱신한 적립 건은 영속성 컨텍스트에서 분리하여 같은 트랜잭션의 다음 조회가 DB 값을 읽도록 한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PointBalanceDeductionRepository {
+
+    private static final String DEDUCT_SQL =
+            "update point_balances set remain_amount = remain_amount - ? " +
+            "where balance_id = ? and status = 'ACTIVE' and remain_amount >= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * 적립 건별 차감액을 배치로 적용하고 각 문장의 갱신 건수를 반환한다.
+     */
+    public int[] deduct(List<PointBalance> balances, List<Integer> deductions) {
+        List<Object[]> args = new ArrayList<>(balances.size());
+        for (int i = 0; i < balances.size(); i++) {
+            int deduct = deductions.get(i);
+            args.add(new Object[]{deduct, balances.get(i).getBalanceId(), deduct});
+        }
+        int[] updated = jdbcTemplate.batchUpdate(DEDUCT_SQL, args);
+        // Hibernate의 배치 문장과 같이 준비된 문장 하나로 셈
+        StatementCounter.add(1);
+        balances.forEach(entityManager::detach);
+        return updated;
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.point.repository;
+
+import com.example.point.dto.replay.PointReplayedBalance;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 원장 리플레이 결과를 JDBC 배치로 기록한다.
+ * point_balances에는 값이 달라진 행만 갱신하고, 섀도 테이블(point_balance_replays)에는 적립 ID 기준으로 덮어쓴다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PointBalanceReplayRepository {
+
+    private static final String UPDATE_BALANCE_SQL =
+            "update point_balances set remain_amount = ?, status = ? " +
+            "where balance_id = ? and (remain_amount <> ? or status <> ?)";
+
+    private static final String MERGE_SHADOW_SQL =
+            "merge into point_balance_replays (balance_id, user_id, remain_amount, status, replayed_date) " +
+            "key (balance_id) values (?, ?, ?, ?, ?)";
+
+    private static final String COUNT_SHADOW_DIFFERENCES_SQL =
+            "select count(*) from point_balance_replays r " +
+            "join point_balances b on b.balance_id = r.balance_id " +
+            "where b.remain_amount <> r.remain_amount or b.status <> r.status";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * point_balances의 남은 포인트와 상태를 다시 계산한 값으로 바꾸고 실제로 달라진 적립 건을 반환한다.
+     */
+    public List<PointReplayedBalance> updateBalances(List<PointReplayedBalance> balances) {
+        List<Object[]> args = balances.stream()
+                .map(balance -> new Object[]{balance.remainAmount(), balance.status().name(), balance.balanceId(),
+                        balance.remainAmount(), balance.status().name()})
+                .toList();
+        int[] updated = jdbcTemplate.batchUpdate(UPDATE_BALANCE_SQL, args);
+        List<PointReplayedBalance> changed = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] > 0) {
+                changed.add(balances.get(i));
+            }
+        }
+        return changed;
+    }
+
+    public void mergeShadow(List<PointReplayedBalance> balances, LocalDateTime replayedDate) {
+        List<Object[]> args = balances.stream()
+                .map(balance -> new Object[]{balance.balanceId(), balance.userId(), balance.remainAmount(),
+                        balance.status().name(), replayedDate})
+                .toList();
+        jdbcTemplate.batchUpdate(MERGE_SHADOW_SQL, args);
+    }
+
+    public void clearShadow() {
+        jdbcTemplate.update("delete from point_balance_replays");
+    }
+
+    /**
+     * 섀도 테이블과 point_balances의 남은 포인트 또는 상태가 다른 적립 건수.
+     */
+    public long countShadowDifferences() {
+        Long count = jdbcTemplate.queryForObject(COUNT_SHADOW_DIFFERENCES_SQL, Long.class);
+        return count == null ? 0L : count;
+    }
+}
@@ -2,12 +2,127 @@ package com.example.point.repository;
 
 import com.example.point.domain.PointBalance;
 import com.example.point.domain.enums.BalanceStatus;
+import com.example.point.domain.enums.BalanceType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface PointBalanceRepository extends JpaRepository<PointBalance, Long> {
     List<PointBalance> findByUserIdAndStatusOrderByBalanceTypeAscExpireDateAsc(Long userId, BalanceStatus status);
+
+    Optional<PointBalance> findFirstByUserIdAndStatusAndRemainAmountGreaterThanOrderByExpireDateAsc(Long userId, BalanceStatus status, int remainAmount);
+
+    @Query("select b from PointBalance b " +
+            "where b.userId = :userId and b.status = :status and b.balanceType = :balanceType and b.remainAmount > 0 " +
+            "order by b.expireDate asc, b.balanceId asc")
+    List<PointBalance> findDeductibleBalances(@Param("userId") Long userId,
+                                              @Param("status") BalanceStatus status,
+                                              @Param("balanceType") BalanceType balanceType,
+                                              Pageable pageable);
+
+    // (expireDate, balanceId) 키셋 커서 이후의 차감 대상 잔액 조회
+    @Query("select b from PointBalance b " +
+            "where b.userId = :userId and b.status = :status and b.balanceType = :balanceType and b.remainAmount > 0 " +
+            "and (b.expireDate > :expireDate or (b.expireDate = :expireDate and b.balanceId > :balanceId)) " +
+            "order by b.expireDate asc, b.balanceId asc")
+    List<PointBalance> findDeductibleBalancesAfter(@Param("userId") Long userId,
+                                                   @Param("status") BalanceStatus status,
+                                                   @Param("balanceType") BalanceType balanceType,
+                                                   @Param("expireDate") LocalDateTime expireDate,
+                                                   @Param("balanceId") Long balanceId,
+                                                   Pageable pageable);
+
+    // 일괄 차감 모드용: 변경 감지 스냅샷 없이 읽기 전용으로 조회 (차감은 JDBC 배치 UPDATE로 반영)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("select b from PointBalance b " +
+            "where b.userId = :userId and b.status = :status and b.balanceType = :balanceType and b.remainAmount > 0 " +
+            "order by b.expireDate asc, b.balanceId asc")
+    List<PointBalance> findDeductibleBalancesReadOnly(@Param("userId") Long userId,
+                                                      @Param("status") BalanceStatus status,
+                                                      @Param("balanceType") BalanceType balanceType,
+                                                      Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("select b from PointBalance b " +
+            "where b.userId = :userId and b.status = :status and b.balanceType = :balanceType and b.remainAmount > 0 " +
+            "and (b.expireDate > :expireDate or (b.expireDate = :expireDate and b.balanceId > :balanceId)) " +
+            "order by b.expireDate asc, b.balanceId asc")
+    List<PointBalance> findDeductibleBalancesAfterReadOnly(@Param("userId") Long userId,
+                                                           @Param("status") BalanceStatus status,
+                                                           @Param("balanceType") BalanceType balanceType,
+                                                           @Param("expireDate") LocalDateTime expireDate,
+                                                           @Param("balanceId") Long balanceId,
+                                                           Pageable pageable);
+
+    // 남은 포인트가 있는 만료 대상 잔액 조회 (소진된 건은 만료 거래 없이 PointArchiveService가 보관)
+    @Query("select b from PointBalance b " +
+            "where b.status = :status and b.expireDate < :now and b.remainAmount > 0 " +
+            "order by b.expireDate asc, b.balanceId asc")
+    List<PointBalance> findExpirableBalances(@Param("status") BalanceStatus status,
+                                             @Param("now") LocalDateTime now,
+                                             Pageable pageable);
+
+    // (expireDate, balanceId) 키셋 커서 이후의 만료 대상 잔액 조회
+    @Query("select b from PointBalance b " +
+            "where b.status = :status and b.expireDate < :now and b.remainAmount > 0 " +
+            "and (b.expireDate > :expireDate or (b.expireDate = :expireDate and b.balanceId > :balanceId)) " +
+            "order by b.expireDate asc, b.balanceId asc")
+    List<PointBalance> findExpirableBalancesAfter(@Param("status") BalanceStatus status,
+                                                  @Param("now") LocalDateTime now,
+                                                  @Param("expireDate") LocalDateTime expireDate,
+                                                  @Param("balanceId") Long balanceId,
+                                                  Pageable pageable);
+
+    // 적립 ID 키셋 순서로 보관 대상(소진 또는 취소/만료) 적립 건 조회
+    @Query("select b from PointBalance b " +
+            "where b.balanceId > :balanceId and b.createDate < :cutoff " +
+            "and (b.status <> :active or b.remainAmount = 0) " +
+            "order by b.balanceId asc")
+    List<PointBalance> findArchivableBalancesAfter(@Param("active") BalanceStatus active,
+                                                   @Param("balanceId") Long balanceId,
+                                                   @Param("cutoff") LocalDateTime cutoff,
+                                                   Pageable pageable);
+
+    // 보관 테이블로 복사된 적립 건 삭제 (복사와 같은 조건)
+    @Modifying
+    @Query(value = "delete from point_balances where balance_id in (:balanceIds) and (status <> 'ACTIVE' or remain_amount = 0)",
+            nativeQuery = true)
+    int deleteArchived(@Param("balanceIds") Collection<Long> balanceIds);
+
+    // 병합 대상 적립 건이 많은 사용자를 사용자 ID 키셋 순서로 조회
+    @Query("select b.userId from PointBalance b " +
+            "where b.status = :status and b.remainAmount > 0 and b.createDate < :cutoff and b.userId > :userId " +
+            "group by b.userId having count(b) >= :minBalances " +
+            "order by b.userId asc")
+    List<Long> findCompactableUserIds(@Param("status") BalanceStatus status,
+                                      @Param("cutoff") LocalDateTime cutoff,
+                                      @Param("userId") Long userId,
+                                      @Param("minBalances") long minBalances,
+                                      Pageable pageable);
+
+    // 적립 건이 있는 사용자 ID를 키셋 순서로 조회 (사용자 수 기준 구간 분할용)
+    @Query("select distinct b.userId from PointBalance b where b.userId > :userId order by b.userId asc")
+    List<Long> findUserIdsAfter(@Param("userId") Long userId, Pageable pageable);
+
+    // 사용자 ID 구간 [fromUserId, toUserId) 안의 적립 건을 적립 ID 키셋 순서로 읽기 전용 조회
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("select b from PointBalance b " +
+            "where b.userId >= :fromUserId and b.userId < :toUserId and b.balanceId > :balanceId " +
+            "order by b.balanceId asc")
+    List<PointBalance> findUserRangeBalancesAfter(@Param("fromUserId") Long fromUserId,
+                                                  @Param("toUserId") Long toUserId,
+                                                  @Param("balanceId") Long balanceId,
+                                                  Pageable pageable);
 }
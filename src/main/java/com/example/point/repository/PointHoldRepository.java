@@ -0,0 +1,28 @@
+package com.example.point.repository;
+
+import com.example.point.domain.PointHold;
+import com.example.point.domain.enums.HoldStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface PointHoldRepository extends JpaRepository<PointHold, Long> {
+
+    boolean existsByUserIdAndOrderIdAndStatus(Long userId, String orderId, HoldStatus status);
+
+    // 유효 시간이 지난 보류를 (만료 시각, 보류 ID) 키셋 순서로 조회
+    @Query("select h from PointHold h where h.status = :status and h.expireDate < :now " +
+            "and (h.expireDate > :lastExpireDate or (h.expireDate = :lastExpireDate and h.holdId > :lastHoldId)) " +
+            "order by h.expireDate asc, h.holdId asc")
+    List<PointHold> findExpiredHoldsAfter(@Param("status") HoldStatus status,
+                                          @Param("now") LocalDateTime now,
+                                          @Param("lastExpireDate") LocalDateTime lastExpireDate,
+                                          @Param("lastHoldId") Long lastHoldId,
+                                          Pageable pageable);
+}
@@ -0,0 +1,18 @@
+package com.example.point.repository;
+
+import com.example.point.domain.PointIdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface PointIdempotencyKeyRepository extends JpaRepository<PointIdempotencyKey, String> {
+
+    @Modifying
+    @Query("delete from PointIdempotencyKey k where k.createDate < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,19 @@
+package com.example.point.repository;
+
+import com.example.point.domain.PointOrderUsageItem;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface PointOrderUsageItemRepository extends JpaRepository<PointOrderUsageItem, Long> {
+
+    // 사용 순서대로 아직 취소 가능한 금액이 남아있는 적립 건 조회
+    @Query("select i from PointOrderUsageItem i " +
+            "where i.usageId = :usageId and i.usedAmount > i.canceledAmount " +
+            "order by i.itemId asc")
+    List<PointOrderUsageItem> findCancelableItems(@Param("usageId") Long usageId);
+}
@@ -0,0 +1,12 @@
+package com.example.point.repository;
+
+import com.example.point.domain.PointOrderUsage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface PointOrderUsageRepository extends JpaRepository<PointOrderUsage, Long> {
+    Optional<PointOrderUsage> findByUserIdAndOrderId(Long userId, String orderId);
+}
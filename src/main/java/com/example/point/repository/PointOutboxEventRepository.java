@@ -0,0 +1,18 @@
+package com.example.point.repository;
+
+import com.example.point.domain.PointOutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface PointOutboxEventRepository extends JpaRepository<PointOutboxEvent, Long> {
+
+    // 기록된 순서대로 이벤트 ID 이후의 발행 대기 이벤트 조회
+    @Query("select e from PointOutboxEvent e where e.eventId > :afterEventId order by e.eventId asc")
+    List<PointOutboxEvent> findPendingAfter(@Param("afterEventId") Long afterEventId, Pageable pageable);
+}
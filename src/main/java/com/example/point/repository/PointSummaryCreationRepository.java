@@ -0,0 +1,35 @@
+package com.example.point.repository;
+
+import com.example.point.metrics.StatementCounter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 비관적 락 모드에서 요약 행이 없는 사용자의 첫 요청이 잠글 행을 만들도록 빈 요약 행을 추가한다.
+ * 두 요청이 동시에 추가하면 나중 요청은 먼저 추가한 트랜잭션이 끝날 때까지 기다린 뒤 중복 키로 실패하므로,
+ * 이를 이미 있는 것으로 처리한다. JPA 리포지토리 메서드와 달리 예외가 트랜잭션을 롤백 전용으로 만들지 않도록 JDBC로 실행한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PointSummaryCreationRepository {
+
+    private static final String INSERT_SQL =
+            "insert into point_summaries (user_id, version, total_amount, purchase_amount, manual_amount, held_amount) " +
+            "values (?, 0, 0, 0, 0, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 빈 요약 행을 추가했으면 true, 이미 있으면 false를 반환한다.
+     */
+    public boolean insertIfAbsent(Long userId) {
+        StatementCounter.add(1);
+        try {
+            return jdbcTemplate.update(INSERT_SQL, userId) > 0;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+}
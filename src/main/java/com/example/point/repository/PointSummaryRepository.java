@@ -0,0 +1,20 @@
+package com.example.point.repository;
+
+import com.example.point.domain.PointSummary;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface PointSummaryRepository extends JpaRepository<PointSummary, Long> {
+
+    // 비관적 락 모드에서 사용자 단위 직렬화를 위해 요약 행을 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from PointSummary s where s.userId = :userId")
+    Optional<PointSummary> findByIdForUpdate(@Param("userId") Long userId);
+}
@@ -2,12 +2,74 @@ package com.example.point.repository;
 
 import com.example.point.domain.PointTransaction;
 import com.example.point.domain.enums.TransactionType;
+import com.example.point.dto.history.PointHistoryItem;
+import com.example.point.dto.reconcile.PointLedgerSum;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface PointTransactionRepository extends JpaRepository<PointTransaction, Long> {
     List<PointTransaction> findByUserIdAndOrderIdAndTransactionType(Long userId, String orderId, TransactionType transactionType);
+
+    List<PointTransaction> findByUserIdAndOrderIdIsNullAndTransactionType(Long userId, TransactionType transactionType);
+
+    // 최신순 이력 페이지, (transactionDate, transactionId) 커서 이전의 거래만 조회
+    @Query("select new com.example.point.dto.history.PointHistoryItem(" +
+            "t.transactionId, t.userId, t.balanceId, t.transactionType, t.pointChange, t.transactionDate, t.orderId, t.description) " +
+            "from PointTransaction t " +
+            "where t.userId = :userId and t.transactionDate >= :from " +
+            "and (t.transactionDate < :beforeDate or (t.transactionDate = :beforeDate and t.transactionId < :beforeId)) " +
+            "order by t.transactionDate desc, t.transactionId desc")
+    List<PointHistoryItem> findHistoryBefore(@Param("userId") Long userId,
+                                             @Param("from") LocalDateTime from,
+                                             @Param("beforeDate") LocalDateTime beforeDate,
+                                             @Param("beforeId") Long beforeId,
+                                             Pageable pageable);
+
+    // 기간 내 이력을 시간순으로 읽는 즉시 내보내기 위한 스트림
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select new com.example.point.dto.history.PointHistoryItem(" +
+            "t.transactionId, t.userId, t.balanceId, t.transactionType, t.pointChange, t.transactionDate, t.orderId, t.description) " +
+            "from PointTransaction t " +
+            "where t.userId = :userId and t.transactionDate >= :from and t.transactionDate < :to " +
+            "order by t.transactionDate asc, t.transactionId asc")
+    Stream<PointHistoryItem> streamHistory(@Param("userId") Long userId,
+                                           @Param("from") LocalDateTime from,
+                                           @Param("to") LocalDateTime to);
+
+    // 사용자 ID 구간 [fromUserId, toUserId) 안의 거래를 적립 건별로 합산
+    @Query("select new com.example.point.dto.reconcile.PointLedgerSum(t.balanceId, sum(t.pointChange), count(t)) " +
+            "from PointTransaction t " +
+            "where t.userId >= :fromUserId and t.userId < :toUserId and t.transactionType in :types and t.balanceId is not null " +
+            "group by t.balanceId")
+    List<PointLedgerSum> sumByBalance(@Param("fromUserId") Long fromUserId,
+                                      @Param("toUserId") Long toUserId,
+                                      @Param("types") Collection<TransactionType> types);
+
+    // 사용자 ID 구간 [fromUserId, toUserId) 안의 거래를 거래 ID 순서로 읽는 스트림 (원장 리플레이)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select new com.example.point.dto.history.PointHistoryItem(" +
+            "t.transactionId, t.userId, t.balanceId, t.transactionType, t.pointChange, t.transactionDate, t.orderId, t.description) " +
+            "from PointTransaction t " +
+            "where t.userId >= :fromUserId and t.userId < :toUserId " +
+            "order by t.transactionId asc")
+    Stream<PointHistoryItem> streamUserRange(@Param("fromUserId") Long fromUserId,
+                                             @Param("toUserId") Long toUserId);
 }
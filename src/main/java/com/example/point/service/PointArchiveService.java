@@ -0,0 +1,124 @@
+package com.example.point.service;
+
+import com.example.point.domain.PointBalance;
+import com.example.point.domain.enums.BalanceStatus;
+import com.example.point.engine.PointMemoryEngine;
+import com.example.point.repository.PointBalanceArchiveRepository;
+import com.example.point.repository.PointBalanceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 소진(remainAmount == 0)되었거나 취소/만료된 적립 건 중 일정 기간이 지난 건을
+ * point_balances에서 point_balance_archives로 옮겨 사용/만료 조회가 읽는 테이블과 인덱스를 작게 유지한다.
+ * 보관된 적립 건은 사용 취소로 환불이 필요할 때 원래 ID 그대로 복원된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PointArchiveService {
+
+    private final PointBalanceRepository pointBalanceRepository;
+    private final PointBalanceArchiveRepository pointBalanceArchiveRepository;
+    private final PointUserLane pointUserLane;
+    private final TransactionTemplate transactionTemplate;
+    private final PointMemoryEngine pointMemoryEngine;
+
+    // 생성된 지 이 기간이 지난 적립 건만 보관
+    @Value("${point.archive.min-age-days:30}")
+    private int minAgeDays;
+
+    // 한 트랜잭션에서 보관하는 최대 적립 건수
+    @Value("${point.archive.chunk-size:500}")
+    private int chunkSize;
+
+    // 한 번에 레인을 잡는 최대 사용자 수
+    @Value("${point.concurrency.lock-batch-users:16}")
+    private int lockBatchUsers;
+
+    @Scheduled(initialDelayString = "${point.archive.interval:3600000}", fixedDelayString = "${point.archive.interval:3600000}")
+    public void scheduledArchive() {
+        if (pointMemoryEngine.isEnabled()) {
+            return;
+        }
+        archiveBalances(LocalDateTime.now());
+    }
+
+    /**
+     * 적립 ID 키셋 순서로 보관 대상을 청크 단위로 읽고, 청크를 사용자 수가 lockBatchUsers 이하인 구간으로 나누어
+     * 구간의 사용자 레인을 잡은 트랜잭션에서 보관 조건을 다시 확인하며 복사 후 삭제한다. 보관된 건수를 반환한다.
+     */
+    public synchronized int archiveBalances(LocalDateTime now) {
+        LocalDateTime cutoff = now.minusDays(minAgeDays);
+        long lastBalanceId = 0L;
+        int archivedCount = 0;
+        while (true) {
+            List<PointBalance> candidates = pointBalanceRepository.findArchivableBalancesAfter(BalanceStatus.ACTIVE,
+                    lastBalanceId, cutoff, PageRequest.of(0, chunkSize));
+            if (candidates.isEmpty()) {
+                break;
+            }
+            lastBalanceId = candidates.get(candidates.size() - 1).getBalanceId();
+
+            // 같은 사용자의 적립 건이 한 구간에 모이도록 사용자 ID 순으로 정렬한 뒤 나눔
+            List<PointBalance> byUser = candidates.stream()
+                    .sorted(Comparator.comparing(PointBalance::getUserId).thenComparing(PointBalance::getBalanceId))
+                    .toList();
+            for (List<PointBalance> slice : PointUserLane.partition(byUser, PointBalance::getUserId, lockBatchUsers)) {
+                archivedCount += archiveSlice(slice, now);
+            }
+
+            if (candidates.size() < chunkSize) {
+                break;
+            }
+        }
+        if (archivedCount > 0) {
+            log.info("적립 내역 보관 처리: {}건", archivedCount);
+        }
+        return archivedCount;
+    }
+
+    private int archiveSlice(List<PointBalance> slice, LocalDateTime now) {
+        List<Long> balanceIds = slice.stream().map(PointBalance::getBalanceId).toList();
+        Set<Long> userIds = slice.stream().map(PointBalance::getUserId).collect(Collectors.toSet());
+        Integer archived = pointUserLane.executeAll(userIds, () -> transactionTemplate.execute(status -> {
+            int copied = pointBalanceArchiveRepository.copyFromBalances(balanceIds, now);
+            int deleted = pointBalanceRepository.deleteArchived(balanceIds);
+            if (copied != deleted) {
+                throw new IllegalStateException("보관 복사 건수와 삭제 건수가 다릅니다: " + copied + " / " + deleted);
+            }
+            return deleted;
+        }));
+        return archived == null ? 0 : archived;
+    }
+
+    /**
+     * 보관된 적립 건을 원래 ID 그대로 point_balances로 복원한다. 호출자의 트랜잭션과 사용자 레인 안에서 실행된다.
+     */
+    @Transactional
+    public List<PointBalance> restore(Collection<Long> balanceIds) {
+        if (balanceIds.isEmpty() || pointBalanceArchiveRepository.copyToBalances(balanceIds) == 0) {
+            return List.of();
+        }
+        pointBalanceArchiveRepository.deleteByBalanceIds(balanceIds);
+        return pointBalanceRepository.findAllById(balanceIds);
+    }
+
+    @Transactional(readOnly = true)
+    public boolean isArchived(Long balanceId) {
+        return pointBalanceArchiveRepository.existsById(balanceId);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.point.service;
+
+import com.example.point.domain.PointSummary;
+import com.example.point.dto.balance.PointBalanceResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 사용자별 잔액 조회 결과를 크기 제한이 있는 LRU 캐시로 보관한다.
+ * 요약이 갱신되면 커밋 이후 새 값으로 교체하며(write-through), 요약 버전을 비교하여
+ * 늦게 도착한 이전 값이 최신 값을 덮어쓰지 않도록 한다.
+ */
+@Component
+public class PointBalanceCache {
+
+    // 요약 행이 아직 없는 사용자의 버전
+    private static final long NO_VERSION = -1L;
+
+    private final Map<Long, CachedBalance> cache;
+
+    public PointBalanceCache(@Value("${point.balance-cache.size:100000}") int cacheSize) {
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedBalance> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    public synchronized PointBalanceResponse get(Long userId) {
+        CachedBalance cached = cache.get(userId);
+        return cached == null ? null : cached.response();
+    }
+
+    public synchronized void put(PointSummary summary) {
+        long version = summary.getVersion() == null ? NO_VERSION : summary.getVersion();
+        CachedBalance cached = cache.get(summary.getUserId());
+        if (cached == null || cached.version() <= version) {
+            cache.put(summary.getUserId(), new CachedBalance(version, PointBalanceResponse.from(summary)));
+        }
+    }
+
+    /**
+     * 트랜잭션이 커밋된 뒤에 캐시를 갱신한다. 롤백되면 기존 값을 유지한다.
+     */
+    public void putAfterCommit(PointSummary summary) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            put(summary);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                put(summary);
+            }
+        });
+    }
+
+    public synchronized void evict(Long userId) {
+        cache.remove(userId);
+    }
+
+    private record CachedBalance(long version, PointBalanceResponse response) {
+    }
+}
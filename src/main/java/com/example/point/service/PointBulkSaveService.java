@@ -0,0 +1,136 @@
+package com.example.point.service;
+
+import com.example.point.domain.PointBalance;
+import com.example.point.domain.PointPolicySnapshot;
+import com.example.point.domain.PointSummary;
+import com.example.point.domain.PointTransaction;
+import com.example.point.domain.enums.TransactionType;
+import com.example.point.dto.save.PointBulkSaveResponse;
+import com.example.point.dto.save.PointBulkSaveResult;
+import com.example.point.dto.save.PointSaveRequest;
+import com.example.point.exception.PointErrorReason;
+import com.example.point.exception.PointOperationException;
+import com.example.point.ledger.PointLedger;
+import com.example.point.repository.PointBalanceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PointBulkSaveService {
+
+    private final PointBalanceRepository pointBalanceRepository;
+    private final PointLedger pointLedger;
+    private final PointPolicyService policyService;
+    private final PointSummaryService pointSummaryService;
+    private final TransactionTemplate transactionTemplate;
+    private final PointUserLane pointUserLane;
+    private final PointOutboxService pointOutboxService;
+    private static final String SAVE = "포인트 적립";
+
+    // 한 트랜잭션에서 적립하는 최대 요청 수
+    @Value("${point.bulk.chunk-size:1000}")
+    private int chunkSize;
+
+    // 한 번에 레인을 잡는 최대 사용자 수
+    @Value("${point.concurrency.lock-batch-users:16}")
+    private int lockBatchUsers;
+
+    /**
+     * 대량 적립 요청을 하나의 정책 스냅샷으로 검증하고 청크 단위 트랜잭션으로 적립한다.
+     * 청크는 다시 사용자 수가 lockBatchUsers 이하인 구간으로 나누어 구간마다 레인과 트랜잭션을 잡는다.
+     * 검증에 실패한 요청은 건너뛰고, 구간 저장에 실패하면 해당 구간의 요청만 실패 처리한다.
+     */
+    public PointBulkSaveResponse save(List<PointSaveRequest> requests) {
+        if (requests == null || requests.isEmpty() || requests.stream().anyMatch(Objects::isNull)) {
+            throw new PointOperationException(PointErrorReason.INVALID_REQUEST, "적립 요청 목록을 확인해주세요.");
+        }
+        PointPolicySnapshot policy = policyService.getPolicy();
+        LocalDateTime now = LocalDateTime.now();
+        List<PointBulkSaveResult> results = new ArrayList<>(requests.size());
+
+        for (int from = 0; from < requests.size(); from += chunkSize) {
+            List<PointSaveRequest> chunk = requests.subList(from, Math.min(from + chunkSize, requests.size()));
+            int offset = from;
+            for (List<PointSaveRequest> slice : PointUserLane.partition(chunk, PointSaveRequest::getUserId, lockBatchUsers)) {
+                results.addAll(saveSlice(slice, offset, policy, now));
+                offset += slice.size();
+            }
+        }
+        return PointBulkSaveResponse.from(results);
+    }
+
+    private List<PointBulkSaveResult> saveSlice(List<PointSaveRequest> slice, int offset,
+                                                PointPolicySnapshot policy, LocalDateTime now) {
+        List<Long> userIds = slice.stream()
+                .map(PointSaveRequest::getUserId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        try {
+            // 구간에 포함된 사용자들의 요청은 구간 트랜잭션이 끝날 때까지 대기
+            return pointUserLane.executeAll(userIds,
+                    () -> transactionTemplate.execute(status -> saveChunk(slice, userIds, offset, policy, now)));
+        } catch (RuntimeException e) {
+            log.warn("대량 적립 저장 실패 (index {}~{})", offset, offset + slice.size() - 1, e);
+            List<PointBulkSaveResult> failures = new ArrayList<>(slice.size());
+            for (int i = 0; i < slice.size(); i++) {
+                failures.add(PointBulkSaveResult.failure(offset + i, slice.get(i).getUserId(), e.getMessage()));
+            }
+            return failures;
+        }
+    }
+
+    private List<PointBulkSaveResult> saveChunk(List<PointSaveRequest> chunk, List<Long> userIds, int offset,
+                                                PointPolicySnapshot policy, LocalDateTime now) {
+        // 청크에 포함된 사용자들의 요약을 한 번에 조회하여 사용자별 한도 검증에 사용
+        Map<Long, PointSummary> summaries = pointSummaryService.getSummaries(userIds);
+
+        PointBulkSaveResult[] results = new PointBulkSaveResult[chunk.size()];
+        Map<Integer, PointBalance> balances = new LinkedHashMap<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            PointSaveRequest request = chunk.get(i);
+            try {
+                if (request.getUserId() == null) {
+                    throw new PointOperationException(PointErrorReason.INVALID_REQUEST, "사용자 ID는 필수입니다.");
+                }
+                policy.validateSavingAmount(request.getAmount());
+                LocalDateTime expireDate = policy.calculateExpireDate(now, request.getExpireDays());
+
+                // 같은 사용자의 앞선 요청까지 반영된 합계로 한도 검증
+                PointSummary summary = summaries.get(request.getUserId());
+                policy.validatePointPointLimit(summary.getTotalAmount() + request.getAmount());
+
+                PointBalance balance = PointBalance.of(request, expireDate);
+                summary.increase(balance, balance.getRemainAmount());
+                balances.put(i, balance);
+            } catch (PointOperationException e) {
+                results[i] = PointBulkSaveResult.failure(offset + i, request.getUserId(), e.getMessage());
+            }
+        }
+
+        pointBalanceRepository.saveAll(balances.values());
+        List<PointTransaction> transactions = balances.values().stream()
+                .map(balance -> PointTransaction.of(balance, TransactionType.SAVE, now, SAVE, null, balance.getRemainAmount()))
+                .toList();
+        pointLedger.append(transactions);
+        pointOutboxService.append(transactions);
+        summaries.values().forEach(pointSummaryService::update);
+
+        balances.forEach((i, balance) ->
+                results[i] = PointBulkSaveResult.success(offset + i, balance.getUserId(), balance.getBalanceId()));
+        return Arrays.asList(results);
+    }
+}
@@ -0,0 +1,205 @@
+package com.example.point.service;
+
+import com.example.point.domain.PointBalance;
+import com.example.point.domain.PointSummary;
+import com.example.point.domain.PointTransaction;
+import com.example.point.domain.enums.BalanceStatus;
+import com.example.point.domain.enums.BalanceType;
+import com.example.point.domain.enums.TransactionType;
+import com.example.point.dto.compaction.PointCompactionResult;
+import com.example.point.engine.PointMemoryEngine;
+import com.example.point.ledger.PointLedger;
+import com.example.point.repository.PointBalanceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 같은 사용자, 같은 적립 유형, 같은 만료일(일 단위)의 ACTIVE 적립 건을 하나로 병합하여
+ * 소액 적립이 많은 사용자의 차감/합산 비용을 줄인다.
+ * 병합된 건은 MERGED 상태로 병합 대상 적립 건 ID를 남기므로 사용 취소 시 병합 대상 건으로 환불되며,
+ * 병합된 건과 병합 대상 건 모두 MERGE 거래로 기록된다.
+ * 병합 대상 건은 여러 적립 건(일부 사용된 건 포함)의 남은 포인트를 합친 것이므로 적립 취소할 수 없다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PointCompactionService {
+
+    private static final String MERGE = "적립 건 병합";
+
+    private final PointBalanceRepository pointBalanceRepository;
+    private final PointLedger pointLedger;
+    private final PointSummaryService pointSummaryService;
+    private final PointUserLane pointUserLane;
+    private final TransactionTemplate transactionTemplate;
+    private final PointMemoryEngine pointMemoryEngine;
+
+    // 생성 후 이 일수가 지난 적립 건만 병합 (병합된 건과 병합 대상 건은 적립 취소할 수 없게 되므로 최근 적립 건은 남겨 둠)
+    @Value("${point.compaction.min-age-days:7}")
+    private int minAgeDays;
+
+    // 사용자의 ACTIVE 적립 건이 이 수 이상일 때만 병합
+    @Value("${point.compaction.min-balances:50}")
+    private int minBalances;
+
+    // 한 번에 조회하는 병합 대상 사용자 수
+    @Value("${point.compaction.user-chunk-size:100}")
+    private int userChunkSize;
+
+    private volatile PointCompactionResult lastResult;
+
+    @Scheduled(initialDelayString = "${point.compaction.interval:3600000}", fixedDelayString = "${point.compaction.interval:3600000}")
+    public void scheduledCompaction() {
+        if (pointMemoryEngine.isEnabled()) {
+            return;
+        }
+        compactBalances(LocalDateTime.now());
+    }
+
+    /**
+     * 병합 대상 사용자를 사용자 ID 키셋 순서로 조회하고, 사용자마다 레인을 잡은 별도 트랜잭션으로 병합한다.
+     * 한 사용자의 병합이 실패하면 로그를 남기고 실패 사용자 수에 더한 뒤 다음 사용자를 계속 병합한다.
+     */
+    public synchronized PointCompactionResult compactBalances(LocalDateTime now) {
+        long started = System.nanoTime();
+        LocalDateTime cutoff = now.minusDays(minAgeDays);
+        int userCount = 0;
+        int mergedCount = 0;
+        int createdCount = 0;
+        int failedCount = 0;
+        String failure = null;
+
+        try {
+            long lastUserId = Long.MIN_VALUE;
+            while (true) {
+                List<Long> userIds = pointBalanceRepository.findCompactableUserIds(BalanceStatus.ACTIVE, cutoff, lastUserId,
+                        minBalances, PageRequest.of(0, userChunkSize));
+                if (userIds.isEmpty()) {
+                    break;
+                }
+                for (Long userId : userIds) {
+                    UserOutcome outcome;
+                    try {
+                        outcome = pointUserLane.execute(userId,
+                                () -> transactionTemplate.execute(status -> compactUser(userId, cutoff, now)));
+                    } catch (RuntimeException e) {
+                        // 실패한 사용자의 병합은 롤백되어 다음 실행에서 다시 시도하고, 나머지 사용자는 계속 병합
+                        failedCount++;
+                        failure = e.getMessage();
+                        log.warn("적립 건 병합 실패로 건너뜀 (userId={})", userId, e);
+                        continue;
+                    }
+                    if (outcome != null && outcome.merged() > 0) {
+                        userCount++;
+                        mergedCount += outcome.merged();
+                        createdCount += outcome.created();
+                    }
+                }
+                lastUserId = userIds.get(userIds.size() - 1);
+                if (userIds.size() < userChunkSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            // 대상 조회가 실패한 경우, 이미 커밋된 사용자의 병합은 유지되고 나머지는 다음 실행에서 이어서 처리
+            failure = e.getMessage();
+            log.error("적립 건 병합 중 실패", e);
+        }
+
+        PointCompactionResult result = PointCompactionResult.builder()
+                .startedAt(now)
+                .userCount(userCount)
+                .mergedCount(mergedCount)
+                .createdCount(createdCount)
+                .reclaimedCount(mergedCount - createdCount)
+                .failedCount(failedCount)
+                .elapsedMillis(Duration.ofNanos(System.nanoTime() - started).toMillis())
+                .failure(failure)
+                .build();
+        lastResult = result;
+        if (mergedCount > 0 || failure != null) {
+            log.info("적립 건 병합: 사용자 {}명, {}건 → {}건 (ACTIVE {}건 감소), 실패 사용자 {}명",
+                    userCount, mergedCount, createdCount, mergedCount - createdCount, failedCount);
+        }
+        return result;
+    }
+
+    public PointCompactionResult getLastResult() {
+        return lastResult;
+    }
+
+    private UserOutcome compactUser(Long userId, LocalDateTime cutoff, LocalDateTime now) {
+        // 요약은 적립 건을 변경하기 전에 조회
+        PointSummary summary = pointSummaryService.getSummary(userId);
+        Map<MergeKey, List<PointBalance>> groups = pointBalanceRepository
+                .findByUserIdAndStatusOrderByBalanceTypeAscExpireDateAsc(userId, BalanceStatus.ACTIVE).stream()
+                .filter(balance -> balance.getRemainAmount() > 0 && balance.getCreateDate().isBefore(cutoff))
+                .collect(Collectors.groupingBy(balance -> new MergeKey(balance.getBalanceType(), balance.getExpireDate().toLocalDate()),
+                        LinkedHashMap::new, Collectors.toList()));
+
+        int merged = 0;
+        int created = 0;
+        List<PointBalance> updatedBalances = new ArrayList<>();
+        List<PointTransaction> transactions = new ArrayList<>();
+        for (Map.Entry<MergeKey, List<PointBalance>> entry : groups.entrySet()) {
+            List<PointBalance> sources = entry.getValue();
+            if (sources.size() < 2) {
+                continue;
+            }
+            // 같은 날 만료되는 건 중 가장 늦은 만료 시각을 사용하여 어떤 포인트도 원래보다 먼저 만료되지 않도록 함
+            int total = sources.stream().mapToInt(PointBalance::getRemainAmount).sum();
+            PointBalance target = PointBalance.builder()
+                    .userId(userId)
+                    .amount(total)
+                    .remainAmount(total)
+                    .balanceType(entry.getKey().balanceType())
+                    .createDate(now)
+                    .expireDate(sources.stream().map(PointBalance::getExpireDate).max(Comparator.naturalOrder()).orElseThrow())
+                    .status(BalanceStatus.ACTIVE)
+                    .mergeTarget(true)
+                    .build();
+            // 병합된 건이 병합 대상 ID를 참조하므로 먼저 등록하여 ID를 할당
+            pointBalanceRepository.save(target);
+
+            for (PointBalance source : sources) {
+                int remain = source.getRemainAmount();
+                source.mergeInto(target);
+                summary.decrease(source, remain);
+                updatedBalances.add(source);
+                transactions.add(PointTransaction.of(source, TransactionType.MERGE, now, MERGE, null, -remain));
+            }
+            summary.increase(target, total);
+            transactions.add(PointTransaction.of(target, TransactionType.MERGE, now, MERGE, null, total));
+            merged += sources.size();
+            created++;
+        }
+
+        if (merged > 0) {
+            pointBalanceRepository.saveAll(updatedBalances);
+            pointLedger.append(transactions);
+            pointSummaryService.update(summary);
+        }
+        return new UserOutcome(merged, created);
+    }
+
+    private record MergeKey(BalanceType balanceType, LocalDate expireDay) {
+    }
+
+    private record UserOutcome(int merged, int created) {
+    }
+}
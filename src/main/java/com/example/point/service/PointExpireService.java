@@ -0,0 +1,243 @@
+package com.example.point.service;
+
+import com.example.point.domain.PointBalance;
+import com.example.point.domain.PointSummary;
+import com.example.point.domain.PointTransaction;
+import com.example.point.domain.enums.BalanceStatus;
+import com.example.point.domain.enums.TransactionType;
+import com.example.point.dto.expire.PointExpireResult;
+import com.example.point.engine.PointMemoryEngine;
+import com.example.point.ledger.PointLedger;
+import com.example.point.metrics.PointMetrics;
+import com.example.point.repository.PointBalanceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PointExpireService {
+
+    private final PointBalanceRepository pointBalanceRepository;
+    private final PointLedger pointLedger;
+    private final PointSummaryService pointSummaryService;
+    private final PointUserLane pointUserLane;
+    private final TransactionTemplate transactionTemplate;
+    private final PointOutboxService pointOutboxService;
+    private final PointMetrics pointMetrics;
+    private final PointMemoryEngine pointMemoryEngine;
+    private static final String EXPIRE = "포인트 만료";
+
+    // 한 트랜잭션에서 만료 처리하는 최대 적립 건수
+    @Value("${point.expire.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${point.concurrency.lock-batch-users:16}")
+    private int lockBatchUsers;
+
+    // 결과에 담는 최대 건너뛴 적립 ID 수
+    @Value("${point.expire.max-report:1000}")
+    private int maxReport;
+
+    private volatile PointExpireResult lastResult;
+
+    @Scheduled(initialDelayString = "${point.expire.interval:60000}", fixedDelayString = "${point.expire.interval:60000}")
+    public void scheduledExpire() {
+        // 메모리 엔진 모드에서는 적립 건이 DB에 반영되지 않으므로 오래된 DB 행을 만료하지 않음
+        if (pointMemoryEngine.isEnabled()) {
+            return;
+        }
+        expireBalances(LocalDateTime.now());
+    }
+
+    /**
+     * 만료일이 지난 ACTIVE 잔액 중 남은 포인트가 있는 건을 (만료일, 적립 ID) 키셋 순서로 청크 단위 조회하고,
+     * 청크를 사용자 수가 lockBatchUsers 이하인 구간으로 나누어 구간의 사용자 레인을 잡은 트랜잭션에서
+     * 만료 조건을 다시 확인하며 EXPIRED 처리하고 만료 거래 내역을 남긴다.
+     * 구간이 실패하면 사용자별로 다시 시도하고, 그래도 실패한 사용자의 적립 건은 건너뛴 것으로 보고한 뒤
+     * 커서를 넘겨 나머지 만료를 계속한다(건너뛴 건은 다음 실행에서 다시 조회됨).
+     * 만료하면 잔액이 보류 금액보다 작아지는 적립 건은 보류된 포인트로 보고 건너뛰며,
+     * 보류가 확정(만료일이 빠른 건부터 차감)되거나 해제/만료된 뒤의 실행에서 만료 처리한다.
+     */
+    public synchronized PointExpireResult expireBalances(LocalDateTime now) {
+        long started = System.nanoTime();
+        int expiredCount = 0;
+        long expiredPoints = 0;
+        int chunkCount = 0;
+        long maxLagSeconds = 0;
+        int skippedCount = 0;
+        List<Long> skippedBalanceIds = new ArrayList<>();
+        String failure = null;
+
+        PointBalance last = null;
+        while (true) {
+            List<PointBalance> candidates;
+            try {
+                Pageable chunk = PageRequest.of(0, chunkSize);
+                candidates = last == null
+                        ? pointBalanceRepository.findExpirableBalances(BalanceStatus.ACTIVE, now, chunk)
+                        : pointBalanceRepository.findExpirableBalancesAfter(BalanceStatus.ACTIVE, now, last.getExpireDate(), last.getBalanceId(), chunk);
+            } catch (RuntimeException e) {
+                log.warn("포인트 만료 대상 조회 실패 (cursor balanceId={})", last != null ? last.getBalanceId() : null, e);
+                failure = e.getMessage();
+                break;
+            }
+            if (candidates.isEmpty()) {
+                break;
+            }
+
+            chunkCount++;
+            if (chunkCount == 1) {
+                maxLagSeconds = Duration.between(candidates.get(0).getExpireDate(), now).toSeconds();
+            }
+            // 같은 사용자의 적립 건이 한 구간에 모이도록 사용자 ID 순으로 정렬한 뒤 나눔
+            List<PointBalance> byUser = candidates.stream()
+                    .sorted(Comparator.comparing(PointBalance::getUserId))
+                    .toList();
+            for (List<PointBalance> slice : PointUserLane.partition(byUser, PointBalance::getUserId, lockBatchUsers)) {
+                SliceOutcome outcome = expireSlice(slice, now);
+                expiredCount += outcome.expired();
+                expiredPoints += outcome.points();
+                skippedCount += outcome.skippedBalanceIds().size();
+                outcome.skippedBalanceIds().stream()
+                        .limit(Math.max(0, maxReport - skippedBalanceIds.size()))
+                        .forEach(skippedBalanceIds::add);
+                if (outcome.failure() != null) {
+                    failure = outcome.failure();
+                }
+            }
+            if (candidates.size() < chunkSize) {
+                break;
+            }
+            last = candidates.get(candidates.size() - 1);
+        }
+
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - started).toMillis();
+        PointExpireResult result = PointExpireResult.builder()
+                .startedAt(now)
+                .expiredCount(expiredCount)
+                .expiredPoints(expiredPoints)
+                .chunkCount(chunkCount)
+                .elapsedMillis(elapsedMillis)
+                .throughputPerSecond(elapsedMillis > 0 ? expiredCount * 1000.0 / elapsedMillis : expiredCount)
+                .maxLagSeconds(maxLagSeconds)
+                .skippedCount(skippedCount)
+                .skippedBalanceIds(skippedBalanceIds)
+                .failure(failure)
+                .build();
+        lastResult = result;
+        pointMetrics.recordExpireRun(expiredCount, expiredPoints, elapsedMillis, maxLagSeconds, failure != null);
+        if (expiredCount > 0 || failure != null) {
+            log.info("포인트 만료 처리: {}건 / {}포인트, 청크 {}개, 건너뜀 {}건, {}ms, 최대 지연 {}초",
+                    expiredCount, expiredPoints, chunkCount, skippedCount, elapsedMillis, maxLagSeconds);
+        }
+        return result;
+    }
+
+    public PointExpireResult getLastResult() {
+        return lastResult;
+    }
+
+    // 구간 전체가 실패하면 한 사용자(잘못된 행, 요약 버전 충돌 등) 때문에 다른 사용자의 만료가 막히지 않도록 사용자별로 다시 시도
+    private SliceOutcome expireSlice(List<PointBalance> slice, LocalDateTime now) {
+        Map<Long, List<Long>> balanceIdsByUser = slice.stream()
+                .collect(Collectors.groupingBy(PointBalance::getUserId, LinkedHashMap::new,
+                        Collectors.mapping(PointBalance::getBalanceId, Collectors.toList())));
+        try {
+            List<Long> balanceIds = slice.stream().map(PointBalance::getBalanceId).toList();
+            ChunkOutcome outcome = pointUserLane.executeAll(balanceIdsByUser.keySet(),
+                    () -> transactionTemplate.execute(status -> expireChunk(now, balanceIds)));
+            return new SliceOutcome(outcome.expired(), outcome.points(), List.of(), null);
+        } catch (RuntimeException e) {
+            if (balanceIdsByUser.size() == 1) {
+                return skipped(balanceIdsByUser, e);
+            }
+            log.warn("포인트 만료 구간 실패, 사용자별로 다시 시도 (사용자 {}명)", balanceIdsByUser.size(), e);
+        }
+
+        int expired = 0;
+        long points = 0;
+        List<Long> skippedBalanceIds = new ArrayList<>();
+        String failure = null;
+        for (Map.Entry<Long, List<Long>> entry : balanceIdsByUser.entrySet()) {
+            try {
+                ChunkOutcome outcome = pointUserLane.execute(entry.getKey(),
+                        () -> transactionTemplate.execute(status -> expireChunk(now, entry.getValue())));
+                expired += outcome.expired();
+                points += outcome.points();
+            } catch (RuntimeException e) {
+                SliceOutcome skipped = skipped(Map.of(entry.getKey(), entry.getValue()), e);
+                skippedBalanceIds.addAll(skipped.skippedBalanceIds());
+                failure = skipped.failure();
+            }
+        }
+        return new SliceOutcome(expired, points, skippedBalanceIds, failure);
+    }
+
+    private SliceOutcome skipped(Map<Long, List<Long>> balanceIdsByUser, RuntimeException e) {
+        List<Long> balanceIds = balanceIdsByUser.values().stream().flatMap(List::stream).toList();
+        log.warn("포인트 만료 실패로 건너뜀 (userId={}, balanceIds={})", balanceIdsByUser.keySet(), balanceIds, e);
+        return new SliceOutcome(0, 0, balanceIds, e.getMessage());
+    }
+
+    // 레인을 잡기 전에 조회한 값이므로 적립 건을 다시 읽어 만료 조건을 확인
+    private ChunkOutcome expireChunk(LocalDateTime now, List<Long> balanceIds) {
+        List<PointBalance> balances = pointBalanceRepository.findAllById(balanceIds).stream()
+                .filter(balance -> balance.getStatus() == BalanceStatus.ACTIVE && balance.getRemainAmount() > 0
+                        && balance.getExpireDate().isBefore(now))
+                .sorted(Comparator.comparing(PointBalance::getExpireDate).thenComparing(PointBalance::getBalanceId))
+                .toList();
+        if (balances.isEmpty()) {
+            return new ChunkOutcome(0, 0);
+        }
+
+        // 사용자별 요약은 해당 사용자의 잔액을 변경하기 전에 조회
+        Map<Long, List<PointBalance>> balancesByUser = balances.stream()
+                .collect(Collectors.groupingBy(PointBalance::getUserId, LinkedHashMap::new, Collectors.toList()));
+
+        long points = 0;
+        List<PointBalance> expired = new ArrayList<>();
+        List<PointTransaction> transactions = new ArrayList<>();
+        for (Map.Entry<Long, List<PointBalance>> entry : balancesByUser.entrySet()) {
+            PointSummary summary = pointSummaryService.getSummary(entry.getKey());
+            for (PointBalance balance : entry.getValue()) {
+                int expiredAmount = balance.getRemainAmount();
+                if (summary.getAvailableAmount() < expiredAmount) {
+                    continue;
+                }
+                balance.expire();
+                expired.add(balance);
+                summary.decrease(balance, expiredAmount);
+                transactions.add(PointTransaction.of(balance, TransactionType.EXPIRE, now, EXPIRE, null, -expiredAmount));
+                points += expiredAmount;
+            }
+            pointSummaryService.update(summary);
+        }
+
+        pointBalanceRepository.saveAll(expired);
+        pointLedger.append(transactions);
+        pointOutboxService.append(transactions);
+        return new ChunkOutcome(expired.size(), points);
+    }
+
+    private record ChunkOutcome(int expired, long points) {
+    }
+
+    private record SliceOutcome(int expired, long points, List<Long> skippedBalanceIds, String failure) {
+    }
+}
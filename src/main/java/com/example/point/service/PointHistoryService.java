@@ -0,0 +1,109 @@
+package com.example.point.service;
+
+import com.example.point.dto.history.PointHistoryItem;
+import com.example.point.dto.history.PointHistoryResponse;
+import com.example.point.exception.PointErrorReason;
+import com.example.point.exception.PointOperationException;
+import com.example.point.ledger.PointLedger;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 사용자별 거래 이력 조회.
+ * 페이지 조회는 (transactionDate, transactionId) 키셋 커서로 최신순으로 읽고,
+ * 내보내기는 기간 내 거래를 시간순으로 읽는 즉시 NDJSON으로 기록한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PointHistoryService {
+
+    // 기간을 지정하지 않은 경우의 경계값
+    private static final LocalDateTime MIN_DATE = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime MAX_DATE = LocalDateTime.of(9999, 12, 31, 0, 0);
+    private static final String CURSOR_DELIMITER = "|";
+
+    private final PointLedger pointLedger;
+    private final ObjectMapper objectMapper;
+
+    @Value("${point.history.max-page-size:100}")
+    private int maxPageSize;
+
+    @Value("${point.history.export-flush-size:500}")
+    private int exportFlushSize;
+
+    /**
+     * 커서 이전의 거래를 최신순으로 size 건 조회한다. 커서가 없으면 to(제외) 직전부터 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public PointHistoryResponse getHistory(Long userId, String cursor, int size, LocalDateTime from, LocalDateTime to) {
+        if (size < 1 || size > maxPageSize) {
+            throw new PointOperationException(PointErrorReason.INVALID_REQUEST,
+                    "페이지 크기는 1 이상 " + maxPageSize + " 이하여야 합니다.");
+        }
+        // to는 제외 경계이므로 첫 페이지는 (to, 0) 커서로 시작
+        Cursor position = cursor == null ? new Cursor(to == null ? MAX_DATE : to, 0L) : decode(cursor);
+
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회
+        List<PointHistoryItem> rows = pointLedger.findHistoryBefore(userId, from == null ? MIN_DATE : from,
+                position.transactionDate(), position.transactionId(), PageRequest.of(0, size + 1));
+        if (rows.size() <= size) {
+            return new PointHistoryResponse(rows, null);
+        }
+        List<PointHistoryItem> page = rows.subList(0, size);
+        PointHistoryItem last = page.get(size - 1);
+        return new PointHistoryResponse(page, encode(new Cursor(last.getTransactionDate(), last.getTransactionId())));
+    }
+
+    /**
+     * 기간 내 거래를 시간순으로 한 줄에 하나씩 기록한다. 목록을 만들지 않고 읽는 즉시 내보낸다.
+     */
+    @Transactional(readOnly = true)
+    public long exportHistory(Long userId, LocalDateTime from, LocalDateTime to, OutputStream outputStream) {
+        long written = 0;
+        try (Stream<PointHistoryItem> rows = pointLedger.streamHistory(userId,
+                from == null ? MIN_DATE : from, to == null ? MAX_DATE : to)) {
+            for (PointHistoryItem row : (Iterable<PointHistoryItem>) rows::iterator) {
+                outputStream.write(objectMapper.writeValueAsBytes(row));
+                outputStream.write('\n');
+                if (++written % exportFlushSize == 0) {
+                    outputStream.flush();
+                }
+            }
+            outputStream.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("거래 이력 내보내기에 실패했습니다.", e);
+        }
+        return written;
+    }
+
+    private String encode(Cursor cursor) {
+        String raw = cursor.transactionDate() + CURSOR_DELIMITER + cursor.transactionId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Cursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiter = raw.lastIndexOf(CURSOR_DELIMITER);
+            return new Cursor(LocalDateTime.parse(raw.substring(0, delimiter)), Long.parseLong(raw.substring(delimiter + 1)));
+        } catch (RuntimeException e) {
+            throw new PointOperationException(PointErrorReason.INVALID_REQUEST, "유효하지 않은 커서입니다.");
+        }
+    }
+
+    private record Cursor(LocalDateTime transactionDate, Long transactionId) {
+    }
+}
@@ -0,0 +1,199 @@
+package com.example.point.service;
+
+import com.example.point.domain.PointHold;
+import com.example.point.domain.PointSummary;
+import com.example.point.domain.enums.HoldStatus;
+import com.example.point.dto.hold.PointHoldRequest;
+import com.example.point.dto.hold.PointHoldResponse;
+import com.example.point.dto.use.PointUseRequest;
+import com.example.point.dto.use.PointUseResponse;
+import com.example.point.engine.PointMemoryEngine;
+import com.example.point.exception.PointErrorReason;
+import com.example.point.exception.PointOperationException;
+import com.example.point.repository.PointHoldRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 결제 전 주문에 포인트를 보류(hold)하고, 결제 결과에 따라 사용으로 확정(capture)하거나 해제(release)한다.
+ * 보류는 요약의 보류 금액만 늘리므로 적립 건과 거래 내역을 건드리지 않으며,
+ * 확정될 때만 사용과 동일하게 적립 건에서 차감한다. 결제되지 않은 주문은 사용/사용 취소 거래를 남기지 않는다.
+ * 보류된 포인트는 적립 취소와 만료에서 제외되어(잔액이 보류 금액 아래로 내려가지 않음) 확정 시점까지 남는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PointHoldService {
+
+    // 만료 정리 키셋의 시작 위치
+    private static final LocalDateTime MIN_DATE = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final PointHoldRepository pointHoldRepository;
+    private final PointSummaryService pointSummaryService;
+    private final PointUseService pointUseService;
+    private final PointUserLane pointUserLane;
+    private final TransactionTemplate transactionTemplate;
+    private final PointMemoryEngine pointMemoryEngine;
+
+    @Value("${point.hold.default-ttl-seconds:900}")
+    private int defaultTtlSeconds;
+
+    @Value("${point.hold.max-ttl-seconds:3600}")
+    private int maxTtlSeconds;
+
+    @Value("${point.hold.expire-chunk-size:500}")
+    private int expireChunkSize;
+
+    @Value("${point.concurrency.lock-batch-users:16}")
+    private int lockBatchUsers;
+
+    @Transactional
+    public PointHoldResponse hold(PointHoldRequest request) {
+        if (request.getAmount() <= 0 || request.getOrderId() == null) {
+            throw new PointOperationException(PointErrorReason.INVALID_REQUEST, "보류할 주문과 포인트를 확인해주세요.");
+        }
+        int ttlSeconds = request.getTtlSeconds() == null ? defaultTtlSeconds : request.getTtlSeconds();
+        if (ttlSeconds < 1 || ttlSeconds > maxTtlSeconds) {
+            throw new PointOperationException(PointErrorReason.INVALID_REQUEST, "보류 유효 시간은 1초 이상 " + maxTtlSeconds + "초 이하여야 합니다.");
+        }
+        if (pointHoldRepository.existsByUserIdAndOrderIdAndStatus(request.getUserId(), request.getOrderId(), HoldStatus.HELD)) {
+            throw new PointOperationException(PointErrorReason.INVALID_REQUEST, "이미 포인트가 보류된 주문입니다.");
+        }
+
+        PointSummary summary = pointSummaryService.getSummary(request.getUserId());
+        if (summary.getAvailableAmount() < request.getAmount()) {
+            throw new PointOperationException(PointErrorReason.INSUFFICIENT_BALANCE, "보류할 포인트가 사용 가능 잔액을 초과합니다.");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        PointHold hold = pointHoldRepository.save(PointHold.of(request.getUserId(), request.getOrderId(), request.getAmount(),
+                now, now.plusSeconds(ttlSeconds)));
+        summary.hold(request.getAmount());
+        pointSummaryService.update(summary);
+        return PointHoldResponse.from(hold, summary.getAvailableAmount());
+    }
+
+    /**
+     * 보류를 해제한 금액만큼 사용 처리한다. 사용 내역은 일반 사용과 동일하게 주문 단위로 기록된다.
+     */
+    @Transactional
+    public PointUseResponse capture(Long holdId) {
+        PointHold hold = findHold(holdId);
+        // 사용 처리에서 같은 요약을 다시 조회하므로 보류 해제가 함께 반영됨
+        PointSummary summary = pointSummaryService.getSummary(hold.getUserId());
+        hold.capture(LocalDateTime.now());
+        summary.releaseHold(hold.getAmount());
+        pointHoldRepository.save(hold);
+        return pointUseService.use(hold.getUserId(), PointUseRequest.builder()
+                .usageAmount(hold.getAmount())
+                .orderId(hold.getOrderId())
+                .build());
+    }
+
+    @Transactional
+    public PointHoldResponse release(Long holdId) {
+        PointHold hold = findHold(holdId);
+        PointSummary summary = pointSummaryService.getSummary(hold.getUserId());
+        hold.release();
+        summary.releaseHold(hold.getAmount());
+        pointHoldRepository.save(hold);
+        pointSummaryService.update(summary);
+        return PointHoldResponse.from(hold, summary.getAvailableAmount());
+    }
+
+    @Transactional(readOnly = true)
+    public Long findUserId(Long holdId) {
+        return findHold(holdId).getUserId();
+    }
+
+    @Scheduled(initialDelayString = "${point.hold.expire-interval:10000}", fixedDelayString = "${point.hold.expire-interval:10000}")
+    public void scheduledExpire() {
+        // 메모리 엔진 모드에서는 보류를 받지 않음
+        if (pointMemoryEngine.isEnabled()) {
+            return;
+        }
+        expireHolds(LocalDateTime.now());
+    }
+
+    /**
+     * 유효 시간이 지난 보류를 (만료 시각, 보류 ID) 키셋 순서로 청크 단위 조회하고, 청크를 사용자 수가
+     * lockBatchUsers 이하인 구간으로 나누어 구간의 사용자 레인을 잡은 트랜잭션에서 만료 처리하고 보류 금액을 돌려놓는다.
+     * 구간이 실패하면 로그를 남기고 커서를 넘겨 나머지 보류를 계속 만료하며, 실패한 보류는 다음 실행에서 다시 조회된다.
+     */
+    public synchronized int expireHolds(LocalDateTime now) {
+        int expiredCount = 0;
+        int failedCount = 0;
+        PointHold last = null;
+        while (true) {
+            LocalDateTime lastExpireDate = last == null ? MIN_DATE : last.getExpireDate();
+            Long lastHoldId = last == null ? 0L : last.getHoldId();
+            List<PointHold> candidates = pointHoldRepository.findExpiredHoldsAfter(HoldStatus.HELD, now, lastExpireDate, lastHoldId,
+                    PageRequest.of(0, expireChunkSize));
+            if (candidates.isEmpty()) {
+                break;
+            }
+
+            List<PointHold> sorted = candidates.stream()
+                    .sorted(Comparator.comparing(PointHold::getUserId).thenComparing(PointHold::getHoldId))
+                    .toList();
+            for (List<PointHold> slice : PointUserLane.partition(sorted, PointHold::getUserId, lockBatchUsers)) {
+                Set<Long> userIds = slice.stream().map(PointHold::getUserId).collect(Collectors.toSet());
+                List<Long> holdIds = slice.stream().map(PointHold::getHoldId).toList();
+                try {
+                    Integer expired = pointUserLane.executeAll(userIds,
+                            () -> transactionTemplate.execute(status -> expireChunk(now, holdIds)));
+                    expiredCount += expired == null ? 0 : expired;
+                } catch (RuntimeException e) {
+                    failedCount += holdIds.size();
+                    log.warn("포인트 보류 만료 실패로 건너뜀 (userId={}, holdIds={})", userIds, holdIds, e);
+                }
+            }
+            if (candidates.size() < expireChunkSize) {
+                break;
+            }
+            last = candidates.get(candidates.size() - 1);
+        }
+        if (expiredCount > 0 || failedCount > 0) {
+            log.info("포인트 보류 만료 처리: {}건, 건너뜀 {}건", expiredCount, failedCount);
+        }
+        return expiredCount;
+    }
+
+    // 레인을 잡기 전에 조회한 값이므로 보류를 다시 읽어 만료 조건을 확인
+    private int expireChunk(LocalDateTime now, List<Long> holdIds) {
+        List<PointHold> holds = pointHoldRepository.findAllById(holdIds).stream()
+                .filter(hold -> hold.getStatus() == HoldStatus.HELD && hold.getExpireDate().isBefore(now))
+                .toList();
+        Map<Long, List<PointHold>> holdsByUser = holds.stream()
+                .collect(Collectors.groupingBy(PointHold::getUserId, LinkedHashMap::new, Collectors.toList()));
+        for (Map.Entry<Long, List<PointHold>> entry : holdsByUser.entrySet()) {
+            PointSummary summary = pointSummaryService.getSummary(entry.getKey());
+            for (PointHold hold : entry.getValue()) {
+                hold.expire();
+                summary.releaseHold(hold.getAmount());
+            }
+            pointSummaryService.update(summary);
+        }
+        pointHoldRepository.saveAll(holds);
+        return holds.size();
+    }
+
+    private PointHold findHold(Long holdId) {
+        return pointHoldRepository.findById(holdId)
+                .orElseThrow(() -> new PointOperationException(PointErrorReason.HOLD_NOT_FOUND, "해당 포인트 보류 내역이 존재하지 않습니다."));
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.point.service;
+
+import com.example.point.domain.PointIdempotencyKey;
+import com.example.point.exception.PointErrorReason;
+import com.example.point.exception.PointOperationException;
+import com.example.point.repository.PointIdempotencyKeyRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 멱등성 키로 재시도 요청을 최초 처리 결과로 응답한다.
+ * 메모리의 LRU 캐시와 처리 중인 요청 목록이 중복 요청을 먼저 흡수하고,
+ * 영속화된 키 테이블이 재시작/다중 인스턴스 환경에서의 중복 처리를 막는다.
+ * 키마다 최초 요청 본문의 해시를 함께 저장하여, 같은 키로 다른 요청을 보내면 IDEMPOTENCY_KEY_REUSED로 거절한다.
+ */
+@Slf4j
+@Service
+public class PointIdempotencyService {
+
+    private final PointIdempotencyKeyRepository idempotencyKeyRepository;
+    private final ObjectMapper objectMapper;
+    private final long retentionHours;
+    private final Map<String, CachedResponse> responseCache;
+    private final Map<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    public PointIdempotencyService(PointIdempotencyKeyRepository idempotencyKeyRepository,
+                                   ObjectMapper objectMapper,
+                                   @Value("${point.idempotency.cache-size:10000}") int cacheSize,
+                                   @Value("${point.idempotency.retention-hours:24}") long retentionHours) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.objectMapper = objectMapper;
+        this.retentionHours = retentionHours;
+        this.responseCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    /**
+     * 메모리에서 중복 요청을 흡수한다. 같은 키의 요청이 처리 중이면 새로 처리하지 않고 그 결과를 기다린다.
+     */
+    public <T> T execute(String operation, Long userId, String idempotencyKey, Object payload, Class<T> type, Supplier<T> action) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return action.get();
+        }
+        String key = keyOf(operation, userId, idempotencyKey);
+        String payloadHash = payloadHash(payload);
+        CachedResponse cached = responseCache.get(key);
+        if (cached != null) {
+            verifyPayload(cached.payloadHash(), payloadHash);
+            return type.cast(cached.response());
+        }
+
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        InFlight running = inFlight.putIfAbsent(key, new InFlight(payloadHash, future));
+        if (running != null) {
+            verifyPayload(running.payloadHash(), payloadHash);
+            return type.cast(await(running.future()));
+        }
+        try {
+            T response = action.get();
+            responseCache.put(key, new CachedResponse(payloadHash, response));
+            future.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            // 실패한 요청은 저장하지 않으므로 이후 재시도는 다시 처리된다
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key);
+        }
+    }
+
+    /**
+     * 오퍼레이션과 같은 트랜잭션에서 호출되어, 이미 처리된 키면 저장된 응답을 반환하고
+     * 아니면 오퍼레이션을 실행한 뒤 그 응답을 함께 저장한다.
+     */
+    @Transactional
+    public <T> T executeOnce(String operation, Long userId, String idempotencyKey, Object payload, Class<T> type, Supplier<T> action) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return action.get();
+        }
+        String key = keyOf(operation, userId, idempotencyKey);
+        String payloadHash = payloadHash(payload);
+        return idempotencyKeyRepository.findById(key)
+                .map(stored -> {
+                    // 해시 컬럼이 추가되기 전에 저장된 키는 비교하지 않음
+                    if (stored.getPayloadHash() != null) {
+                        verifyPayload(stored.getPayloadHash(), payloadHash);
+                    }
+                    return read(stored.getResponseBody(), type);
+                })
+                .orElseGet(() -> {
+                    T response = action.get();
+                    idempotencyKeyRepository.save(PointIdempotencyKey.of(key, operation, payloadHash, write(response), LocalDateTime.now()));
+                    return response;
+                });
+    }
+
+    @Scheduled(initialDelayString = "${point.idempotency.purge-interval:3600000}", fixedDelayString = "${point.idempotency.purge-interval:3600000}")
+    @Transactional
+    public void purgeExpiredKeys() {
+        int deleted = idempotencyKeyRepository.deleteCreatedBefore(LocalDateTime.now().minusHours(retentionHours));
+        if (deleted > 0) {
+            log.info("만료된 멱등성 키 {}건 삭제", deleted);
+        }
+    }
+
+    private String keyOf(String operation, Long userId, String idempotencyKey) {
+        return operation + ":" + userId + ":" + idempotencyKey;
+    }
+
+    private void verifyPayload(String storedHash, String payloadHash) {
+        if (!storedHash.equals(payloadHash)) {
+            throw new PointOperationException(PointErrorReason.IDEMPOTENCY_KEY_REUSED, "같은 멱등성 키로 다른 요청을 보낼 수 없습니다.");
+        }
+    }
+
+    /**
+     * 요청 본문(JSON)의 SHA-256 해시. 메모리 엔진은 이 해시를 멱등성 키와 함께 저널에 기록한다.
+     */
+    public String payloadHash(Object payload) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(write(payload).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private Object await(CompletableFuture<Object> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private String write(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("멱등성 응답을 저장할 수 없습니다.", e);
+        }
+    }
+
+    private <T> T read(String body, Class<T> type) {
+        try {
+            return objectMapper.readValue(body, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 멱등성 응답을 읽을 수 없습니다.", e);
+        }
+    }
+
+    private record CachedResponse(String payloadHash, Object response) {
+    }
+
+    private record InFlight(String payloadHash, CompletableFuture<Object> future) {
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.point.service;
+
+import com.example.point.domain.PointOutboxEvent;
+import com.example.point.domain.PointTransaction;
+import com.example.point.domain.enums.TransactionType;
+import com.example.point.dto.event.PointEventPayload;
+import com.example.point.repository.PointOutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 거래 내역과 같은 트랜잭션에서 아웃박스 이벤트를 기록한다.
+ * 거래 건마다가 아니라 사용자/거래 유형별로 한 건씩 기록하므로, 여러 적립 건을 차감하는 사용도 이벤트는 하나다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PointOutboxService {
+
+    private final PointOutboxEventRepository pointOutboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 저장된(ID가 할당된) 거래 내역으로 이벤트를 기록한다.
+     */
+    @Transactional
+    public void append(Collection<PointTransaction> transactions) {
+        if (transactions.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, Map<TransactionType, List<PointTransaction>>> grouped = transactions.stream()
+                .collect(Collectors.groupingBy(PointTransaction::getUserId, LinkedHashMap::new,
+                        Collectors.groupingBy(PointTransaction::getTransactionType, LinkedHashMap::new, Collectors.toList())));
+
+        List<PointOutboxEvent> events = new ArrayList<>();
+        grouped.forEach((userId, byType) -> byType.forEach((type, group) ->
+                events.add(PointOutboxEvent.of(userId, type, write(payload(userId, type, group)), now))));
+        pointOutboxEventRepository.saveAll(events);
+    }
+
+    private PointEventPayload payload(Long userId, TransactionType type, List<PointTransaction> group) {
+        return PointEventPayload.builder()
+                .userId(userId)
+                .eventType(type)
+                .pointChange(group.stream().mapToInt(PointTransaction::getPointChange).sum())
+                .orderId(group.get(0).getOrderId())
+                .transactionIds(group.stream().map(PointTransaction::getTransactionId).toList())
+                .occurredAt(group.get(0).getTransactionDate())
+                .build();
+    }
+
+    private String write(PointEventPayload payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("아웃박스 이벤트를 기록할 수 없습니다.", e);
+        }
+    }
+}
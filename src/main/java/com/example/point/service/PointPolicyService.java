@@ -1,49 +1,97 @@
 package com.example.point.service;
 
 import com.example.point.domain.PointPolicy;
+import com.example.point.domain.PointPolicySnapshot;
+import com.example.point.dto.policy.PointPolicyUpdateRequest;
+import com.example.point.exception.PointErrorReason;
 import com.example.point.exception.PointOperationException;
 import com.example.point.repository.PointPolicyRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.Objects;
 
 @RequiredArgsConstructor
 @Service
 public class PointPolicyService {
     private final PointPolicyRepository policyRepository;
 
-    public PointPolicy getPolicy() {
-        return policyRepository.findAll().stream()
-                .findFirst()
-                .orElse(PointPolicy.defaultPolicy());
+    // 적립/사용 경로는 이 스냅샷만 읽고 point_policy 테이블을 조회하지 않는다.
+    private volatile PointPolicySnapshot snapshot;
+
+    public PointPolicySnapshot getPolicy() {
+        PointPolicySnapshot current = snapshot;
+        return current != null ? current : refreshIfChanged();
     }
 
-    public void validateSavingAmount(int amount) {
-        PointPolicy policy = getPolicy();
-        if (amount < policy.getMinSaving() || amount > policy.getMaxSaving()) {
-            throw new PointOperationException("포인트는 "
-                    + policy.getMinSaving() + " 이상 "
-                    + policy.getMaxSaving() + " 이하이어야 합니다.");
+    /**
+     * 저장된 정책의 버전이 스냅샷과 다를 때만 스냅샷을 교체한다.
+     */
+    @Scheduled(initialDelayString = "${point.policy.refresh-interval:30000}", fixedDelayString = "${point.policy.refresh-interval:30000}")
+    public synchronized PointPolicySnapshot refreshIfChanged() {
+        PointPolicy policy = loadPolicy();
+        PointPolicySnapshot current = snapshot;
+        if (current == null || !Objects.equals(current.getVersion(), policy.getVersion())) {
+            current = PointPolicySnapshot.from(policy, LocalDateTime.now());
+            snapshot = current;
         }
+        return current;
     }
 
-    public LocalDateTime calculateExpireDate(LocalDateTime now, Integer customExpireDays) {
-        PointPolicy policy = getPolicy();
-        int expireDays = customExpireDays != null ? customExpireDays : policy.getDefaultExpireDays();
-        if (expireDays < policy.getMinExpireDays() || expireDays >= policy.getMaxExpireDays()) {
-            throw new PointOperationException("만료일은 최소 "
-                    + policy.getMinExpireDays() + "일 이상, 최대 "
-                    + policy.getMaxExpireDays() + "일 미만이어야 합니다.");
+    public synchronized PointPolicySnapshot updatePolicy(PointPolicyUpdateRequest request) {
+        validateUpdate(request);
+        PointPolicy policy = loadPolicy();
+        policy.setMinSaving(request.getMinSaving());
+        policy.setMaxSaving(request.getMaxSaving());
+        policy.setPointLimit(request.getPointLimit());
+        policy.setDefaultExpireDays(request.getDefaultExpireDays());
+        policy.setMinExpireDays(request.getMinExpireDays());
+        policy.setMaxExpireDays(request.getMaxExpireDays());
+        if (policy.getCreatedDate() == null) {
+            policy.setCreatedDate(LocalDateTime.now());
         }
-        return now.plusDays(expireDays);
+
+        PointPolicy saved = policyRepository.saveAndFlush(policy);
+        snapshot = PointPolicySnapshot.from(saved, LocalDateTime.now());
+        return snapshot;
+    }
+
+    public void validateSavingAmount(int amount) {
+        getPolicy().validateSavingAmount(amount);
+    }
+
+    public LocalDateTime calculateExpireDate(LocalDateTime now, Integer customExpireDays) {
+        return getPolicy().calculateExpireDate(now, customExpireDays);
     }
 
     public void validatePointPointLimit(int currentFreePoints) {
-        PointPolicy policy = getPolicy();
-        if (currentFreePoints > policy.getPointLimit()) {
-            throw new PointOperationException("무료 포인트 보유 한도를 초과하였습니다. (최대 "
-                    + policy.getPointLimit() + "포인트)");
+        getPolicy().validatePointPointLimit(currentFreePoints);
+    }
+
+    // 정책은 전체를 교체하므로 모든 값이 있어야 하며, 적립/사용 경로의 스냅샷에 반영되기 전에 값 사이의 관계를 검증
+    private void validateUpdate(PointPolicyUpdateRequest request) {
+        if (request == null || request.getMinSaving() == null || request.getMaxSaving() == null || request.getPointLimit() == null
+                || request.getDefaultExpireDays() == null || request.getMinExpireDays() == null || request.getMaxExpireDays() == null) {
+            throw new PointOperationException(PointErrorReason.INVALID_REQUEST, "정책의 모든 항목을 입력해야 합니다.");
+        }
+        if (request.getMinSaving() < 1 || request.getMinSaving() > request.getMaxSaving()) {
+            throw new PointOperationException(PointErrorReason.INVALID_REQUEST, "1회 적립 최소 포인트는 1 이상, 최대 포인트 이하여야 합니다.");
+        }
+        if (request.getMaxSaving() > request.getPointLimit()) {
+            throw new PointOperationException(PointErrorReason.INVALID_REQUEST, "1회 적립 최대 포인트는 보유 한도를 넘을 수 없습니다.");
+        }
+        // 적립 시 만료일은 최대 만료일 미만이어야 하므로(PointPolicySnapshot.calculateExpireDate) 기본 만료일도 최대 미만
+        if (request.getMinExpireDays() < 1 || request.getMinExpireDays() > request.getDefaultExpireDays()
+                || request.getDefaultExpireDays() >= request.getMaxExpireDays()) {
+            throw new PointOperationException(PointErrorReason.INVALID_REQUEST, "만료일은 1일 이상이며 최소 ≤ 기본 < 최대 순서여야 합니다.");
         }
     }
+
+    private PointPolicy loadPolicy() {
+        return policyRepository.findAll().stream()
+                .findFirst()
+                .orElse(PointPolicy.defaultPolicy());
+    }
 }
@@ -0,0 +1,201 @@
+package com.example.point.service;
+
+import com.example.point.domain.PointBalance;
+import com.example.point.domain.enums.TransactionType;
+import com.example.point.dto.reconcile.PointLedgerSum;
+import com.example.point.dto.reconcile.PointReconcileDiscrepancy;
+import com.example.point.dto.reconcile.PointReconcileResult;
+import com.example.point.engine.PointMemoryEngine;
+import com.example.point.ledger.PointLedger;
+import com.example.point.repository.PointBalanceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 적립 건의 남은 포인트가 거래 내역 합계와 일치하는지 검증한다.
+ * 적립 건이 있는 사용자 ID를 키셋 순서로 읽어 같은 사용자 수의 구간으로 나누고 ForkJoinPool에서 병렬로 처리하며, 구간마다 거래 내역을 적립 건별로 한 번 집계한 뒤
+ * 적립 건을 청크 단위로 읽어 비교한다. 불일치 후보는 사용자 레인 안에서 다시 확인하여
+ * 검증 도중 처리된 요청 때문에 생긴 일시적인 차이를 걸러낸다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PointReconcileService {
+
+    // 남은 포인트를 바꾸는 거래 유형 (만료와 적립 취소는 상태만 바꾸고 남은 포인트는 그대로 둠)
+    static final Set<TransactionType> REMAIN_CHANGING_TYPES =
+            EnumSet.of(TransactionType.SAVE, TransactionType.USE, TransactionType.CANCEL_USE, TransactionType.MERGE);
+
+    private final PointBalanceRepository pointBalanceRepository;
+    private final PointLedger pointLedger;
+    private final PointUserLane pointUserLane;
+    private final PointMemoryEngine pointMemoryEngine;
+
+    // 한 작업 단위로 처리하는 사용자 수 (ID가 드문드문해도 구간마다 작업량이 고르도록 ID 간격이 아닌 사용자 수로 나눔)
+    @Value("${point.reconcile.user-range-size:10000}")
+    private int userRangeSize;
+
+    @Value("${point.reconcile.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${point.reconcile.parallelism:4}")
+    private int parallelism;
+
+    // 결과에 담는 최대 불일치 건수
+    @Value("${point.reconcile.max-report:1000}")
+    private int maxReport;
+
+    private volatile PointReconcileResult lastResult;
+
+    @Scheduled(cron = "${point.reconcile.cron:0 0 3 * * *}")
+    public void scheduledReconcile() {
+        if (pointMemoryEngine.isEnabled()) {
+            return;
+        }
+        reconcile(LocalDateTime.now());
+    }
+
+    public synchronized PointReconcileResult reconcile(LocalDateTime now) {
+        long started = System.nanoTime();
+        List<UserRange> ranges = userRanges();
+        long balanceCount = 0;
+        long transactionCount = 0;
+        int discrepancyCount = 0;
+        List<PointReconcileDiscrepancy> discrepancies = new ArrayList<>();
+        String failure = null;
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            List<RangeOutcome> outcomes = pool.submit(() -> ranges.parallelStream()
+                    .map(this::reconcileRange)
+                    .toList()).get();
+            for (RangeOutcome outcome : outcomes) {
+                balanceCount += outcome.balanceCount();
+                transactionCount += outcome.transactionCount();
+                discrepancyCount += outcome.discrepancies().size();
+                outcome.discrepancies().stream()
+                        .limit(Math.max(0, maxReport - discrepancies.size()))
+                        .forEach(discrepancies::add);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure = "검증이 중단되었습니다.";
+        } catch (ExecutionException e) {
+            failure = e.getCause().getMessage();
+            log.error("적립 건 검증 중 실패", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+
+        long elapsedNanos = System.nanoTime() - started;
+        PointReconcileResult result = PointReconcileResult.builder()
+                .startedAt(now)
+                .rangeCount(ranges.size())
+                .balanceCount(balanceCount)
+                .transactionCount(transactionCount)
+                .discrepancyCount(discrepancyCount)
+                .discrepancies(discrepancies)
+                .elapsedMillis(Duration.ofNanos(elapsedNanos).toMillis())
+                .balancesPerSecond(elapsedNanos == 0 ? 0 : balanceCount * 1_000_000_000.0 / elapsedNanos)
+                .failure(failure)
+                .build();
+        lastResult = result;
+        log.info("적립 건 검증: 구간 {}개, 적립 건 {}건, 거래 {}건, 불일치 {}건, {}ms ({}건/초)", ranges.size(), balanceCount,
+                transactionCount, discrepancyCount, result.getElapsedMillis(), Math.round(result.getBalancesPerSecond()));
+        return result;
+    }
+
+    public PointReconcileResult getLastResult() {
+        return lastResult;
+    }
+
+    private List<UserRange> userRanges() {
+        List<UserRange> ranges = new ArrayList<>();
+        long lastUserId = Long.MIN_VALUE;
+        while (true) {
+            List<Long> userIds = pointBalanceRepository.findUserIdsAfter(lastUserId, PageRequest.of(0, userRangeSize));
+            if (userIds.isEmpty()) {
+                return ranges;
+            }
+            lastUserId = userIds.get(userIds.size() - 1);
+            ranges.add(new UserRange(userIds.get(0), lastUserId + 1));
+            if (userIds.size() < userRangeSize) {
+                return ranges;
+            }
+        }
+    }
+
+    RangeOutcome reconcileRange(UserRange range) {
+        Map<Long, PointLedgerSum> sums = pointLedger.sumByBalance(range.fromUserId(), range.toUserId(), REMAIN_CHANGING_TYPES)
+                .stream()
+                .collect(Collectors.toMap(PointLedgerSum::balanceId, Function.identity()));
+        long transactionCount = sums.values().stream().mapToLong(PointLedgerSum::transactionCount).sum();
+        long balanceCount = 0;
+        List<PointReconcileDiscrepancy> discrepancies = new ArrayList<>();
+
+        long lastBalanceId = 0L;
+        while (true) {
+            List<PointBalance> chunk = pointBalanceRepository.findUserRangeBalancesAfter(range.fromUserId(), range.toUserId(),
+                    lastBalanceId, PageRequest.of(0, chunkSize));
+            for (PointBalance balance : chunk) {
+                balanceCount++;
+                PointLedgerSum sum = sums.get(balance.getBalanceId());
+                long ledgerAmount = sum == null ? 0L : sum.pointChange();
+                if (ledgerAmount != balance.getRemainAmount()) {
+                    PointReconcileDiscrepancy confirmed = recheck(balance);
+                    if (confirmed != null) {
+                        discrepancies.add(confirmed);
+                    }
+                }
+            }
+            if (chunk.size() < chunkSize) {
+                break;
+            }
+            lastBalanceId = chunk.get(chunk.size() - 1).getBalanceId();
+        }
+        return new RangeOutcome(balanceCount, transactionCount, discrepancies);
+    }
+
+    // 같은 사용자의 요청이 끼어들지 않도록 레인 안에서 적립 건과 거래 내역을 다시 읽어 비교
+    private PointReconcileDiscrepancy recheck(PointBalance candidate) {
+        Long userId = candidate.getUserId();
+        return pointUserLane.execute(userId, () -> pointBalanceRepository.findById(candidate.getBalanceId())
+                .map(balance -> {
+                    long ledgerAmount = pointLedger.sumByBalance(userId, userId + 1, REMAIN_CHANGING_TYPES).stream()
+                            .filter(sum -> sum.balanceId().equals(balance.getBalanceId()))
+                            .mapToLong(PointLedgerSum::pointChange)
+                            .sum();
+                    return ledgerAmount == balance.getRemainAmount() ? null : PointReconcileDiscrepancy.builder()
+                            .balanceId(balance.getBalanceId())
+                            .userId(userId)
+                            .status(balance.getStatus())
+                            .remainAmount(balance.getRemainAmount())
+                            .ledgerAmount(ledgerAmount)
+                            .build();
+                })
+                .orElse(null));
+    }
+
+    // 사용자 ID 구간 [fromUserId, toUserId)
+    record UserRange(long fromUserId, long toUserId) {
+    }
+
+    record RangeOutcome(long balanceCount, long transactionCount, List<PointReconcileDiscrepancy> discrepancies) {
+    }
+}
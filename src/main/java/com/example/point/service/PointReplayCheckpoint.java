@@ -0,0 +1,63 @@
+package com.example.point.service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 원장 리플레이 진행 상황 파일. 첫 줄에 실행 설정을, 이후 완료한 사용자 ID 구간의 시작과 끝 ID를 한 줄씩 기록한다.
+ * 구간은 병렬로 끝나므로 완료 순서와 무관하게 집합으로 다시 읽는다. 구간은 적립 건이 있는 사용자로 나누므로,
+ * 이어서 실행할 때 사용자가 늘거나 줄어 경계가 바뀐 구간은 완료되지 않은 것으로 보고 다시 처리한다.
+ */
+final class PointReplayCheckpoint {
+
+    private final Path file;
+    private final Set<String> completed = ConcurrentHashMap.newKeySet();
+
+    private PointReplayCheckpoint(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * 이어서 실행하면서 설정이 같은 파일이 있으면 완료 구간을 읽어 오고, 그렇지 않으면 새 파일을 만든다.
+     */
+    static PointReplayCheckpoint open(Path file, String header, boolean resume) throws IOException {
+        PointReplayCheckpoint checkpoint = new PointReplayCheckpoint(file);
+        if (resume && Files.exists(file)) {
+            List<String> lines = Files.readAllLines(file);
+            if (!lines.isEmpty() && lines.get(0).equals(header)) {
+                // 기록 도중 중단된 마지막 줄은 어떤 구간과도 같지 않으므로 완료되지 않은 구간으로 봄
+                lines.subList(1, lines.size()).forEach(line -> checkpoint.completed.add(line.trim()));
+                return checkpoint;
+            }
+        }
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Files.writeString(file, header + "\n", StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE, StandardOpenOption.DSYNC);
+        return checkpoint;
+    }
+
+    boolean isCompleted(long fromUserId, long toUserId) {
+        return completed.contains(key(fromUserId, toUserId));
+    }
+
+    int completedCount() {
+        return completed.size();
+    }
+
+    synchronized void complete(long fromUserId, long toUserId) throws IOException {
+        String key = key(fromUserId, toUserId);
+        Files.writeString(file, key + "\n", StandardOpenOption.APPEND, StandardOpenOption.DSYNC);
+        completed.add(key);
+    }
+
+    private static String key(long fromUserId, long toUserId) {
+        return fromUserId + " " + toUserId;
+    }
+}
@@ -0,0 +1,321 @@
+package com.example.point.service;
+
+import com.example.point.domain.PointSummary;
+import com.example.point.domain.enums.BalanceStatus;
+import com.example.point.dto.history.PointHistoryItem;
+import com.example.point.dto.replay.PointReplayResult;
+import com.example.point.dto.replay.PointReplayedBalance;
+import com.example.point.ledger.PointLedger;
+import com.example.point.repository.PointBalanceReplayRepository;
+import com.example.point.repository.PointBalanceRepository;
+import com.example.point.repository.PointSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 거래 내역 원장을 다시 적용하여 적립 건의 남은 포인트와 상태를 재구성한다.
+ * 적립 건이 있는 사용자 ID를 키셋 순서로 읽어 같은 사용자 수의 구간으로 나누고, 구간마다 거래를 거래 ID 순서로 읽어
+ * 메모리에서 적립 건별로 계산하며, 구간들은 ForkJoinPool에서 병렬로 처리한다.
+ * 결과는 섀도 테이블(SHADOW) 또는 point_balances(BALANCES)에 배치로 기록하며, 완료한 구간은 체크포인트 파일에 남겨
+ * 중단된 리플레이를 이어서 실행할 수 있다.
+ * BALANCES는 사용자 레인(비관적 락 모드에서는 요약 행 락)을 원장을 읽을 때부터 갱신을 커밋할 때까지 잡아
+ * 그 사이에 처리된 요청을 덮어쓰지 않으며, 값이 달라진 사용자의 요약과 잔액 캐시를 다시 계산한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PointReplayService {
+
+    public enum Target {
+        SHADOW,   // point_balance_replays에 기록하여 point_balances와 비교
+        BALANCES  // point_balances의 남은 포인트와 상태를 직접 갱신
+    }
+
+    private final PointBalanceRepository pointBalanceRepository;
+    private final PointLedger pointLedger;
+    private final PointBalanceReplayRepository pointBalanceReplayRepository;
+    private final PointUserLane pointUserLane;
+    private final PointSummaryService pointSummaryService;
+    private final PointSummaryRepository pointSummaryRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${point.replay.target:SHADOW}")
+    private Target target;
+
+    // 한 작업 단위로 처리하는 사용자 수
+    @Value("${point.replay.user-range-size:10000}")
+    private int userRangeSize;
+
+    // BALANCES에서 레인을 함께 잡고 한 트랜잭션으로 갱신하는 최대 사용자 수
+    @Value("${point.concurrency.lock-batch-users:16}")
+    private int lockBatchUsers;
+
+    @Value("${point.replay.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${point.replay.parallelism:4}")
+    private int parallelism;
+
+    @Value("${point.replay.checkpoint-file:point-replay/checkpoint}")
+    private String checkpointFile;
+
+    private volatile PointReplayResult lastResult;
+
+    /**
+     * resume이 true이면 체크포인트에 완료로 기록된 구간을 건너뛰고, false이면 처음부터 다시 실행한다.
+     */
+    public synchronized PointReplayResult replay(LocalDateTime now, boolean resume) {
+        if (target == Target.BALANCES && pointLedger.hasUnresolvedRecords()) {
+            // 조회되지 않는 원장 기록 중 커밋된 변경이 있을 수 있으므로 적립 건을 덮어쓰지 않음
+            PointReplayResult result = PointReplayResult.builder()
+                    .startedAt(now)
+                    .target(target.name())
+                    .failure("원장에 커밋 여부를 확인하지 못한 기록이 있어 적립 건을 갱신할 수 없습니다. SHADOW로 차이를 확인해주세요.")
+                    .build();
+            lastResult = result;
+            log.warn("원장 리플레이(BALANCES) 거절: 커밋 여부를 확인하지 못한 원장 기록이 있음");
+            return result;
+        }
+        long started = System.nanoTime();
+        List<UserRange> ranges = userRanges();
+        int resumedRangeCount = 0;
+        long transactionCount = 0;
+        long balanceCount = 0;
+        long changedCount = 0;
+        String failure = null;
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            PointReplayCheckpoint checkpoint = PointReplayCheckpoint.open(Path.of(checkpointFile),
+                    "target=" + target + ",user-range-size=" + userRangeSize, resume);
+            if (target == Target.SHADOW && checkpoint.completedCount() == 0) {
+                pointBalanceReplayRepository.clearShadow();
+            }
+            List<UserRange> pending = ranges.stream()
+                    .filter(range -> !checkpoint.isCompleted(range.fromUserId(), range.toUserId()))
+                    .toList();
+            resumedRangeCount = ranges.size() - pending.size();
+
+            List<RangeOutcome> outcomes = pool.submit(() -> pending.parallelStream()
+                    .map(range -> {
+                        RangeOutcome outcome = replayRange(range, now);
+                        try {
+                            checkpoint.complete(range.fromUserId(), range.toUserId());
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                        return outcome;
+                    })
+                    .toList()).get();
+            for (RangeOutcome outcome : outcomes) {
+                transactionCount += outcome.transactionCount();
+                balanceCount += outcome.balanceCount();
+                changedCount += outcome.changedCount();
+            }
+            if (target == Target.SHADOW) {
+                changedCount = pointBalanceReplayRepository.countShadowDifferences();
+            }
+        } catch (IOException e) {
+            failure = "체크포인트 파일을 열 수 없습니다: " + e.getMessage();
+            log.error("원장 리플레이 체크포인트 실패", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure = "리플레이가 중단되었습니다.";
+        } catch (ExecutionException e) {
+            failure = e.getCause().getMessage();
+            log.error("원장 리플레이 중 실패", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+
+        long elapsedNanos = System.nanoTime() - started;
+        PointReplayResult result = PointReplayResult.builder()
+                .startedAt(now)
+                .target(target.name())
+                .rangeCount(ranges.size())
+                .resumedRangeCount(resumedRangeCount)
+                .transactionCount(transactionCount)
+                .balanceCount(balanceCount)
+                .changedCount(changedCount)
+                .elapsedMillis(Duration.ofNanos(elapsedNanos).toMillis())
+                .transactionsPerSecond(elapsedNanos == 0 ? 0 : transactionCount * 1_000_000_000.0 / elapsedNanos)
+                .failure(failure)
+                .build();
+        lastResult = result;
+        log.info("원장 리플레이({}): 구간 {}개 중 {}개 이어서 건너뜀, 거래 {}건, 적립 건 {}건, 달라진 적립 건 {}건, {}ms", target,
+                ranges.size(), resumedRangeCount, transactionCount, balanceCount, changedCount, result.getElapsedMillis());
+        return result;
+    }
+
+    public PointReplayResult getLastResult() {
+        return lastResult;
+    }
+
+    private List<UserRange> userRanges() {
+        List<UserRange> ranges = new ArrayList<>();
+        long lastUserId = Long.MIN_VALUE;
+        while (true) {
+            List<Long> userIds = pointBalanceRepository.findUserIdsAfter(lastUserId, PageRequest.of(0, userRangeSize));
+            if (userIds.isEmpty()) {
+                return ranges;
+            }
+            lastUserId = userIds.get(userIds.size() - 1);
+            ranges.add(new UserRange(userIds.get(0), lastUserId + 1));
+            if (userIds.size() < userRangeSize) {
+                return ranges;
+            }
+        }
+    }
+
+    RangeOutcome replayRange(UserRange range, LocalDateTime now) {
+        if (target == Target.BALANCES) {
+            return replayBalances(range);
+        }
+        // 원장 스트림은 커넥션을 잡고 있어야 하므로 트랜잭션 안에서 끝까지 읽음
+        Map<Long, ReplayState> states = transactionTemplate.execute(status -> readStates(range.fromUserId(), range.toUserId(), null));
+
+        List<PointReplayedBalance> replayed = toReplayed(states);
+        for (int from = 0; from < replayed.size(); from += batchSize) {
+            List<PointReplayedBalance> batch = replayed.subList(from, Math.min(from + batchSize, replayed.size()));
+            transactionTemplate.execute(status -> {
+                pointBalanceReplayRepository.mergeShadow(batch, now);
+                return null;
+            });
+        }
+        // 섀도 테이블과의 차이는 모든 구간이 끝난 뒤 한 번에 셈
+        return new RangeOutcome(transactionCount(states), states.size(), 0);
+    }
+
+    /**
+     * 구간의 사용자를 lockBatchUsers 명씩 키셋 순서로 읽어, 그 사용자들의 레인을 잡은 트랜잭션에서 원장 읽기부터 갱신까지 처리한다.
+     */
+    private RangeOutcome replayBalances(UserRange range) {
+        long transactionCount = 0;
+        long balanceCount = 0;
+        long changedCount = 0;
+        long lastUserId = range.fromUserId() - 1;
+        while (true) {
+            List<Long> userIds = pointBalanceRepository.findUserIdsAfter(lastUserId, PageRequest.of(0, lockBatchUsers)).stream()
+                    .filter(userId -> userId < range.toUserId())
+                    .toList();
+            if (userIds.isEmpty()) {
+                break;
+            }
+            lastUserId = userIds.get(userIds.size() - 1);
+            RangeOutcome outcome = pointUserLane.executeAll(userIds,
+                    () -> transactionTemplate.execute(status -> replayUsers(userIds)));
+            transactionCount += outcome.transactionCount();
+            balanceCount += outcome.balanceCount();
+            changedCount += outcome.changedCount();
+            if (userIds.size() < lockBatchUsers) {
+                break;
+            }
+        }
+        return new RangeOutcome(transactionCount, balanceCount, changedCount);
+    }
+
+    // userIds는 오름차순이며, 호출자가 사용자 레인과 트랜잭션을 잡은 상태에서 실행
+    private RangeOutcome replayUsers(List<Long> userIds) {
+        if (pointUserLane.isPessimistic()) {
+            // 요청과 같은 요약 행 락으로 직렬화 (사용자 ID 순서로 잡아 교착 상태를 피함)
+            userIds.forEach(pointSummaryRepository::findByIdForUpdate);
+        }
+        // 구간 안이라도 잠그지 않은 사용자(레인을 잡은 뒤 새로 적립한 사용자)의 거래는 적용하지 않음
+        Map<Long, ReplayState> states = readStates(userIds.get(0), userIds.get(userIds.size() - 1) + 1, Set.copyOf(userIds));
+        List<PointReplayedBalance> replayed = toReplayed(states);
+        List<PointReplayedBalance> changed = new ArrayList<>();
+        for (int from = 0; from < replayed.size(); from += batchSize) {
+            changed.addAll(pointBalanceReplayRepository.updateBalances(replayed.subList(from, Math.min(from + batchSize, replayed.size()))));
+        }
+
+        // 적립 건을 JDBC로 갱신했으므로 달라진 사용자의 요약은 ACTIVE 적립 건을 다시 읽어 계산 (캐시는 커밋 후 교체됨)
+        Set<Long> changedUserIds = changed.stream().map(PointReplayedBalance::userId).collect(Collectors.toCollection(TreeSet::new));
+        for (Long userId : changedUserIds) {
+            PointSummary summary = pointSummaryService.getSummary(userId);
+            summary.recalculate(pointBalanceRepository.findByUserIdAndStatusOrderByBalanceTypeAscExpireDateAsc(userId, BalanceStatus.ACTIVE));
+            pointSummaryService.update(summary);
+        }
+        return new RangeOutcome(transactionCount(states), states.size(), changed.size());
+    }
+
+    // userIds가 null이면 구간의 모든 사용자
+    private Map<Long, ReplayState> readStates(long fromUserId, long toUserId, Set<Long> userIds) {
+        Map<Long, ReplayState> states = new TreeMap<>();
+        try (Stream<PointHistoryItem> rows = pointLedger.streamUserRange(fromUserId, toUserId)) {
+            for (PointHistoryItem row : (Iterable<PointHistoryItem>) rows::iterator) {
+                if (row.getBalanceId() != null && (userIds == null || userIds.contains(row.getUserId()))) {
+                    states.computeIfAbsent(row.getBalanceId(), key -> new ReplayState(row.getUserId())).apply(row);
+                }
+            }
+        }
+        return states;
+    }
+
+    private static List<PointReplayedBalance> toReplayed(Map<Long, ReplayState> states) {
+        return states.entrySet().stream()
+                .map(entry -> new PointReplayedBalance(entry.getKey(), entry.getValue().userId,
+                        entry.getValue().remainAmount, entry.getValue().status))
+                .toList();
+    }
+
+    private static long transactionCount(Map<Long, ReplayState> states) {
+        return states.values().stream().mapToLong(state -> state.transactionCount).sum();
+    }
+
+    // 사용자 ID 구간 [fromUserId, toUserId)
+    record UserRange(long fromUserId, long toUserId) {
+    }
+
+    record RangeOutcome(long transactionCount, long balanceCount, long changedCount) {
+    }
+
+    /**
+     * 적립 건 하나에 거래를 순서대로 적용한 결과. 적립/사용/사용 취소/병합은 남은 포인트를 바꾸고,
+     * 적립 취소와 만료는 상태만 바꾼다. 병합으로 넘겨준 거래(음수)이면 MERGED가 된다.
+     */
+    private static final class ReplayState {
+        private final Long userId;
+        private int remainAmount;
+        private BalanceStatus status = BalanceStatus.ACTIVE;
+        private long transactionCount;
+
+        private ReplayState(Long userId) {
+            this.userId = userId;
+        }
+
+        private void apply(PointHistoryItem row) {
+            transactionCount++;
+            switch (row.getTransactionType()) {
+                case SAVE, USE, CANCEL_USE -> remainAmount += row.getPointChange();
+                case MERGE -> {
+                    remainAmount += row.getPointChange();
+                    if (row.getPointChange() < 0) {
+                        status = BalanceStatus.MERGED;
+                    }
+                }
+                case CANCEL_SAVE -> status = BalanceStatus.CANCELED;
+                case EXPIRE -> status = BalanceStatus.EXPIRED;
+            }
+        }
+    }
+}
@@ -1,14 +1,16 @@
 package com.example.point.service;
 
 import com.example.point.domain.PointBalance;
+import com.example.point.domain.PointSummary;
 import com.example.point.domain.PointTransaction;
 import com.example.point.domain.enums.BalanceStatus;
 import com.example.point.domain.enums.TransactionType;
 import com.example.point.dto.save.PointSaveRequest;
 import com.example.point.dto.save.PointSaveResponse;
+import com.example.point.exception.PointErrorReason;
 import com.example.point.exception.PointOperationException;
+import com.example.point.ledger.PointLedger;
 import com.example.point.repository.PointBalanceRepository;
-import com.example.point.repository.PointTransactionRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,46 +23,71 @@ import java.util.List;
 public class PointSaveService {
 
     private final PointBalanceRepository pointBalanceRepository;
-    private final PointTransactionRepository pointTransactionRepository;
+    private final PointLedger pointLedger;
     private final PointPolicyService policyService;
+    private final PointSummaryService pointSummaryService;
+    private final PointOutboxService pointOutboxService;
+    private final PointArchiveService pointArchiveService;
     private static final String SAVE = "포인트 적립";
     private static final String CANCEL_SAVE = "포인트 적립 취소";
 
     @Transactional
     public PointSaveResponse save(PointSaveRequest request) {
-        validateSave(request);
+        PointSummary summary = pointSummaryService.getSummary(request.getUserId());
+        validateSave(request, summary);
         LocalDateTime expireDate = policyService.calculateExpireDate(LocalDateTime.now(), request.getExpireDays());
         PointBalance balance = PointBalance.of(request, expireDate);
         PointBalance savedBalance = pointBalanceRepository.save(balance);
         createTransaction(savedBalance, TransactionType.SAVE, SAVE);
 
+        summary.increase(savedBalance, savedBalance.getRemainAmount());
+        pointSummaryService.update(summary);
+
         return PointSaveResponse.from(savedBalance);
     }
 
     @Transactional
     public PointSaveResponse cancelSave(Long balanceId) {
         PointBalance balance = pointBalanceRepository.findById(balanceId)
-                .orElseThrow(() -> new PointOperationException("해당 포인트 적립 내역이 존재하지 않습니다."));
+                .orElseThrow(() -> new PointOperationException(PointErrorReason.BALANCE_NOT_FOUND, "해당 포인트 적립 내역이 존재하지 않습니다."));
 
+        // 요약은 잔액 상태가 바뀌기 전에 조회
+        PointSummary summary = pointSummaryService.getSummary(balance.getUserId());
+        // 취소 후 잔액이 보류 금액보다 작아지면 보류된 포인트를 확정할 수 없으므로 취소하지 않음
+        if (balance.getStatus() == BalanceStatus.ACTIVE && summary.getAvailableAmount() < balance.getRemainAmount()) {
+            throw new PointOperationException(PointErrorReason.BALANCE_NOT_CANCELABLE, "보류 중인 포인트가 있어 적립을 취소할 수 없습니다.");
+        }
         balance.cancel();
         pointBalanceRepository.save(balance);
         createTransaction(balance, TransactionType.CANCEL_SAVE, CANCEL_SAVE);
 
+        summary.decrease(balance, balance.getRemainAmount());
+        pointSummaryService.update(summary);
+
         return PointSaveResponse.from(balance);
     }
 
+    @Transactional(readOnly = true)
+    public Long findUserId(Long balanceId) {
+        return pointBalanceRepository.findById(balanceId)
+                .map(PointBalance::getUserId)
+                .orElseThrow(() -> pointArchiveService.isArchived(balanceId)
+                        // 보관된 적립 건은 소진되었거나 이미 취소/만료된 건이므로 취소할 수 없음
+                        ? new PointOperationException(PointErrorReason.BALANCE_NOT_CANCELABLE, "사용 가능한 상태의 적립 내역만 취소할 수 있습니다.")
+                        : new PointOperationException(PointErrorReason.BALANCE_NOT_FOUND, "해당 포인트 적립 내역이 존재하지 않습니다."));
+    }
+
     private void createTransaction(PointBalance balance, TransactionType type, String description) {
         PointTransaction transaction = PointTransaction.of(balance, type, LocalDateTime.now(), description, null, balance.getRemainAmount());
-        pointTransactionRepository.save(transaction);
+        pointLedger.append(List.of(transaction));
+        pointOutboxService.append(List.of(transaction));
     }
 
-    private void validateSave(PointSaveRequest request) {
+    private void validateSave(PointSaveRequest request, PointSummary summary) {
         // 1회 적립 가능 최소/최대 포인트 검증
         policyService.validateSavingAmount(request.getAmount());
 
         // 개인별 포인트 최대 보유 한도 검증
-        List<PointBalance> balances = pointBalanceRepository.findByUserIdAndStatusOrderByBalanceTypeAscExpireDateAsc(request.getUserId(), BalanceStatus.ACTIVE);
-        int currentFreePoints = balances.stream().mapToInt(PointBalance::getRemainAmount).sum();
-        policyService.validatePointPointLimit(currentFreePoints + request.getAmount());
+        policyService.validatePointPointLimit(summary.getTotalAmount() + request.getAmount());
     }
 }
@@ -1,37 +1,161 @@
 package com.example.point.service;
 
+import com.example.point.dto.balance.PointBalanceResponse;
+import com.example.point.dto.hold.PointHoldRequest;
+import com.example.point.dto.hold.PointHoldResponse;
+import com.example.point.dto.save.PointBulkSaveResponse;
 import com.example.point.dto.save.PointSaveRequest;
 import com.example.point.dto.save.PointSaveResponse;
 import com.example.point.dto.use.PointCancelUseRequest;
 import com.example.point.dto.use.PointUseRequest;
 import com.example.point.dto.use.PointUseResponse;
+import com.example.point.engine.PointMemoryEngine;
+import com.example.point.exception.PointErrorReason;
+import com.example.point.exception.PointOperationException;
+import com.example.point.metrics.PointMetrics;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 포인트 오퍼레이션 계층.
+ * 같은 사용자의 요청은 PointUserLane에서 직렬화되며, 락은 트랜잭션 커밋 이후에 해제된다.
+ * 멱등성 키가 있는 요청은 최초 처리 결과를 그대로 반환한다.
+ */
 @Service
 @RequiredArgsConstructor
 public class PointService {
     private final PointSaveService pointSaveService;
     private final PointUseService pointUseService;
+    private final PointBulkSaveService pointBulkSaveService;
+    private final PointSummaryService pointSummaryService;
+    private final PointHoldService pointHoldService;
+    private final PointUserLane pointUserLane;
+    private final TransactionTemplate transactionTemplate;
+    private final PointMetrics pointMetrics;
+    private final PointIdempotencyService pointIdempotencyService;
+    private final PointUseBatcher pointUseBatcher;
+    private final PointMemoryEngine pointMemoryEngine;
 
-    @Transactional
     public PointSaveResponse save(PointSaveRequest request) {
-        return pointSaveService.save(request);
+        return save(request, null);
+    }
+
+    public PointSaveResponse save(PointSaveRequest request, String idempotencyKey) {
+        if (pointMemoryEngine.isEnabled()) {
+            return executeInMemory("save", request.getUserId(), idempotencyKey, request, PointSaveResponse.class,
+                    payloadHash -> pointMemoryEngine.save(request, idempotencyKey, payloadHash));
+        }
+        return execute("save", request.getUserId(), idempotencyKey, request, PointSaveResponse.class,
+                () -> pointSaveService.save(request));
+    }
+
+    // 청크 단위로 트랜잭션을 나누어 처리하므로 전체를 하나의 트랜잭션으로 묶지 않는다.
+    public PointBulkSaveResponse saveBulk(List<PointSaveRequest> requests) {
+        requireDatabaseEngine();
+        return pointMetrics.record("save_bulk", () -> pointBulkSaveService.save(requests));
     }
 
-    @Transactional
     public PointSaveResponse cancelSave(Long balanceId) {
-        return pointSaveService.cancelSave(balanceId);
+        return cancelSave(balanceId, null);
+    }
+
+    public PointSaveResponse cancelSave(Long balanceId, String idempotencyKey) {
+        if (pointMemoryEngine.isEnabled()) {
+            return executeInMemory("cancel_save", pointMemoryEngine.findUserId(balanceId), idempotencyKey, balanceId, PointSaveResponse.class,
+                    payloadHash -> pointMemoryEngine.cancelSave(balanceId, idempotencyKey, payloadHash));
+        }
+        return pointMetrics.record("cancel_save", () -> {
+            Long userId = pointSaveService.findUserId(balanceId);
+            return executeInLane("cancel_save", userId, idempotencyKey, balanceId, PointSaveResponse.class,
+                    () -> pointSaveService.cancelSave(balanceId));
+        });
     }
 
-    @Transactional
     public PointUseResponse use(Long userId, PointUseRequest request) {
-        return pointUseService.use(userId, request);
+        return use(userId, request, null);
+    }
+
+    public PointUseResponse use(Long userId, PointUseRequest request, String idempotencyKey) {
+        if (pointMemoryEngine.isEnabled()) {
+            return executeInMemory("use", userId, idempotencyKey, request, PointUseResponse.class,
+                    payloadHash -> pointMemoryEngine.use(userId, request, idempotencyKey, payloadHash));
+        }
+        if (!pointUseBatcher.isEnabled()) {
+            return execute("use", userId, idempotencyKey, request, PointUseResponse.class,
+                    () -> pointUseService.use(userId, request));
+        }
+        // 배치 모드에서는 다른 사용 요청과 함께 하나의 트랜잭션으로 커밋
+        return pointMetrics.record("use", () -> pointIdempotencyService.execute("use", userId, idempotencyKey, request, PointUseResponse.class,
+                () -> pointUseBatcher.submit(userId, request.getUsageAmount(), () -> pointIdempotencyService.executeOnce("use", userId, idempotencyKey, request,
+                        PointUseResponse.class, () -> pointUseService.use(userId, request)))));
     }
 
-    @Transactional
     public PointUseResponse cancelUse(PointCancelUseRequest request) {
-        return pointUseService.cancelUse(request);
+        return cancelUse(request, null);
+    }
+
+    public PointUseResponse cancelUse(PointCancelUseRequest request, String idempotencyKey) {
+        if (pointMemoryEngine.isEnabled()) {
+            return executeInMemory("cancel_use", request.getUserId(), idempotencyKey, request, PointUseResponse.class,
+                    payloadHash -> pointMemoryEngine.cancelUse(request, idempotencyKey, payloadHash));
+        }
+        return execute("cancel_use", request.getUserId(), idempotencyKey, request, PointUseResponse.class,
+                () -> pointUseService.cancelUse(request));
+    }
+
+    public PointHoldResponse hold(PointHoldRequest request) {
+        requireDatabaseEngine();
+        return execute("hold", request.getUserId(), null, request, PointHoldResponse.class,
+                () -> pointHoldService.hold(request));
+    }
+
+    public PointUseResponse captureHold(Long holdId) {
+        requireDatabaseEngine();
+        return pointMetrics.record("capture_hold", () -> executeInLane("capture_hold", pointHoldService.findUserId(holdId), null, holdId,
+                PointUseResponse.class, () -> pointHoldService.capture(holdId)));
+    }
+
+    public PointHoldResponse releaseHold(Long holdId) {
+        requireDatabaseEngine();
+        return pointMetrics.record("release_hold", () -> executeInLane("release_hold", pointHoldService.findUserId(holdId), null, holdId,
+                PointHoldResponse.class, () -> pointHoldService.release(holdId)));
+    }
+
+    // 조회는 캐시에서 응답하므로 사용자 레인을 거치지 않는다.
+    public PointBalanceResponse getBalance(Long userId) {
+        if (pointMemoryEngine.isEnabled()) {
+            return pointMetrics.record("balance", () -> pointMemoryEngine.getBalance(userId));
+        }
+        return pointMetrics.record("balance", () -> pointSummaryService.getBalance(userId));
+    }
+
+    // 일괄 적립과 보류는 DB 저장소에서만 처리하므로, 메모리 엔진의 잔액과 어긋나지 않도록 메모리 엔진 모드에서는 거절한다.
+    private void requireDatabaseEngine() {
+        if (pointMemoryEngine.isEnabled()) {
+            throw new PointOperationException(PointErrorReason.UNSUPPORTED_ENGINE_MODE, "메모리 엔진 모드에서는 지원하지 않는 요청입니다.");
+        }
+    }
+
+    private <T> T execute(String operation, Long userId, String idempotencyKey, Object payload, Class<T> type, Supplier<T> action) {
+        return pointMetrics.record(operation, () -> executeInLane(operation, userId, idempotencyKey, payload, type, action));
+    }
+
+    // 메모리 엔진은 사용자별로 직접 직렬화하므로 레인과 DB 트랜잭션을 거치지 않는다.
+    // 멱등성 키와 요청 본문 해시는 엔진이 오퍼레이션과 같은 저널 기록에 남겨 재시작 후에도 유지한다.
+    private <T> T executeInMemory(String operation, Long userId, String idempotencyKey, Object payload, Class<T> type,
+                                  Function<String, T> action) {
+        return pointMetrics.record(operation, () -> pointIdempotencyService.execute(operation, userId, idempotencyKey, payload, type,
+                () -> action.apply(idempotencyKey == null || idempotencyKey.isBlank() ? null : pointIdempotencyService.payloadHash(payload))));
+    }
+
+    private <T> T executeInLane(String operation, Long userId, String idempotencyKey, Object payload, Class<T> type, Supplier<T> action) {
+        return pointIdempotencyService.execute(operation, userId, idempotencyKey, payload, type,
+                () -> pointUserLane.execute(userId, () -> transactionTemplate.execute(status ->
+                        pointIdempotencyService.executeOnce(operation, userId, idempotencyKey, payload, type, action))));
     }
 }
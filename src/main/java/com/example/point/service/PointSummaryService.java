@@ -0,0 +1,110 @@
+package com.example.point.service;
+
+import com.example.point.datasource.PointReplicaRouting;
+import com.example.point.domain.PointBalance;
+import com.example.point.domain.PointSummary;
+import com.example.point.domain.enums.BalanceStatus;
+import com.example.point.dto.balance.PointBalanceResponse;
+import com.example.point.repository.PointBalanceRepository;
+import com.example.point.repository.PointSummaryCreationRepository;
+import com.example.point.repository.PointSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class PointSummaryService {
+
+    private final PointSummaryRepository pointSummaryRepository;
+    private final PointSummaryCreationRepository pointSummaryCreationRepository;
+    private final PointBalanceRepository pointBalanceRepository;
+    private final PointUserLane pointUserLane;
+    private final PointBalanceCache pointBalanceCache;
+    private final PointReplicaRouting pointReplicaRouting;
+
+    /**
+     * 사용자의 현재 잔액을 조회한다. 캐시에 없으면 요약 한 건을 읽어 캐시에 담는다.
+     * 요약이 아직 없는 사용자는 저장하지 않고 ACTIVE 잔액을 합산한 값만 반환한다.
+     */
+    @Transactional(readOnly = true)
+    public PointBalanceResponse getBalance(Long userId) {
+        PointBalanceResponse cached = pointBalanceCache.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+        PointSummary summary = pointSummaryRepository.findById(userId)
+                .orElseGet(() -> PointSummary.of(userId, activeBalances(userId)));
+        pointBalanceCache.put(summary);
+        return PointBalanceResponse.from(summary);
+    }
+
+    /**
+     * 사용자별 포인트 요약을 조회한다.
+     * 요약이 아직 없는 사용자는 ACTIVE 잔액을 한 번 합산하여 생성하므로,
+     * 잔액을 변경하기 전에 먼저 호출해야 한다.
+     */
+    @Transactional
+    public PointSummary getSummary(Long userId) {
+        if (pointUserLane.isPessimistic()) {
+            return getSummaryForUpdate(userId);
+        }
+        return pointSummaryRepository.findById(userId)
+                .orElseGet(() -> pointSummaryRepository.save(PointSummary.of(userId, activeBalances(userId))));
+    }
+
+    // 요약 행이 없으면 잠글 행이 없으므로 빈 행을 먼저 추가한 뒤 잠그고, 직접 추가한 경우에만 잔액을 합산하여 채움
+    // (동시에 추가한 요청은 먼저 추가한 트랜잭션이 커밋될 때까지 기다렸다가 채워진 행을 잠금)
+    private PointSummary getSummaryForUpdate(Long userId) {
+        Optional<PointSummary> locked = pointSummaryRepository.findByIdForUpdate(userId);
+        if (locked.isPresent()) {
+            return locked.get();
+        }
+        boolean created = pointSummaryCreationRepository.insertIfAbsent(userId);
+        PointSummary summary = pointSummaryRepository.findByIdForUpdate(userId)
+                .orElseThrow(() -> new IllegalStateException("추가한 요약 행을 찾을 수 없습니다: userId=" + userId));
+        if (created) {
+            summary.recalculate(activeBalances(userId));
+        }
+        return summary;
+    }
+
+    private List<PointBalance> activeBalances(Long userId) {
+        return pointBalanceRepository.findByUserIdAndStatusOrderByBalanceTypeAscExpireDateAsc(userId, BalanceStatus.ACTIVE);
+    }
+
+    /**
+     * 여러 사용자의 요약을 한 번에 조회하고, 요약이 없는 사용자만 개별로 생성한다.
+     */
+    @Transactional
+    public Map<Long, PointSummary> getSummaries(Collection<Long> userIds) {
+        Map<Long, PointSummary> summaries = pointSummaryRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(PointSummary::getUserId, Function.identity()));
+        for (Long userId : userIds) {
+            summaries.computeIfAbsent(userId, this::getSummary);
+        }
+        return summaries;
+    }
+
+    @Transactional
+    public void update(PointSummary summary) {
+        if (summary.isNextExpireDateStale()) {
+            // 가장 빠른 만료일 건이 소진된 경우에만 다음 만료일을 한 건 조회
+            summary.refreshNextExpireDate(pointBalanceRepository
+                    .findFirstByUserIdAndStatusAndRemainAmountGreaterThanOrderByExpireDateAsc(summary.getUserId(), BalanceStatus.ACTIVE, 0)
+                    .map(PointBalance::getExpireDate)
+                    .orElse(null));
+        }
+        pointSummaryRepository.save(summary);
+        pointBalanceCache.putAfterCommit(summary);
+        // 복제본이 이 쓰기를 반영할 때까지 사용자의 조회는 주 DB에서 처리
+        pointReplicaRouting.recordWriteAfterCommit(summary.getUserId());
+    }
+}
@@ -0,0 +1,293 @@
+package com.example.point.service;
+
+import com.example.point.domain.PointSummary;
+import com.example.point.dto.use.PointUseResponse;
+import com.example.point.exception.PointErrorReason;
+import com.example.point.exception.PointOperationException;
+import com.example.point.metrics.PointMetrics;
+import com.example.point.metrics.StatementCounter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 포인트 사용 요청을 짧은 시간 창(window) 동안 모아 하나의 트랜잭션으로 처리한다(group commit).
+ * 커밋 횟수를 줄이는 대신 요청당 최대 window만큼 지연이 늘어난다.
+ * 한 트랜잭션이 잡는 레인이 많아지지 않도록 배치는 사용자 수가 lockBatchUsers 이하인 구간으로 나누어 커밋한다.
+ * 구간 트랜잭션은 먼저 사용자 요약의 사용 가능 잔액으로 누적 사용액을 검증하여, 잔액이 부족할 요청은 구간에서 빼고
+ * 커밋 이후 개별 트랜잭션으로 처리한다. 그 밖의 이유로 구간 중 한 요청이 실패하면 구간 전체가 롤백되므로,
+ * 이 경우에만 각 요청을 개별 트랜잭션으로 다시 처리하여 실패한 요청만 실패로 응답한다.
+ * 요청 스레드는 timeout까지만 기다리며, 수집/실행 중 중단되거나 실행이 거부되어도 모은 요청은 모두 실패로 완료하여
+ * 기다리는 요청 스레드가 남지 않도록 한다.
+ */
+@Slf4j
+@Component
+public class PointUseBatcher {
+
+    private final PointUserLane pointUserLane;
+    private final PointSummaryService pointSummaryService;
+    private final TransactionTemplate transactionTemplate;
+    private final PointMetrics pointMetrics;
+    private final boolean enabled;
+    private final long windowNanos;
+    private final int maxSize;
+    private final int workers;
+    private final int lockBatchUsers;
+    private final long timeoutMillis;
+    private final BlockingQueue<PendingUse> queue = new LinkedBlockingQueue<>();
+
+    private ExecutorService collector;
+    private ExecutorService executor;
+
+    public PointUseBatcher(PointUserLane pointUserLane,
+                           PointSummaryService pointSummaryService,
+                           TransactionTemplate transactionTemplate,
+                           PointMetrics pointMetrics,
+                           @Value("${point.use-batch.enabled:false}") boolean enabled,
+                           @Value("${point.use-batch.window-ms:5}") long windowMillis,
+                           @Value("${point.use-batch.max-size:100}") int maxSize,
+                           @Value("${point.use-batch.workers:4}") int workers,
+                           @Value("${point.concurrency.lock-batch-users:16}") int lockBatchUsers,
+                           @Value("${point.use-batch.timeout-ms:30000}") long timeoutMillis) {
+        this.pointUserLane = pointUserLane;
+        this.pointSummaryService = pointSummaryService;
+        this.transactionTemplate = transactionTemplate;
+        this.pointMetrics = pointMetrics;
+        this.enabled = enabled;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+        this.maxSize = maxSize;
+        this.workers = workers;
+        this.lockBatchUsers = lockBatchUsers;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        executor = Executors.newFixedThreadPool(workers);
+        collector = Executors.newSingleThreadExecutor();
+        collector.submit(this::collect);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (!enabled) {
+            return;
+        }
+        collector.shutdownNow();
+        executor.shutdown();
+        try {
+            // 실행 중인 배치는 끝까지 처리하고, 시간 안에 끝나지 않으면 중단
+            if (!executor.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                executor.shutdownNow().forEach(task -> fail(((BatchTask) task).batch()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow().forEach(task -> fail(((BatchTask) task).batch()));
+        }
+        List<PendingUse> pending = new ArrayList<>();
+        queue.drainTo(pending);
+        fail(pending);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 트랜잭션 안에서 실행할 사용 요청을 배치에 넣고, 배치가 커밋될 때까지 기다린다.
+     * 작업 스레드에서 실행된 SQL 문도 요청 스레드의 SQL 문 수 메트릭에 더해지도록 카운터를 넘긴다.
+     */
+    public PointUseResponse submit(Long userId, int usageAmount, Supplier<PointUseResponse> action) {
+        PendingUse pending = new PendingUse(userId, usageAmount, StatementCounter.propagate(action), new CompletableFuture<>());
+        queue.add(pending);
+        try {
+            return pending.future().get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            // 아직 실행되지 않은 요청은 실행하지 않도록 먼저 완료 (이미 실행 중이면 그 결과는 버려짐)
+            pending.future().completeExceptionally(timedOut());
+            throw timedOut();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pending.future().completeExceptionally(interrupted());
+            throw interrupted();
+        }
+    }
+
+    private void collect() {
+        while (!Thread.currentThread().isInterrupted()) {
+            List<PendingUse> batch = new ArrayList<>();
+            try {
+                batch.add(queue.take());
+                // 첫 요청이 도착한 시점부터 window 동안 최대 maxSize 건까지 모음
+                long deadline = System.nanoTime() + windowNanos;
+                while (batch.size() < maxSize) {
+                    PendingUse next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                executor.execute(new BatchTask(batch));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail(batch);
+            } catch (RejectedExecutionException e) {
+                // 종료 중이면 실행기가 새 배치를 받지 않음
+                fail(batch);
+                if (executor.isShutdown()) {
+                    return;
+                }
+            }
+        }
+    }
+
+    void executeBatch(List<PendingUse> batch) {
+        try {
+            pointMetrics.recordUseBatch(batch.size());
+            // 비관적 락 모드에서 배치 간 교착을 피하도록 사용자 ID 순서로 실행
+            List<PendingUse> ordered = batch.stream()
+                    .sorted(Comparator.comparing(PendingUse::userId))
+                    .toList();
+            for (List<PendingUse> slice : PointUserLane.partition(ordered, PendingUse::userId, lockBatchUsers)) {
+                executeSlice(slice);
+            }
+        } catch (Throwable e) {
+            // 예상하지 못한 오류(Error 포함)로 끝나더라도 완료되지 않은 요청이 남지 않도록 함
+            log.error("포인트 사용 배치 {}건 처리 실패", batch.size(), e);
+            batch.forEach(pending -> pending.future().completeExceptionally(e));
+            if (e instanceof Error error) {
+                throw error;
+            }
+        }
+    }
+
+    private void executeSlice(List<PendingUse> slice) {
+        // 기다리다 시간이 초과된 요청은 실행하지 않음
+        List<PendingUse> ordered = slice.stream()
+                .filter(pending -> !pending.future().isDone())
+                .toList();
+        if (ordered.isEmpty()) {
+            return;
+        }
+        Set<Long> userIds = ordered.stream()
+                .map(PendingUse::userId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        List<PendingUse> batched = new ArrayList<>();
+        List<PendingUse> deferred = new ArrayList<>();
+        try {
+            List<PointUseResponse> responses = pointUserLane.executeAll(userIds, () -> transactionTemplate.execute(status -> {
+                split(ordered, pointSummaryService.getSummaries(userIds), batched, deferred);
+                return batched.stream().map(pending -> pending.action().get()).toList();
+            }));
+            for (int i = 0; i < batched.size(); i++) {
+                batched.get(i).future().complete(responses.get(i));
+            }
+        } catch (RuntimeException e) {
+            if (ordered.size() == 1) {
+                ordered.get(0).future().completeExceptionally(e);
+                return;
+            }
+            log.debug("포인트 사용 배치 구간 {}건 롤백, 요청별 트랜잭션으로 재처리", ordered.size(), e);
+            ordered.forEach(this::executeAlone);
+            return;
+        }
+        // 잔액이 부족해 보이는 요청도 이미 처리된 멱등성 키의 재시도일 수 있으므로 실패시키지 않고 개별로 실행
+        deferred.forEach(this::executeAlone);
+    }
+
+    /**
+     * 사용자 요약의 사용 가능 잔액에서 요청 순서대로 사용액을 빼 가며, 잔액 안에서 처리할 수 있는 요청과
+     * 그렇지 않은 요청으로 나눈다.
+     */
+    private void split(List<PendingUse> ordered, Map<Long, PointSummary> summaries,
+                       List<PendingUse> batched, List<PendingUse> deferred) {
+        batched.clear();
+        deferred.clear();
+        Map<Long, Integer> available = new HashMap<>();
+        summaries.forEach((userId, summary) -> available.put(userId, summary.getAvailableAmount()));
+        for (PendingUse pending : ordered) {
+            int remain = available.getOrDefault(pending.userId(), 0);
+            if (pending.usageAmount() > remain) {
+                deferred.add(pending);
+                continue;
+            }
+            available.put(pending.userId(), remain - pending.usageAmount());
+            batched.add(pending);
+        }
+    }
+
+    private void executeAlone(PendingUse pending) {
+        if (pending.future().isDone()) {
+            return;
+        }
+        try {
+            pending.future().complete(pointUserLane.execute(pending.userId(),
+                    () -> transactionTemplate.execute(status -> pending.action().get())));
+        } catch (RuntimeException e) {
+            pending.future().completeExceptionally(e);
+        }
+    }
+
+    private static void fail(List<PendingUse> batch) {
+        batch.forEach(pending -> pending.future().completeExceptionally(interrupted()));
+    }
+
+    private static PointOperationException interrupted() {
+        return new PointOperationException(PointErrorReason.INTERRUPTED, "포인트 요청 처리가 중단되었습니다.");
+    }
+
+    private static PointOperationException timedOut() {
+        return new PointOperationException(PointErrorReason.LOCK_TIMEOUT, "포인트 사용 요청이 처리되지 않았습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    // shutdownNow가 돌려준 작업에서 배치를 찾아 실패로 완료할 수 있도록 Runnable로 직접 넘김
+    private final class BatchTask implements Runnable {
+        private final List<PendingUse> batch;
+
+        private BatchTask(List<PendingUse> batch) {
+            this.batch = batch;
+        }
+
+        List<PendingUse> batch() {
+            return batch;
+        }
+
+        @Override
+        public void run() {
+            executeBatch(batch);
+        }
+    }
+
+    record PendingUse(Long userId, int usageAmount, Supplier<PointUseResponse> action, CompletableFuture<PointUseResponse> future) {
+    }
+}
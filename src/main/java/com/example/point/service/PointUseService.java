@@ -1,45 +1,136 @@
 package com.example.point.service;
 
 import com.example.point.domain.PointBalance;
+import com.example.point.domain.PointOrderUsage;
+import com.example.point.domain.PointOrderUsageItem;
+import com.example.point.domain.PointSummary;
 import com.example.point.domain.PointTransaction;
 import com.example.point.domain.enums.BalanceStatus;
+import com.example.point.domain.enums.BalanceType;
 import com.example.point.domain.enums.TransactionType;
 import com.example.point.dto.use.PointCancelUseRequest;
 import com.example.point.dto.use.PointUseRequest;
 import com.example.point.dto.use.PointUseResponse;
+import com.example.point.exception.PointErrorReason;
 import com.example.point.exception.PointOperationException;
+import com.example.point.ledger.PointLedger;
+import com.example.point.metrics.PointMetrics;
+import com.example.point.repository.PointBalanceDeductionRepository;
 import com.example.point.repository.PointBalanceRepository;
-import com.example.point.repository.PointTransactionRepository;
+import com.example.point.repository.PointOrderUsageItemRepository;
+import com.example.point.repository.PointOrderUsageRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 public class PointUseService {
 
     private final PointBalanceRepository pointBalanceRepository;
-    private final PointTransactionRepository pointTransactionRepository;
+    private final PointLedger pointLedger;
     private final PointPolicyService policyService;
+    private final PointSummaryService pointSummaryService;
+    private final PointOrderUsageRepository pointOrderUsageRepository;
+    private final PointOrderUsageItemRepository pointOrderUsageItemRepository;
+    private final PointMetrics pointMetrics;
+    private final PointOutboxService pointOutboxService;
+    private final PointArchiveService pointArchiveService;
+    private final PointBalanceDeductionRepository pointBalanceDeductionRepository;
+
+    // true면 잔액 차감을 변경 감지 대신 조건부 배치 UPDATE로 반영
+    @Value("${point.use.bulk-deduction:true}")
+    private boolean bulkDeduction;
+
+    // 한 번에 조회하는 차감 대상 잔액 수
+    public static final int DEDUCTION_CHUNK_SIZE = 20;
+
+    // balance_type은 문자열로 저장되므로 기존 ORDER BY balanceType ASC와 동일하게 이름순으로 차감
+    private static final List<BalanceType> DEDUCTION_ORDER = Arrays.stream(BalanceType.values())
+            .sorted(Comparator.comparing(BalanceType::name))
+            .toList();
 
     @Transactional
     public PointUseResponse use(Long userId, PointUseRequest request) {
         LocalDateTime now = LocalDateTime.now();
-        List<PointBalance> balances = pointBalanceRepository
-                .findByUserIdAndStatusOrderByBalanceTypeAscExpireDateAsc(userId, BalanceStatus.ACTIVE);
+        PointSummary summary = pointSummaryService.getSummary(userId);
+
+        // 요약 기준으로 잔액(보류 금액 제외)이 부족하면 잔액을 조회하지 않고 바로 예외 처리
+        if (summary.getAvailableAmount() < request.getUsageAmount()) {
+            throw new PointOperationException(PointErrorReason.INSUFFICIENT_BALANCE, "사용할 포인트가 잔액을 초과합니다.");
+        }
 
         // 요청한 사용 금액
         int remainingToUse = request.getUsageAmount();
-        int totalUsed = 0;
 
+        List<PointBalance> usedBalances = new ArrayList<>();
         List<PointTransaction> transactions = new ArrayList<>();
 
-        // 잔액 목록을 순회하며 포인트를 차감
-        for (PointBalance balance : balances) {
+        // 우선순위(적립 유형 → 만료일) 순으로 잔액을 청크 단위로 조회하며 포인트를 차감
+        for (BalanceType balanceType : DEDUCTION_ORDER) {
+            PointBalance last = null;
+            while (remainingToUse > 0) {
+                List<PointBalance> chunk = findDeductibleChunk(userId, balanceType, last);
+                remainingToUse = deductChunk(chunk, remainingToUse, summary, request.getOrderId(), now,
+                        usedBalances, transactions);
+
+                // 마지막 청크까지 조회한 경우 다음 적립 유형으로 이동
+                if (chunk.size() < DEDUCTION_CHUNK_SIZE) {
+                    break;
+                }
+                last = chunk.get(chunk.size() - 1);
+            }
+            if (remainingToUse <= 0) {
+                break;
+            }
+        }
+
+        // 남은 사용액이 0보다 크다면, 잔액 부족으로 예외 처리
+        if (remainingToUse > 0) {
+            throw new PointOperationException(PointErrorReason.INSUFFICIENT_BALANCE, "사용할 포인트가 잔액을 초과합니다.");
+        }
+        int totalUsed = request.getUsageAmount();
+
+        // 주문별 사용 내역 기록 (같은 주문으로 다시 사용한 경우 누적)
+        PointOrderUsage usage = pointOrderUsageRepository.findByUserIdAndOrderId(userId, request.getOrderId())
+                .orElseGet(() -> PointOrderUsage.of(userId, request.getOrderId()));
+        usage.use(totalUsed);
+        pointOrderUsageRepository.save(usage);
+        List<PointOrderUsageItem> usageItems = new ArrayList<>();
+        for (int i = 0; i < usedBalances.size(); i++) {
+            usageItems.add(PointOrderUsageItem.of(usage, usedBalances.get(i).getBalanceId(), -transactions.get(i).getPointChange()));
+        }
+
+        applyDeductions(usedBalances, transactions);
+        pointLedger.append(transactions);
+        pointOutboxService.append(transactions);
+        pointOrderUsageItemRepository.saveAll(usageItems);
+        pointSummaryService.update(summary);
+        pointMetrics.recordBalancesTouched(userId, usedBalances.size());
+
+        return PointUseResponse.from(userId, request.getOrderId(), totalUsed, summary.getTotalAmount());
+    }
+
+    /**
+     * 우선순위 순으로 조회한 적립 건 청크에서 남은 사용액만큼 차감할 금액을 정하고, 차감할 적립 건과 사용 거래를 목록에 추가한다.
+     * 적립 건 엔티티는 바꾸지 않고 요약에만 반영하며, 차감하고 남은 사용액을 반환한다.
+     * DB 없이 차감 루프만 측정하는 벤치마크도 이 메서드를 사용한다.
+     */
+    public static int deductChunk(List<PointBalance> chunk, int remainingToUse, PointSummary summary, String orderId,
+                                  LocalDateTime now, List<PointBalance> usedBalances, List<PointTransaction> transactions) {
+        for (PointBalance balance : chunk) {
             if (remainingToUse <= 0) {
                 break;
             }
@@ -47,67 +138,105 @@ public class PointUseService {
             // 현재 잔액에서 차감할 수 있는 금액(남은 사용액과 잔액 중 최소값)
             int deduct = Math.min(balance.getRemainAmount(), remainingToUse);
 
-            // 실제 잔액 차감
-            balance.deductPoints(deduct);
+            // 적립 건 반영은 applyDeductions에서 모드에 따라 처리
+            summary.deduct(balance, deduct);
+            usedBalances.add(balance);
 
             // 트랜잭션(사용)이므로 차감 금액은 음수로 기록
-            int pointChange = -deduct;
-            PointTransaction transaction = PointTransaction.of(
+            transactions.add(PointTransaction.of(
                     balance,
                     TransactionType.USE,
                     now,  // 트랜잭션 발생 시각
-                    "포인트 사용: 주문번호 " + request.getOrderId(),
-                    request.getOrderId(),
-                    pointChange
-            );
-            transactions.add(transaction);
+                    "포인트 사용: 주문번호 " + orderId,
+                    orderId,
+                    -deduct
+            ));
 
-            // 남은 사용액과 사용 총액 업데이트
+            // 남은 사용액 업데이트
             remainingToUse -= deduct;
-            totalUsed += deduct;
         }
+        return remainingToUse;
+    }
 
-        // 남은 사용액이 0보다 크다면, 잔액 부족으로 예외 처리
-        if (remainingToUse > 0) {
-            throw new PointOperationException("사용할 포인트가 잔액을 초과합니다.");
+    private List<PointBalance> findDeductibleChunk(Long userId, BalanceType balanceType, PointBalance last) {
+        Pageable chunk = PageRequest.of(0, DEDUCTION_CHUNK_SIZE);
+        if (bulkDeduction) {
+            return last == null
+                    ? pointBalanceRepository.findDeductibleBalancesReadOnly(userId, BalanceStatus.ACTIVE, balanceType, chunk)
+                    : pointBalanceRepository.findDeductibleBalancesAfterReadOnly(userId, BalanceStatus.ACTIVE, balanceType,
+                            last.getExpireDate(), last.getBalanceId(), chunk);
         }
-
-        pointBalanceRepository.saveAll(balances);
-        pointTransactionRepository.saveAll(transactions);
-
-        int totalRemaining = calculateTotalRemainingPoints(userId);
-        return PointUseResponse.from(userId, request.getOrderId(), totalUsed, totalRemaining);
+        if (last == null) {
+            return pointBalanceRepository.findDeductibleBalances(userId, BalanceStatus.ACTIVE, balanceType, chunk);
+        }
+        return pointBalanceRepository.findDeductibleBalancesAfter(userId, BalanceStatus.ACTIVE, balanceType,
+                last.getExpireDate(), last.getBalanceId(), chunk);
     }
 
-
+    /**
+     * 차감액을 적립 건과 DB에 반영한다.
+     * 일괄 차감 모드에서는 읽기 전용으로 조회한 적립 건을 바꾸지 않고 remain_amount >= 차감액 조건의 배치 UPDATE로 갱신하며,
+     * 갱신되지 않은 건이 있으면 다른 요청이 먼저 차감한 것이므로 예외를 던져 트랜잭션을 롤백한다.
+     */
+    private void applyDeductions(List<PointBalance> usedBalances, List<PointTransaction> transactions) {
+        List<Integer> deductions = transactions.stream().map(transaction -> -transaction.getPointChange()).toList();
+        if (!bulkDeduction) {
+            for (int i = 0; i < usedBalances.size(); i++) {
+                usedBalances.get(i).deductPoints(deductions.get(i));
+            }
+            pointBalanceRepository.saveAll(usedBalances);
+            return;
+        }
+        int[] updated = pointBalanceDeductionRepository.deduct(usedBalances, deductions);
+        for (int count : updated) {
+            // 드라이버가 건수를 알려주지 않는 경우(SUCCESS_NO_INFO)는 검증하지 않음
+            if (count == 0) {
+                throw new PointOperationException(PointErrorReason.CONCURRENT_MODIFICATION, "다른 요청이 같은 적립 건을 먼저 차감했습니다. 다시 시도해주세요.");
+            }
+        }
+    }
 
     @Transactional
     public PointUseResponse cancelUse(PointCancelUseRequest request) {
-        List<PointTransaction> usageTransactions = pointTransactionRepository
-                .findByUserIdAndOrderIdAndTransactionType(request.getUserId(), request.getOrderId(), TransactionType.USE);
+        // 비관적 락 모드에서는 요약 조회 시 사용자 단위 락을 잡으므로 가장 먼저 조회
+        PointSummary summary = pointSummaryService.getSummary(request.getUserId());
+        OrderUsage orderUsage = findOrderUsage(request.getUserId(), request.getOrderId());
+        PointOrderUsage usage = orderUsage.usage();
 
-        if (usageTransactions.isEmpty()) {
-            throw new PointOperationException("해당 주문의 사용 거래가 존재하지 않습니다.");
+        if (request.getCancelAmount() > usage.getCancelableAmount()) {
+            throw new PointOperationException(PointErrorReason.CANCEL_AMOUNT_EXCEEDED, "취소할 포인트가 원래 사용된 포인트보다 많습니다.");
         }
 
-        int totalUsed = usageTransactions.stream().mapToInt(tx -> -tx.getPointChange()).sum();
-
-        if (request.getCancelAmount() > totalUsed) {
-            throw new PointOperationException("취소할 포인트가 원래 사용된 포인트보다 많습니다.");
+        // 사용 순서대로 취소할 적립 건과 금액을 먼저 정함
+        int remainingToCancel = request.getCancelAmount();
+        List<PointOrderUsageItem> canceledItems = new ArrayList<>();
+        List<Integer> cancelAmounts = new ArrayList<>();
+        for (PointOrderUsageItem item : orderUsage.cancelableItems()) {
+            if (remainingToCancel <= 0) break;
+            int cancelAmount = Math.min(item.getCancelableAmount(), remainingToCancel);
+            canceledItems.add(item);
+            cancelAmounts.add(cancelAmount);
+            remainingToCancel -= cancelAmount;
         }
 
-        int remainingToCancel = request.getCancelAmount();
+        // 취소 대상 적립 내역을 한 번의 조회로 가져옴
+        Map<Long, PointBalance> balancesById = loadBalances(canceledItems.stream()
+                .map(PointOrderUsageItem::getBalanceId)
+                .distinct()
+                .toList());
+
         int totalCanceled = 0;
         LocalDateTime now = LocalDateTime.now();
         List<PointTransaction> transactions = new ArrayList<>();
         List<PointBalance> updatedBalances = new ArrayList<>();
 
-        for (PointTransaction tx : usageTransactions) {
-            if (remainingToCancel <= 0) break;
-            int usedInTx = -tx.getPointChange();
-            int cancelAmount = Math.min(usedInTx, remainingToCancel);
-            PointBalance balance = pointBalanceRepository.findById(tx.getBalanceId())
-                    .orElseThrow(() -> new PointOperationException("연결된 적립 내역이 존재하지 않습니다."));
+        for (int i = 0; i < canceledItems.size(); i++) {
+            PointOrderUsageItem item = canceledItems.get(i);
+            int cancelAmount = cancelAmounts.get(i);
+            PointBalance balance = refundTarget(balancesById.get(item.getBalanceId()), balancesById);
+            if (balance == null) {
+                throw new PointOperationException(PointErrorReason.BALANCE_NOT_FOUND, "연결된 적립 내역이 존재하지 않습니다.");
+            }
 
             if (balance.isExpired(now)) {
                 PointBalance newBalance = PointBalance.builder()
@@ -119,28 +248,100 @@ public class PointUseService {
                         .expireDate(policyService.calculateExpireDate(now, null))
                         .status(BalanceStatus.ACTIVE)
                         .build();
+                // 시퀀스 기반 ID는 persist 시점에 할당되므로 거래 내역 생성 전에 등록
+                pointBalanceRepository.save(newBalance);
                 updatedBalances.add(newBalance);
-                transactions.add(PointTransaction.of(newBalance, TransactionType.CANCEL_USE, now, "만료된 포인트 사용 취소 → 신규 적립됨", null, cancelAmount));
+                summary.increase(newBalance, cancelAmount);
+                transactions.add(PointTransaction.of(newBalance, TransactionType.CANCEL_USE, now, "만료된 포인트 사용 취소 → 신규 적립됨", request.getOrderId(), cancelAmount));
             } else {
                 balance.refund(cancelAmount);
                 updatedBalances.add(balance);
-                transactions.add(PointTransaction.of(balance, TransactionType.CANCEL_USE, now, "포인트 사용 취소", null, cancelAmount));
+                summary.increase(balance, cancelAmount);
+                transactions.add(PointTransaction.of(balance, TransactionType.CANCEL_USE, now, "포인트 사용 취소", request.getOrderId(), cancelAmount));
             }
 
-            remainingToCancel -= cancelAmount;
+            item.cancel(cancelAmount);
             totalCanceled += cancelAmount;
         }
+        usage.cancel(totalCanceled);
 
         pointBalanceRepository.saveAll(updatedBalances);
-        pointTransactionRepository.saveAll(transactions);
-        int totalRemaining = calculateTotalRemainingPoints(request.getUserId());
+        pointLedger.append(transactions);
+        pointOutboxService.append(transactions);
+        pointOrderUsageRepository.save(usage);
+        pointOrderUsageItemRepository.saveAll(canceledItems);
+        pointSummaryService.update(summary);
 
-        return PointUseResponse.from(request.getUserId(), request.getOrderId(), totalCanceled, totalRemaining);
+        return PointUseResponse.from(request.getUserId(), request.getOrderId(), totalCanceled, summary.getTotalAmount());
     }
 
+    /**
+     * 적립 내역을 한 번에 조회한다. 보관 테이블로 옮겨진 건은 원래 ID로 복원하고,
+     * 병합된 건은 환불받을 병합 대상 적립 건까지 함께 조회한다.
+     */
+    private Map<Long, PointBalance> loadBalances(List<Long> balanceIds) {
+        Map<Long, PointBalance> balancesById = new HashMap<>();
+        List<Long> toLoad = balanceIds;
+        while (!toLoad.isEmpty()) {
+            pointBalanceRepository.findAllById(toLoad)
+                    .forEach(balance -> balancesById.put(balance.getBalanceId(), balance));
+            List<Long> archived = toLoad.stream().filter(id -> !balancesById.containsKey(id)).toList();
+            if (!archived.isEmpty()) {
+                pointArchiveService.restore(archived)
+                        .forEach(balance -> balancesById.put(balance.getBalanceId(), balance));
+            }
+            toLoad = balancesById.values().stream()
+                    .filter(PointBalance::isMerged)
+                    .map(PointBalance::getMergedBalanceId)
+                    .filter(id -> !balancesById.containsKey(id))
+                    .distinct()
+                    .toList();
+        }
+        return balancesById;
+    }
+
+    // 병합된 적립 건의 환불은 병합 대상 적립 건으로 처리
+    private PointBalance refundTarget(PointBalance balance, Map<Long, PointBalance> balancesById) {
+        while (balance != null && balance.isMerged()) {
+            balance = balancesById.get(balance.getMergedBalanceId());
+        }
+        return balance;
+    }
+
+    private OrderUsage findOrderUsage(Long userId, String orderId) {
+        Optional<PointOrderUsage> found = pointOrderUsageRepository.findByUserIdAndOrderId(userId, orderId);
+        if (found.isPresent()) {
+            return new OrderUsage(found.get(), pointOrderUsageItemRepository.findCancelableItems(found.get().getUsageId()));
+        }
+
+        // 주문별 사용 내역이 없는 기존 주문은 USE 거래로부터 한 번 생성
+        List<PointTransaction> usageTransactions = pointLedger.findByOrder(userId, orderId, TransactionType.USE);
+        if (usageTransactions.isEmpty()) {
+            throw new PointOperationException(PointErrorReason.USAGE_NOT_FOUND, "해당 주문의 사용 거래가 존재하지 않습니다.");
+        }
+        // 기존 사용 취소 거래에는 주문번호가 없어 어느 주문의 환불인지 알 수 없으므로,
+        // 주문 사용 이후 그런 취소가 있었다면 다시 환불하지 않도록 자동 생성을 거부
+        LocalDateTime usedAt = usageTransactions.stream()
+                .map(PointTransaction::getTransactionDate)
+                .min(Comparator.naturalOrder())
+                .orElseThrow();
+        boolean canceledWithoutOrder = pointLedger.findWithoutOrder(userId, TransactionType.CANCEL_USE).stream()
+                .anyMatch(tx -> !tx.getTransactionDate().isBefore(usedAt));
+        if (canceledWithoutOrder) {
+            throw new PointOperationException(PointErrorReason.LEGACY_USAGE_AMBIGUOUS,
+                    "주문번호 없이 처리된 사용 취소 이력이 있어 이 주문의 취소 가능 금액을 확인할 수 없습니다.");
+        }
+
+        PointOrderUsage usage = PointOrderUsage.of(userId, orderId);
+        usage.use(usageTransactions.stream().mapToInt(tx -> -tx.getPointChange()).sum());
+        pointOrderUsageRepository.save(usage);
+        List<PointOrderUsageItem> items = usageTransactions.stream()
+                .map(tx -> PointOrderUsageItem.of(usage, tx.getBalanceId(), -tx.getPointChange()))
+                .toList();
+        pointOrderUsageItemRepository.saveAll(items);
+        return new OrderUsage(usage, items);
+    }
 
-    private int calculateTotalRemainingPoints(Long userId) {
-        return pointBalanceRepository.findByUserIdAndStatusOrderByBalanceTypeAscExpireDateAsc(userId, BalanceStatus.ACTIVE)
-                .stream().mapToInt(PointBalance::getRemainAmount).sum();
+    private record OrderUsage(PointOrderUsage usage, List<PointOrderUsageItem> cancelableItems) {
     }
 }
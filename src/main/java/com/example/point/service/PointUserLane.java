@@ -0,0 +1,134 @@
+package com.example.point.service;
+
+import com.example.point.exception.PointErrorReason;
+import com.example.point.exception.PointOperationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 사용자 ID를 고정된 수의 락 스트라이프에 매핑하여 같은 사용자의 적립/사용/취소를 직렬화한다.
+ * 서로 다른 스트라이프의 사용자는 병렬로 처리되며, 락은 트랜잭션 커밋 이후에 해제되도록
+ * 트랜잭션 경계 바깥에서 잡는다.
+ */
+@Component
+public class PointUserLane {
+
+    public enum Mode {
+        LANE,         // 사용자별 락 스트라이프로 직렬화
+        PESSIMISTIC,  // 사용자 요약 행에 대한 DB 비관적 락으로 직렬화
+        NONE          // 직렬화하지 않음 (요약의 낙관적 락만 적용)
+    }
+
+    private final Mode mode;
+    private final ReentrantLock[] stripes;
+    private final long lockTimeoutMillis;
+
+    public PointUserLane(@Value("${point.concurrency.mode:LANE}") Mode mode,
+                         @Value("${point.concurrency.stripes:64}") int stripeCount,
+                         @Value("${point.concurrency.lock-timeout-ms:5000}") long lockTimeoutMillis) {
+        this.mode = mode;
+        this.lockTimeoutMillis = lockTimeoutMillis;
+        this.stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    public <T> T execute(Long userId, Supplier<T> operation) {
+        if (mode != Mode.LANE) {
+            return operation.get();
+        }
+        ReentrantLock lock = stripes[stripeIndex(userId)];
+        acquire(lock);
+        try {
+            return operation.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 여러 사용자를 함께 처리하는 작업(대량 적립 등)은 관련 스트라이프를 인덱스 순서대로 모두 잡아
+     * 교착 상태 없이 직렬화한다.
+     */
+    public <T> T executeAll(Collection<Long> userIds, Supplier<T> operation) {
+        if (mode != Mode.LANE) {
+            return operation.get();
+        }
+        int[] indexes = userIds.stream()
+                .mapToInt(this::stripeIndex)
+                .distinct()
+                .sorted()
+                .toArray();
+        int locked = 0;
+        try {
+            for (int index : indexes) {
+                acquire(stripes[index]);
+                locked++;
+            }
+            return operation.get();
+        } finally {
+            for (int i = locked - 1; i >= 0; i--) {
+                stripes[indexes[i]].unlock();
+            }
+        }
+    }
+
+    /**
+     * 여러 사용자의 작업을 순서를 유지한 채 사용자 수가 maxUsers 이하인 연속 구간으로 나눈다.
+     * 구간마다 executeAll을 호출하면 한 번에 잡는 스트라이프 수가 제한되어, 큰 청크가 거의 모든 스트라이프를
+     * 잡고 다른 사용자의 요청까지 멈추는 일을 막는다.
+     */
+    public static <T> List<List<T>> partition(List<T> items, Function<? super T, Long> userIdOf, int maxUsers) {
+        List<List<T>> slices = new ArrayList<>();
+        Set<Long> users = new HashSet<>();
+        int from = 0;
+        for (int i = 0; i < items.size(); i++) {
+            Long userId = userIdOf.apply(items.get(i));
+            if (i > from && !users.contains(userId) && users.size() >= maxUsers) {
+                slices.add(items.subList(from, i));
+                users.clear();
+                from = i;
+            }
+            users.add(userId);
+        }
+        if (from < items.size()) {
+            slices.add(items.subList(from, items.size()));
+        }
+        return slices;
+    }
+
+    public boolean isPessimistic() {
+        return mode == Mode.PESSIMISTIC;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    private int stripeIndex(Long userId) {
+        int hash = Long.hashCode(userId);
+        return Math.floorMod(hash ^ (hash >>> 16), stripes.length);
+    }
+
+    private void acquire(ReentrantLock lock) {
+        try {
+            if (!lock.tryLock(lockTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new PointOperationException(PointErrorReason.LOCK_TIMEOUT, "같은 사용자의 다른 포인트 요청을 처리 중입니다. 잠시 후 다시 시도해주세요.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PointOperationException(PointErrorReason.INTERRUPTED, "포인트 요청 처리가 중단되었습니다.");
+        }
+    }
+}
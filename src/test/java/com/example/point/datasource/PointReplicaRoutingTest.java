@@ -0,0 +1,87 @@
+package com.example.point.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PointReplicaRoutingTest {
+
+    private final PointReplicaRouting pointReplicaRouting = new PointReplicaRouting(true, 5000);
+
+    @BeforeEach
+    void setUp() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        pointReplicaRouting.clear();
+    }
+
+    @Test
+    @DisplayName("복제본 라우팅 - 복제 지연이 허용 범위 안이면 읽기 전용 트랜잭션은 복제본을 사용한다")
+    void testRoute_ReadOnlyToReplica() {
+        // Arrange
+        pointReplicaRouting.replicaCaughtUp(System.currentTimeMillis());
+        pointReplicaRouting.bindRead(1L);
+
+        // Act & Assert
+        assertEquals(PointReplicaRouting.Route.REPLICA, pointReplicaRouting.route());
+    }
+
+    @Test
+    @DisplayName("복제본 라우팅 - 복제 지연이 max-lag-ms를 넘으면 주 DB를 사용한다")
+    void testRoute_LaggingReplicaToPrimary() {
+        // Arrange
+        pointReplicaRouting.replicaCaughtUp(System.currentTimeMillis() - 10_000);
+
+        // Act & Assert
+        assertEquals(PointReplicaRouting.Route.PRIMARY, pointReplicaRouting.route());
+    }
+
+    @Test
+    @DisplayName("복제본 라우팅 - 사용자의 쓰기를 복제본이 반영하기 전까지 그 사용자의 조회는 주 DB를 사용한다")
+    void testRoute_ReadYourWrites() throws InterruptedException {
+        // Arrange
+        pointReplicaRouting.replicaCaughtUp(System.currentTimeMillis());
+        Thread.sleep(5);
+        pointReplicaRouting.recordWriteAfterCommit(1L);
+
+        // Act
+        pointReplicaRouting.bindRead(1L);
+        PointReplicaRouting.Route writer = pointReplicaRouting.route();
+        pointReplicaRouting.bindRead(2L);
+        PointReplicaRouting.Route other = pointReplicaRouting.route();
+        pointReplicaRouting.replicaCaughtUp(System.currentTimeMillis());
+        pointReplicaRouting.bindRead(1L);
+        PointReplicaRouting.Route caughtUp = pointReplicaRouting.route();
+
+        // Assert
+        assertEquals(PointReplicaRouting.Route.PRIMARY, writer);
+        assertEquals(PointReplicaRouting.Route.REPLICA, other);
+        assertEquals(PointReplicaRouting.Route.REPLICA, caughtUp);
+    }
+
+    @Test
+    @DisplayName("복제본 라우팅 - 쓰기 요청 안의 조회와 읽기 전용이 아닌 트랜잭션은 주 DB를 사용한다")
+    void testRoute_WriteRequestToPrimary() {
+        // Arrange
+        pointReplicaRouting.replicaCaughtUp(System.currentTimeMillis());
+        pointReplicaRouting.bindWrite();
+
+        // Act
+        PointReplicaRouting.Route writeRequest = pointReplicaRouting.route();
+        pointReplicaRouting.clear();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        PointReplicaRouting.Route readWrite = pointReplicaRouting.route();
+
+        // Assert
+        assertEquals(PointReplicaRouting.Route.PRIMARY, writeRequest);
+        assertEquals(PointReplicaRouting.Route.PRIMARY, readWrite);
+    }
+}
@@ -0,0 +1,253 @@
+package com.example.point.engine;
+
+import com.example.point.dto.save.PointSaveRequest;
+import com.example.point.dto.save.PointSaveResponse;
+import com.example.point.dto.use.PointCancelUseRequest;
+import com.example.point.dto.use.PointUseRequest;
+import com.example.point.dto.use.PointUseResponse;
+import com.example.point.exception.PointErrorReason;
+import com.example.point.exception.PointOperationException;
+import com.example.point.service.PointPolicyService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PointMemoryEngineTest {
+
+    @Mock
+    private PointPolicyService policyService;
+
+    @TempDir
+    private Path directory;
+
+    @BeforeEach
+    void setUp() {
+        // 만료일 지정이 없으면 365일 후 만료
+        when(policyService.calculateExpireDate(any(), any())).thenAnswer(invocation -> {
+            LocalDateTime now = invocation.getArgument(0);
+            Integer expireDays = invocation.getArgument(1);
+            return now.plusDays(expireDays == null ? 365 : expireDays);
+        });
+    }
+
+    @Test
+    @DisplayName("메모리 엔진 - 만료일이 빠른 적립 건부터 차감한다")
+    void testUse_DeductsByExpireDate() throws IOException {
+        // Arrange
+        PointMemoryEngine engine = startEngine();
+        PointSaveResponse later = engine.save(saveRequest(1L, 1000, 30));
+        PointSaveResponse sooner = engine.save(saveRequest(1L, 500, 10));
+
+        // Act
+        PointUseResponse response = engine.use(1L, useRequest("ORDER-1", 700));
+
+        // Assert
+        assertEquals(700, response.getUsedAmount());
+        assertEquals(800, response.getTotalRemaining());
+        // 먼저 만료되는 적립 건이 모두 소진되어 취소할 수 없음
+        assertThrows(PointOperationException.class, () -> engine.cancelSave(sooner.getBalanceId()));
+        assertEquals(800, engine.getBalance(1L).getAvailableAmount());
+        assertEquals(later.getExpireDate(), engine.getBalance(1L).getNextExpireDate());
+        engine.stop();
+    }
+
+    @Test
+    @DisplayName("메모리 엔진 - 잔액이 부족하면 저널에 기록하지 않고 예외 발생")
+    void testUse_InsufficientBalance() throws IOException {
+        // Arrange
+        PointMemoryEngine engine = startEngine();
+        engine.save(saveRequest(1L, 300, null));
+
+        // Act & Assert
+        PointOperationException exception = assertThrows(PointOperationException.class,
+                () -> engine.use(1L, useRequest("ORDER-1", 500)));
+        assertEquals(PointErrorReason.INSUFFICIENT_BALANCE, exception.getReason());
+        assertEquals(300, engine.getBalance(1L).getTotalAmount());
+        engine.stop();
+    }
+
+    @Test
+    @DisplayName("메모리 엔진 - 스냅샷 없이 종료되어도 저널을 재생하여 복구한다")
+    void testRecover_ReplaysJournal() throws IOException {
+        // Arrange
+        PointMemoryEngine engine = startEngine();
+        engine.save(saveRequest(1L, 1000, null));
+        engine.save(saveRequest(2L, 2000, null));
+        engine.use(1L, useRequest("ORDER-1", 400));
+
+        // Act: 정상 종료(스냅샷) 없이 새 엔진으로 복구
+        PointMemoryEngine recovered = startEngine();
+
+        // Assert
+        assertEquals(600, recovered.getBalance(1L).getTotalAmount());
+        assertEquals(2000, recovered.getBalance(2L).getTotalAmount());
+        // 복구한 주문 사용 내역으로 사용 취소 가능
+        assertEquals(400, recovered.cancelUse(cancelRequest(1L, "ORDER-1", 400)).getUsedAmount());
+        assertEquals(1000, recovered.getBalance(1L).getTotalAmount());
+        recovered.stop();
+    }
+
+    @Test
+    @DisplayName("메모리 엔진 - 스냅샷 이후의 저널만 재생하고 이전 세그먼트는 삭제한다")
+    void testRecover_FromSnapshot() throws IOException {
+        // Arrange
+        PointMemoryEngine engine = startEngine();
+        PointSaveResponse saved = engine.save(saveRequest(1L, 1000, null));
+        engine.use(1L, useRequest("ORDER-1", 300));
+        engine.snapshot();
+        engine.use(1L, useRequest("ORDER-2", 200));
+
+        // Act
+        PointMemoryEngine recovered = startEngine();
+
+        // Assert
+        assertEquals(500, recovered.getBalance(1L).getTotalAmount());
+        assertEquals(1L, recovered.findUserId(saved.getBalanceId()));
+        // 스냅샷 이전 세그먼트는 삭제되고 스냅샷 이후 세그먼트만 남음
+        assertEquals(List.of("journal-00000000000000000003.log", "journal-00000000000000000004.log"), journalFiles());
+        // 새 적립 ID는 복구한 마지막 ID 이후로 발급
+        assertEquals(saved.getBalanceId() + 1, recovered.save(saveRequest(1L, 100, null)).getBalanceId());
+        recovered.stop();
+    }
+
+    @Test
+    @DisplayName("메모리 엔진 - 저널 끝의 잘린 기록은 버리고 복구한다")
+    void testRecover_TruncatesTornTail() throws IOException {
+        // Arrange
+        PointMemoryEngine engine = startEngine();
+        engine.save(saveRequest(1L, 1000, null));
+        engine.use(1L, useRequest("ORDER-1", 100));
+        Path segment = directory.resolve(journalFiles().get(0));
+        long validSize = Files.size(segment);
+        // 기록 도중 중단된 것처럼 불완전한 기록을 덧붙임
+        Files.write(segment, new byte[]{0, 0, 0, 40, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        // Act
+        PointMemoryEngine recovered = startEngine();
+
+        // Assert
+        assertEquals(900, recovered.getBalance(1L).getTotalAmount());
+        assertEquals(validSize, Files.size(segment));
+        recovered.stop();
+    }
+
+    @Test
+    @DisplayName("메모리 엔진 - 멱등성 키는 저널에 함께 기록되어 재시작 후의 재시도에도 최초 응답을 반환한다")
+    void testIdempotency_SurvivesRestart() throws IOException {
+        // Arrange
+        PointMemoryEngine engine = startEngine();
+        engine.save(saveRequest(1L, 1000, null));
+        PointUseResponse first = engine.use(1L, useRequest("ORDER-1", 400), "KEY-1", "HASH-1");
+
+        // Act: 스냅샷 없이 재시작한 뒤 같은 키로 재시도
+        PointMemoryEngine recovered = startEngine();
+        PointUseResponse retried = recovered.use(1L, useRequest("ORDER-1", 400), "KEY-1", "HASH-1");
+
+        // Assert
+        assertEquals(first.getUsedAmount(), retried.getUsedAmount());
+        assertEquals(first.getTotalRemaining(), retried.getTotalRemaining());
+        assertEquals(first.getTransactionDate(), retried.getTransactionDate());
+        assertEquals(600, recovered.getBalance(1L).getTotalAmount());
+        // 같은 키로 다른 요청을 보내면 거절
+        PointOperationException exception = assertThrows(PointOperationException.class,
+                () -> recovered.use(1L, useRequest("ORDER-1", 500), "KEY-1", "HASH-2"));
+        assertEquals(PointErrorReason.IDEMPOTENCY_KEY_REUSED, exception.getReason());
+
+        // 스냅샷으로 복구한 뒤에도 유지
+        recovered.stop();
+        PointMemoryEngine fromSnapshot = startEngine();
+        assertEquals(first.getTotalRemaining(), fromSnapshot.use(1L, useRequest("ORDER-1", 400), "KEY-1", "HASH-1").getTotalRemaining());
+        assertEquals(600, fromSnapshot.getBalance(1L).getTotalAmount());
+        fromSnapshot.stop();
+    }
+
+    @Test
+    @DisplayName("메모리 엔진 - 스냅샷 시 모두 취소된 주문과 더 바뀔 수 없는 적립 건을 정리한다")
+    void testSnapshot_CompactsFinishedEntries() throws IOException {
+        // Arrange
+        PointMemoryEngine engine = startEngine();
+        PointSaveResponse used = engine.save(saveRequest(1L, 100, 10));
+        PointSaveResponse canceled = engine.save(saveRequest(1L, 200, 20));
+        engine.cancelSave(canceled.getBalanceId());
+        engine.use(1L, useRequest("ORDER-1", 100));
+
+        // Act
+        engine.snapshot();
+
+        // Assert
+        // 취소된 적립 건은 제거되고, 소진되었지만 주문이 환불받을 수 있는 적립 건은 유지
+        assertThrows(PointOperationException.class, () -> engine.findUserId(canceled.getBalanceId()));
+        assertEquals(1L, engine.findUserId(used.getBalanceId()));
+        assertEquals(100, engine.cancelUse(cancelRequest(1L, "ORDER-1", 100)).getUsedAmount());
+
+        // 모두 취소된 주문은 다음 스냅샷에서 제거
+        engine.snapshot();
+        PointOperationException exception = assertThrows(PointOperationException.class,
+                () -> engine.cancelUse(cancelRequest(1L, "ORDER-1", 10)));
+        assertEquals(PointErrorReason.USAGE_NOT_FOUND, exception.getReason());
+        assertEquals(100, engine.getBalance(1L).getTotalAmount());
+
+        // 정리된 상태로 복구
+        engine.stop();
+        PointMemoryEngine recovered = startEngine();
+        assertEquals(100, recovered.getBalance(1L).getTotalAmount());
+        assertThrows(PointOperationException.class, () -> recovered.findUserId(canceled.getBalanceId()));
+        recovered.stop();
+    }
+
+    private PointMemoryEngine startEngine() throws IOException {
+        PointMemoryEngine engine = new PointMemoryEngine(policyService, "memory", directory.toString(), 0, 256, 24, 365);
+        engine.start();
+        return engine;
+    }
+
+    private List<String> journalFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.startsWith("journal-"))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private PointSaveRequest saveRequest(Long userId, int amount, Integer expireDays) {
+        return PointSaveRequest.builder()
+                .userId(userId)
+                .amount(amount)
+                .expireDays(expireDays)
+                .build();
+    }
+
+    private PointUseRequest useRequest(String orderId, int amount) {
+        return PointUseRequest.builder()
+                .orderId(orderId)
+                .usageAmount(amount)
+                .build();
+    }
+
+    private PointCancelUseRequest cancelRequest(Long userId, String orderId, int amount) {
+        return PointCancelUseRequest.builder()
+                .userId(userId)
+                .orderId(orderId)
+                .cancelAmount(amount)
+                .build();
+    }
+}
@@ -0,0 +1,254 @@
+package com.example.point.ledger;
+
+import com.example.point.domain.PointTransaction;
+import com.example.point.domain.enums.BalanceStatus;
+import com.example.point.domain.enums.TransactionType;
+import com.example.point.dto.history.PointHistoryItem;
+import com.example.point.ledger.PointLedgerBalanceLookup.BalanceState;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MappedPointLedgerTest {
+
+    @TempDir
+    private Path directory;
+
+    private final LocalDateTime now = LocalDateTime.of(2024, 5, 1, 12, 0);
+
+    // 복구 시 대조하는 DB 적립 건 상태
+    private final Map<Long, BalanceState> balances = new HashMap<>();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("매핑 원장 - 기록한 거래에 ID를 할당하고 주문별로 조회한다")
+    void testAppend_FindByOrder() throws IOException {
+        // Arrange
+        MappedPointLedger ledger = openLedger(4);
+        PointTransaction use1 = transaction(1L, TransactionType.USE, "ORDER-1", -300, now);
+        PointTransaction use2 = transaction(1L, TransactionType.USE, "ORDER-1", -200, now);
+        PointTransaction other = transaction(1L, TransactionType.USE, "ORDER-2", -100, now);
+
+        // Act
+        ledger.append(List.of(use1, use2, other));
+
+        // Assert
+        assertEquals(1L, use1.getTransactionId());
+        assertEquals(3L, other.getTransactionId());
+        List<PointTransaction> found = ledger.findByOrder(1L, "ORDER-1", TransactionType.USE);
+        assertEquals(List.of(1L, 2L), found.stream().map(PointTransaction::getTransactionId).toList());
+        assertEquals(-300, found.get(0).getPointChange());
+        assertEquals("포인트 사용", found.get(0).getDescription());
+        assertTrue(ledger.findByOrder(1L, "ORDER-1", TransactionType.CANCEL_USE).isEmpty());
+    }
+
+    @Test
+    @DisplayName("매핑 원장 - 롤백된 트랜잭션의 기록은 조회되지 않는다")
+    void testAppend_RolledBack() throws IOException {
+        // Arrange
+        MappedPointLedger ledger = openLedger(4);
+        TransactionSynchronizationManager.initSynchronization();
+        ledger.append(List.of(transaction(1L, TransactionType.USE, "ORDER-1", -300, now)));
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+
+        // Act
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // Assert
+        assertTrue(ledger.findByOrder(1L, "ORDER-1", TransactionType.USE).isEmpty());
+    }
+
+    @Test
+    @DisplayName("매핑 원장 - 기록은 DB 커밋이 끝난 뒤에 조회되고, afterCommit 전에 종료되면 복구 시 DB 적립 건과 대조하여 확정한다")
+    void testAppend_VisibleAfterCommit() throws IOException {
+        // Arrange
+        MappedPointLedger ledger = openLedger(4);
+        ledger.append(List.of(transaction(1L, TransactionType.SAVE, null, 1000, now)));
+        TransactionSynchronizationManager.initSynchronization();
+        ledger.append(List.of(transaction(1L, TransactionType.USE, "ORDER-1", -300, now)));
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+
+        // Act
+        synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+        List<PointTransaction> beforeCommit = ledger.findByOrder(1L, "ORDER-1", TransactionType.USE);
+        // DB 커밋 후 afterCommit 전에 프로세스가 종료된 경우
+        ledger.flush();
+        balances.put(10L, new BalanceState(700, BalanceStatus.ACTIVE));
+        List<PointTransaction> recovered = openLedger(4).findByOrder(1L, "ORDER-1", TransactionType.USE);
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        // Assert
+        assertTrue(beforeCommit.isEmpty());
+        assertEquals(1, recovered.size());
+        assertEquals(1, ledger.findByOrder(1L, "ORDER-1", TransactionType.USE).size());
+    }
+
+    @Test
+    @DisplayName("매핑 원장 - DB 적립 건에 반영되지 않은 PENDING 기록은 복구 시 버리고, 만료는 적립 건 상태로 판단한다")
+    void testRecover_RollsBackPendingNotInDatabase() throws IOException {
+        // Arrange
+        MappedPointLedger ledger = openLedger(8);
+        ledger.append(List.of(transaction(1L, TransactionType.SAVE, null, 1000, now)));
+        appendPending(ledger, transaction(1L, TransactionType.USE, "ORDER-1", -300, now));
+        appendPending(ledger, transaction(1L, TransactionType.EXPIRE, null, -1000, now));
+        balances.put(10L, new BalanceState(1000, BalanceStatus.EXPIRED));
+
+        // Act
+        MappedPointLedger recovered = openLedger(8);
+
+        // Assert
+        assertTrue(recovered.findByOrder(1L, "ORDER-1", TransactionType.USE).isEmpty());
+        assertEquals(1, recovered.findWithoutOrder(1L, TransactionType.EXPIRE).size());
+        assertFalse(recovered.hasUnresolvedRecords());
+    }
+
+    @Test
+    @DisplayName("매핑 원장 - DB 적립 건과 맞지 않는 PENDING 기록은 미확인으로 남기고 재시작 후에도 알린다")
+    void testRecover_KeepsUnresolvedPending() throws IOException {
+        // Arrange
+        MappedPointLedger ledger = openLedger(8);
+        ledger.append(List.of(transaction(1L, TransactionType.SAVE, null, 1000, now)));
+        appendPending(ledger, transaction(1L, TransactionType.USE, "ORDER-1", -300, now));
+        balances.put(10L, new BalanceState(500, BalanceStatus.ACTIVE));
+
+        // Act
+        MappedPointLedger recovered = openLedger(8);
+        MappedPointLedger restarted = openLedger(8);
+
+        // Assert
+        assertTrue(recovered.findByOrder(1L, "ORDER-1", TransactionType.USE).isEmpty());
+        assertTrue(recovered.hasUnresolvedRecords());
+        assertTrue(restarted.hasUnresolvedRecords());
+    }
+
+    @Test
+    @DisplayName("매핑 원장 - 세그먼트가 가득 차면 새 세그먼트로 넘기고 재시작 시 색인을 복구한다")
+    void testRecover_RollsSegments() throws IOException {
+        // Arrange
+        MappedPointLedger ledger = openLedger(2);
+        for (int i = 0; i < 5; i++) {
+            ledger.append(List.of(transaction(1L, TransactionType.USE, "ORDER-" + (i % 2), -10, now.plusMinutes(i))));
+        }
+        ledger.flush();
+
+        // Act
+        MappedPointLedger recovered = openLedger(2);
+
+        // Assert
+        assertEquals(3, segmentFiles());
+        assertEquals(3, recovered.findByOrder(1L, "ORDER-0", TransactionType.USE).size());
+        PointTransaction next = transaction(1L, TransactionType.SAVE, null, 100, now.plusMinutes(10));
+        recovered.append(List.of(next));
+        assertEquals(6L, next.getTransactionId());
+    }
+
+    @Test
+    @DisplayName("매핑 원장 - 이력을 커서 이전부터 최신순으로, 기간 내보내기는 시간순으로 조회한다")
+    void testHistory() throws IOException {
+        // Arrange
+        MappedPointLedger ledger = openLedger(16);
+        for (int i = 0; i < 5; i++) {
+            ledger.append(List.of(transaction(1L, TransactionType.SAVE, null, 100, now.plusMinutes(i))));
+        }
+        ledger.append(List.of(transaction(2L, TransactionType.SAVE, null, 100, now)));
+
+        // Act
+        List<PointHistoryItem> page = ledger.findHistoryBefore(1L, now, now.plusMinutes(4), 5L, PageRequest.of(0, 2));
+        List<PointHistoryItem> exported;
+        try (Stream<PointHistoryItem> rows = ledger.streamHistory(1L, now.plusMinutes(1), now.plusMinutes(3))) {
+            exported = rows.toList();
+        }
+
+        // Assert
+        assertEquals(List.of(4L, 3L), page.stream().map(PointHistoryItem::getTransactionId).toList());
+        assertEquals(List.of(2L, 3L), exported.stream().map(PointHistoryItem::getTransactionId).toList());
+    }
+
+    @Test
+    @DisplayName("매핑 원장 - 기록 순서와 거래 일시가 어긋나도 이력은 거래 일시 순으로 페이지를 나눈다")
+    void testHistory_OutOfOrderDates() throws IOException {
+        // Arrange
+        MappedPointLedger ledger = openLedger(16);
+        ledger.append(List.of(transaction(1L, TransactionType.SAVE, null, 100, now.plusMinutes(2))));
+        ledger.append(List.of(transaction(1L, TransactionType.SAVE, null, 100, now)));
+        ledger.append(List.of(transaction(1L, TransactionType.SAVE, null, 100, now.plusMinutes(1))));
+        ledger.append(List.of(transaction(1L, TransactionType.SAVE, null, 100, now.plusMinutes(1))));
+
+        // Act
+        List<PointHistoryItem> first = ledger.findHistoryBefore(1L, now, now.plusDays(1), Long.MAX_VALUE, PageRequest.of(0, 2));
+        PointHistoryItem cursor = first.get(first.size() - 1);
+        List<PointHistoryItem> second = ledger.findHistoryBefore(1L, now, cursor.getTransactionDate(), cursor.getTransactionId(), PageRequest.of(0, 2));
+        List<PointHistoryItem> exported;
+        try (Stream<PointHistoryItem> rows = ledger.streamHistory(1L, now, now.plusMinutes(2))) {
+            exported = rows.toList();
+        }
+
+        // Assert
+        assertEquals(List.of(1L, 4L), first.stream().map(PointHistoryItem::getTransactionId).toList());
+        assertEquals(List.of(3L, 2L), second.stream().map(PointHistoryItem::getTransactionId).toList());
+        assertEquals(List.of(2L, 3L, 4L), exported.stream().map(PointHistoryItem::getTransactionId).toList());
+    }
+
+    private MappedPointLedger openLedger(int segmentRecords) throws IOException {
+        PointLedgerBalanceLookup balanceLookup = mock(PointLedgerBalanceLookup.class);
+        when(balanceLookup.findStates(any())).thenReturn(balances);
+        MappedPointLedger ledger = new MappedPointLedger(directory.toString(), segmentRecords, balanceLookup);
+        ledger.recover();
+        return ledger;
+    }
+
+    // 트랜잭션 안에서 기록하고 afterCommit 전에 프로세스가 종료된 경우
+    private void appendPending(MappedPointLedger ledger, PointTransaction transaction) {
+        TransactionSynchronizationManager.initSynchronization();
+        ledger.append(List.of(transaction));
+        TransactionSynchronizationManager.clearSynchronization();
+        ledger.flush();
+    }
+
+    private long segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".seg")).count();
+        }
+    }
+
+    private PointTransaction transaction(Long userId, TransactionType type, String orderId, int pointChange, LocalDateTime date) {
+        return PointTransaction.builder()
+                .userId(userId)
+                .balanceId(10L)
+                .transactionType(type)
+                .orderId(orderId)
+                .pointChange(pointChange)
+                .transactionDate(date)
+                .description(type == TransactionType.USE ? "포인트 사용" : "포인트 적립")
+                .build();
+    }
+}
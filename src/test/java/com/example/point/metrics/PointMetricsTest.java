@@ -0,0 +1,106 @@
+package com.example.point.metrics;
+
+import com.example.point.exception.PointErrorReason;
+import com.example.point.exception.PointOperationException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PointMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PointMetrics pointMetrics = new PointMetrics(meterRegistry);
+
+    @Test
+    @DisplayName("오퍼레이션 기록 - 성공 시 처리 시간과 SQL 문 수가 기록된다")
+    void testRecord_Success() {
+        // Act
+        String result = pointMetrics.record("use", () -> {
+            StatementCounter counter = new StatementCounter();
+            counter.inspect("select 1");
+            counter.inspect("update point_balances");
+            return "ok";
+        });
+
+        // Assert
+        assertEquals("ok", result);
+        assertEquals(1, meterRegistry.get("point.operation")
+                .tag("operation", "use").tag("outcome", "success").timer().count());
+        assertEquals(2.0, meterRegistry.get("point.operation.statements")
+                .tag("operation", "use").summary().totalAmount());
+    }
+
+    @Test
+    @DisplayName("오퍼레이션 기록 - 다른 스레드에서 실행된 SQL 문도 요청의 SQL 문 수에 포함된다")
+    void testRecord_PropagatedToWorker() {
+        // Arrange
+        ExecutorService worker = Executors.newSingleThreadExecutor();
+
+        // Act
+        try {
+            pointMetrics.record("use", () -> {
+                Supplier<String> action = StatementCounter.propagate(() -> {
+                    new StatementCounter().inspect("update point_balances");
+                    return "ok";
+                });
+                return CompletableFuture.supplyAsync(action, worker).join();
+            });
+        } finally {
+            worker.shutdown();
+        }
+
+        // Assert
+        assertEquals(1.0, meterRegistry.get("point.operation.statements")
+                .tag("operation", "use").summary().totalAmount());
+    }
+
+    @Test
+    @DisplayName("오퍼레이션 기록 - Hibernate를 거치지 않은 JDBC 배치 문장도 요청의 SQL 문 수에 포함된다")
+    void testRecord_JdbcStatements() {
+        // Act
+        pointMetrics.record("use", () -> {
+            new StatementCounter().inspect("select * from point_summaries");
+            StatementCounter.add(1);
+            return "ok";
+        });
+
+        // Assert
+        assertEquals(2.0, meterRegistry.get("point.operation.statements")
+                .tag("operation", "use").summary().totalAmount());
+    }
+
+    @Test
+    @DisplayName("오퍼레이션 기록 - 실패 시 사유별 실패 건수가 기록된다")
+    void testRecord_Failure() {
+        // Act & Assert
+        assertThrows(PointOperationException.class, () -> pointMetrics.record("use", () -> {
+            throw new PointOperationException(PointErrorReason.INSUFFICIENT_BALANCE, "사용할 포인트가 잔액을 초과합니다.");
+        }));
+        assertEquals(1.0, meterRegistry.get("point.operation.failures")
+                .tag("operation", "use").tag("reason", "INSUFFICIENT_BALANCE").counter().count());
+        assertEquals(1, meterRegistry.get("point.operation")
+                .tag("operation", "use").tag("outcome", "failure").timer().count());
+    }
+
+    @Test
+    @DisplayName("만료 처리 기록 - 처리 건수/포인트와 지연 시간이 기록된다")
+    void testRecordExpireRun() {
+        // Act
+        pointMetrics.recordExpireRun(3, 600, 120, 30, false);
+        pointMetrics.recordExpireRun(2, 100, 80, 5, false);
+
+        // Assert
+        assertEquals(5.0, meterRegistry.get("point.expire.balances").counter().count());
+        assertEquals(700.0, meterRegistry.get("point.expire.points").counter().count());
+        assertEquals(2, meterRegistry.get("point.expire.run").tag("outcome", "success").timer().count());
+        assertEquals(5.0, meterRegistry.get("point.expire.lag.seconds").gauge().value());
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.point.outbox;
+
+import com.example.point.domain.PointOutboxEvent;
+import com.example.point.domain.enums.TransactionType;
+import com.example.point.repository.PointOutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PointOutboxRelayTest {
+
+    @Mock
+    private PointOutboxEventRepository pointOutboxEventRepository;
+
+    @Mock
+    private PointEventPublisher pointEventPublisher;
+
+    @InjectMocks
+    private PointOutboxRelay pointOutboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(pointOutboxRelay, "batchSize", 10);
+    }
+
+    @Test
+    @DisplayName("아웃박스 릴레이 - 사용자별로 기록 순서대로 발행하고 발행된 이벤트를 삭제한다")
+    void testRelayBatch_PublishesPerUser() {
+        // Arrange
+        PointOutboxEvent first = event(1L, 1L);
+        PointOutboxEvent second = event(2L, 2L);
+        PointOutboxEvent third = event(3L, 1L);
+        when(pointOutboxEventRepository.findPendingAfter(eq(0L), any(Pageable.class))).thenReturn(Arrays.asList(first, second, third));
+
+        // Act
+        int published = pointOutboxRelay.relay();
+
+        // Assert
+        assertEquals(3, published);
+        verify(pointEventPublisher).publish(Arrays.asList(first, third));
+        verify(pointEventPublisher).publish(List.of(second));
+        verify(pointOutboxEventRepository).deleteAllByIdInBatch(Arrays.asList(1L, 3L, 2L));
+    }
+
+    @Test
+    @DisplayName("아웃박스 릴레이 - 발행에 실패한 사용자의 이벤트는 삭제하지 않고 다음 주기에 재시도한다")
+    void testRelayBatch_KeepsFailedUserEvents() {
+        // Arrange
+        PointOutboxEvent failed = event(1L, 1L);
+        PointOutboxEvent succeeded = event(2L, 2L);
+        when(pointOutboxEventRepository.findPendingAfter(eq(0L), any(Pageable.class))).thenReturn(Arrays.asList(failed, succeeded));
+        doAnswer(invocation -> {
+            if (invocation.<List<PointOutboxEvent>>getArgument(0).contains(failed)) {
+                throw new IllegalStateException("broker unavailable");
+            }
+            return null;
+        }).when(pointEventPublisher).publish(any());
+
+        // Act
+        int published = pointOutboxRelay.relay();
+
+        // Assert
+        assertEquals(1, published);
+        verify(pointOutboxEventRepository).deleteAllByIdInBatch(List.of(2L));
+    }
+
+    @Test
+    @DisplayName("아웃박스 릴레이 - 실패한 사용자의 이벤트로 가득 찬 배치도 이벤트 ID 이후로 넘어가 다른 사용자를 발행한다")
+    void testRelay_PagesPastFailedUser() {
+        // Arrange
+        ReflectionTestUtils.setField(pointOutboxRelay, "batchSize", 2);
+        PointOutboxEvent failedFirst = event(1L, 1L);
+        PointOutboxEvent failedSecond = event(2L, 1L);
+        PointOutboxEvent failedThird = event(3L, 1L);
+        PointOutboxEvent other = event(4L, 2L);
+        when(pointOutboxEventRepository.findPendingAfter(eq(0L), any(Pageable.class))).thenReturn(Arrays.asList(failedFirst, failedSecond));
+        when(pointOutboxEventRepository.findPendingAfter(eq(2L), any(Pageable.class))).thenReturn(Arrays.asList(failedThird, other));
+        when(pointOutboxEventRepository.findPendingAfter(eq(4L), any(Pageable.class))).thenReturn(Collections.emptyList());
+        doAnswer(invocation -> {
+            if (invocation.<List<PointOutboxEvent>>getArgument(0).contains(failedFirst)) {
+                throw new IllegalStateException("broker unavailable");
+            }
+            return null;
+        }).when(pointEventPublisher).publish(any());
+
+        // Act
+        int published = pointOutboxRelay.relay();
+
+        // Assert
+        assertEquals(1, published);
+        // 실패한 사용자의 이후 이벤트는 순서를 지키기 위해 이번 주기에 발행하지 않음
+        verify(pointEventPublisher, never()).publish(List.of(failedThird));
+        verify(pointEventPublisher).publish(List.of(other));
+        verify(pointOutboxEventRepository).deleteAllByIdInBatch(List.of(4L));
+    }
+
+    @Test
+    @DisplayName("아웃박스 릴레이 - 대기 중인 이벤트가 없으면 발행하지 않는다")
+    void testRelayBatch_Empty() {
+        // Arrange
+        when(pointOutboxEventRepository.findPendingAfter(eq(0L), any(Pageable.class))).thenReturn(Collections.emptyList());
+
+        // Act
+        int published = pointOutboxRelay.relay();
+
+        // Assert
+        assertEquals(0, published);
+        verify(pointEventPublisher, never()).publish(any());
+    }
+
+    private PointOutboxEvent event(Long eventId, Long userId) {
+        return PointOutboxEvent.builder()
+                .eventId(eventId)
+                .userId(userId)
+                .eventType(TransactionType.USE)
+                .payload("{}")
+                .createDate(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.point.service;
+
+import com.example.point.domain.PointBalance;
+import com.example.point.domain.enums.BalanceStatus;
+import com.example.point.domain.enums.BalanceType;
+import com.example.point.repository.PointBalanceArchiveRepository;
+import com.example.point.repository.PointBalanceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PointArchiveServiceTest {
+
+    @Mock
+    private PointBalanceRepository pointBalanceRepository;
+
+    @Mock
+    private PointBalanceArchiveRepository pointBalanceArchiveRepository;
+
+    @Mock
+    private PointUserLane pointUserLane;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private PointArchiveService pointArchiveService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(pointArchiveService, "minAgeDays", 30);
+        ReflectionTestUtils.setField(pointArchiveService, "chunkSize", 2);
+        ReflectionTestUtils.setField(pointArchiveService, "lockBatchUsers", 16);
+    }
+
+    @Test
+    @DisplayName("적립 내역 보관 - 적립 ID 키셋 청크마다 복사 후 삭제한다")
+    void testArchiveBalances_Chunked() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(pointUserLane.executeAll(anyCollection(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+        when(pointBalanceRepository.findArchivableBalancesAfter(eq(BalanceStatus.ACTIVE), eq(0L), eq(now.minusDays(30)), any(Pageable.class)))
+                .thenReturn(Arrays.asList(balance(1L, 1L), balance(2L, 2L)));
+        when(pointBalanceRepository.findArchivableBalancesAfter(eq(BalanceStatus.ACTIVE), eq(2L), eq(now.minusDays(30)), any(Pageable.class)))
+                .thenReturn(Collections.singletonList(balance(3L, 1L)));
+        when(pointBalanceArchiveRepository.copyFromBalances(List.of(1L, 2L), now)).thenReturn(2);
+        when(pointBalanceRepository.deleteArchived(List.of(1L, 2L))).thenReturn(2);
+        when(pointBalanceArchiveRepository.copyFromBalances(List.of(3L), now)).thenReturn(1);
+        when(pointBalanceRepository.deleteArchived(List.of(3L))).thenReturn(1);
+
+        // Act
+        int archived = pointArchiveService.archiveBalances(now);
+
+        // Assert
+        assertEquals(3, archived);
+    }
+
+    @Test
+    @DisplayName("적립 내역 복원 - 보관된 적립 건을 원래 ID로 복원하고 보관 테이블에서 삭제한다")
+    void testRestore() {
+        // Arrange
+        List<Long> balanceIds = List.of(1L);
+        when(pointBalanceArchiveRepository.copyToBalances(balanceIds)).thenReturn(1);
+        when(pointBalanceRepository.findAllById(balanceIds)).thenReturn(Collections.singletonList(balance(1L, 1L)));
+
+        // Act
+        List<PointBalance> restored = pointArchiveService.restore(balanceIds);
+
+        // Assert
+        assertEquals(1, restored.size());
+        verify(pointBalanceArchiveRepository).deleteByBalanceIds(balanceIds);
+    }
+
+    @Test
+    @DisplayName("적립 내역 복원 - 보관 테이블에도 없으면 빈 목록을 반환한다")
+    void testRestore_NotArchived() {
+        // Arrange
+        List<Long> balanceIds = List.of(9L);
+        when(pointBalanceArchiveRepository.copyToBalances(balanceIds)).thenReturn(0);
+
+        // Act
+        List<PointBalance> restored = pointArchiveService.restore(balanceIds);
+
+        // Assert
+        assertTrue(restored.isEmpty());
+        verify(pointBalanceArchiveRepository, never()).deleteByBalanceIds(any());
+    }
+
+    private PointBalance balance(Long balanceId, Long userId) {
+        return PointBalance.builder()
+                .balanceId(balanceId)
+                .userId(userId)
+                .amount(100)
+                .remainAmount(0)
+                .balanceType(BalanceType.PURCHASE)
+                .expireDate(LocalDateTime.now().plusDays(10))
+                .status(BalanceStatus.ACTIVE)
+                .build();
+    }
+}
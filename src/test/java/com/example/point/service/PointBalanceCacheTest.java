@@ -0,0 +1,52 @@
+package com.example.point.service;
+
+import com.example.point.domain.PointSummary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class PointBalanceCacheTest {
+
+    @Test
+    @DisplayName("잔액 캐시 - 이전 버전의 요약은 최신 값을 덮어쓰지 않는다")
+    void testPut_IgnoresOlderVersion() {
+        // Arrange
+        PointBalanceCache cache = new PointBalanceCache(10);
+        cache.put(summary(1L, 2L, 500));
+
+        // Act
+        cache.put(summary(1L, 1L, 900));
+
+        // Assert
+        assertEquals(500, cache.get(1L).getTotalAmount());
+    }
+
+    @Test
+    @DisplayName("잔액 캐시 - 크기를 넘으면 가장 오래 조회되지 않은 사용자부터 제거한다")
+    void testPut_EvictsLeastRecentlyUsed() {
+        // Arrange
+        PointBalanceCache cache = new PointBalanceCache(2);
+        cache.put(summary(1L, 0L, 100));
+        cache.put(summary(2L, 0L, 200));
+        cache.get(1L);
+
+        // Act
+        cache.put(summary(3L, 0L, 300));
+
+        // Assert
+        assertNotNull(cache.get(1L));
+        assertNull(cache.get(2L));
+        assertNotNull(cache.get(3L));
+    }
+
+    private PointSummary summary(Long userId, Long version, int totalAmount) {
+        return PointSummary.builder()
+                .userId(userId)
+                .version(version)
+                .totalAmount(totalAmount)
+                .build();
+    }
+}
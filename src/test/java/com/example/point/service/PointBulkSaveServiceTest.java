@@ -0,0 +1,130 @@
+package com.example.point.service;
+
+import com.example.point.domain.PointPolicy;
+import com.example.point.domain.PointPolicySnapshot;
+import com.example.point.domain.PointSummary;
+import com.example.point.dto.save.PointBulkSaveResponse;
+import com.example.point.dto.save.PointSaveRequest;
+import com.example.point.exception.PointErrorReason;
+import com.example.point.exception.PointOperationException;
+import com.example.point.ledger.PointLedger;
+import com.example.point.repository.PointBalanceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PointBulkSaveServiceTest {
+
+    @Mock
+    private PointBalanceRepository pointBalanceRepository;
+
+    @Mock
+    private PointLedger pointLedger;
+
+    @Mock
+    private PointPolicyService policyService;
+
+    @Mock
+    private PointSummaryService pointSummaryService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private PointUserLane pointUserLane;
+
+    @Mock
+    private PointOutboxService pointOutboxService;
+
+    @InjectMocks
+    private PointBulkSaveService pointBulkSaveService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(pointBulkSaveService, "chunkSize", 2);
+        ReflectionTestUtils.setField(pointBulkSaveService, "lockBatchUsers", 16);
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        lenient().when(pointUserLane.executeAll(anyCollection(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+        lenient().when(policyService.getPolicy())
+                .thenReturn(PointPolicySnapshot.from(PointPolicy.defaultPolicy(), LocalDateTime.now()));
+    }
+
+    @Test
+    @DisplayName("대량 적립 - 사용자별 누적 한도를 검증하고 실패한 요청만 건너뛴다")
+    void testSave_PerItemResults() {
+        // Arrange
+        // 사용자 1은 이미 999,000 포인트를 보유
+        Map<Long, PointSummary> summaries = new HashMap<>();
+        summaries.put(1L, PointSummary.builder().userId(1L).totalAmount(999000).purchaseAmount(999000).build());
+        summaries.put(2L, PointSummary.of(2L, Collections.emptyList()));
+        when(pointSummaryService.getSummaries(anyList())).thenReturn(summaries);
+
+        List<PointSaveRequest> requests = List.of(
+                PointSaveRequest.builder().userId(1L).amount(500).build(),   // 성공 (999,500)
+                PointSaveRequest.builder().userId(1L).amount(1000).build(),  // 한도 초과
+                PointSaveRequest.builder().userId(2L).amount(0).build(),     // 최소 적립금액 미만
+                PointSaveRequest.builder().userId(2L).amount(300).expireDays(30).build()
+        );
+
+        // Act
+        PointBulkSaveResponse response = pointBulkSaveService.save(requests);
+
+        // Assert
+        assertEquals(4, response.getRequestedCount());
+        assertEquals(2, response.getSuccessCount());
+        assertEquals(2, response.getFailureCount());
+        assertTrue(response.getResults().get(0).isSuccess());
+        assertFalse(response.getResults().get(1).isSuccess());
+        assertFalse(response.getResults().get(2).isSuccess());
+        assertTrue(response.getResults().get(3).isSuccess());
+        assertEquals(3, response.getResults().get(3).getIndex());
+        assertEquals(999500, summaries.get(1L).getTotalAmount());
+        assertEquals(300, summaries.get(2L).getTotalAmount());
+        // 청크 크기 2이므로 두 번의 트랜잭션으로 나누어 저장
+        verify(transactionTemplate, times(2)).execute(any());
+        verify(policyService, times(1)).getPolicy();
+    }
+
+    @Test
+    @DisplayName("대량 적립 - 요청 목록이 없거나 비어 있으면 INVALID_REQUEST")
+    void testSave_MissingRequests() {
+        for (List<PointSaveRequest> requests : Arrays.asList(null, List.<PointSaveRequest>of(),
+                Arrays.asList(PointSaveRequest.builder().userId(1L).amount(100).build(), null))) {
+            PointOperationException exception = assertThrows(PointOperationException.class,
+                    () -> pointBulkSaveService.save(requests));
+            assertEquals(PointErrorReason.INVALID_REQUEST, exception.getReason());
+        }
+        verify(transactionTemplate, never()).execute(any());
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.point.service;
+
+import com.example.point.domain.PointBalance;
+import com.example.point.domain.PointSummary;
+import com.example.point.domain.PointTransaction;
+import com.example.point.domain.enums.BalanceStatus;
+import com.example.point.domain.enums.BalanceType;
+import com.example.point.domain.enums.TransactionType;
+import com.example.point.dto.compaction.PointCompactionResult;
+import com.example.point.ledger.PointLedger;
+import com.example.point.repository.PointBalanceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PointCompactionServiceTest {
+
+    @Mock
+    private PointBalanceRepository pointBalanceRepository;
+
+    @Mock
+    private PointLedger pointLedger;
+
+    @Mock
+    private PointSummaryService pointSummaryService;
+
+    @Mock
+    private PointUserLane pointUserLane;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private PointCompactionService pointCompactionService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(pointCompactionService, "minAgeDays", 7);
+        ReflectionTestUtils.setField(pointCompactionService, "minBalances", 2);
+        ReflectionTestUtils.setField(pointCompactionService, "userChunkSize", 100);
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(pointUserLane.execute(anyLong(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+    }
+
+    @Test
+    @DisplayName("적립 건 병합 - 같은 유형, 같은 만료일의 적립 건을 하나로 병합하고 병합 대상 ID를 남긴다")
+    @SuppressWarnings("unchecked")
+    void testCompactBalances_MergesSameDayBalances() {
+        // Arrange
+        Long userId = 1L;
+        LocalDateTime now = LocalDateTime.of(2025, 6, 1, 0, 0);
+        LocalDateTime expireDay = LocalDateTime.of(2025, 12, 1, 9, 0);
+        PointBalance first = balance(1L, userId, 5, expireDay, now.minusDays(30));
+        PointBalance second = balance(2L, userId, 3, expireDay.plusHours(5), now.minusDays(20));
+        // 다른 날 만료되는 건은 병합하지 않음
+        PointBalance other = balance(3L, userId, 10, expireDay.plusDays(1), now.minusDays(20));
+        PointSummary summary = PointSummary.of(userId, Arrays.asList(first, second, other));
+
+        when(pointBalanceRepository.findCompactableUserIds(eq(BalanceStatus.ACTIVE), eq(now.minusDays(7)), eq(Long.MIN_VALUE), eq(2L), any(Pageable.class)))
+                .thenReturn(List.of(userId));
+        when(pointSummaryService.getSummary(userId)).thenReturn(summary);
+        when(pointBalanceRepository.findByUserIdAndStatusOrderByBalanceTypeAscExpireDateAsc(userId, BalanceStatus.ACTIVE))
+                .thenReturn(new ArrayList<>(Arrays.asList(first, second, other)));
+        when(pointBalanceRepository.save(any(PointBalance.class))).thenAnswer(invocation -> {
+            PointBalance target = invocation.getArgument(0);
+            ReflectionTestUtils.setField(target, "balanceId", 100L);
+            return target;
+        });
+
+        // Act
+        PointCompactionResult result = pointCompactionService.compactBalances(now);
+
+        // Assert
+        assertEquals(1, result.getUserCount());
+        assertEquals(2, result.getMergedCount());
+        assertEquals(1, result.getCreatedCount());
+        assertEquals(1, result.getReclaimedCount());
+        assertNull(result.getFailure());
+
+        assertEquals(BalanceStatus.MERGED, first.getStatus());
+        assertEquals(100L, first.getMergedBalanceId());
+        assertEquals(0, second.getRemainAmount());
+        assertEquals(BalanceStatus.ACTIVE, other.getStatus());
+        // 총 잔액은 그대로 유지
+        assertEquals(18, summary.getTotalAmount());
+
+        ArgumentCaptor<PointBalance> targetCaptor = ArgumentCaptor.forClass(PointBalance.class);
+        verify(pointBalanceRepository).save(targetCaptor.capture());
+        assertEquals(8, targetCaptor.getValue().getRemainAmount());
+        assertEquals(expireDay.plusHours(5), targetCaptor.getValue().getExpireDate());
+        assertTrue(targetCaptor.getValue().isMergeTarget());
+
+        ArgumentCaptor<List<PointTransaction>> transactionCaptor = ArgumentCaptor.forClass(List.class);
+        verify(pointLedger).append(transactionCaptor.capture());
+        List<PointTransaction> transactions = transactionCaptor.getValue();
+        assertEquals(3, transactions.size());
+        assertEquals(TransactionType.MERGE, transactions.get(0).getTransactionType());
+        assertEquals(0, transactions.stream().mapToInt(PointTransaction::getPointChange).sum());
+    }
+
+    @Test
+    @DisplayName("적립 건 병합 - 한 사용자의 병합이 실패해도 실패 수에 더하고 다음 사용자를 계속 병합한다")
+    void testCompactBalances_IsolatesFailedUser() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.of(2025, 6, 1, 0, 0);
+        LocalDateTime expireDay = LocalDateTime.of(2025, 12, 1, 9, 0);
+        PointBalance first = balance(1L, 2L, 5, expireDay, now.minusDays(30));
+        PointBalance second = balance(2L, 2L, 3, expireDay, now.minusDays(20));
+        PointSummary summary = PointSummary.of(2L, Arrays.asList(first, second));
+
+        when(pointBalanceRepository.findCompactableUserIds(eq(BalanceStatus.ACTIVE), eq(now.minusDays(7)), eq(Long.MIN_VALUE), eq(2L), any(Pageable.class)))
+                .thenReturn(List.of(1L, 2L));
+        when(pointSummaryService.getSummary(1L)).thenThrow(new IllegalStateException("DB 오류"));
+        when(pointSummaryService.getSummary(2L)).thenReturn(summary);
+        when(pointBalanceRepository.findByUserIdAndStatusOrderByBalanceTypeAscExpireDateAsc(2L, BalanceStatus.ACTIVE))
+                .thenReturn(new ArrayList<>(Arrays.asList(first, second)));
+        when(pointBalanceRepository.save(any(PointBalance.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        PointCompactionResult result = pointCompactionService.compactBalances(now);
+
+        // Assert
+        assertEquals(1, result.getFailedCount());
+        assertEquals("DB 오류", result.getFailure());
+        assertEquals(1, result.getUserCount());
+        assertEquals(2, result.getMergedCount());
+        assertEquals(BalanceStatus.MERGED, first.getStatus());
+    }
+
+    private PointBalance balance(Long balanceId, Long userId, int amount, LocalDateTime expireDate, LocalDateTime createDate) {
+        return PointBalance.builder()
+                .balanceId(balanceId)
+                .userId(userId)
+                .amount(amount)
+                .remainAmount(amount)
+                .balanceType(BalanceType.MANUAL)
+                .createDate(createDate)
+                .expireDate(expireDate)
+                .status(BalanceStatus.ACTIVE)
+                .build();
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.point.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * 같은 시나리오를 사용자 요약 행의 비관적 락(SELECT ... FOR UPDATE)으로 직렬화해도 차감이 유실되지 않는지 검증한다.
+ */
+@DisplayName("PointService 동시성 검증 - 비관적 락")
+@SpringBootTest(properties = {
+        "point.concurrency.mode=PESSIMISTIC",
+        "spring.datasource.url=jdbc:h2:mem:pointdb-pessimistic;LOCK_TIMEOUT=10000"
+})
+class PointConcurrencyPessimisticTest extends PointConcurrencyTest {
+}
@@ -0,0 +1,103 @@
+package com.example.point.service;
+
+import com.example.point.domain.PointBalance;
+import com.example.point.domain.enums.BalanceStatus;
+import com.example.point.dto.save.PointSaveRequest;
+import com.example.point.dto.use.PointUseRequest;
+import com.example.point.repository.PointBalanceRepository;
+import com.example.point.repository.PointSummaryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 같은 사용자에 대한 동시 사용 요청이 유실되지 않는지 검증한다.
+ * 기본 설정은 LANE 모드이며, 비관적 락 모드는 {@link PointConcurrencyPessimisticTest}에서 검증한다.
+ * 두 모드의 처리량 비교는 JMH의 PointConcurrencyBenchmark에서 측정한다.
+ */
+@DisplayName("PointService 동시성 검증")
+@SpringBootTest
+class PointConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int USES_PER_THREAD = 50;
+    private static final int USE_AMOUNT = 10;
+
+    @Autowired
+    protected PointService pointService;
+
+    @Autowired
+    protected PointUserLane pointUserLane;
+
+    @Autowired
+    protected PointBalanceRepository pointBalanceRepository;
+
+    @Autowired
+    protected PointSummaryRepository pointSummaryRepository;
+
+    @DisplayName("동시 사용 - 같은 사용자의 동시 사용에서도 차감이 유실되지 않는다")
+    @Test
+    void testConcurrentUse_NoLostUpdate() throws Exception {
+        // Arrange
+        Long userId = 3000L + pointUserLane.getMode().ordinal();
+        for (int i = 0; i < 5; i++) {
+            pointService.save(PointSaveRequest.builder().userId(userId).amount(2000).build());
+        }
+        // 다른 사용자들의 요청도 함께 처리되어 사용자 간 병렬성이 유지되는지 확인
+        List<Long> otherUsers = new ArrayList<>();
+        for (int i = 1; i <= THREADS; i++) {
+            Long otherUserId = userId * 100 + i;
+            pointService.save(PointSaveRequest.builder().userId(otherUserId).amount(USES_PER_THREAD * USE_AMOUNT).build());
+            otherUsers.add(otherUserId);
+        }
+
+        // Act
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS * 2);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < USES_PER_THREAD; i++) {
+                    pointService.use(userId, PointUseRequest.builder()
+                            .usageAmount(USE_AMOUNT)
+                            .orderId("SAME-" + thread + "-" + i)
+                            .build());
+                }
+            }));
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < USES_PER_THREAD; i++) {
+                    pointService.use(otherUsers.get(thread), PointUseRequest.builder()
+                            .usageAmount(USE_AMOUNT)
+                            .orderId("OTHER-" + thread + "-" + i)
+                            .build());
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        // Assert
+        int expectedRemain = 10000 - THREADS * USES_PER_THREAD * USE_AMOUNT;
+        int balanceRemain = pointBalanceRepository
+                .findByUserIdAndStatusOrderByBalanceTypeAscExpireDateAsc(userId, BalanceStatus.ACTIVE)
+                .stream().mapToInt(PointBalance::getRemainAmount).sum();
+        assertEquals(expectedRemain, balanceRemain, "잔액 차감이 유실되지 않아야 한다");
+        assertEquals(expectedRemain, pointSummaryRepository.findById(userId).orElseThrow().getTotalAmount());
+        for (Long otherUserId : otherUsers) {
+            assertEquals(0, pointSummaryRepository.findById(otherUserId).orElseThrow().getTotalAmount());
+        }
+    }
+}
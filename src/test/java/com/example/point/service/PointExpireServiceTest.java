@@ -0,0 +1,221 @@
+package com.example.point.service;
+
+import com.example.point.domain.PointBalance;
+import com.example.point.domain.PointSummary;
+import com.example.point.domain.PointTransaction;
+import com.example.point.domain.enums.BalanceStatus;
+import com.example.point.domain.enums.BalanceType;
+import com.example.point.domain.enums.TransactionType;
+import com.example.point.dto.expire.PointExpireResult;
+import com.example.point.engine.PointMemoryEngine;
+import com.example.point.ledger.PointLedger;
+import com.example.point.metrics.PointMetrics;
+import com.example.point.repository.PointBalanceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PointExpireServiceTest {
+
+    @Mock
+    private PointBalanceRepository pointBalanceRepository;
+
+    @Mock
+    private PointLedger pointLedger;
+
+    @Mock
+    private PointSummaryService pointSummaryService;
+
+    @Mock
+    private PointUserLane pointUserLane;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private PointOutboxService pointOutboxService;
+
+    @Mock
+    private PointMetrics pointMetrics;
+
+    @Mock
+    private PointMemoryEngine pointMemoryEngine;
+
+    @InjectMocks
+    private PointExpireService pointExpireService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(pointExpireService, "chunkSize", 2);
+        ReflectionTestUtils.setField(pointExpireService, "lockBatchUsers", 16);
+        ReflectionTestUtils.setField(pointExpireService, "maxReport", 10);
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        lenient().when(pointUserLane.executeAll(anyCollection(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+        lenient().when(pointUserLane.execute(anyLong(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+    }
+
+    @Test
+    @DisplayName("포인트 만료 - 만료일이 지난 잔액을 청크 단위로 EXPIRED 처리하고 만료 거래를 남긴다")
+    void testExpireBalances_Chunked() {
+        // Arrange
+        Long userId = 1L;
+        LocalDateTime now = LocalDateTime.of(2025, 6, 1, 0, 0);
+        PointBalance first = balance(1L, userId, 300, now.minusDays(3));
+        PointBalance second = balance(2L, userId, 200, now.minusDays(2));
+        PointBalance third = balance(3L, userId, 100, now.minusDays(1));
+
+        when(pointBalanceRepository.findExpirableBalances(eq(BalanceStatus.ACTIVE), eq(now), any(Pageable.class)))
+                .thenReturn(Arrays.asList(first, second));
+        when(pointBalanceRepository.findExpirableBalancesAfter(eq(BalanceStatus.ACTIVE), eq(now),
+                eq(second.getExpireDate()), eq(2L), any(Pageable.class)))
+                .thenReturn(Collections.singletonList(third));
+        when(pointBalanceRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(first, second));
+        when(pointBalanceRepository.findAllById(List.of(3L))).thenReturn(List.of(third));
+        PointSummary summary = PointSummary.of(userId, Arrays.asList(first, second, third));
+        when(pointSummaryService.getSummary(userId)).thenReturn(summary);
+
+        // Act
+        PointExpireResult result = pointExpireService.expireBalances(now);
+
+        // Assert
+        assertEquals(3, result.getExpiredCount());
+        assertEquals(600, result.getExpiredPoints());
+        assertEquals(2, result.getChunkCount());
+        assertEquals(3 * 24 * 60 * 60, result.getMaxLagSeconds());
+        assertEquals(BalanceStatus.EXPIRED, first.getStatus());
+        assertEquals(BalanceStatus.EXPIRED, third.getStatus());
+        assertEquals(0, summary.getTotalAmount(), "만료된 포인트는 요약에서 차감되어야 한다");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PointTransaction>> captor = ArgumentCaptor.forClass(List.class);
+        verify(pointLedger, times(2)).append(captor.capture());
+        PointTransaction expireTx = captor.getAllValues().get(0).get(0);
+        assertEquals(TransactionType.EXPIRE, expireTx.getTransactionType());
+        assertEquals(-300, expireTx.getPointChange());
+        verify(pointMetrics).recordExpireRun(3, 600L, result.getElapsedMillis(), 3 * 24 * 60 * 60L, false);
+    }
+
+    @Test
+    @DisplayName("포인트 만료 - 만료하면 잔액이 보류 금액보다 작아지는 적립 건은 건너뛴다")
+    void testExpireBalances_SkipsHeldPoints() {
+        // Arrange
+        Long userId = 1L;
+        LocalDateTime now = LocalDateTime.of(2025, 6, 1, 0, 0);
+        PointBalance held = balance(1L, userId, 300, now.minusDays(2));
+        PointBalance expirable = balance(2L, userId, 200, now.minusDays(1));
+        when(pointBalanceRepository.findExpirableBalances(eq(BalanceStatus.ACTIVE), eq(now), any(Pageable.class)))
+                .thenReturn(Arrays.asList(held, expirable));
+        when(pointBalanceRepository.findExpirableBalancesAfter(eq(BalanceStatus.ACTIVE), eq(now),
+                eq(expirable.getExpireDate()), eq(2L), any(Pageable.class)))
+                .thenReturn(Collections.emptyList());
+        when(pointBalanceRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(held, expirable));
+        PointSummary summary = PointSummary.builder()
+                .userId(userId)
+                .totalAmount(500)
+                .purchaseAmount(500)
+                .heldAmount(250)
+                .build();
+        when(pointSummaryService.getSummary(userId)).thenReturn(summary);
+
+        // Act
+        PointExpireResult result = pointExpireService.expireBalances(now);
+
+        // Assert
+        assertEquals(1, result.getExpiredCount());
+        assertEquals(200, result.getExpiredPoints());
+        assertEquals(BalanceStatus.ACTIVE, held.getStatus(), "보류된 포인트는 만료하지 않아야 한다");
+        assertEquals(BalanceStatus.EXPIRED, expirable.getStatus());
+        assertEquals(300, summary.getTotalAmount());
+        assertEquals(50, summary.getAvailableAmount());
+        verify(pointBalanceRepository).saveAll(List.of(expirable));
+    }
+
+    @Test
+    @DisplayName("포인트 만료 - 한 사용자의 만료가 실패해도 다른 사용자는 만료하고 실패한 적립 건을 건너뛴 것으로 보고한다")
+    void testExpireBalances_IsolatesFailedUser() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.of(2025, 6, 1, 0, 0);
+        PointBalance ok = balance(1L, 1L, 300, now.minusDays(2));
+        PointBalance broken = balance(2L, 2L, 200, now.minusDays(1));
+        when(pointBalanceRepository.findExpirableBalances(eq(BalanceStatus.ACTIVE), eq(now), any(Pageable.class)))
+                .thenReturn(Arrays.asList(ok, broken));
+        when(pointBalanceRepository.findExpirableBalancesAfter(eq(BalanceStatus.ACTIVE), eq(now),
+                eq(broken.getExpireDate()), eq(2L), any(Pageable.class)))
+                .thenReturn(Collections.emptyList());
+        // 구간 트랜잭션은 롤백되므로 사용자별 재시도에서는 적립 건을 새로 읽음
+        when(pointBalanceRepository.findAllById(List.of(1L, 2L)))
+                .thenReturn(List.of(balance(1L, 1L, 300, now.minusDays(2)), balance(2L, 2L, 200, now.minusDays(1))));
+        when(pointBalanceRepository.findAllById(List.of(1L))).thenReturn(List.of(ok));
+        when(pointBalanceRepository.findAllById(List.of(2L))).thenReturn(List.of(broken));
+        when(pointSummaryService.getSummary(1L)).thenAnswer(invocation -> PointSummary.of(1L, List.of(balance(1L, 1L, 300, now.minusDays(2)))));
+        when(pointSummaryService.getSummary(2L)).thenThrow(new IllegalStateException("요약 버전 충돌"));
+
+        // Act
+        PointExpireResult result = pointExpireService.expireBalances(now);
+
+        // Assert
+        assertEquals(1, result.getExpiredCount());
+        assertEquals(300, result.getExpiredPoints());
+        assertEquals(1, result.getSkippedCount());
+        assertEquals(List.of(2L), result.getSkippedBalanceIds());
+        assertEquals("요약 버전 충돌", result.getFailure());
+        assertEquals(BalanceStatus.EXPIRED, ok.getStatus());
+        assertEquals(BalanceStatus.ACTIVE, broken.getStatus());
+        verify(pointMetrics).recordExpireRun(1, 300L, result.getElapsedMillis(), 2 * 24 * 60 * 60L, true);
+    }
+
+    @Test
+    @DisplayName("포인트 만료 - 메모리 엔진 모드에서는 주기 작업이 DB 적립 건을 만료하지 않는다")
+    void testScheduledExpire_SkippedInMemoryEngineMode() {
+        // Arrange
+        when(pointMemoryEngine.isEnabled()).thenReturn(true);
+
+        // Act
+        pointExpireService.scheduledExpire();
+
+        // Assert
+        verifyNoInteractions(pointBalanceRepository, pointSummaryService, pointLedger);
+    }
+
+    private PointBalance balance(Long balanceId, Long userId, int remainAmount, LocalDateTime expireDate) {
+        return PointBalance.builder()
+                .balanceId(balanceId)
+                .userId(userId)
+                .amount(remainAmount)
+                .remainAmount(remainAmount)
+                .balanceType(BalanceType.PURCHASE)
+                .expireDate(expireDate)
+                .status(BalanceStatus.ACTIVE)
+                .build();
+    }
+}
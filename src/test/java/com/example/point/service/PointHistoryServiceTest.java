@@ -0,0 +1,113 @@
+package com.example.point.service;
+
+import com.example.point.domain.enums.TransactionType;
+import com.example.point.dto.history.PointHistoryItem;
+import com.example.point.dto.history.PointHistoryResponse;
+import com.example.point.exception.PointOperationException;
+import com.example.point.ledger.PointLedger;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PointHistoryServiceTest {
+
+    @Mock
+    private PointLedger pointLedger;
+
+    private PointHistoryService pointHistoryService;
+
+    @BeforeEach
+    void setUp() {
+        pointHistoryService = new PointHistoryService(pointLedger, new ObjectMapper().findAndRegisterModules());
+        ReflectionTestUtils.setField(pointHistoryService, "maxPageSize", 100);
+        ReflectionTestUtils.setField(pointHistoryService, "exportFlushSize", 2);
+    }
+
+    @Test
+    @DisplayName("이력 조회 - 다음 페이지가 있으면 마지막 거래 위치를 커서로 반환한다")
+    void testGetHistory_NextCursor() {
+        // Arrange
+        Long userId = 1L;
+        LocalDateTime now = LocalDateTime.of(2025, 3, 1, 12, 0);
+        when(pointLedger.findHistoryBefore(eq(userId), any(), any(), any(), eq(PageRequest.of(0, 3))))
+                .thenReturn(Arrays.asList(item(30L, now), item(20L, now.minusMinutes(1)), item(10L, now.minusMinutes(2))));
+
+        // Act
+        PointHistoryResponse first = pointHistoryService.getHistory(userId, null, 2, null, null);
+
+        // Assert
+        assertEquals(2, first.getItems().size());
+        assertNotNull(first.getNextCursor());
+
+        // 커서로 다음 페이지를 요청하면 마지막 거래의 (일시, ID) 이전부터 조회
+        when(pointLedger.findHistoryBefore(eq(userId), any(), eq(now.minusMinutes(1)), eq(20L), eq(PageRequest.of(0, 3))))
+                .thenReturn(Arrays.asList(item(10L, now.minusMinutes(2))));
+        PointHistoryResponse second = pointHistoryService.getHistory(userId, first.getNextCursor(), 2, null, null);
+        assertEquals(1, second.getItems().size());
+        assertNull(second.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("이력 조회 - 잘못된 커서나 페이지 크기는 예외가 발생한다")
+    void testGetHistory_InvalidRequest() {
+        assertThrows(PointOperationException.class, () -> pointHistoryService.getHistory(1L, "invalid-cursor", 20, null, null));
+        assertThrows(PointOperationException.class, () -> pointHistoryService.getHistory(1L, null, 0, null, null));
+        assertThrows(PointOperationException.class, () -> pointHistoryService.getHistory(1L, null, 101, null, null));
+    }
+
+    @Test
+    @DisplayName("이력 내보내기 - 읽은 거래를 한 줄에 하나씩 NDJSON으로 기록한다")
+    void testExportHistory_WritesNdjson() {
+        // Arrange
+        Long userId = 1L;
+        LocalDateTime from = LocalDateTime.of(2025, 1, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2025, 2, 1, 0, 0);
+        when(pointLedger.streamHistory(userId, from, to))
+                .thenReturn(Stream.of(item(1L, from), item(2L, from.plusDays(1)), item(3L, from.plusDays(2))));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        long written = pointHistoryService.exportHistory(userId, from, to, out);
+
+        // Assert
+        assertEquals(3, written);
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].contains("\"transactionId\":1"));
+        verify(pointLedger).streamHistory(userId, from, to);
+    }
+
+    private PointHistoryItem item(Long transactionId, LocalDateTime transactionDate) {
+        return PointHistoryItem.builder()
+                .transactionId(transactionId)
+                .userId(1L)
+                .balanceId(1L)
+                .transactionType(TransactionType.SAVE)
+                .pointChange(100)
+                .transactionDate(transactionDate)
+                .build();
+    }
+}
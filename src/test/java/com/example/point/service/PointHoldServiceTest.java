@@ -0,0 +1,233 @@
+package com.example.point.service;
+
+import com.example.point.domain.PointHold;
+import com.example.point.domain.PointSummary;
+import com.example.point.domain.enums.HoldStatus;
+import com.example.point.dto.hold.PointHoldRequest;
+import com.example.point.dto.hold.PointHoldResponse;
+import com.example.point.dto.use.PointUseRequest;
+import com.example.point.dto.use.PointUseResponse;
+import com.example.point.exception.PointErrorReason;
+import com.example.point.exception.PointOperationException;
+import com.example.point.repository.PointHoldRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PointHoldServiceTest {
+
+    @Mock
+    private PointHoldRepository pointHoldRepository;
+
+    @Mock
+    private PointSummaryService pointSummaryService;
+
+    @Mock
+    private PointUseService pointUseService;
+
+    @Mock
+    private PointUserLane pointUserLane;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private PointHoldService pointHoldService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(pointHoldService, "defaultTtlSeconds", 900);
+        ReflectionTestUtils.setField(pointHoldService, "maxTtlSeconds", 3600);
+        ReflectionTestUtils.setField(pointHoldService, "expireChunkSize", 500);
+        ReflectionTestUtils.setField(pointHoldService, "lockBatchUsers", 16);
+        lenient().when(pointUserLane.executeAll(any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+    }
+
+    @Test
+    @DisplayName("포인트 보류 - 요약의 보류 금액만 늘리고 적립 건은 차감하지 않는다")
+    void testHold_Success() {
+        // Arrange
+        Long userId = 1L;
+        PointSummary summary = summary(userId, 1000, 0);
+        when(pointSummaryService.getSummary(userId)).thenReturn(summary);
+        when(pointHoldRepository.save(any(PointHold.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        PointHoldResponse response = pointHoldService.hold(PointHoldRequest.builder()
+                .userId(userId).orderId("ORDER-1").amount(300).build());
+
+        // Assert
+        assertEquals(HoldStatus.HELD, response.getStatus());
+        assertEquals(700, response.getAvailableAmount());
+        assertEquals(300, summary.getHeldAmount());
+        verify(pointSummaryService).update(summary);
+        verify(pointUseService, never()).use(any(), any());
+    }
+
+    @Test
+    @DisplayName("포인트 보류 - 이미 보류된 금액을 제외한 잔액이 부족하면 예외가 발생한다")
+    void testHold_InsufficientAvailable() {
+        // Arrange
+        Long userId = 1L;
+        when(pointSummaryService.getSummary(userId)).thenReturn(summary(userId, 1000, 800));
+
+        // Act & Assert
+        PointOperationException exception = assertThrows(PointOperationException.class, () -> pointHoldService.hold(
+                PointHoldRequest.builder().userId(userId).orderId("ORDER-2").amount(300).build()));
+        assertEquals(PointErrorReason.INSUFFICIENT_BALANCE, exception.getReason());
+    }
+
+    @Test
+    @DisplayName("보류 확정 - 보류를 해제하고 같은 금액과 주문으로 사용 처리한다")
+    void testCapture_UsesHeldAmount() {
+        // Arrange
+        Long userId = 1L;
+        PointHold hold = hold(10L, userId, 300, LocalDateTime.now().plusMinutes(10));
+        PointSummary summary = summary(userId, 1000, 300);
+        when(pointHoldRepository.findById(10L)).thenReturn(Optional.of(hold));
+        when(pointSummaryService.getSummary(userId)).thenReturn(summary);
+        when(pointUseService.use(eq(userId), any(PointUseRequest.class)))
+                .thenReturn(PointUseResponse.from(userId, "ORDER-1", 300, 700));
+
+        // Act
+        pointHoldService.capture(10L);
+
+        // Assert
+        assertEquals(HoldStatus.CAPTURED, hold.getStatus());
+        assertEquals(0, summary.getHeldAmount());
+        ArgumentCaptor<PointUseRequest> captor = ArgumentCaptor.forClass(PointUseRequest.class);
+        verify(pointUseService).use(eq(userId), captor.capture());
+        assertEquals(300, captor.getValue().getUsageAmount());
+        assertEquals("ORDER-1", captor.getValue().getOrderId());
+    }
+
+    @Test
+    @DisplayName("보류 확정 - 유효 시간이 지난 보류는 확정할 수 없다")
+    void testCapture_Expired() {
+        // Arrange
+        Long userId = 1L;
+        when(pointHoldRepository.findById(10L)).thenReturn(Optional.of(hold(10L, userId, 300, LocalDateTime.now().minusSeconds(1))));
+        when(pointSummaryService.getSummary(userId)).thenReturn(summary(userId, 1000, 300));
+
+        // Act & Assert
+        PointOperationException exception = assertThrows(PointOperationException.class, () -> pointHoldService.capture(10L));
+        assertEquals(PointErrorReason.HOLD_NOT_ACTIVE, exception.getReason());
+        verify(pointUseService, never()).use(any(), any());
+    }
+
+    @Test
+    @DisplayName("보류 만료 - 유효 시간이 지난 보류를 만료 처리하고 보류 금액을 돌려놓는다")
+    void testExpireHolds() {
+        // Arrange
+        Long userId = 1L;
+        LocalDateTime now = LocalDateTime.now();
+        PointHold first = hold(1L, userId, 100, now.minusMinutes(2));
+        PointHold second = hold(2L, userId, 200, now.minusMinutes(1));
+        PointSummary summary = summary(userId, 1000, 300);
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(pointHoldRepository.findExpiredHoldsAfter(eq(HoldStatus.HELD), eq(now), any(), any(), any(Pageable.class)))
+                .thenReturn(Arrays.asList(first, second));
+        when(pointHoldRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(first, second));
+        when(pointSummaryService.getSummary(userId)).thenReturn(summary);
+
+        // Act
+        int expired = pointHoldService.expireHolds(now);
+
+        // Assert
+        assertEquals(2, expired);
+        assertEquals(HoldStatus.EXPIRED, first.getStatus());
+        assertEquals(HoldStatus.EXPIRED, second.getStatus());
+        assertEquals(0, summary.getHeldAmount());
+        verify(pointSummaryService).update(summary);
+    }
+
+    @Test
+    @DisplayName("보류 만료 - 한 구간의 만료가 실패해도 건너뛰고 다음 구간의 보류를 계속 만료한다")
+    void testExpireHolds_IsolatesFailedSlice() {
+        // Arrange
+        ReflectionTestUtils.setField(pointHoldService, "lockBatchUsers", 1);
+        LocalDateTime now = LocalDateTime.now();
+        PointHold failing = hold(1L, 1L, 100, now.minusMinutes(2));
+        PointHold other = hold(2L, 2L, 200, now.minusMinutes(1));
+        PointSummary summary = summary(2L, 1000, 200);
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(pointHoldRepository.findExpiredHoldsAfter(eq(HoldStatus.HELD), eq(now), any(), any(), any(Pageable.class)))
+                .thenReturn(Arrays.asList(failing, other));
+        when(pointHoldRepository.findAllById(List.of(1L))).thenThrow(new IllegalStateException("DB 오류"));
+        when(pointHoldRepository.findAllById(List.of(2L))).thenReturn(List.of(other));
+        when(pointSummaryService.getSummary(2L)).thenReturn(summary);
+
+        // Act
+        int expired = pointHoldService.expireHolds(now);
+
+        // Assert
+        assertEquals(1, expired);
+        assertEquals(HoldStatus.HELD, failing.getStatus());
+        assertEquals(HoldStatus.EXPIRED, other.getStatus());
+        assertEquals(0, summary.getHeldAmount());
+    }
+
+    @Test
+    @DisplayName("보류 해제 - 요약의 보류 금액보다 큰 보류를 해제하면 보정하지 않고 실패한다")
+    void testRelease_HeldAmountMismatch() {
+        // Arrange
+        Long userId = 1L;
+        PointSummary summary = summary(userId, 1000, 100);
+        when(pointHoldRepository.findById(10L)).thenReturn(Optional.of(hold(10L, userId, 300, LocalDateTime.now().plusMinutes(10))));
+        when(pointSummaryService.getSummary(userId)).thenReturn(summary);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> pointHoldService.release(10L));
+        assertEquals(100, summary.getHeldAmount());
+        verify(pointSummaryService, never()).update(any());
+    }
+
+    private PointSummary summary(Long userId, int totalAmount, int heldAmount) {
+        return PointSummary.builder()
+                .userId(userId)
+                .totalAmount(totalAmount)
+                .purchaseAmount(totalAmount)
+                .heldAmount(heldAmount)
+                .build();
+    }
+
+    private PointHold hold(Long holdId, Long userId, int amount, LocalDateTime expireDate) {
+        return PointHold.builder()
+                .holdId(holdId)
+                .userId(userId)
+                .orderId("ORDER-1")
+                .amount(amount)
+                .status(HoldStatus.HELD)
+                .createDate(expireDate.minusMinutes(15))
+                .expireDate(expireDate)
+                .build();
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.point.service;
+
+import com.example.point.domain.PointIdempotencyKey;
+import com.example.point.dto.use.PointUseResponse;
+import com.example.point.exception.PointErrorReason;
+import com.example.point.exception.PointOperationException;
+import com.example.point.repository.PointIdempotencyKeyRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PointIdempotencyServiceTest {
+
+    @Mock
+    private PointIdempotencyKeyRepository idempotencyKeyRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private PointIdempotencyService idempotencyService;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyService = new PointIdempotencyService(idempotencyKeyRepository, objectMapper, 2, 24);
+    }
+
+    @Test
+    @DisplayName("멱등성 키 - 같은 키로 재시도하면 캐시된 응답을 반환하고 다시 처리하지 않는다")
+    void testExecute_ReturnsCachedResponse() {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+        PointUseResponse response = PointUseResponse.from(1L, "ORDER-1", 100, 900);
+
+        // Act
+        PointUseResponse first = idempotencyService.execute("use", 1L, "key-1", "ORDER-1", PointUseResponse.class,
+                () -> { calls.incrementAndGet(); return response; });
+        PointUseResponse second = idempotencyService.execute("use", 1L, "key-1", "ORDER-1", PointUseResponse.class,
+                () -> { calls.incrementAndGet(); return response; });
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    @DisplayName("멱등성 키 - 실패한 요청은 저장하지 않아 재시도 시 다시 처리된다")
+    void testExecute_FailureIsNotCached() {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+
+        // Act
+        assertThrows(PointOperationException.class, () -> idempotencyService.execute("use", 1L, "key-1", "ORDER-1", PointUseResponse.class,
+                () -> {
+                    calls.incrementAndGet();
+                    throw new PointOperationException(PointErrorReason.INSUFFICIENT_BALANCE, "잔액이 부족합니다.");
+                }));
+        idempotencyService.execute("use", 1L, "key-1", "ORDER-1", PointUseResponse.class,
+                () -> { calls.incrementAndGet(); return PointUseResponse.from(1L, "ORDER-1", 100, 900); });
+
+        // Assert
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    @DisplayName("멱등성 키 - 키가 없으면 매번 처리하고 저장소를 사용하지 않는다")
+    void testExecuteOnce_WithoutKey() {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+
+        // Act
+        idempotencyService.executeOnce("use", 1L, null, "ORDER-1", PointUseResponse.class,
+                () -> { calls.incrementAndGet(); return PointUseResponse.from(1L, "ORDER-1", 100, 900); });
+        idempotencyService.executeOnce("use", 1L, " ", "ORDER-1", PointUseResponse.class,
+                () -> { calls.incrementAndGet(); return PointUseResponse.from(1L, "ORDER-1", 100, 900); });
+
+        // Assert
+        assertEquals(2, calls.get());
+        verifyNoInteractions(idempotencyKeyRepository);
+    }
+
+    @Test
+    @DisplayName("멱등성 키 - 처음 처리한 키는 응답과 함께 저장한다")
+    void testExecuteOnce_StoresResponse() throws Exception {
+        // Arrange
+        when(idempotencyKeyRepository.findById("use:1:key-1")).thenReturn(Optional.empty());
+
+        // Act
+        idempotencyService.executeOnce("use", 1L, "key-1", "ORDER-1", PointUseResponse.class,
+                () -> PointUseResponse.from(1L, "ORDER-1", 100, 900));
+
+        // Assert
+        ArgumentCaptor<PointIdempotencyKey> captor = ArgumentCaptor.forClass(PointIdempotencyKey.class);
+        verify(idempotencyKeyRepository).save(captor.capture());
+        assertEquals("use:1:key-1", captor.getValue().getIdempotencyKey());
+        assertEquals("use", captor.getValue().getOperation());
+        assertEquals(sha256("\"ORDER-1\""), captor.getValue().getPayloadHash());
+    }
+
+    @Test
+    @DisplayName("멱등성 키 - 이미 처리된 키면 저장된 응답을 반환하고 오퍼레이션을 실행하지 않는다")
+    void testExecuteOnce_ReturnsStoredResponse() throws Exception {
+        // Arrange
+        PointUseResponse stored = PointUseResponse.from(1L, "ORDER-1", 100, 900);
+        when(idempotencyKeyRepository.findById("use:1:key-1")).thenReturn(Optional.of(
+                PointIdempotencyKey.of("use:1:key-1", "use", sha256("\"ORDER-1\""), objectMapper.writeValueAsString(stored),
+                        stored.getTransactionDate())));
+        AtomicInteger calls = new AtomicInteger();
+
+        // Act
+        PointUseResponse response = idempotencyService.executeOnce("use", 1L, "key-1", "ORDER-1", PointUseResponse.class,
+                () -> { calls.incrementAndGet(); return PointUseResponse.from(1L, "ORDER-1", 100, 800); });
+
+        // Assert
+        assertEquals(0, calls.get());
+        assertEquals("ORDER-1", response.getOrderId());
+        assertEquals(900, response.getTotalRemaining());
+        verify(idempotencyKeyRepository, never()).save(any(PointIdempotencyKey.class));
+    }
+
+    @Test
+    @DisplayName("멱등성 키 - 같은 키로 다른 요청을 보내면 처리하지 않고 IDEMPOTENCY_KEY_REUSED로 거절한다")
+    void testExecute_RejectsDifferentPayload() {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+        idempotencyService.execute("use", 1L, "key-1", "ORDER-1", PointUseResponse.class,
+                () -> { calls.incrementAndGet(); return PointUseResponse.from(1L, "ORDER-1", 100, 900); });
+
+        // Act
+        PointOperationException exception = assertThrows(PointOperationException.class,
+                () -> idempotencyService.execute("use", 1L, "key-1", "ORDER-2", PointUseResponse.class,
+                        () -> { calls.incrementAndGet(); return PointUseResponse.from(1L, "ORDER-2", 100, 800); }));
+
+        // Assert
+        assertEquals(PointErrorReason.IDEMPOTENCY_KEY_REUSED, exception.getReason());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    @DisplayName("멱등성 키 - 저장된 키의 요청 해시가 다르면 IDEMPOTENCY_KEY_REUSED로 거절한다")
+    void testExecuteOnce_RejectsDifferentPayload() throws Exception {
+        // Arrange
+        PointUseResponse stored = PointUseResponse.from(1L, "ORDER-1", 100, 900);
+        when(idempotencyKeyRepository.findById("use:1:key-1")).thenReturn(Optional.of(
+                PointIdempotencyKey.of("use:1:key-1", "use", sha256("\"ORDER-1\""), objectMapper.writeValueAsString(stored),
+                        stored.getTransactionDate())));
+        AtomicInteger calls = new AtomicInteger();
+
+        // Act
+        PointOperationException exception = assertThrows(PointOperationException.class,
+                () -> idempotencyService.executeOnce("use", 1L, "key-1", "ORDER-2", PointUseResponse.class,
+                        () -> { calls.incrementAndGet(); return PointUseResponse.from(1L, "ORDER-2", 100, 800); }));
+
+        // Assert
+        assertEquals(PointErrorReason.IDEMPOTENCY_KEY_REUSED, exception.getReason());
+        assertEquals(0, calls.get());
+        verify(idempotencyKeyRepository, never()).save(any(PointIdempotencyKey.class));
+    }
+
+    private String sha256(String json) throws NoSuchAlgorithmException {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(json.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.point.service;
+
+import com.example.point.domain.PointOutboxEvent;
+import com.example.point.domain.PointTransaction;
+import com.example.point.domain.enums.TransactionType;
+import com.example.point.dto.event.PointEventPayload;
+import com.example.point.repository.PointOutboxEventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class PointOutboxServiceTest {
+
+    @Mock
+    private PointOutboxEventRepository pointOutboxEventRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private PointOutboxService pointOutboxService;
+
+    @BeforeEach
+    void setUp() {
+        pointOutboxService = new PointOutboxService(pointOutboxEventRepository, objectMapper);
+    }
+
+    @Test
+    @DisplayName("아웃박스 기록 - 같은 사용자, 같은 유형의 거래는 하나의 이벤트로 묶는다")
+    @SuppressWarnings("unchecked")
+    void testAppend_GroupsByUserAndType() throws Exception {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        List<PointTransaction> transactions = Arrays.asList(
+                transaction(1L, 1L, TransactionType.USE, -300, now),
+                transaction(2L, 1L, TransactionType.USE, -200, now),
+                transaction(3L, 2L, TransactionType.USE, -100, now));
+
+        // Act
+        pointOutboxService.append(transactions);
+
+        // Assert
+        ArgumentCaptor<List<PointOutboxEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(pointOutboxEventRepository).saveAll(captor.capture());
+        List<PointOutboxEvent> events = captor.getValue();
+        assertEquals(2, events.size());
+        assertEquals(1L, events.get(0).getUserId());
+
+        PointEventPayload payload = objectMapper.readValue(events.get(0).getPayload(), PointEventPayload.class);
+        assertEquals(-500, payload.getPointChange());
+        assertEquals(Arrays.asList(1L, 2L), payload.getTransactionIds());
+        assertEquals("ORDER-1", payload.getOrderId());
+    }
+
+    @Test
+    @DisplayName("아웃박스 기록 - 거래가 없으면 기록하지 않는다")
+    void testAppend_Empty() {
+        // Act
+        pointOutboxService.append(Collections.emptyList());
+
+        // Assert
+        verifyNoInteractions(pointOutboxEventRepository);
+    }
+
+    private PointTransaction transaction(Long transactionId, Long userId, TransactionType type, int pointChange, LocalDateTime now) {
+        return PointTransaction.builder()
+                .transactionId(transactionId)
+                .userId(userId)
+                .balanceId(transactionId)
+                .transactionType(type)
+                .pointChange(pointChange)
+                .transactionDate(now)
+                .orderId("ORDER-" + userId)
+                .build();
+    }
+}
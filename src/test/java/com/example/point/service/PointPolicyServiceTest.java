@@ -1,6 +1,8 @@
 package com.example.point.service;
 
 import com.example.point.domain.PointPolicy;
+import com.example.point.domain.PointPolicySnapshot;
+import com.example.point.dto.policy.PointPolicyUpdateRequest;
 import com.example.point.exception.PointOperationException;
 import com.example.point.repository.PointPolicyRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,6 +17,10 @@ import java.time.LocalDateTime;
 import java.util.Collections;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @DisplayName("PointPolicy Test")
@@ -39,7 +45,7 @@ class PointPolicyServiceTest {
         when(pointPolicyRepository.findAll()).thenReturn(Collections.emptyList());
 
         // Act
-        PointPolicy policy = pointPolicyService.getPolicy();
+        PointPolicySnapshot policy = pointPolicyService.getPolicy();
 
         // Assert
         assertEquals(1, policy.getMinSaving());
@@ -170,4 +176,108 @@ class PointPolicyServiceTest {
         // Act & Asset
         assertThrows(PointOperationException.class, () -> pointPolicyService.validatePointPointLimit(1100000));
     }
+
+    @DisplayName("정책 스냅샷 - 반복 조회 시 정책 테이블을 다시 조회하지 않는다")
+    @Test
+    void testGetPolicy_CachedSnapshot() {
+        // Arrange
+        PointPolicy mockPolicy = PointPolicy.builder()
+                .version(1L)
+                .minSaving(1)
+                .maxSaving(100000)
+                .pointLimit(1000000)
+                .build();
+        when(pointPolicyRepository.findAll()).thenReturn(Collections.singletonList(mockPolicy));
+
+        // Act
+        pointPolicyService.validateSavingAmount(500);
+        pointPolicyService.validatePointPointLimit(300000);
+        PointPolicySnapshot policy = pointPolicyService.getPolicy();
+
+        // Assert
+        assertEquals(1L, policy.getVersion());
+        verify(pointPolicyRepository, times(1)).findAll();
+    }
+
+    @DisplayName("정책 스냅샷 - 버전이 바뀐 경우에만 스냅샷이 교체된다")
+    @Test
+    void testRefreshIfChanged_VersionChanged() {
+        // Arrange
+        PointPolicy oldPolicy = PointPolicy.builder()
+                .version(1L)
+                .maxSaving(100000)
+                .build();
+        PointPolicy samePolicy = PointPolicy.builder()
+                .version(1L)
+                .maxSaving(100000)
+                .build();
+        PointPolicy newPolicy = PointPolicy.builder()
+                .version(2L)
+                .maxSaving(5000)
+                .build();
+        when(pointPolicyRepository.findAll())
+                .thenReturn(Collections.singletonList(oldPolicy))
+                .thenReturn(Collections.singletonList(samePolicy))
+                .thenReturn(Collections.singletonList(newPolicy));
+        PointPolicySnapshot first = pointPolicyService.getPolicy();
+
+        // Act
+        PointPolicySnapshot unchanged = pointPolicyService.refreshIfChanged();
+        PointPolicySnapshot changed = pointPolicyService.refreshIfChanged();
+
+        // Assert
+        assertSame(first, unchanged);
+        assertEquals(2L, changed.getVersion());
+        assertEquals(5000, pointPolicyService.getPolicy().getMaxSaving());
+    }
+
+    @DisplayName("정책 변경 - 일부 항목이 빠진 요청은 거부하고 저장하지 않는다")
+    @Test
+    void testUpdatePolicy_IncompleteRequest() {
+        // Arrange
+        PointPolicyUpdateRequest request = PointPolicyUpdateRequest.builder()
+                .minSaving(1)
+                .maxSaving(100000)
+                .build();
+
+        // Act & Assert
+        assertThrows(PointOperationException.class, () -> pointPolicyService.updatePolicy(request));
+        verify(pointPolicyRepository, never()).saveAndFlush(any());
+    }
+
+    @DisplayName("정책 변경 - 최소 적립 포인트가 최대 적립 포인트보다 크면 거부한다")
+    @Test
+    void testUpdatePolicy_MinSavingGreaterThanMax() {
+        // Arrange
+        PointPolicyUpdateRequest request = PointPolicyUpdateRequest.builder()
+                .minSaving(500)
+                .maxSaving(100)
+                .pointLimit(1000000)
+                .defaultExpireDays(365)
+                .minExpireDays(1)
+                .maxExpireDays(1825)
+                .build();
+
+        // Act & Assert
+        assertThrows(PointOperationException.class, () -> pointPolicyService.updatePolicy(request));
+        verify(pointPolicyRepository, never()).saveAndFlush(any());
+    }
+
+    @DisplayName("정책 변경 - 기본 만료일이 최대 만료일과 같으면 기본 만료 적립이 실패하므로 거부한다")
+    @Test
+    void testUpdatePolicy_DefaultExpireDaysEqualToMax() {
+        // Arrange
+        PointPolicyUpdateRequest request = PointPolicyUpdateRequest.builder()
+                .minSaving(1)
+                .maxSaving(100000)
+                .pointLimit(1000000)
+                .defaultExpireDays(1825)
+                .minExpireDays(1825)
+                .maxExpireDays(1825)
+                .build();
+
+        // Act & Assert
+        assertThrows(PointOperationException.class, () -> pointPolicyService.updatePolicy(request));
+        verify(pointPolicyRepository, never()).saveAndFlush(any());
+    }
 }
@@ -0,0 +1,145 @@
+package com.example.point.service;
+
+import com.example.point.domain.PointBalance;
+import com.example.point.domain.enums.BalanceStatus;
+import com.example.point.domain.enums.BalanceType;
+import com.example.point.dto.reconcile.PointLedgerSum;
+import com.example.point.dto.reconcile.PointReconcileResult;
+import com.example.point.ledger.PointLedger;
+import com.example.point.repository.PointBalanceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PointReconcileServiceTest {
+
+    @Mock
+    private PointBalanceRepository pointBalanceRepository;
+
+    @Mock
+    private PointLedger pointLedger;
+
+    @Mock
+    private PointUserLane pointUserLane;
+
+    @InjectMocks
+    private PointReconcileService pointReconcileService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(pointReconcileService, "userRangeSize", 2);
+        ReflectionTestUtils.setField(pointReconcileService, "chunkSize", 100);
+        ReflectionTestUtils.setField(pointReconcileService, "parallelism", 2);
+        ReflectionTestUtils.setField(pointReconcileService, "maxReport", 10);
+    }
+
+    @Test
+    @DisplayName("적립 건 검증 - 적립 건이 있는 사용자를 키셋 순서로 나눈 구간별로 남은 포인트와 거래 내역 합계를 비교한다")
+    void testReconcile_MatchingBalances() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.of(2025, 6, 1, 3, 0);
+        when(pointBalanceRepository.findUserIdsAfter(eq(Long.MIN_VALUE), any())).thenReturn(List.of(1L, 5L));
+        when(pointBalanceRepository.findUserIdsAfter(eq(5L), any())).thenReturn(List.of(1_000_000L));
+        when(pointLedger.sumByBalance(eq(1L), eq(6L), any()))
+                .thenReturn(List.of(new PointLedgerSum(1L, 700L, 2L)));
+        when(pointLedger.sumByBalance(eq(1_000_000L), eq(1_000_001L), any()))
+                .thenReturn(List.of(new PointLedgerSum(2L, 0L, 3L)));
+        when(pointBalanceRepository.findUserRangeBalancesAfter(eq(1L), eq(6L), eq(0L), any()))
+                .thenReturn(List.of(balance(1L, 1L, 1000, 700)));
+        when(pointBalanceRepository.findUserRangeBalancesAfter(eq(1_000_000L), eq(1_000_001L), eq(0L), any()))
+                .thenReturn(List.of(balance(2L, 1_000_000L, 500, 0)));
+
+        // Act
+        PointReconcileResult result = pointReconcileService.reconcile(now);
+
+        // Assert
+        assertNull(result.getFailure());
+        assertEquals(2, result.getRangeCount());
+        assertEquals(2, result.getBalanceCount());
+        assertEquals(5, result.getTransactionCount());
+        assertEquals(0, result.getDiscrepancyCount());
+        assertEquals(result, pointReconcileService.getLastResult());
+        verify(pointUserLane, never()).execute(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("적립 건 검증 - 사용자 레인에서 다시 확인해도 다르면 불일치로 보고한다")
+    void testReconcile_ReportsConfirmedDiscrepancy() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.of(2025, 6, 1, 3, 0);
+        PointBalance balance = balance(1L, 1L, 1000, 500);
+        when(pointBalanceRepository.findUserIdsAfter(eq(Long.MIN_VALUE), any())).thenReturn(List.of(1L));
+        when(pointLedger.sumByBalance(eq(1L), eq(2L), any()))
+                .thenReturn(List.of(new PointLedgerSum(1L, 700L, 2L)));
+        when(pointBalanceRepository.findUserRangeBalancesAfter(eq(1L), eq(2L), eq(0L), any()))
+                .thenReturn(List.of(balance));
+        when(pointUserLane.execute(anyLong(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+        when(pointBalanceRepository.findById(1L)).thenReturn(Optional.of(balance));
+
+        // Act
+        PointReconcileResult result = pointReconcileService.reconcile(now);
+
+        // Assert
+        assertEquals(1, result.getDiscrepancyCount());
+        assertEquals(1L, result.getDiscrepancies().get(0).getBalanceId());
+        assertEquals(500, result.getDiscrepancies().get(0).getRemainAmount());
+        assertEquals(700L, result.getDiscrepancies().get(0).getLedgerAmount());
+    }
+
+    @Test
+    @DisplayName("적립 건 검증 - 검증 중 처리된 요청으로 생긴 차이는 다시 확인하여 제외한다")
+    void testReconcile_IgnoresTransientDifference() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.of(2025, 6, 1, 3, 0);
+        when(pointBalanceRepository.findUserIdsAfter(eq(Long.MIN_VALUE), any())).thenReturn(List.of(1L));
+        when(pointLedger.sumByBalance(eq(1L), eq(2L), any()))
+                .thenReturn(List.of(new PointLedgerSum(1L, 700L, 2L)))
+                .thenReturn(List.of(new PointLedgerSum(1L, 500L, 3L)));
+        when(pointBalanceRepository.findUserRangeBalancesAfter(eq(1L), eq(2L), eq(0L), any()))
+                .thenReturn(List.of(balance(1L, 1L, 1000, 500)));
+        when(pointUserLane.execute(anyLong(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+        when(pointBalanceRepository.findById(1L)).thenReturn(Optional.of(balance(1L, 1L, 1000, 500)));
+
+        // Act
+        PointReconcileResult result = pointReconcileService.reconcile(now);
+
+        // Assert
+        assertEquals(1, result.getBalanceCount());
+        assertEquals(0, result.getDiscrepancyCount());
+    }
+
+    private PointBalance balance(Long balanceId, Long userId, int amount, int remainAmount) {
+        return PointBalance.builder()
+                .balanceId(balanceId)
+                .userId(userId)
+                .amount(amount)
+                .remainAmount(remainAmount)
+                .balanceType(BalanceType.MANUAL)
+                .createDate(LocalDateTime.of(2025, 1, 1, 0, 0))
+                .expireDate(LocalDateTime.of(2026, 1, 1, 0, 0))
+                .status(BalanceStatus.ACTIVE)
+                .build();
+    }
+}
@@ -0,0 +1,250 @@
+package com.example.point.service;
+
+import com.example.point.domain.PointBalance;
+import com.example.point.domain.PointSummary;
+import com.example.point.domain.enums.BalanceStatus;
+import com.example.point.domain.enums.BalanceType;
+import com.example.point.domain.enums.TransactionType;
+import com.example.point.dto.history.PointHistoryItem;
+import com.example.point.dto.replay.PointReplayResult;
+import com.example.point.dto.replay.PointReplayedBalance;
+import com.example.point.ledger.PointLedger;
+import com.example.point.repository.PointBalanceReplayRepository;
+import com.example.point.repository.PointBalanceRepository;
+import com.example.point.repository.PointSummaryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PointReplayServiceTest {
+
+    @Mock
+    private PointBalanceRepository pointBalanceRepository;
+
+    @Mock
+    private PointLedger pointLedger;
+
+    @Mock
+    private PointBalanceReplayRepository pointBalanceReplayRepository;
+
+    @Mock
+    private PointUserLane pointUserLane;
+
+    @Mock
+    private PointSummaryService pointSummaryService;
+
+    @Mock
+    private PointSummaryRepository pointSummaryRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private PointReplayService pointReplayService;
+
+    @TempDir
+    Path directory;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(pointReplayService, "userRangeSize", 2);
+        ReflectionTestUtils.setField(pointReplayService, "lockBatchUsers", 16);
+        ReflectionTestUtils.setField(pointReplayService, "batchSize", 100);
+        ReflectionTestUtils.setField(pointReplayService, "parallelism", 2);
+        ReflectionTestUtils.setField(pointReplayService, "checkpointFile", directory.resolve("checkpoint").toString());
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("원장 리플레이 - 거래를 순서대로 적용하여 남은 포인트와 상태를 섀도 테이블에 기록한다")
+    @SuppressWarnings("unchecked")
+    void testReplay_RebuildsBalancesIntoShadow() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.of(2025, 6, 1, 0, 0);
+        ReflectionTestUtils.setField(pointReplayService, "target", PointReplayService.Target.SHADOW);
+        when(pointBalanceRepository.findUserIdsAfter(eq(Long.MIN_VALUE), any())).thenReturn(List.of(1L, 2L));
+        when(pointBalanceRepository.findUserIdsAfter(eq(2L), any())).thenReturn(List.of());
+        when(pointLedger.streamUserRange(1L, 3L)).thenReturn(Stream.of(
+                row(1L, 1L, 1L, TransactionType.SAVE, 1000),
+                row(2L, 1L, 1L, TransactionType.USE, -300),
+                row(3L, 1L, 2L, TransactionType.SAVE, 500),
+                row(4L, 1L, 2L, TransactionType.CANCEL_SAVE, -500),
+                row(5L, 2L, 3L, TransactionType.SAVE, 200),
+                row(6L, 2L, 3L, TransactionType.MERGE, -200),
+                row(7L, 2L, 4L, TransactionType.MERGE, 200),
+                row(8L, 2L, 4L, TransactionType.EXPIRE, -200)));
+        when(pointBalanceReplayRepository.countShadowDifferences()).thenReturn(1L);
+
+        // Act
+        PointReplayResult result = pointReplayService.replay(now, true);
+
+        // Assert
+        assertNull(result.getFailure());
+        assertEquals(1, result.getRangeCount());
+        assertEquals(8, result.getTransactionCount());
+        assertEquals(4, result.getBalanceCount());
+        assertEquals(1, result.getChangedCount());
+        verify(pointBalanceReplayRepository).clearShadow();
+        ArgumentCaptor<List<PointReplayedBalance>> captor = ArgumentCaptor.forClass(List.class);
+        verify(pointBalanceReplayRepository).mergeShadow(captor.capture(), eq(now));
+        assertEquals(List.of(
+                new PointReplayedBalance(1L, 1L, 700, BalanceStatus.ACTIVE),
+                new PointReplayedBalance(2L, 1L, 500, BalanceStatus.CANCELED),
+                new PointReplayedBalance(3L, 2L, 0, BalanceStatus.MERGED),
+                new PointReplayedBalance(4L, 2L, 200, BalanceStatus.EXPIRED)), captor.getValue());
+    }
+
+    @Test
+    @DisplayName("원장 리플레이 - 체크포인트에 완료로 기록된 구간은 건너뛰고 나머지 구간만 이어서 실행한다")
+    void testReplay_ResumesFromCheckpoint() throws IOException {
+        // Arrange
+        LocalDateTime now = LocalDateTime.of(2025, 6, 1, 0, 0);
+        ReflectionTestUtils.setField(pointReplayService, "target", PointReplayService.Target.BALANCES);
+        Path checkpoint = directory.resolve("checkpoint");
+        Files.writeString(checkpoint, "target=BALANCES,user-range-size=2\n1 6\n");
+        when(pointBalanceRepository.findUserIdsAfter(eq(Long.MIN_VALUE), any())).thenReturn(List.of(1L, 5L));
+        when(pointBalanceRepository.findUserIdsAfter(eq(5L), any())).thenReturn(List.of(12L));
+        when(pointBalanceRepository.findUserIdsAfter(eq(11L), any())).thenReturn(List.of(12L));
+        when(pointLedger.streamUserRange(12L, 13L)).thenReturn(Stream.of(
+                row(9L, 12L, 5L, TransactionType.SAVE, 300),
+                row(10L, 12L, 5L, TransactionType.USE, -100)));
+        when(pointUserLane.executeAll(anyCollection(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+        PointReplayedBalance replayed = new PointReplayedBalance(5L, 12L, 200, BalanceStatus.ACTIVE);
+        when(pointBalanceReplayRepository.updateBalances(List.of(replayed))).thenReturn(List.of(replayed));
+        PointSummary summary = PointSummary.builder().userId(12L).totalAmount(300).purchaseAmount(300).heldAmount(50).build();
+        when(pointSummaryService.getSummary(12L)).thenReturn(summary);
+        when(pointBalanceRepository.findByUserIdAndStatusOrderByBalanceTypeAscExpireDateAsc(12L, BalanceStatus.ACTIVE))
+                .thenReturn(List.of(balance(5L, 12L, 300, 200)));
+
+        // Act
+        PointReplayResult result = pointReplayService.replay(now, true);
+
+        // Assert
+        assertNull(result.getFailure());
+        assertEquals(2, result.getRangeCount());
+        assertEquals(1, result.getResumedRangeCount());
+        assertEquals(1, result.getChangedCount());
+        verify(pointLedger, never()).streamUserRange(eq(1L), anyLong());
+        verify(pointBalanceReplayRepository, never()).clearShadow();
+        assertEquals(List.of("target=BALANCES,user-range-size=2", "1 6", "12 13"), Files.readAllLines(checkpoint));
+        assertEquals(200, summary.getTotalAmount());
+        assertEquals(50, summary.getHeldAmount());
+        verify(pointSummaryService).update(summary);
+    }
+
+    @Test
+    @DisplayName("원장 리플레이 - BALANCES는 레인을 잡은 사용자의 거래만 적용하고 값이 달라진 사용자의 요약만 다시 계산한다")
+    @SuppressWarnings("unchecked")
+    void testReplay_BalancesLocksUsersAcrossReadAndWrite() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.of(2025, 6, 1, 0, 0);
+        ReflectionTestUtils.setField(pointReplayService, "target", PointReplayService.Target.BALANCES);
+        ReflectionTestUtils.setField(pointReplayService, "userRangeSize", 10);
+        when(pointBalanceRepository.findUserIdsAfter(eq(Long.MIN_VALUE), any())).thenReturn(List.of(1L, 3L));
+        when(pointBalanceRepository.findUserIdsAfter(eq(0L), any())).thenReturn(List.of(1L, 3L));
+        when(pointUserLane.isPessimistic()).thenReturn(true);
+        when(pointUserLane.executeAll(anyCollection(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+        // 사용자 2는 구간을 나눈 뒤 새로 적립하여 레인을 잡지 않은 사용자
+        when(pointLedger.streamUserRange(1L, 4L)).thenReturn(Stream.of(
+                row(1L, 1L, 1L, TransactionType.SAVE, 1000),
+                row(2L, 2L, 2L, TransactionType.SAVE, 500),
+                row(3L, 3L, 3L, TransactionType.SAVE, 300)));
+        PointReplayedBalance changed = new PointReplayedBalance(1L, 1L, 1000, BalanceStatus.ACTIVE);
+        when(pointBalanceReplayRepository.updateBalances(any())).thenReturn(List.of(changed));
+        PointSummary summary = PointSummary.builder().userId(1L).totalAmount(700).purchaseAmount(700).build();
+        when(pointSummaryService.getSummary(1L)).thenReturn(summary);
+        when(pointBalanceRepository.findByUserIdAndStatusOrderByBalanceTypeAscExpireDateAsc(1L, BalanceStatus.ACTIVE))
+                .thenReturn(List.of(balance(1L, 1L, 1000, 1000)));
+
+        // Act
+        PointReplayResult result = pointReplayService.replay(now, false);
+
+        // Assert
+        assertNull(result.getFailure());
+        assertEquals(2, result.getTransactionCount());
+        assertEquals(1, result.getChangedCount());
+        verify(pointUserLane).executeAll(eq(List.of(1L, 3L)), any());
+        verify(pointSummaryRepository).findByIdForUpdate(1L);
+        verify(pointSummaryRepository).findByIdForUpdate(3L);
+        ArgumentCaptor<List<PointReplayedBalance>> captor = ArgumentCaptor.forClass(List.class);
+        verify(pointBalanceReplayRepository).updateBalances(captor.capture());
+        assertEquals(List.of(changed, new PointReplayedBalance(3L, 3L, 300, BalanceStatus.ACTIVE)), captor.getValue());
+        assertEquals(1000, summary.getTotalAmount());
+        verify(pointSummaryService).update(summary);
+        verify(pointSummaryService, never()).getSummary(3L);
+    }
+
+    @Test
+    @DisplayName("원장 리플레이 - 원장에 커밋 여부를 확인하지 못한 기록이 있으면 BALANCES는 적립 건을 갱신하지 않는다")
+    void testReplay_BalancesRefusedWithUnresolvedLedger() {
+        // Arrange
+        ReflectionTestUtils.setField(pointReplayService, "target", PointReplayService.Target.BALANCES);
+        when(pointLedger.hasUnresolvedRecords()).thenReturn(true);
+
+        // Act
+        PointReplayResult result = pointReplayService.replay(LocalDateTime.of(2025, 6, 1, 0, 0), false);
+
+        // Assert
+        assertNotNull(result.getFailure());
+        verify(pointLedger, never()).streamUserRange(any(), any());
+        verifyNoInteractions(pointBalanceReplayRepository, pointSummaryService);
+    }
+
+    private PointBalance balance(Long balanceId, Long userId, int amount, int remainAmount) {
+        return PointBalance.builder()
+                .balanceId(balanceId)
+                .userId(userId)
+                .amount(amount)
+                .remainAmount(remainAmount)
+                .balanceType(BalanceType.PURCHASE)
+                .createDate(LocalDateTime.of(2025, 1, 1, 0, 0))
+                .expireDate(LocalDateTime.of(2026, 1, 1, 0, 0))
+                .status(BalanceStatus.ACTIVE)
+                .build();
+    }
+
+    private PointHistoryItem row(Long transactionId, Long userId, Long balanceId, TransactionType transactionType, int pointChange) {
+        return PointHistoryItem.builder()
+                .transactionId(transactionId)
+                .userId(userId)
+                .balanceId(balanceId)
+                .transactionType(transactionType)
+                .pointChange(pointChange)
+                .transactionDate(LocalDateTime.of(2025, 1, 1, 0, 0).plusMinutes(transactionId))
+                .build();
+    }
+}
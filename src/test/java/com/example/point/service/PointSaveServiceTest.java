@@ -1,12 +1,15 @@
 package com.example.point.service;
 
 import com.example.point.domain.PointBalance;
+import com.example.point.domain.PointSummary;
 import com.example.point.domain.enums.BalanceStatus;
 import com.example.point.domain.enums.BalanceType;
 import com.example.point.dto.save.PointSaveRequest;
 import com.example.point.dto.save.PointSaveResponse;
+import com.example.point.exception.PointErrorReason;
+import com.example.point.exception.PointOperationException;
+import com.example.point.ledger.PointLedger;
 import com.example.point.repository.PointBalanceRepository;
-import com.example.point.repository.PointTransactionRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -19,8 +22,11 @@ import java.util.Collections;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,7 +39,16 @@ class PointSaveServiceTest {
     private PointPolicyService policyService;
 
     @Mock
-    private PointTransactionRepository pointTransactionRepository;
+    private PointLedger pointLedger;
+
+    @Mock
+    private PointSummaryService pointSummaryService;
+
+    @Mock
+    private PointOutboxService pointOutboxService;
+
+    @Mock
+    private PointArchiveService pointArchiveService;
 
     @InjectMocks
     private PointSaveService pointSaveService;
@@ -56,9 +71,9 @@ class PointSaveServiceTest {
         LocalDateTime expireDate = now.plusDays(expireDays);
         when(policyService.calculateExpireDate(any(LocalDateTime.class), eq(expireDays)))
                 .thenReturn(expireDate);
-        // 사용 가능한 잔액 조회 결과 (현재 ACTIVE한 잔액이 없다고 가정)
-        when(pointBalanceRepository.findByUserIdAndStatusOrderByBalanceTypeAscExpireDateAsc(userId, BalanceStatus.ACTIVE))
-                .thenReturn(Collections.emptyList());
+        // 포인트 요약 조회 결과 (현재 ACTIVE한 잔액이 없다고 가정)
+        PointSummary summary = PointSummary.of(userId, Collections.emptyList());
+        when(pointSummaryService.getSummary(userId)).thenReturn(summary);
 
         PointBalance savedBalance = PointBalance.builder()
                 .balanceId(1L)
@@ -78,6 +93,8 @@ class PointSaveServiceTest {
         // Assert
         assertEquals(savedBalance.getBalanceId(), response.getBalanceId());
         assertEquals(savedBalance.getRemainAmount(), request.getAmount(), "요청금액이 잔액으로 적립되어야한다");
+        assertEquals(amount, summary.getTotalAmount(), "적립금액이 요약에 반영되어야한다");
+        assertEquals(expireDate, summary.getNextExpireDate());
     }
 
     @Test
@@ -98,6 +115,8 @@ class PointSaveServiceTest {
                 .build();
         when(pointBalanceRepository.findById(balanceId))
                 .thenReturn(Optional.of(balance));
+        PointSummary summary = PointSummary.of(1L, Collections.singletonList(balance));
+        when(pointSummaryService.getSummary(1L)).thenReturn(summary);
 
         // Act
         PointSaveResponse response = pointSaveService.cancelSave(balanceId);
@@ -105,5 +124,63 @@ class PointSaveServiceTest {
         // Assert
         assertEquals(balanceId, response.getBalanceId());
         assertEquals(BalanceStatus.CANCELED, balance.getStatus(), "잔액 상태가 취소(CANCELED)되어야 한다");
+        assertEquals(0, summary.getTotalAmount(), "취소된 적립금액이 요약에서 차감되어야 한다");
+    }
+
+    @Test
+    @DisplayName("포인트 적립 취소 - 취소하면 잔액이 보류 금액보다 작아지면 취소할 수 없다")
+    void testCancelSave_HeldPoints() {
+        // Arrange
+        Long balanceId = 1L;
+        PointBalance balance = PointBalance.builder()
+                .balanceId(balanceId)
+                .userId(1L)
+                .amount(1000)
+                .remainAmount(1000)
+                .balanceType(BalanceType.PURCHASE)
+                .createDate(LocalDateTime.now().minusDays(1))
+                .expireDate(LocalDateTime.now().plusDays(30))
+                .status(BalanceStatus.ACTIVE)
+                .build();
+        when(pointBalanceRepository.findById(balanceId)).thenReturn(Optional.of(balance));
+        PointSummary summary = PointSummary.builder()
+                .userId(1L)
+                .totalAmount(1500)
+                .purchaseAmount(1500)
+                .heldAmount(800)
+                .build();
+        when(pointSummaryService.getSummary(1L)).thenReturn(summary);
+
+        // Act & Assert
+        PointOperationException exception = assertThrows(PointOperationException.class, () -> pointSaveService.cancelSave(balanceId));
+        assertEquals(PointErrorReason.BALANCE_NOT_CANCELABLE, exception.getReason());
+        assertEquals(BalanceStatus.ACTIVE, balance.getStatus());
+        verify(pointSummaryService, never()).update(any());
+    }
+
+    @Test
+    @DisplayName("포인트 적립 취소 - 병합으로 생성된 적립 건은 사용되지 않았어도 취소할 수 없다")
+    void testCancelSave_MergeTarget() {
+        // Arrange
+        Long balanceId = 1L;
+        PointBalance balance = PointBalance.builder()
+                .balanceId(balanceId)
+                .userId(1L)
+                .amount(1000)
+                .remainAmount(1000)
+                .balanceType(BalanceType.PURCHASE)
+                .createDate(LocalDateTime.now().minusDays(1))
+                .expireDate(LocalDateTime.now().plusDays(30))
+                .status(BalanceStatus.ACTIVE)
+                .mergeTarget(true)
+                .build();
+        when(pointBalanceRepository.findById(balanceId)).thenReturn(Optional.of(balance));
+        when(pointSummaryService.getSummary(1L)).thenReturn(PointSummary.of(1L, Collections.singletonList(balance)));
+
+        // Act & Assert
+        PointOperationException exception = assertThrows(PointOperationException.class, () -> pointSaveService.cancelSave(balanceId));
+        assertEquals(PointErrorReason.BALANCE_NOT_CANCELABLE, exception.getReason());
+        assertEquals(BalanceStatus.ACTIVE, balance.getStatus());
+        verify(pointSummaryService, never()).update(any());
     }
 }
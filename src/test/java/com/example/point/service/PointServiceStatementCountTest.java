@@ -0,0 +1,174 @@
+package com.example.point.service;
+
+import com.example.point.domain.PointBalance;
+import com.example.point.domain.PointTransaction;
+import com.example.point.domain.enums.BalanceStatus;
+import com.example.point.domain.enums.BalanceType;
+import com.example.point.dto.use.PointCancelUseRequest;
+import com.example.point.dto.use.PointUseRequest;
+import com.example.point.dto.use.PointUseResponse;
+import com.example.point.repository.PointBalanceRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 같은 오퍼레이션을 적립 건 1개로 먼저 실행해 기준 SQL 수를 측정하고, 적립 건이 많을 때 늘어나는 SQL 수가
+ * 청크 조회와 JDBC 배치(시퀀스 할당 포함) 단위로만 늘어나는지 검증한다. 고정된 상한을 두지 않으므로
+ * 기능이 추가되어 기준 SQL 수가 바뀌어도 상한을 다시 맞출 필요가 없다.
+ * SQL 수는 요청별 SQL 문 수 지표(point.operation.statements)로 측정하여, Hibernate 통계에 잡히지 않는
+ * 일괄 차감의 JDBC 배치 UPDATE도 포함한다.
+ */
+@DisplayName("PointService 쿼리 수 검증")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class PointServiceStatementCountTest {
+
+    private static final int BALANCE_COUNT = 50;
+    private static final int BALANCE_AMOUNT = 100;
+    // application.yml의 hibernate.jdbc.batch_size, 시퀀스 allocationSize와 같음
+    private static final int JDBC_BATCH_SIZE = 50;
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private PointSummaryService pointSummaryService;
+
+    @Autowired
+    private PointBalanceRepository pointBalanceRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @DisplayName("포인트 사용 - 50건의 잔액을 차감해도 INSERT/UPDATE는 배치로 처리된다")
+    @Test
+    void testUse_BatchedWrites() {
+        // Arrange
+        Long baselineUserId = 1011L;
+        Long userId = 1001L;
+        createBalances(baselineUserId, 1);
+        createBalances(userId, BALANCE_COUNT);
+        double before = statements("use");
+        pointService.use(baselineUserId, PointUseRequest.builder()
+                .usageAmount(BALANCE_AMOUNT)
+                .orderId("BATCH-USE-BASELINE")
+                .build());
+        long baseline = (long) (statements("use") - before);
+        statistics.clear();
+        before = statements("use");
+
+        // Act
+        PointUseResponse response = pointService.use(userId, PointUseRequest.builder()
+                .usageAmount(BALANCE_COUNT * BALANCE_AMOUNT)
+                .orderId("BATCH-USE")
+                .build());
+
+        // Assert
+        assertEquals(BALANCE_COUNT * BALANCE_AMOUNT, response.getUsedAmount());
+        assertEquals(0, response.getTotalRemaining());
+        assertEquals(BALANCE_COUNT, statistics.getEntityStatistics(PointTransaction.class.getName()).getInsertCount(),
+                "사용 거래 내역이 잔액 수만큼 생성되어야 한다");
+        // 차감 대상 청크 조회 + (거래 내역, 주문 사용 항목)의 INSERT 배치와 시퀀스 할당
+        // (적립 건 차감 UPDATE는 건수와 관계없이 JDBC 배치 하나로 기준에도 포함됨)
+        long allowedGrowth = batches(BALANCE_COUNT, PointUseService.DEDUCTION_CHUNK_SIZE) + 4L * batches(BALANCE_COUNT, JDBC_BATCH_SIZE);
+        long count = (long) (statements("use") - before);
+        assertTrue(count - baseline <= allowedGrowth,
+                "SQL 수는 청크/배치 단위로만 늘어나야 한다: 기준 " + baseline + ", 실제 " + count + ", 허용 증가 " + allowedGrowth);
+    }
+
+    @DisplayName("포인트 사용 취소 - 200건의 잔액을 사용한 주문을 취소해도 적립 내역은 한 번에 조회한다")
+    @Test
+    void testCancelUse_BatchedBalanceLookup() {
+        // Arrange
+        Long baselineUserId = 1012L;
+        Long userId = 1002L;
+        int balanceCount = 200;
+        createBalances(baselineUserId, 1);
+        createBalances(userId, balanceCount);
+        pointService.use(baselineUserId, PointUseRequest.builder()
+                .usageAmount(BALANCE_AMOUNT)
+                .orderId("BATCH-CANCEL-BASELINE")
+                .build());
+        pointService.use(userId, PointUseRequest.builder()
+                .usageAmount(balanceCount * BALANCE_AMOUNT)
+                .orderId("BATCH-CANCEL")
+                .build());
+        double before = statements("cancel_use");
+        pointService.cancelUse(PointCancelUseRequest.builder()
+                .userId(baselineUserId)
+                .orderId("BATCH-CANCEL-BASELINE")
+                .cancelAmount(BALANCE_AMOUNT)
+                .build());
+        long baseline = (long) (statements("cancel_use") - before);
+        before = statements("cancel_use");
+
+        // Act
+        PointUseResponse response = pointService.cancelUse(PointCancelUseRequest.builder()
+                .userId(userId)
+                .orderId("BATCH-CANCEL")
+                .cancelAmount(balanceCount * BALANCE_AMOUNT)
+                .build());
+
+        // Assert
+        assertEquals(balanceCount * BALANCE_AMOUNT, response.getUsedAmount());
+        assertEquals(balanceCount * BALANCE_AMOUNT, response.getTotalRemaining());
+        // 잔액별 조회(N+1)라면 200회 이상 늘어나고, 배치 조회/쓰기라면
+        // (적립 건 UPDATE, 거래 내역 INSERT, 주문 사용 항목 UPDATE, 거래 내역 시퀀스)의 배치 수만큼만 늘어남
+        long allowedGrowth = 4L * batches(balanceCount, JDBC_BATCH_SIZE);
+        long count = (long) (statements("cancel_use") - before);
+        assertTrue(count - baseline <= allowedGrowth,
+                "SQL 수는 배치 단위로만 늘어나야 한다: 기준 " + baseline + ", 실제 " + count + ", 허용 증가 " + allowedGrowth);
+    }
+
+    // 요청별 SQL 문 수 지표의 누적 합계
+    private double statements(String operation) {
+        DistributionSummary summary = meterRegistry.find("point.operation.statements").tag("operation", operation).summary();
+        return summary != null ? summary.totalAmount() : 0;
+    }
+
+    private static long batches(int count, int batchSize) {
+        return (count + batchSize - 1) / batchSize;
+    }
+
+    private void createBalances(Long userId, int count) {
+        LocalDateTime now = LocalDateTime.now();
+        List<PointBalance> balances = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            balances.add(PointBalance.builder()
+                    .userId(userId)
+                    .amount(BALANCE_AMOUNT)
+                    .remainAmount(BALANCE_AMOUNT)
+                    .balanceType(BalanceType.PURCHASE)
+                    .createDate(now)
+                    .expireDate(now.plusDays(30 + i))
+                    .status(BalanceStatus.ACTIVE)
+                    .build());
+        }
+        pointBalanceRepository.saveAll(balances);
+        pointSummaryService.getSummary(userId);
+    }
+}
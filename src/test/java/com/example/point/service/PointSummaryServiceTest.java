@@ -0,0 +1,216 @@
+package com.example.point.service;
+
+import com.example.point.datasource.PointReplicaRouting;
+import com.example.point.domain.PointBalance;
+import com.example.point.domain.PointSummary;
+import com.example.point.domain.enums.BalanceStatus;
+import com.example.point.domain.enums.BalanceType;
+import com.example.point.dto.balance.PointBalanceResponse;
+import com.example.point.repository.PointBalanceRepository;
+import com.example.point.repository.PointSummaryCreationRepository;
+import com.example.point.repository.PointSummaryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PointSummaryServiceTest {
+
+    @Mock
+    private PointSummaryRepository pointSummaryRepository;
+
+    @Mock
+    private PointSummaryCreationRepository pointSummaryCreationRepository;
+
+    @Mock
+    private PointBalanceRepository pointBalanceRepository;
+
+    @Mock
+    private PointUserLane pointUserLane;
+
+    @Mock
+    private PointBalanceCache pointBalanceCache;
+
+    @Mock
+    private PointReplicaRouting pointReplicaRouting;
+
+    @InjectMocks
+    private PointSummaryService pointSummaryService;
+
+    @Test
+    @DisplayName("요약 조회 - 요약이 없으면 ACTIVE 잔액을 합산하여 생성한다")
+    void testGetSummary_InitializeFromBalances() {
+        // Arrange
+        Long userId = 1L;
+        LocalDateTime firstExpire = LocalDateTime.now().plusDays(10);
+        PointBalance purchase = balance(1L, userId, BalanceType.PURCHASE, 1000, firstExpire.plusDays(5));
+        PointBalance manual = balance(2L, userId, BalanceType.MANUAL, 300, firstExpire);
+
+        when(pointSummaryRepository.findById(userId)).thenReturn(Optional.empty());
+        when(pointBalanceRepository.findByUserIdAndStatusOrderByBalanceTypeAscExpireDateAsc(userId, BalanceStatus.ACTIVE))
+                .thenReturn(Arrays.asList(purchase, manual));
+        when(pointSummaryRepository.save(any(PointSummary.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        PointSummary summary = pointSummaryService.getSummary(userId);
+
+        // Assert
+        assertEquals(1300, summary.getTotalAmount());
+        assertEquals(1000, summary.getPurchaseAmount());
+        assertEquals(300, summary.getManualAmount());
+        assertEquals(firstExpire, summary.getNextExpireDate());
+    }
+
+    @Test
+    @DisplayName("요약 조회(비관적 락) - 요약이 없으면 빈 행을 추가하고 잠근 뒤 ACTIVE 잔액으로 채운다")
+    void testGetSummary_PessimisticCreatesLockedRow() {
+        // Arrange
+        Long userId = 1L;
+        LocalDateTime expire = LocalDateTime.now().plusDays(10);
+        PointSummary inserted = PointSummary.builder().userId(userId).version(0L).build();
+        when(pointUserLane.isPessimistic()).thenReturn(true);
+        when(pointSummaryRepository.findByIdForUpdate(userId)).thenReturn(Optional.empty(), Optional.of(inserted));
+        when(pointSummaryCreationRepository.insertIfAbsent(userId)).thenReturn(true);
+        when(pointBalanceRepository.findByUserIdAndStatusOrderByBalanceTypeAscExpireDateAsc(userId, BalanceStatus.ACTIVE))
+                .thenReturn(Arrays.asList(balance(1L, userId, BalanceType.PURCHASE, 1000, expire)));
+
+        // Act
+        PointSummary summary = pointSummaryService.getSummary(userId);
+
+        // Assert
+        assertEquals(inserted, summary);
+        assertEquals(1000, summary.getTotalAmount());
+        assertEquals(expire, summary.getNextExpireDate());
+        verify(pointSummaryRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("요약 조회(비관적 락) - 동시에 다른 요청이 요약을 만들었으면 그 행을 잠그고 다시 합산하지 않는다")
+    void testGetSummary_PessimisticConcurrentCreation() {
+        // Arrange
+        Long userId = 1L;
+        PointSummary created = PointSummary.builder().userId(userId).version(1L).totalAmount(500).purchaseAmount(500).build();
+        when(pointUserLane.isPessimistic()).thenReturn(true);
+        when(pointSummaryRepository.findByIdForUpdate(userId)).thenReturn(Optional.empty(), Optional.of(created));
+        when(pointSummaryCreationRepository.insertIfAbsent(userId)).thenReturn(false);
+
+        // Act
+        PointSummary summary = pointSummaryService.getSummary(userId);
+
+        // Assert
+        assertEquals(500, summary.getTotalAmount());
+        verify(pointBalanceRepository, never()).findByUserIdAndStatusOrderByBalanceTypeAscExpireDateAsc(any(), any());
+    }
+
+    @Test
+    @DisplayName("요약 갱신 - 가장 빠른 만료 건이 소진되면 다음 만료일을 다시 조회한다")
+    void testUpdate_RefreshNextExpireDate() {
+        // Arrange
+        Long userId = 1L;
+        LocalDateTime firstExpire = LocalDateTime.now().plusDays(10);
+        LocalDateTime secondExpire = firstExpire.plusDays(5);
+        PointBalance first = balance(1L, userId, BalanceType.PURCHASE, 500, firstExpire);
+        PointBalance second = balance(2L, userId, BalanceType.PURCHASE, 500, secondExpire);
+        PointSummary summary = PointSummary.of(userId, Arrays.asList(first, second));
+
+        first.deductPoints(500);
+        summary.decrease(first, 500);
+        assertTrue(summary.isNextExpireDateStale());
+
+        when(pointBalanceRepository.findFirstByUserIdAndStatusAndRemainAmountGreaterThanOrderByExpireDateAsc(userId, BalanceStatus.ACTIVE, 0))
+                .thenReturn(Optional.of(second));
+
+        // Act
+        pointSummaryService.update(summary);
+
+        // Assert
+        assertEquals(500, summary.getTotalAmount());
+        assertEquals(secondExpire, summary.getNextExpireDate());
+        assertFalse(summary.isNextExpireDateStale());
+        verify(pointSummaryRepository).save(summary);
+        verify(pointBalanceCache).putAfterCommit(summary);
+    }
+
+    @Test
+    @DisplayName("요약 갱신 - 만료일 변동이 없으면 잔액을 조회하지 않는다")
+    void testUpdate_NoRefresh() {
+        // Arrange
+        Long userId = 1L;
+        PointBalance balance = balance(1L, userId, BalanceType.PURCHASE, 500, LocalDateTime.now().plusDays(10));
+        PointSummary summary = PointSummary.of(userId, Arrays.asList(balance));
+
+        balance.deductPoints(200);
+        summary.decrease(balance, 200);
+
+        // Act
+        pointSummaryService.update(summary);
+
+        // Assert
+        assertEquals(300, summary.getTotalAmount());
+        verify(pointBalanceRepository, never())
+                .findFirstByUserIdAndStatusAndRemainAmountGreaterThanOrderByExpireDateAsc(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("잔액 조회 - 캐시에 있으면 요약을 조회하지 않는다")
+    void testGetBalance_CacheHit() {
+        // Arrange
+        Long userId = 1L;
+        PointBalanceResponse cached = PointBalanceResponse.builder().userId(userId).totalAmount(700).build();
+        when(pointBalanceCache.get(userId)).thenReturn(cached);
+
+        // Act
+        PointBalanceResponse response = pointSummaryService.getBalance(userId);
+
+        // Assert
+        assertEquals(700, response.getTotalAmount());
+        verify(pointSummaryRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("잔액 조회 - 캐시에 없으면 요약 한 건을 읽어 캐시에 담는다")
+    void testGetBalance_CacheMiss() {
+        // Arrange
+        Long userId = 1L;
+        PointBalance balance = balance(1L, userId, BalanceType.MANUAL, 400, LocalDateTime.now().plusDays(10));
+        PointSummary summary = PointSummary.of(userId, Arrays.asList(balance));
+        when(pointSummaryRepository.findById(userId)).thenReturn(Optional.of(summary));
+
+        // Act
+        PointBalanceResponse response = pointSummaryService.getBalance(userId);
+
+        // Assert
+        assertEquals(400, response.getTotalAmount());
+        assertEquals(400, response.getManualAmount());
+        verify(pointBalanceCache).put(summary);
+        verify(pointBalanceRepository, never()).findByUserIdAndStatusOrderByBalanceTypeAscExpireDateAsc(any(), any());
+    }
+
+    private PointBalance balance(Long balanceId, Long userId, BalanceType type, int amount, LocalDateTime expireDate) {
+        return PointBalance.builder()
+                .balanceId(balanceId)
+                .userId(userId)
+                .amount(amount)
+                .remainAmount(amount)
+                .balanceType(type)
+                .expireDate(expireDate)
+                .status(BalanceStatus.ACTIVE)
+                .build();
+    }
+}
@@ -0,0 +1,241 @@
+package com.example.point.service;
+
+import com.example.point.domain.PointSummary;
+import com.example.point.dto.use.PointUseResponse;
+import com.example.point.exception.PointErrorReason;
+import com.example.point.exception.PointOperationException;
+import com.example.point.metrics.PointMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PointUseBatcherTest {
+
+    @Mock
+    private PointUserLane pointUserLane;
+
+    @Mock
+    private PointSummaryService pointSummaryService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private PointMetrics pointMetrics;
+
+    private PointUseBatcher pointUseBatcher;
+
+    // 사용자별 사용 가능 잔액 (없으면 1,000)
+    private final Map<Long, Integer> available = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        pointUseBatcher = new PointUseBatcher(pointUserLane, pointSummaryService, transactionTemplate, pointMetrics, false, 5, 100, 1, 16, 30000);
+        lenient().when(pointSummaryService.getSummaries(anyCollection())).thenAnswer(invocation -> {
+            Map<Long, PointSummary> summaries = new HashMap<>();
+            for (Long userId : invocation.<Collection<Long>>getArgument(0)) {
+                summaries.put(userId, PointSummary.builder().userId(userId).totalAmount(available.getOrDefault(userId, 1000)).build());
+            }
+            return summaries;
+        });
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        lenient().when(pointUserLane.executeAll(anyCollection(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+        lenient().when(pointUserLane.execute(anyLong(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+    }
+
+    @Test
+    @DisplayName("사용 배치 - 모인 요청을 하나의 트랜잭션으로 처리하고 요청별 응답을 완료한다")
+    void testExecuteBatch_SingleTransaction() {
+        // Arrange
+        PointUseBatcher.PendingUse first = pending(2L, 100, () -> response(2L, 100));
+        PointUseBatcher.PendingUse second = pending(1L, 200, () -> response(1L, 200));
+
+        // Act
+        pointUseBatcher.executeBatch(Arrays.asList(first, second));
+
+        // Assert
+        assertEquals(100, first.future().join().getUsedAmount());
+        assertEquals(200, second.future().join().getUsedAmount());
+        verify(transactionTemplate, times(1)).execute(any());
+        verify(pointMetrics).recordUseBatch(2);
+    }
+
+    @Test
+    @DisplayName("사용 배치 - 잔액 검증을 통과한 요청이 실패하면 요청별 트랜잭션으로 다시 처리하여 실패한 요청만 실패한다")
+    void testExecuteBatch_IsolatesFailure() {
+        // Arrange
+        PointUseBatcher.PendingUse succeeded = pending(1L, 100, () -> response(1L, 100));
+        PointUseBatcher.PendingUse failed = pending(2L, 100, () -> {
+            throw new PointOperationException(PointErrorReason.CONCURRENT_MODIFICATION, "다른 요청이 같은 적립 건을 먼저 차감했습니다. 다시 시도해주세요.");
+        });
+
+        // Act
+        pointUseBatcher.executeBatch(Arrays.asList(succeeded, failed));
+
+        // Assert
+        assertEquals(100, succeeded.future().join().getUsedAmount());
+        CompletionException exception = assertThrows(CompletionException.class, () -> failed.future().join());
+        assertInstanceOf(PointOperationException.class, exception.getCause());
+        // 배치 1회 + 요청별 재처리 2회
+        verify(transactionTemplate, times(3)).execute(any());
+    }
+
+    @Test
+    @DisplayName("사용 배치 - 요약 잔액을 넘는 요청은 배치에서 빼고 개별 처리하므로 나머지 요청은 다시 처리하지 않는다")
+    void testExecuteBatch_DefersInsufficientBalance() {
+        // Arrange
+        available.put(1L, 150);
+        AtomicInteger calls = new AtomicInteger();
+        PointUseBatcher.PendingUse first = pending(1L, 100, () -> { calls.incrementAndGet(); return response(1L, 100); });
+        PointUseBatcher.PendingUse insufficient = pending(1L, 100, () -> {
+            calls.incrementAndGet();
+            throw new PointOperationException(PointErrorReason.INSUFFICIENT_BALANCE, "사용할 포인트가 잔액을 초과합니다.");
+        });
+        PointUseBatcher.PendingUse other = pending(2L, 300, () -> { calls.incrementAndGet(); return response(2L, 300); });
+
+        // Act
+        pointUseBatcher.executeBatch(Arrays.asList(first, insufficient, other));
+
+        // Assert
+        assertEquals(100, first.future().join().getUsedAmount());
+        assertEquals(300, other.future().join().getUsedAmount());
+        CompletionException exception = assertThrows(CompletionException.class, () -> insufficient.future().join());
+        assertInstanceOf(PointOperationException.class, exception.getCause());
+        // 배치 1회(2건) + 잔액 부족 요청의 개별 처리 1회, 배치가 롤백되지 않으므로 요청마다 한 번만 실행
+        verify(transactionTemplate, times(2)).execute(any());
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    @DisplayName("사용 배치 - window 동안 제출된 요청을 모아 한 배치로 처리한다")
+    void testSubmit_CollectsWithinWindow() {
+        // Arrange
+        PointUseBatcher collecting = new PointUseBatcher(pointUserLane, pointSummaryService, transactionTemplate, pointMetrics,
+                true, 1000, 2, 1, 16, 30000);
+        collecting.start();
+
+        try {
+            // Act
+            CompletableFuture<PointUseResponse> first = CompletableFuture.supplyAsync(
+                    () -> collecting.submit(1L, 100, () -> response(1L, 100)));
+            CompletableFuture<PointUseResponse> second = CompletableFuture.supplyAsync(
+                    () -> collecting.submit(2L, 200, () -> response(2L, 200)));
+
+            // Assert
+            assertEquals(100, first.join().getUsedAmount());
+            assertEquals(200, second.join().getUsedAmount());
+            // max-size(2)에 도달하면 window가 끝나기 전에 한 트랜잭션으로 처리
+            verify(pointMetrics).recordUseBatch(2);
+            verify(transactionTemplate, times(1)).execute(any());
+        } finally {
+            collecting.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("사용 배치 - 사용자 수가 lockBatchUsers를 넘으면 구간별로 레인과 트랜잭션을 나누어 잡는다")
+    void testExecuteBatch_BoundedLaneSlices() {
+        // Arrange
+        PointUseBatcher sliced = new PointUseBatcher(pointUserLane, pointSummaryService, transactionTemplate, pointMetrics,
+                false, 5, 100, 1, 2, 30000);
+        PointUseBatcher.PendingUse first = pending(3L, 100, () -> response(3L, 100));
+        PointUseBatcher.PendingUse second = pending(1L, 200, () -> response(1L, 200));
+        PointUseBatcher.PendingUse third = pending(2L, 300, () -> response(2L, 300));
+
+        // Act
+        sliced.executeBatch(Arrays.asList(first, second, third));
+
+        // Assert
+        assertEquals(100, first.future().join().getUsedAmount());
+        assertEquals(200, second.future().join().getUsedAmount());
+        assertEquals(300, third.future().join().getUsedAmount());
+        // 사용자 (1, 2)와 (3) 두 구간
+        verify(pointUserLane).executeAll(eq(new LinkedHashSet<>(List.of(1L, 2L))), any());
+        verify(pointUserLane).executeAll(eq(new LinkedHashSet<>(List.of(3L))), any());
+        verify(transactionTemplate, times(2)).execute(any());
+        verify(pointMetrics).recordUseBatch(3);
+    }
+
+    @Test
+    @DisplayName("사용 배치 - 제한 시간 안에 처리되지 않은 요청은 실패로 응답하고 이후에 실행하지 않는다")
+    void testSubmit_TimesOut() {
+        // Arrange
+        PointUseBatcher slow = new PointUseBatcher(pointUserLane, pointSummaryService, transactionTemplate, pointMetrics,
+                true, 60000, 100, 1, 16, 50);
+        AtomicInteger calls = new AtomicInteger();
+        slow.start();
+
+        try {
+            // Act
+            PointOperationException exception = assertThrows(PointOperationException.class,
+                    () -> slow.submit(1L, 100, () -> {
+                        calls.incrementAndGet();
+                        return response(1L, 100);
+                    }));
+
+            // Assert
+            assertEquals(PointErrorReason.LOCK_TIMEOUT, exception.getReason());
+        } finally {
+            slow.stop();
+        }
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    @DisplayName("사용 배치 - 예상하지 못한 오류로 배치가 끝나도 모든 요청을 실패로 완료한다")
+    void testExecuteBatch_CompletesOnError() {
+        // Arrange
+        PointUseBatcher.PendingUse first = pending(1L, 100, () -> response(1L, 100));
+        PointUseBatcher.PendingUse second = pending(2L, 200, () -> response(2L, 200));
+        when(pointSummaryService.getSummaries(anyCollection())).thenThrow(new LinkageError("클래스 로딩 실패"));
+
+        // Act
+        assertThrows(LinkageError.class, () -> pointUseBatcher.executeBatch(Arrays.asList(first, second)));
+
+        // Assert
+        CompletionException exception = assertThrows(CompletionException.class, () -> second.future().join());
+        assertInstanceOf(LinkageError.class, exception.getCause());
+        assertTrue(first.future().isCompletedExceptionally());
+    }
+
+    private PointUseBatcher.PendingUse pending(Long userId, int usageAmount, Supplier<PointUseResponse> action) {
+        return new PointUseBatcher.PendingUse(userId, usageAmount, action, new CompletableFuture<>());
+    }
+
+    private PointUseResponse response(Long userId, int usedAmount) {
+        return PointUseResponse.from(userId, "ORDER-" + userId, usedAmount, 0);
+    }
+}
@@ -1,6 +1,9 @@
 package com.example.point.service;
 
 import com.example.point.domain.PointBalance;
+import com.example.point.domain.PointOrderUsage;
+import com.example.point.domain.PointOrderUsageItem;
+import com.example.point.domain.PointSummary;
 import com.example.point.domain.PointTransaction;
 import com.example.point.domain.enums.BalanceStatus;
 import com.example.point.domain.enums.BalanceType;
@@ -8,25 +11,36 @@ import com.example.point.domain.enums.TransactionType;
 import com.example.point.dto.use.PointCancelUseRequest;
 import com.example.point.dto.use.PointUseRequest;
 import com.example.point.dto.use.PointUseResponse;
+import com.example.point.exception.PointErrorReason;
 import com.example.point.exception.PointOperationException;
+import com.example.point.ledger.PointLedger;
+import com.example.point.metrics.PointMetrics;
+import com.example.point.repository.PointBalanceDeductionRepository;
 import com.example.point.repository.PointBalanceRepository;
-import com.example.point.repository.PointTransactionRepository;
+import com.example.point.repository.PointOrderUsageItemRepository;
+import com.example.point.repository.PointOrderUsageRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,11 +50,32 @@ class PointUseServiceTest {
     private PointBalanceRepository pointBalanceRepository;
 
     @Mock
-    private PointTransactionRepository pointTransactionRepository;
+    private PointLedger pointLedger;
 
     @Mock
     private PointPolicyService policyService;
 
+    @Mock
+    private PointSummaryService pointSummaryService;
+
+    @Mock
+    private PointOrderUsageRepository pointOrderUsageRepository;
+
+    @Mock
+    private PointOrderUsageItemRepository pointOrderUsageItemRepository;
+
+    @Mock
+    private PointMetrics pointMetrics;
+
+    @Mock
+    private PointOutboxService pointOutboxService;
+
+    @Mock
+    private PointArchiveService pointArchiveService;
+
+    @Mock
+    private PointBalanceDeductionRepository pointBalanceDeductionRepository;
+
     @InjectMocks
     private PointUseService pointUseService;
 
@@ -75,7 +110,9 @@ class PointUseServiceTest {
                 .status(BalanceStatus.ACTIVE)
                 .build();
 
-        when(pointBalanceRepository.findByUserIdAndStatusOrderByBalanceTypeAscExpireDateAsc(userId, BalanceStatus.ACTIVE))
+        when(pointSummaryService.getSummary(userId))
+                .thenReturn(PointSummary.of(userId, Arrays.asList(balance1, balance2)));
+        when(pointBalanceRepository.findDeductibleBalances(eq(userId), eq(BalanceStatus.ACTIVE), eq(BalanceType.PURCHASE), any(Pageable.class)))
                 .thenReturn(Arrays.asList(balance1, balance2));
 
         // Act
@@ -87,6 +124,8 @@ class PointUseServiceTest {
         // 2) 첫 번째 잔액 remainAmount = 0, 두 번째 잔액 remainAmount = 300
         assertEquals(0, balance1.getRemainAmount());
         assertEquals(300, balance2.getRemainAmount());
+        // 3) 요약의 총 잔액은 1500 - 1200 = 300
+        assertEquals(300, response.getTotalRemaining());
     }
 
     @Test
@@ -110,11 +149,141 @@ class PointUseServiceTest {
                 .status(BalanceStatus.ACTIVE)
                 .build();
 
-        when(pointBalanceRepository.findByUserIdAndStatusOrderByBalanceTypeAscExpireDateAsc(userId, BalanceStatus.ACTIVE))
-                .thenReturn(Collections.singletonList(balance));
+        when(pointSummaryService.getSummary(userId))
+                .thenReturn(PointSummary.of(userId, Collections.singletonList(balance)));
 
         // Act & Assert
         assertThrows(PointOperationException.class, () -> pointUseService.use(userId, request));
+        // 요약만으로 잔액 부족을 판단하므로 잔액은 조회하지 않는다
+        verify(pointBalanceRepository, never()).findDeductibleBalances(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("포인트 사용 - 첫 청크에서 사용 금액이 충족되면 다음 청크를 조회하지 않는다")
+    void testUsePoints_StopAfterFirstChunk() {
+        // Arrange
+        Long userId = 1L;
+        PointUseRequest request = PointUseRequest.builder()
+                .usageAmount(100)
+                .orderId("ORDER-CHUNK")
+                .build();
+
+        // 청크 크기(20)만큼 꽉 찬 첫 청크
+        List<PointBalance> chunk = new ArrayList<>();
+        for (long i = 1; i <= 20; i++) {
+            chunk.add(PointBalance.builder()
+                    .balanceId(i)
+                    .userId(userId)
+                    .amount(1000)
+                    .remainAmount(1000)
+                    .balanceType(BalanceType.PURCHASE)
+                    .expireDate(LocalDateTime.now().plusDays(i))
+                    .status(BalanceStatus.ACTIVE)
+                    .build());
+        }
+
+        when(pointSummaryService.getSummary(userId))
+                .thenReturn(PointSummary.of(userId, chunk));
+        when(pointBalanceRepository.findDeductibleBalances(eq(userId), eq(BalanceStatus.ACTIVE), eq(BalanceType.MANUAL), any(Pageable.class)))
+                .thenReturn(Collections.emptyList());
+        when(pointBalanceRepository.findDeductibleBalances(eq(userId), eq(BalanceStatus.ACTIVE), eq(BalanceType.PURCHASE), any(Pageable.class)))
+                .thenReturn(chunk);
+
+        // Act
+        PointUseResponse response = pointUseService.use(userId, request);
+
+        // Assert
+        assertEquals(100, response.getUsedAmount());
+        assertEquals(900, chunk.get(0).getRemainAmount());
+        assertEquals(1000, chunk.get(1).getRemainAmount());
+        verify(pointBalanceRepository, never())
+                .findDeductibleBalancesAfter(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("포인트 사용 - 일괄 차감 모드에서는 조건부 배치 UPDATE로 차감을 반영한다")
+    void testUsePoints_BulkDeduction() {
+        // Arrange
+        ReflectionTestUtils.setField(pointUseService, "bulkDeduction", true);
+        Long userId = 1L;
+        PointUseRequest request = PointUseRequest.builder()
+                .usageAmount(1200)
+                .orderId("ORDER-BULK")
+                .build();
+
+        PointBalance balance1 = PointBalance.builder()
+                .balanceId(1L)
+                .userId(userId)
+                .amount(1000)
+                .remainAmount(1000)
+                .balanceType(BalanceType.PURCHASE)
+                .expireDate(LocalDateTime.now().plusDays(30))
+                .status(BalanceStatus.ACTIVE)
+                .build();
+        PointBalance balance2 = PointBalance.builder()
+                .balanceId(2L)
+                .userId(userId)
+                .amount(500)
+                .remainAmount(500)
+                .balanceType(BalanceType.PURCHASE)
+                .expireDate(LocalDateTime.now().plusDays(40))
+                .status(BalanceStatus.ACTIVE)
+                .build();
+
+        when(pointSummaryService.getSummary(userId))
+                .thenReturn(PointSummary.of(userId, Arrays.asList(balance1, balance2)));
+        when(pointBalanceRepository.findDeductibleBalancesReadOnly(eq(userId), eq(BalanceStatus.ACTIVE), eq(BalanceType.PURCHASE), any(Pageable.class)))
+                .thenReturn(Arrays.asList(balance1, balance2));
+        when(pointBalanceDeductionRepository.deduct(List.of(balance1, balance2), List.of(1000, 200)))
+                .thenReturn(new int[]{1, 1});
+
+        // Act
+        PointUseResponse response = pointUseService.use(userId, request);
+
+        // Assert
+        assertEquals(1200, response.getUsedAmount());
+        assertEquals(300, response.getTotalRemaining());
+        // 읽기 전용으로 조회한 적립 건은 바꾸지 않고, 변경 감지용 조회와 저장은 사용하지 않는다
+        assertEquals(1000, balance1.getRemainAmount());
+        assertEquals(500, balance2.getRemainAmount());
+        verify(pointBalanceRepository, never()).findDeductibleBalances(any(), any(), any(), any());
+        verify(pointBalanceRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("포인트 사용 - 일괄 차감 중 다른 요청이 먼저 차감한 적립 건이 있으면 예외 발생")
+    void testUsePoints_BulkDeductionConflict() {
+        // Arrange
+        ReflectionTestUtils.setField(pointUseService, "bulkDeduction", true);
+        Long userId = 1L;
+        PointUseRequest request = PointUseRequest.builder()
+                .usageAmount(800)
+                .orderId("ORDER-CONFLICT")
+                .build();
+
+        PointBalance balance = PointBalance.builder()
+                .balanceId(1L)
+                .userId(userId)
+                .amount(1000)
+                .remainAmount(1000)
+                .balanceType(BalanceType.PURCHASE)
+                .expireDate(LocalDateTime.now().plusDays(30))
+                .status(BalanceStatus.ACTIVE)
+                .build();
+
+        when(pointSummaryService.getSummary(userId))
+                .thenReturn(PointSummary.of(userId, List.of(balance)));
+        when(pointBalanceRepository.findDeductibleBalancesReadOnly(eq(userId), eq(BalanceStatus.ACTIVE), eq(BalanceType.PURCHASE), any(Pageable.class)))
+                .thenReturn(List.of(balance));
+        // 조건(remain_amount >= 800)을 만족하지 않아 갱신되지 않음
+        when(pointBalanceDeductionRepository.deduct(List.of(balance), List.of(800)))
+                .thenReturn(new int[]{0});
+
+        // Act & Assert
+        PointOperationException exception = assertThrows(PointOperationException.class,
+                () -> pointUseService.use(userId, request));
+        assertEquals(PointErrorReason.CONCURRENT_MODIFICATION, exception.getReason());
+        verify(pointSummaryService, never()).update(any());
     }
 
     @Test
@@ -138,7 +307,7 @@ class PointUseServiceTest {
                 .orderId("ORDER-ABC")
                 .build();
 
-        when(pointTransactionRepository.findByUserIdAndOrderIdAndTransactionType(
+        when(pointLedger.findByOrder(
                 1L, "ORDER-ABC", TransactionType.USE))
                 .thenReturn(Collections.singletonList(usageTx));
 
@@ -153,8 +322,10 @@ class PointUseServiceTest {
                 .status(BalanceStatus.ACTIVE)
                 .build();
 
-        when(pointBalanceRepository.findById(1L))
-                .thenReturn(Optional.of(balance));
+        when(pointBalanceRepository.findAllById(List.of(1L)))
+                .thenReturn(Collections.singletonList(balance));
+        when(pointSummaryService.getSummary(1L))
+                .thenReturn(PointSummary.of(1L, Collections.singletonList(balance)));
 
         // Act
         PointUseResponse response = pointUseService.cancelUse(request);
@@ -177,7 +348,7 @@ class PointUseServiceTest {
                 .build();
 
         // 해당 주문에 대한 USE 트랜잭션이 없다고 가정
-        when(pointTransactionRepository.findByUserIdAndOrderIdAndTransactionType(
+        when(pointLedger.findByOrder(
                 2L, "ORDER-XYZ", TransactionType.USE))
                 .thenReturn(Collections.emptyList());
 
@@ -206,7 +377,7 @@ class PointUseServiceTest {
                 .orderId("ORDER-ABC")
                 .build();
 
-        when(pointTransactionRepository.findByUserIdAndOrderIdAndTransactionType(
+        when(pointLedger.findByOrder(
                 1L, "ORDER-ABC", TransactionType.USE))
                 .thenReturn(Collections.singletonList(usageTx));
 
@@ -215,6 +386,46 @@ class PointUseServiceTest {
         assertThrows(PointOperationException.class, () -> pointUseService.cancelUse(request));
     }
 
+    @Test
+    @DisplayName("포인트 사용 취소 - 주문번호 없는 사용 취소 이력이 있는 기존 주문은 다시 환불하지 않는다")
+    void testCancelUse_LegacyOrderWithUnattributedCancel() {
+        // Arrange
+        PointCancelUseRequest request = PointCancelUseRequest.builder()
+                .userId(1L)
+                .orderId("ORDER-ABC")
+                .cancelAmount(300)
+                .build();
+
+        PointTransaction usageTx = PointTransaction.builder()
+                .transactionId(10L)
+                .balanceId(1L)
+                .userId(1L)
+                .transactionType(TransactionType.USE)
+                .pointChange(-500)
+                .transactionDate(LocalDateTime.now().minusDays(2))
+                .orderId("ORDER-ABC")
+                .build();
+        // 주문별 사용 내역 도입 전에 주문번호 없이 기록된 사용 취소
+        PointTransaction legacyCancelTx = PointTransaction.builder()
+                .transactionId(11L)
+                .balanceId(1L)
+                .userId(1L)
+                .transactionType(TransactionType.CANCEL_USE)
+                .pointChange(200)
+                .transactionDate(LocalDateTime.now().minusDays(1))
+                .build();
+
+        when(pointLedger.findByOrder(1L, "ORDER-ABC", TransactionType.USE))
+                .thenReturn(Collections.singletonList(usageTx));
+        when(pointLedger.findWithoutOrder(1L, TransactionType.CANCEL_USE))
+                .thenReturn(Collections.singletonList(legacyCancelTx));
+
+        // Act & Assert
+        PointOperationException exception = assertThrows(PointOperationException.class, () -> pointUseService.cancelUse(request));
+        assertEquals(PointErrorReason.LEGACY_USAGE_AMBIGUOUS, exception.getReason());
+        verify(pointOrderUsageRepository, never()).save(any());
+    }
+
     @Test
     @DisplayName("포인트 사용 취소 - 만료된 잔액은 신규 적립, 미만료 잔액은 환불 적용")
     void testCancelUse_ExpiredAndNotExpiredCombination() {
@@ -249,7 +460,7 @@ class PointUseServiceTest {
                 .orderId(orderId)
                 .build();
 
-        when(pointTransactionRepository.findByUserIdAndOrderIdAndTransactionType(
+        when(pointLedger.findByOrder(
                 userId, orderId, TransactionType.USE))
                 .thenReturn(Arrays.asList(txA, txB));
 
@@ -274,28 +485,17 @@ class PointUseServiceTest {
                 .status(BalanceStatus.ACTIVE)
                 .build();
 
-        when(pointBalanceRepository.findById(1L)).thenReturn(Optional.of(balanceA));
-        when(pointBalanceRepository.findById(2L)).thenReturn(Optional.of(balanceB));
+        // 두 적립 내역은 한 번의 조회로 가져온다
+        when(pointBalanceRepository.findAllById(List.of(1L, 2L))).thenReturn(Arrays.asList(balanceA, balanceB));
 
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime newExpireDate = now.plusDays(365);
         when(policyService.calculateExpireDate(any(LocalDateTime.class), eq(null)))
                 .thenReturn(newExpireDate);
 
-        when(pointBalanceRepository.findByUserIdAndStatusOrderByBalanceTypeAscExpireDateAsc(userId, BalanceStatus.ACTIVE))
-                .thenReturn(Arrays.asList(
-                        // 만료된 Balance A는 신규 적립
-                        PointBalance.builder()
-                                .balanceId(3L)
-                                .userId(userId)
-                                .amount(1000)
-                                .remainAmount(1000)
-                                .balanceType(BalanceType.PURCHASE)
-                                .expireDate(newExpireDate)
-                                .status(BalanceStatus.ACTIVE)
-                                .build(),
-                        balanceB
-                ));
+        // 취소 전 사용 가능 잔액: Balance A 0 + Balance B 300
+        when(pointSummaryService.getSummary(userId))
+                .thenReturn(PointSummary.of(userId, Arrays.asList(balanceA, balanceB)));
 
         // Act
         PointUseResponse response = pointUseService.cancelUse(request);
@@ -310,4 +510,188 @@ class PointUseServiceTest {
         assertEquals(400, balanceB.getRemainAmount(), "Balance B의 잔액이 400이어야 함");
     }
 
+    @Test
+    @DisplayName("포인트 사용 취소 - 주문별 사용 내역 기준으로 반복 부분 취소 시 이미 취소된 금액을 제외한다")
+    void testCancelUse_RepeatedPartialCancel() {
+        // Arrange
+        Long userId = 1L;
+        String orderId = "ORDER-P";
+
+        // 500 사용 후 300이 이미 취소된 주문
+        PointOrderUsage usage = PointOrderUsage.builder()
+                .usageId(100L)
+                .userId(userId)
+                .orderId(orderId)
+                .usedAmount(500)
+                .canceledAmount(300)
+                .build();
+        PointOrderUsageItem item = PointOrderUsageItem.builder()
+                .itemId(1L)
+                .usageId(100L)
+                .balanceId(1L)
+                .usedAmount(500)
+                .canceledAmount(300)
+                .build();
+        when(pointOrderUsageRepository.findByUserIdAndOrderId(userId, orderId)).thenReturn(Optional.of(usage));
+        when(pointOrderUsageItemRepository.findCancelableItems(100L)).thenReturn(Collections.singletonList(item));
+
+        PointBalance balance = PointBalance.builder()
+                .balanceId(1L)
+                .userId(userId)
+                .amount(500)
+                .remainAmount(300)
+                .balanceType(BalanceType.PURCHASE)
+                .expireDate(LocalDateTime.now().plusDays(10))
+                .status(BalanceStatus.ACTIVE)
+                .build();
+        when(pointBalanceRepository.findAllById(List.of(1L))).thenReturn(Collections.singletonList(balance));
+        when(pointSummaryService.getSummary(userId))
+                .thenReturn(PointSummary.of(userId, Collections.singletonList(balance)));
+
+        // Act
+        PointUseResponse response = pointUseService.cancelUse(PointCancelUseRequest.builder()
+                .userId(userId)
+                .orderId(orderId)
+                .cancelAmount(200)
+                .build());
+
+        // Assert
+        assertEquals(200, response.getUsedAmount());
+        assertEquals(500, balance.getRemainAmount());
+        assertEquals(0, usage.getCancelableAmount(), "주문의 취소 가능 금액이 모두 소진되어야 함");
+        assertEquals(0, item.getCancelableAmount());
+        // 사용 거래 이력은 다시 조회하지 않는다
+        verify(pointLedger, never()).findByOrder(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("포인트 사용 취소 - 보관 테이블로 옮겨진 적립 건은 복원하여 환불한다")
+    void testCancelUse_RestoresArchivedBalance() {
+        // Arrange
+        Long userId = 1L;
+        String orderId = "ORDER-A";
+        PointOrderUsage usage = PointOrderUsage.builder()
+                .usageId(100L)
+                .userId(userId)
+                .orderId(orderId)
+                .usedAmount(500)
+                .build();
+        PointOrderUsageItem item = PointOrderUsageItem.builder()
+                .itemId(1L)
+                .usageId(100L)
+                .balanceId(1L)
+                .usedAmount(500)
+                .build();
+        when(pointOrderUsageRepository.findByUserIdAndOrderId(userId, orderId)).thenReturn(Optional.of(usage));
+        when(pointOrderUsageItemRepository.findCancelableItems(100L)).thenReturn(Collections.singletonList(item));
+
+        // 모두 사용되어 보관된 적립 건
+        PointBalance archived = PointBalance.builder()
+                .balanceId(1L)
+                .userId(userId)
+                .amount(500)
+                .remainAmount(0)
+                .balanceType(BalanceType.PURCHASE)
+                .expireDate(LocalDateTime.now().plusDays(10))
+                .status(BalanceStatus.ACTIVE)
+                .build();
+        when(pointBalanceRepository.findAllById(List.of(1L))).thenReturn(Collections.emptyList());
+        when(pointArchiveService.restore(List.of(1L))).thenReturn(Collections.singletonList(archived));
+        when(pointSummaryService.getSummary(userId)).thenReturn(PointSummary.of(userId, Collections.emptyList()));
+
+        // Act
+        PointUseResponse response = pointUseService.cancelUse(PointCancelUseRequest.builder()
+                .userId(userId)
+                .orderId(orderId)
+                .cancelAmount(500)
+                .build());
+
+        // Assert
+        assertEquals(500, response.getUsedAmount());
+        assertEquals(500, archived.getRemainAmount());
+        assertEquals(500, response.getTotalRemaining());
+    }
+
+    @Test
+    @DisplayName("포인트 사용 취소 - 병합된 적립 건의 환불은 병합 대상 적립 건으로 처리한다")
+    void testCancelUse_RefundsMergeTarget() {
+        // Arrange
+        Long userId = 1L;
+        String orderId = "ORDER-M";
+        PointOrderUsage usage = PointOrderUsage.builder()
+                .usageId(100L)
+                .userId(userId)
+                .orderId(orderId)
+                .usedAmount(5)
+                .build();
+        PointOrderUsageItem item = PointOrderUsageItem.builder()
+                .itemId(1L)
+                .usageId(100L)
+                .balanceId(1L)
+                .usedAmount(5)
+                .build();
+        when(pointOrderUsageRepository.findByUserIdAndOrderId(userId, orderId)).thenReturn(Optional.of(usage));
+        when(pointOrderUsageItemRepository.findCancelableItems(100L)).thenReturn(Collections.singletonList(item));
+
+        LocalDateTime expireDate = LocalDateTime.now().plusDays(10);
+        PointBalance merged = PointBalance.builder()
+                .balanceId(1L)
+                .userId(userId)
+                .amount(10)
+                .remainAmount(0)
+                .balanceType(BalanceType.MANUAL)
+                .expireDate(expireDate)
+                .status(BalanceStatus.MERGED)
+                .mergedBalanceId(50L)
+                .build();
+        PointBalance target = PointBalance.builder()
+                .balanceId(50L)
+                .userId(userId)
+                .amount(20)
+                .remainAmount(20)
+                .balanceType(BalanceType.MANUAL)
+                .expireDate(expireDate)
+                .status(BalanceStatus.ACTIVE)
+                .build();
+        when(pointBalanceRepository.findAllById(List.of(1L))).thenReturn(Collections.singletonList(merged));
+        when(pointBalanceRepository.findAllById(List.of(50L))).thenReturn(Collections.singletonList(target));
+        when(pointSummaryService.getSummary(userId)).thenReturn(PointSummary.of(userId, Collections.singletonList(target)));
+
+        // Act
+        PointUseResponse response = pointUseService.cancelUse(PointCancelUseRequest.builder()
+                .userId(userId)
+                .orderId(orderId)
+                .cancelAmount(5)
+                .build());
+
+        // Assert
+        assertEquals(5, response.getUsedAmount());
+        assertEquals(0, merged.getRemainAmount());
+        assertEquals(25, target.getRemainAmount());
+        // 병합 전에 사용된 포인트가 환불되어도 적립 금액은 남은 포인트 이상으로 유지
+        assertEquals(25, target.getAmount());
+        assertEquals(25, response.getTotalRemaining());
+    }
+
+    @Test
+    @DisplayName("포인트 사용 취소 - 이미 취소된 금액을 포함하면 사용 금액을 초과하여 예외 발생")
+    void testCancelUse_ExceedAfterPartialCancel() {
+        // Arrange
+        PointOrderUsage usage = PointOrderUsage.builder()
+                .usageId(100L)
+                .userId(1L)
+                .orderId("ORDER-P")
+                .usedAmount(500)
+                .canceledAmount(300)
+                .build();
+        when(pointOrderUsageRepository.findByUserIdAndOrderId(1L, "ORDER-P")).thenReturn(Optional.of(usage));
+
+        // Act & Assert
+        // 남은 취소 가능 금액은 200이므로 300 취소는 불가
+        assertThrows(PointOperationException.class, () -> pointUseService.cancelUse(PointCancelUseRequest.builder()
+                .userId(1L)
+                .orderId("ORDER-P")
+                .cancelAmount(300)
+                .build()));
+    }
 }